@@ -30,6 +30,7 @@ import org.openl.rules.calc.Spreadsheet;
 import org.openl.rules.calc.SpreadsheetResultOpenClass;
 import org.openl.rules.context.IRulesRuntimeContext;
 import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.fuzzy.FieldTokensIndex;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
 import org.openl.rules.method.ExecutableRulesMethod;
@@ -71,6 +72,8 @@ public class RulesModuleBindingContext extends ModuleBindingContext {
 
     private final PreBinderMethods preBinderMethods = new PreBinderMethods();
 
+    private final FieldTokensIndex fieldTokensIndex = new FieldTokensIndex();
+
     private boolean ignoreCustomSpreadsheetResultCompilation = false;
 
     public RulesModuleBindingContext(IBindingContext delegate, XlsModuleOpenClass module) {
@@ -191,6 +194,13 @@ public class RulesModuleBindingContext extends ModuleBindingContext {
         return (XlsModuleOpenClass) super.getModule();
     }
 
+    /**
+     * Returns the index of the field tokens used for fuzzy matching of the tables of the module.
+     */
+    public FieldTokensIndex getFieldTokensIndex() {
+        return fieldTokensIndex;
+    }
+
     @Override
     public IOpenClass addType(IOpenClass type) throws DuplicatedTypeException {
         final String typeName = type.getName();
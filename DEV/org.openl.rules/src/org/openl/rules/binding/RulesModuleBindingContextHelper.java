@@ -1,6 +1,8 @@
 package org.openl.rules.binding;
 
 import org.openl.binding.IBindingContext;
+import org.openl.binding.impl.BindingContextDelegator;
+import org.openl.rules.fuzzy.FieldTokensIndex;
 import org.openl.types.IMethodSignature;
 import org.openl.types.IOpenClass;
 
@@ -19,4 +21,18 @@ public final class RulesModuleBindingContextHelper {
             bindingContext.findType(pType.getName());
         }
     }
+
+    /**
+     * Returns the index of the field tokens of the module the given binding context belongs to, or {@code null} if the
+     * binding context does not belong to a module.
+     */
+    public static FieldTokensIndex getFieldTokensIndex(IBindingContext bindingContext) {
+        while (bindingContext instanceof BindingContextDelegator) {
+            if (bindingContext instanceof RulesModuleBindingContext) {
+                return ((RulesModuleBindingContext) bindingContext).getFieldTokensIndex();
+            }
+            bindingContext = ((BindingContextDelegator) bindingContext).getDelegate();
+        }
+        return null;
+    }
 }
@@ -7,6 +7,7 @@ import static org.openl.rules.calc.ASpreadsheetField.createFieldName;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -51,6 +52,20 @@ import org.openl.vm.IRuntimeEnv;
 
 public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements ModuleSpecificType {
     private final Logger log = LoggerFactory.getLogger(CustomSpreadsheetResultOpenClass.class);
+    /**
+     * The generated {@code valueOf} methods of the bean classes. The lookup of the method is slow comparing to the
+     * conversion of the spreadsheet result, so it is done once per bean class.
+     */
+    private static final ClassValue<Method> VALUE_OF_METHODS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return type.getMethod("valueOf", SpreadsheetResult.class, BiFunction.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
     private static final String[] EMPTY_STRING_ARRAY = new String[]{};
     private static final String[][] EMPTY_DESCRIPTIONS_ARRAY = new String[][]{};
     private static final Comparator<String> FIELD_COMPARATOR = (o1, o2) -> {
@@ -94,6 +109,8 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
     volatile Map<String, List<IOpenField>> beanFieldsMap;
     volatile Map<String, String> xmlNamesMap;
     private volatile boolean initializing;
+    private volatile SpreadsheetResultToMapPlan toMapPlan;
+    private volatile SpreadsheetResultToMapPlan toMapPlanWithNamingStrategy;
 
     private String[][] descriptions;
     private final boolean spreadsheet;
@@ -458,8 +475,7 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
 
     public static Object createBean(Class<?> clazz, SpreadsheetResult spreadsheetResult, SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
         try {
-            var method = clazz.getMethod("valueOf", SpreadsheetResult.class, BiFunction.class);
-            return method.invoke(null, spreadsheetResult, new BiFunction<Object, Class<?>, Object>() {
+            return VALUE_OF_METHODS.get(clazz).invoke(null, spreadsheetResult, new BiFunction<Object, Class<?>, Object>() {
                 @Override
                 public Object apply(Object v, Class<?> toClass) {
                     if (v == null) {
@@ -554,7 +570,7 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
                     return SpreadsheetResult.convertSpreadsheetResult(v, toClass, null, namingStrategy);
                 }
             });
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
+        } catch (IllegalAccessException | InvocationTargetException e) {
             throw new IllegalStateException(e);
         }
     }
@@ -637,6 +653,24 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
         return xmlNamesMap;
     }
 
+    /**
+     * Returns the conversion plan of the spreadsheet result to a map. The last used plans with and without the naming
+     * strategy are cached, because a service usually converts the results using the same naming strategy.
+     */
+    SpreadsheetResultToMapPlan getToMapPlan(SpreadsheetResult spr,
+                                            SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
+        SpreadsheetResultToMapPlan plan = namingStrategy == null ? toMapPlan : toMapPlanWithNamingStrategy;
+        if (plan == null || !plan.isApplicable(spr, namingStrategy)) {
+            plan = SpreadsheetResultToMapPlan.build(spr, namingStrategy);
+            if (namingStrategy == null) {
+                toMapPlan = plan;
+            } else {
+                toMapPlanWithNamingStrategy = plan;
+            }
+        }
+        return plan;
+    }
+
     private static final Comparator<Pair<Point, IOpenField>> COMP = Comparator.comparing(Pair::getLeft,
             Comparator.nullsLast(Comparator.comparingInt(Point::getRow).thenComparingInt(Point::getColumn)));
 
@@ -5,12 +5,10 @@ import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
@@ -21,7 +19,6 @@ import org.openl.binding.impl.AllowOnlyStrictFieldMatchType;
 import org.openl.rules.table.ILogicalTable;
 import org.openl.rules.table.Point;
 import org.openl.types.IOpenClass;
-import org.openl.types.IOpenField;
 import org.openl.types.java.CustomJavaOpenClass;
 import org.openl.util.ClassUtils;
 import org.openl.util.CollectionUtils;
@@ -244,12 +241,16 @@ public class SpreadsheetResult implements Serializable {
         }
     }
 
-    private Point getPoint(String name) {
+    Point getPoint(String name) {
+        return getFieldsCoordinates().get(name);
+    }
+
+    private Map<String, Point> getFieldsCoordinates() {
         if (fieldsCoordinates == null) { // Required if default constructor is
             // used with setter methods.
             fieldsCoordinates = buildFieldsCoordinates2(columnNames, rowNames, columnNamesForResultModel, rowNamesForResultModel);
         }
-        return fieldsCoordinates.get(name);
+        return fieldsCoordinates;
     }
 
     protected void setValue(int row, int column, Object value) {
@@ -424,106 +425,31 @@ public class SpreadsheetResult implements Serializable {
 
     public Map<String, Object> toMap(boolean spreadsheetResultsToMap,
                                      SpreadsheetResultBeanPropertyNamingStrategy spreadsheetResultBeanPropertyNamingStrategy) {
-        Map<String, Object> values = new HashMap<>();
+        if (columnNames == null || rowNames == null) {
+            return new HashMap<>();
+        }
+        return getToMapPlan(spreadsheetResultBeanPropertyNamingStrategy).toMap(this,
+                v -> convertSpreadsheetResult(v, spreadsheetResultsToMap, spreadsheetResultBeanPropertyNamingStrategy));
+    }
+
+    /**
+     * Passes the values of the result model to the action with the same keys as
+     * {@link #toMap(boolean, SpreadsheetResultBeanPropertyNamingStrategy)} does, but without building the map. Nested
+     * spreadsheet results are passed as is.
+     */
+    public void forEachResultModelValue(SpreadsheetResultBeanPropertyNamingStrategy spreadsheetResultBeanPropertyNamingStrategy,
+                                        BiConsumer<String, Object> action) {
         if (columnNames != null && rowNames != null) {
-            long nonNullsColumnsCount = Arrays.stream(columnNamesForResultModel).filter(Objects::nonNull).count();
-            long nonNullsRowsCount = Arrays.stream(rowNamesForResultModel).filter(Objects::nonNull).count();
-            final boolean isSingleRow = nonNullsRowsCount == 1;
-            final boolean isSingleColumn = nonNullsColumnsCount == 1;
-            if (customSpreadsheetResultOpenClass != null) {
-                Map<String, String> xmlNamesMap = customSpreadsheetResultOpenClass.getXmlNamesMap();
-                for (Map.Entry<String, List<IOpenField>> e : customSpreadsheetResultOpenClass.getBeanFieldsMap()
-                        .entrySet()) {
-                    List<IOpenField> openFields = e.getValue();
-                    Map<String, Integer> p1 = new HashMap<>();
-                    Set<Point> points = new HashSet<>();
-                    for (IOpenField openField : openFields) {
-                        Point p = getPoint(openField.getName());
-                        if (p != null && !points.contains(p) && columnNamesForResultModel[p
-                                .getColumn()] != null && rowNamesForResultModel[p.getRow()] != null) {
-                            String key = getKey(spreadsheetResultBeanPropertyNamingStrategy, xmlNamesMap, e, p);
-                            p1.merge(key, 1, Integer::sum);
-                            points.add(p);
-                        }
-                    }
-                    for (IOpenField openField : openFields) {
-                        Point p = getPoint(openField.getName());
-                        if (p != null && columnNamesForResultModel[p.getColumn()] != null && rowNamesForResultModel[p
-                                .getRow()] != null) {
-                            String key = getKey(spreadsheetResultBeanPropertyNamingStrategy, xmlNamesMap, e, p);
-                            String fName;
-                            if (p1.get(key) == 1) {
-                                fName = key;
-                            } else {
-                                fName = xmlNamesMap.get(e.getKey());
-                            }
-                            values.put(fName,
-                                    convertSpreadsheetResult(getValue(p.getRow(), p.getColumn()),
-                                            spreadsheetResultsToMap,
-                                            spreadsheetResultBeanPropertyNamingStrategy));
-                        }
-                    }
-                }
-            } else {
-                for (int i = 0; i < rowNamesForResultModel.length; i++) {
-                    for (int j = 0; j < columnNamesForResultModel.length; j++) {
-                        if (columnNamesForResultModel[j] != null && rowNamesForResultModel[i] != null) {
-                            String fName;
-                            if (isSingleColumn) {
-                                fName = spreadsheetResultBeanPropertyNamingStrategy == null ? rowNamesForResultModel[i]
-                                        : spreadsheetResultBeanPropertyNamingStrategy
-                                        .transform(
-                                                rowNamesForResultModel[i]);
-                            } else {
-                                if (isSingleRow) {
-                                    fName = spreadsheetResultBeanPropertyNamingStrategy == null ? columnNamesForResultModel[j]
-                                            : spreadsheetResultBeanPropertyNamingStrategy
-                                            .transform(
-                                                    columnNamesForResultModel[j]);
-                                } else {
-                                    fName = spreadsheetResultBeanPropertyNamingStrategy == null ? columnNamesForResultModel[j] + "_" + rowNamesForResultModel[i]
-                                            : spreadsheetResultBeanPropertyNamingStrategy
-                                            .transform(
-                                                    columnNamesForResultModel[j],
-                                                    rowNamesForResultModel[i]);
-                                }
-                            }
-                            String fNewName = fName;
-                            int k = 1;
-                            while (values.containsKey(fNewName)) {
-                                fNewName = fName + k;
-                                k++;
-                            }
-                            values.put(fNewName,
-                                    convertSpreadsheetResult(getValue(i, j),
-                                            spreadsheetResultsToMap,
-                                            spreadsheetResultBeanPropertyNamingStrategy));
-                        }
-                    }
-                }
-            }
+            getToMapPlan(spreadsheetResultBeanPropertyNamingStrategy).forEach(this, action);
         }
-        return values;
     }
 
-    private String getKey(SpreadsheetResultBeanPropertyNamingStrategy spreadsheetResultBeanPropertyNamingStrategy,
-                          Map<String, String> xmlNamesMap,
-                          Entry<String, List<IOpenField>> e,
-                          Point p) {
-        String key;
-        if (spreadsheetResultBeanPropertyNamingStrategy == null) {
-            key = xmlNamesMap.get(e.getKey());
-        } else {
-            if (customSpreadsheetResultOpenClass.isSimpleRefByRow()) {
-                key = spreadsheetResultBeanPropertyNamingStrategy.transform(rowNamesForResultModel[p.getRow()]);
-            } else if (customSpreadsheetResultOpenClass.isSimpleRefByColumn()) {
-                key = spreadsheetResultBeanPropertyNamingStrategy.transform(columnNamesForResultModel[p.getColumn()]);
-            } else {
-                key = spreadsheetResultBeanPropertyNamingStrategy.transform(columnNamesForResultModel[p.getColumn()],
-                        rowNamesForResultModel[p.getRow()]);
-            }
+    private SpreadsheetResultToMapPlan getToMapPlan(SpreadsheetResultBeanPropertyNamingStrategy spreadsheetResultBeanPropertyNamingStrategy) {
+        if (customSpreadsheetResultOpenClass != null) {
+            getFieldsCoordinates();
+            return customSpreadsheetResultOpenClass.getToMapPlan(this, spreadsheetResultBeanPropertyNamingStrategy);
         }
-        return key;
+        return SpreadsheetResultToMapPlan.build(this, spreadsheetResultBeanPropertyNamingStrategy);
     }
 
     private static Object convertSpreadsheetResult(Object v,
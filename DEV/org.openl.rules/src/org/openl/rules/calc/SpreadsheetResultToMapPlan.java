@@ -0,0 +1,179 @@
+package org.openl.rules.calc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.openl.rules.table.Point;
+import org.openl.types.IOpenField;
+
+/**
+ * Precomputed conversion of the {@link SpreadsheetResult} to a map. It contains the cells which are included into the
+ * result model and the map keys for them, so the names are resolved once per the spreadsheet structure and the naming
+ * strategy instead of every conversion.
+ */
+final class SpreadsheetResultToMapPlan {
+
+    private final SpreadsheetResultBeanPropertyNamingStrategy namingStrategy;
+    private final Map<String, Point> fieldsCoordinates;
+    private final String[] rowNamesForResultModel;
+    private final String[] columnNamesForResultModel;
+    private final int[] rows;
+    private final int[] columns;
+    private final String[] keys;
+    private final int[] uniqueKeys;
+
+    private SpreadsheetResultToMapPlan(SpreadsheetResult spr,
+                                       SpreadsheetResultBeanPropertyNamingStrategy namingStrategy,
+                                       List<Point> points,
+                                       List<String> keys) {
+        this.namingStrategy = namingStrategy;
+        this.fieldsCoordinates = spr.fieldsCoordinates;
+        this.rowNamesForResultModel = spr.rowNamesForResultModel;
+        this.columnNamesForResultModel = spr.columnNamesForResultModel;
+        this.rows = points.stream().mapToInt(Point::getRow).toArray();
+        this.columns = points.stream().mapToInt(Point::getColumn).toArray();
+        this.keys = keys.toArray(new String[0]);
+        // The last cell wins if several cells have the same key, the order of the first occurrence is kept
+        Map<String, Integer> lastIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < this.keys.length; i++) {
+            lastIndexes.put(this.keys[i], i);
+        }
+        this.uniqueKeys = lastIndexes.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Checks that the plan has been built for the same structure of the spreadsheet result and the same naming
+     * strategy.
+     */
+    boolean isApplicable(SpreadsheetResult spr, SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
+        return this.namingStrategy == namingStrategy && fieldsCoordinates == spr.fieldsCoordinates
+                && rowNamesForResultModel == spr.rowNamesForResultModel
+                && columnNamesForResultModel == spr.columnNamesForResultModel;
+    }
+
+    Map<String, Object> toMap(SpreadsheetResult spr, Function<Object, Object> converter) {
+        Map<String, Object> values = new HashMap<>(Math.max(16, (int) (uniqueKeys.length / 0.75f) + 1));
+        forEach(spr, (key, value) -> values.put(key, converter.apply(value)));
+        return values;
+    }
+
+    void forEach(SpreadsheetResult spr, BiConsumer<String, Object> action) {
+        for (int i : uniqueKeys) {
+            action.accept(keys[i], spr.getValue(rows[i], columns[i]));
+        }
+    }
+
+    static SpreadsheetResultToMapPlan build(SpreadsheetResult spr,
+                                            SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
+        List<Point> points = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        CustomSpreadsheetResultOpenClass customSpreadsheetResultOpenClass = spr.getCustomSpreadsheetResultOpenClass();
+        if (customSpreadsheetResultOpenClass != null) {
+            buildForBeanFields(spr, customSpreadsheetResultOpenClass, namingStrategy, points, keys);
+        } else {
+            buildForCells(spr, namingStrategy, points, keys);
+        }
+        return new SpreadsheetResultToMapPlan(spr, namingStrategy, points, keys);
+    }
+
+    private static void buildForBeanFields(SpreadsheetResult spr,
+                                           CustomSpreadsheetResultOpenClass customSpreadsheetResultOpenClass,
+                                           SpreadsheetResultBeanPropertyNamingStrategy namingStrategy,
+                                           List<Point> points,
+                                           List<String> keys) {
+        Map<String, String> xmlNamesMap = customSpreadsheetResultOpenClass.getXmlNamesMap();
+        for (Map.Entry<String, List<IOpenField>> e : customSpreadsheetResultOpenClass.getBeanFieldsMap().entrySet()) {
+            List<Point> fieldPoints = new ArrayList<>();
+            for (IOpenField openField : e.getValue()) {
+                Point p = spr.getPoint(openField.getName());
+                if (p != null && spr.columnNamesForResultModel[p.getColumn()] != null && spr.rowNamesForResultModel[p
+                        .getRow()] != null) {
+                    fieldPoints.add(p);
+                }
+            }
+            Map<String, Integer> keysCount = new HashMap<>();
+            Set<Point> distinctPoints = new HashSet<>();
+            for (Point p : fieldPoints) {
+                if (distinctPoints.add(p)) {
+                    keysCount.merge(getKey(spr, customSpreadsheetResultOpenClass, namingStrategy, xmlNamesMap, e, p),
+                            1,
+                            Integer::sum);
+                }
+            }
+            for (Point p : fieldPoints) {
+                String key = getKey(spr, customSpreadsheetResultOpenClass, namingStrategy, xmlNamesMap, e, p);
+                points.add(p);
+                keys.add(keysCount.get(key) == 1 ? key : xmlNamesMap.get(e.getKey()));
+            }
+        }
+    }
+
+    private static String getKey(SpreadsheetResult spr,
+                                 CustomSpreadsheetResultOpenClass customSpreadsheetResultOpenClass,
+                                 SpreadsheetResultBeanPropertyNamingStrategy namingStrategy,
+                                 Map<String, String> xmlNamesMap,
+                                 Map.Entry<String, List<IOpenField>> e,
+                                 Point p) {
+        if (namingStrategy == null) {
+            return xmlNamesMap.get(e.getKey());
+        } else if (customSpreadsheetResultOpenClass.isSimpleRefByRow()) {
+            return namingStrategy.transform(spr.rowNamesForResultModel[p.getRow()]);
+        } else if (customSpreadsheetResultOpenClass.isSimpleRefByColumn()) {
+            return namingStrategy.transform(spr.columnNamesForResultModel[p.getColumn()]);
+        } else {
+            return namingStrategy.transform(spr.columnNamesForResultModel[p.getColumn()],
+                    spr.rowNamesForResultModel[p.getRow()]);
+        }
+    }
+
+    private static void buildForCells(SpreadsheetResult spr,
+                                      SpreadsheetResultBeanPropertyNamingStrategy namingStrategy,
+                                      List<Point> points,
+                                      List<String> keys) {
+        String[] rowNames = spr.rowNamesForResultModel;
+        String[] columnNames = spr.columnNamesForResultModel;
+        boolean isSingleRow = countNonNulls(rowNames) == 1;
+        boolean isSingleColumn = countNonNulls(columnNames) == 1;
+        Set<String> usedKeys = new HashSet<>();
+        for (int i = 0; i < rowNames.length; i++) {
+            for (int j = 0; j < columnNames.length; j++) {
+                if (columnNames[j] != null && rowNames[i] != null) {
+                    String fName;
+                    if (isSingleColumn) {
+                        fName = namingStrategy == null ? rowNames[i] : namingStrategy.transform(rowNames[i]);
+                    } else if (isSingleRow) {
+                        fName = namingStrategy == null ? columnNames[j] : namingStrategy.transform(columnNames[j]);
+                    } else {
+                        fName = namingStrategy == null ? columnNames[j] + "_" + rowNames[i]
+                                                       : namingStrategy.transform(columnNames[j], rowNames[i]);
+                    }
+                    String fNewName = fName;
+                    int k = 1;
+                    while (!usedKeys.add(fNewName)) {
+                        fNewName = fName + k;
+                        k++;
+                    }
+                    points.add(Point.get(j, i));
+                    keys.add(fNewName);
+                }
+            }
+        }
+    }
+
+    private static int countNonNulls(String[] names) {
+        int count = 0;
+        for (String name : names) {
+            if (name != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.openl.rules.cmatch.algorithm.Argument;
+import org.openl.rules.cmatch.algorithm.ColumnIndex;
 import org.openl.rules.cmatch.matcher.IMatcher;
 
 public class MatchNode {
@@ -24,6 +25,8 @@ public class MatchNode {
      */
     private Object[] checkValues;
 
+    private volatile ColumnIndex columnIndex;
+
     public MatchNode(int rowIndex) {
         children = new LinkedList<>();
         this.rowIndex = rowIndex;
@@ -46,6 +49,18 @@ public class MatchNode {
         return checkValues;
     }
 
+    /**
+     * @return the index of the check values, it's built on the first call
+     */
+    public ColumnIndex getColumnIndex() {
+        ColumnIndex index = columnIndex;
+        if (index == null) {
+            index = new ColumnIndex(matcher, checkValues);
+            columnIndex = index;
+        }
+        return index;
+    }
+
     public List<MatchNode> getChildren() {
         return Collections.unmodifiableList(children);
     }
@@ -76,10 +91,12 @@ public class MatchNode {
 
     public void setCheckValues(Object[] checkValues) {
         this.checkValues = checkValues;
+        columnIndex = null;
     }
 
     public void setMatcher(IMatcher matcher) {
         this.matcher = matcher;
+        columnIndex = null;
     }
 
     public void setWeight(int weight) {
@@ -0,0 +1,41 @@
+package org.openl.rules.cmatch.algorithm;
+
+import java.util.Arrays;
+
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Values of the arguments extracted from the method parameters. Every argument is extracted once per invocation even
+ * if it's used in several rows.
+ */
+final class ArgumentValues {
+    private final Object target;
+    private final Object[] params;
+    private final IRuntimeEnv env;
+
+    private Argument[] arguments = new Argument[8];
+    private Object[] values = new Object[8];
+    private int size;
+
+    ArgumentValues(Object target, Object[] params, IRuntimeEnv env) {
+        this.target = target;
+        this.params = params;
+        this.env = env;
+    }
+
+    Object get(Argument argument) {
+        for (int i = 0; i < size; i++) {
+            if (arguments[i] == argument) {
+                return values[i];
+            }
+        }
+        Object value = argument.extractValue(target, params, env);
+        if (size == arguments.length) {
+            arguments = Arrays.copyOf(arguments, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        arguments[size] = argument;
+        values[size++] = value;
+        return value;
+    }
+}
@@ -0,0 +1,66 @@
+package org.openl.rules.cmatch.algorithm;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openl.rules.cmatch.matcher.IMatcher;
+
+/**
+ * Index of the check values of a row. The columns with the check values matched by equality are looked up by the
+ * actual value, the rest of the columns are checked by the matcher.
+ */
+public final class ColumnIndex {
+    private final IMatcher matcher;
+    private final Object[] checkValues;
+    private final Map<Object, BitSet> columnsByValue = new HashMap<>();
+    private final BitSet checkedColumns = new BitSet();
+
+    public ColumnIndex(IMatcher matcher, Object[] checkValues) {
+        this.matcher = matcher;
+        this.checkValues = checkValues;
+        for (int column = 0; column < checkValues.length; column++) {
+            Object checkValue = checkValues[column];
+            if (matcher.isMatchedByEquality(checkValue)) {
+                columnsByValue.computeIfAbsent(checkValue, e -> new BitSet()).set(column);
+            } else {
+                checkedColumns.set(column);
+            }
+        }
+    }
+
+    /**
+     * @return the columns which can match the value, use {@link #match(Object, int)} to check them
+     */
+    public BitSet getCandidates(Object var) {
+        BitSet candidates = (BitSet) checkedColumns.clone();
+        BitSet equalColumns = columnsByValue.get(var);
+        if (equalColumns != null) {
+            candidates.or(equalColumns);
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks the column returned by {@link #getCandidates(Object)}.
+     */
+    public boolean match(Object var, int column) {
+        return !checkedColumns.get(column) || matcher.match(var, checkValues[column]);
+    }
+
+    /**
+     * @return the first column before the limit which matches the value or -1 if there is no such column
+     */
+    public int findFirst(Object var, int limit) {
+        BitSet equalColumns = columnsByValue.get(var);
+        int equalColumn = equalColumns != null ? equalColumns.nextSetBit(0) : -1;
+        int end = equalColumn >= 0 ? Math.min(equalColumn, limit) : limit;
+        for (int column = checkedColumns.nextSetBit(0); column >= 0 && column < end; column = checkedColumns
+                .nextSetBit(column + 1)) {
+            if (matcher.match(var, checkValues[column])) {
+                return column;
+            }
+        }
+        return equalColumn < limit ? equalColumn : -1;
+    }
+}
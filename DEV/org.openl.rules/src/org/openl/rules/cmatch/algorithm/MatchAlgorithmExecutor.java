@@ -1,10 +1,10 @@
 package org.openl.rules.cmatch.algorithm;
 
+import java.util.BitSet;
 import java.util.List;
 
 import org.openl.rules.cmatch.ColumnMatch;
 import org.openl.rules.cmatch.MatchNode;
-import org.openl.rules.cmatch.matcher.IMatcher;
 import org.openl.vm.IRuntimeEnv;
 import org.openl.vm.Tracer;
 
@@ -15,6 +15,7 @@ public class MatchAlgorithmExecutor implements IMatchAlgorithmExecutor {
     public Object invoke(ColumnMatch target, Object[] params, IRuntimeEnv env) {
         MatchNode checkTree = target.getCheckTree();
         Object returnValues[] = target.getReturnValues();
+        ArgumentValues arguments = new ArgumentValues(target, params, env);
 
         // iterate over linearized nodes
         for (MatchNode line : checkTree.getChildren()) {
@@ -22,17 +23,24 @@ public class MatchAlgorithmExecutor implements IMatchAlgorithmExecutor {
                 throw new IllegalArgumentException("Linearized MatchNode tree expected.");
             }
 
+            List<MatchNode> children = line.getChildren();
+            Object[] vars = new Object[children.size()];
+            BitSet columns = new BitSet(returnValues.length);
+            columns.set(0, returnValues.length);
+            // select the columns which can match all children
+            for (int i = 0; i < vars.length && !columns.isEmpty(); i++) {
+                MatchNode node = children.get(i);
+                vars[i] = arguments.get(node.getArgument());
+                columns.and(node.getColumnIndex().getCandidates(vars[i]));
+            }
+
             // find matching result value from left to right
-            for (int resultIndex = 0; resultIndex < returnValues.length; resultIndex++) {
+            for (int resultIndex = columns.nextSetBit(0); resultIndex >= 0; resultIndex = columns
+                    .nextSetBit(resultIndex + 1)) {
                 boolean success = true;
                 // check that all children are MATCH at resultIndex element
-                List<MatchNode> children = line.getChildren();
-                for (MatchNode node : children) {
-                    Argument arg = node.getArgument();
-                    Object var = arg.extractValue(target, params, env);
-                    IMatcher matcher = node.getMatcher();
-                    Object checkValue = node.getCheckValues()[resultIndex];
-                    if (!matcher.match(var, checkValue)) {
+                for (int i = 0; i < vars.length; i++) {
+                    if (!children.get(i).getColumnIndex().match(vars[i], resultIndex)) {
                         success = false;
                         break;
                     }
@@ -40,7 +48,7 @@ public class MatchAlgorithmExecutor implements IMatchAlgorithmExecutor {
 
                 if (success) {
                     Object result = returnValues[resultIndex];
-                    for (MatchNode node : line.getChildren()) {
+                    for (MatchNode node : children) {
                         Tracer.put(this, "match", target, node, resultIndex, null);
                     }
                     Tracer.put(this, "result", target, resultIndex, result);
@@ -2,7 +2,6 @@ package org.openl.rules.cmatch.algorithm;
 
 import org.openl.rules.cmatch.ColumnMatch;
 import org.openl.rules.cmatch.MatchNode;
-import org.openl.rules.cmatch.matcher.IMatcher;
 import org.openl.vm.IRuntimeEnv;
 import org.openl.vm.Tracer;
 
@@ -14,6 +13,8 @@ public class ScoreAlgorithmExecutor implements IMatchAlgorithmExecutor {
         MatchNode checkTree = target.getCheckTree();
         int[] scores = target.getColumnScores();
 
+        ArgumentValues arguments = new ArgumentValues(target, params, env);
+
         int sumScore = 0;
         // iterate over linearized nodes
         for (MatchNode node : checkTree.getChildren()) {
@@ -21,19 +22,14 @@ public class ScoreAlgorithmExecutor implements IMatchAlgorithmExecutor {
                 throw new IllegalArgumentException("Sub node are prohibited here.");
             }
 
-            Argument arg = node.getArgument();
-            Object var = arg.extractValue(target, params, env);
-            IMatcher matcher = node.getMatcher();
-
-            // find all matching scores from left to right
-            for (int resultIndex = 0; resultIndex < scores.length; resultIndex++) {
-                Object checkValue = node.getCheckValues()[resultIndex];
-                if (matcher.match(var, checkValue)) {
-                    int score = scores[resultIndex] * node.getWeight();
-                    sumScore += score;
-                    Tracer.put(this, "match", target, node, resultIndex, score);
-                    break;
-                }
+            Object var = arguments.get(node.getArgument());
+
+            // find the first matching score from left to right
+            int resultIndex = node.getColumnIndex().findFirst(var, scores.length);
+            if (resultIndex >= 0) {
+                int score = scores[resultIndex] * node.getWeight();
+                sumScore += score;
+                Tracer.put(this, "match", target, node, resultIndex, score);
             }
         }
         return sumScore;
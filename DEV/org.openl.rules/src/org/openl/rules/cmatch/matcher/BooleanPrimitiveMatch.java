@@ -41,4 +41,9 @@ public class BooleanPrimitiveMatch implements IMatcherBuilder, IMatcher {
         return checkValue.equals(var);
     }
 
+    @Override
+    public boolean isMatchedByEquality(Object checkValue) {
+        return checkValue != null;
+    }
+
 }
@@ -22,4 +22,9 @@ public class ClassMatchMatcher implements IMatcher {
 
         return checkValue.equals(var);
     }
+
+    @Override
+    public boolean isMatchedByEquality(Object checkValue) {
+        return checkValue != null;
+    }
 }
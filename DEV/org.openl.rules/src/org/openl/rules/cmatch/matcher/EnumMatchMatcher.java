@@ -24,4 +24,9 @@ public class EnumMatchMatcher implements IMatcher {
 
         return checkValue.equals(var);
     }
+
+    @Override
+    public boolean isMatchedByEquality(Object checkValue) {
+        return checkValue != null;
+    }
 }
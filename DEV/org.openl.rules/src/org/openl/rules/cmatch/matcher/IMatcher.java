@@ -19,4 +19,15 @@ public interface IMatcher {
      * @return true if it matches
      */
     boolean match(Object var, Object checkValue);
+
+    /**
+     * Check whether the check value is matched only by the values equal to it. Such check values are looked up by the
+     * actual value instead of calling {@link #match(Object, Object)} for every column.
+     *
+     * @param checkValue check value
+     * @return true if {@code match(var, checkValue)} is the same as {@code checkValue.equals(var)}
+     */
+    default boolean isMatchedByEquality(Object checkValue) {
+        return false;
+    }
 }
@@ -54,4 +54,9 @@ public class NumberMatchMatcher implements IMatcher {
         }
     }
 
+    @Override
+    public boolean isMatchedByEquality(Object checkValue) {
+        return checkValue != null && !(checkValue instanceof INumberRange);
+    }
+
 }
@@ -30,27 +30,40 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
         }
     }
 
-    private Map<String, Object> internalMap = new HashMap<>();
+    /**
+     * The key of the current values except the dates, it is reset on any modification of the context.
+     */
+    private transient DispatchKey dispatchKey;
 
-    @Override
-    public Object getValue(String name) {
-        return internalMap.get(name);
-    }
+    /**
+     * The methods resolved for this context by the dispatchers which depend on the dates, it is reset on any
+     * modification of the context.
+     */
+    private transient Map<IOpenMethod, IOpenMethod> cache = null;
 
     @Override
     public String toString() {
+        Map<String, Object> values = new TreeMap<>();
+        for (String name : CONTEXT_PROPERTIES.keySet()) {
+            Object value = getValue(name);
+            if (value != null) {
+                values.put(name, value);
+            }
+        }
 
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         PrintStream printStream = new PrintStream(out);
-        verbosePrint(printStream, null, internalMap, new ArrayDeque<>());
+        verbosePrint(printStream, null, values, new ArrayDeque<>());
 
         return out.toString();
     }
 
-    private transient Map<IOpenMethod, IOpenMethod> cache = null;
-
     @Override
     public IOpenMethod getMethodForOpenMethodDispatcher(OpenMethodDispatcher openMethodDispatcher) {
+        if (openMethodDispatcher.isDispatchedWithoutDates()) {
+            // The method is shared by all contexts with the same values
+            return openMethodDispatcher.getDispatchedMethod(getDispatchKey());
+        }
         if (cache == null) {
             return null;
         }
@@ -59,6 +72,10 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
 
     @Override
     public void putMethodForOpenMethodDispatcher(OpenMethodDispatcher openMethodDispatcher, IOpenMethod method) {
+        if (openMethodDispatcher.isDispatchedWithoutDates()) {
+            openMethodDispatcher.putDispatchedMethod(getDispatchKey(), method);
+            return;
+        }
         if (cache == null) {
             cache = new HashMap<>();
         }
@@ -144,65 +161,103 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public IRulesRuntimeContext clone() throws CloneNotSupportedException {
         DefaultRulesRuntimeContext defaultRulesRuntimeContext = (DefaultRulesRuntimeContext) super.clone();
-        // create a new instance of `Hashmap`. By default clone creates a shallow copy in defaultRulesRuntimeContext.
-        defaultRulesRuntimeContext.internalMap = new HashMap<>(this.internalMap);
+        // The values are stored in the fields, only the cache of the resolved methods must not be shared.
+        defaultRulesRuntimeContext.cache = null;
         return defaultRulesRuntimeContext;
     }
 
     @Override
-    public void setValue(String name, Object value) {
-        if ("currentDate".equals(name)) {
-            setCurrentDate((java.util.Date) value);
-            return;
-        }
-        if ("requestDate".equals(name)) {
-            setRequestDate((java.util.Date) value);
-            return;
-        }
-        if ("lob".equals(name)) {
-            setLob((java.lang.String) value);
-            return;
-        }
-        if ("nature".equals(name)) {
-            setNature((java.lang.String) value);
-            return;
-        }
-        if ("usState".equals(name)) {
-            setUsState((org.openl.rules.enumeration.UsStatesEnum) value);
-            return;
-        }
-        if ("country".equals(name)) {
-            setCountry((org.openl.rules.enumeration.CountriesEnum) value);
-            return;
-        }
-        if ("usRegion".equals(name)) {
-            setUsRegion((org.openl.rules.enumeration.UsRegionsEnum) value);
-            return;
-        }
-        if ("currency".equals(name)) {
-            setCurrency((org.openl.rules.enumeration.CurrenciesEnum) value);
-            return;
-        }
-        if ("lang".equals(name)) {
-            setLang((org.openl.rules.enumeration.LanguagesEnum) value);
-            return;
+    public Object getValue(String name) {
+        if (name == null) {
+            return null;
         }
-        if ("region".equals(name)) {
-            setRegion((org.openl.rules.enumeration.RegionsEnum) value);
-            return;
+        switch (name) {
+            case "currentDate":
+                return currentDate;
+            case "requestDate":
+                return requestDate;
+            case "lob":
+                return lob;
+            case "nature":
+                return nature;
+            case "usState":
+                return usState;
+            case "country":
+                return country;
+            case "usRegion":
+                return usRegion;
+            case "currency":
+                return currency;
+            case "lang":
+                return lang;
+            case "region":
+                return region;
+            case "caProvince":
+                return caProvince;
+            case "caRegion":
+                return caRegion;
+            case "locale":
+                return locale;
+            default:
+                return null;
         }
-        if ("caProvince".equals(name)) {
-            setCaProvince((org.openl.rules.enumeration.CaProvincesEnum) value);
+    }
+
+    @Override
+    public void setValue(String name, Object value) {
+        if (name == null) {
             return;
         }
-        if ("caRegion".equals(name)) {
-            setCaRegion((org.openl.rules.enumeration.CaRegionsEnum) value);
-            return;
+        switch (name) {
+            case "currentDate":
+                setCurrentDate((java.util.Date) value);
+                break;
+            case "requestDate":
+                setRequestDate((java.util.Date) value);
+                break;
+            case "lob":
+                setLob((java.lang.String) value);
+                break;
+            case "nature":
+                setNature((java.lang.String) value);
+                break;
+            case "usState":
+                setUsState((org.openl.rules.enumeration.UsStatesEnum) value);
+                break;
+            case "country":
+                setCountry((org.openl.rules.enumeration.CountriesEnum) value);
+                break;
+            case "usRegion":
+                setUsRegion((org.openl.rules.enumeration.UsRegionsEnum) value);
+                break;
+            case "currency":
+                setCurrency((org.openl.rules.enumeration.CurrenciesEnum) value);
+                break;
+            case "lang":
+                setLang((org.openl.rules.enumeration.LanguagesEnum) value);
+                break;
+            case "region":
+                setRegion((org.openl.rules.enumeration.RegionsEnum) value);
+                break;
+            case "caProvince":
+                setCaProvince((org.openl.rules.enumeration.CaProvincesEnum) value);
+                break;
+            case "caRegion":
+                setCaRegion((org.openl.rules.enumeration.CaRegionsEnum) value);
+                break;
+            case "locale":
+                setLocale((java.util.Locale) value);
+                break;
         }
-        if ("locale".equals(name)) {
-            setLocale((java.util.Locale) value);
-            return;
+    }
+
+    DispatchKey getDispatchKey() {
+        DispatchKey key = dispatchKey;
+        if (key == null) {
+            key = DispatchKey.of(lob, nature, usState, country, usRegion, currency, lang, region, caProvince, caRegion, locale);
+            dispatchKey = key;
         }
+        return key;
     }
 
     private java.util.Date currentDate = null;
@@ -215,7 +270,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setCurrentDate(java.util.Date currentDate) {
         this.currentDate = currentDate;
-        internalMap.put("currentDate", currentDate);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -229,7 +284,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setRequestDate(java.util.Date requestDate) {
         this.requestDate = requestDate;
-        internalMap.put("requestDate", requestDate);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -243,7 +298,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setLob(java.lang.String lob) {
         this.lob = lob;
-        internalMap.put("lob", lob);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -257,7 +312,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setNature(java.lang.String nature) {
         this.nature = nature;
-        internalMap.put("nature", nature);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -271,7 +326,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setUsState(org.openl.rules.enumeration.UsStatesEnum usState) {
         this.usState = usState;
-        internalMap.put("usState", usState);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -285,7 +340,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setCountry(org.openl.rules.enumeration.CountriesEnum country) {
         this.country = country;
-        internalMap.put("country", country);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -299,7 +354,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setUsRegion(org.openl.rules.enumeration.UsRegionsEnum usRegion) {
         this.usRegion = usRegion;
-        internalMap.put("usRegion", usRegion);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -313,7 +368,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setCurrency(org.openl.rules.enumeration.CurrenciesEnum currency) {
         this.currency = currency;
-        internalMap.put("currency", currency);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -327,7 +382,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setLang(org.openl.rules.enumeration.LanguagesEnum lang) {
         this.lang = lang;
-        internalMap.put("lang", lang);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -341,7 +396,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setRegion(org.openl.rules.enumeration.RegionsEnum region) {
         this.region = region;
-        internalMap.put("region", region);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -355,7 +410,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setCaProvince(org.openl.rules.enumeration.CaProvincesEnum caProvince) {
         this.caProvince = caProvince;
-        internalMap.put("caProvince", caProvince);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -369,7 +424,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setCaRegion(org.openl.rules.enumeration.CaRegionsEnum caRegion) {
         this.caRegion = caRegion;
-        internalMap.put("caRegion", caRegion);
+        dispatchKey = null;
         cache = null;
     }
 
@@ -383,7 +438,7 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     @Override
     public void setLocale(java.util.Locale locale) {
         this.locale = locale;
-        internalMap.put("locale", locale);
+        dispatchKey = null;
         cache = null;
     }
 
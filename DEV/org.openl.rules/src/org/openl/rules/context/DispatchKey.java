@@ -0,0 +1,65 @@
+package org.openl.rules.context;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of the runtime context values used to dispatch overloaded methods. The dates are not included,
+ * because they are different almost in every request, so the key can be used only for dispatching which does not
+ * depend on the dates. The contexts with equal values share the same key instance, so the resolved methods can be
+ * cached across requests.
+ */
+public final class DispatchKey {
+
+    private static final int MAX_CANONICAL_KEYS = 10_000;
+
+    private static final Map<DispatchKey, DispatchKey> CANONICAL_KEYS = new ConcurrentHashMap<>();
+
+    private final Object[] values;
+    private final int hash;
+
+    private DispatchKey(Object[] values) {
+        this.values = values;
+        this.hash = Arrays.hashCode(values);
+    }
+
+    /**
+     * Returns the canonical key for the given context values. The values must be immutable. A context gets the key
+     * once and keeps it until it's modified.
+     */
+    static DispatchKey of(Object... values) {
+        DispatchKey key = new DispatchKey(values);
+        DispatchKey canonical = CANONICAL_KEYS.get(key);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (CANONICAL_KEYS.size() >= MAX_CANONICAL_KEYS) {
+            // An arbitrary key is dropped, the contexts which still use it keep working with an equal key
+            Iterator<DispatchKey> keys = CANONICAL_KEYS.keySet().iterator();
+            if (keys.hasNext()) {
+                CANONICAL_KEYS.remove(keys.next());
+            }
+        }
+        canonical = CANONICAL_KEYS.putIfAbsent(key, key);
+        return canonical != null ? canonical : key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DispatchKey)) {
+            return false;
+        }
+        DispatchKey that = (DispatchKey) o;
+        return hash == that.hash && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -222,6 +222,14 @@ public class ActionInvoker implements Invokable {
         return firedRules.stream().mapToInt(e -> e).toArray();
     }
 
+    /**
+     * Returns the rules which actions have been executed so far. Unlike {@link #getRules()} it does not evaluate the
+     * remaining rules, so it can be used after the invocation without side effects.
+     */
+    public int[] getFiredRules() {
+        return firedRules.stream().mapToInt(e -> e).toArray();
+    }
+
     private static class SmartIterator {
         Iterator<Integer> itr1;
         IIntIterator itr2;
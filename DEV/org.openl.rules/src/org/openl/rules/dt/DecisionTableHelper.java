@@ -53,10 +53,12 @@ import org.openl.exception.OpenLCompilationException;
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
 import org.openl.rules.binding.RuleRowHelper;
+import org.openl.rules.binding.RulesModuleBindingContextHelper;
 import org.openl.rules.calc.SpreadsheetResult;
 import org.openl.rules.constants.ConstantOpenField;
 import org.openl.rules.convertor.IString2DataConvertor;
 import org.openl.rules.convertor.String2DataConvertorFactory;
+import org.openl.rules.fuzzy.FieldTokensIndex;
 import org.openl.rules.fuzzy.OpenLFuzzyUtils;
 import org.openl.rules.fuzzy.OpenLFuzzyUtils.FuzzyResult;
 import org.openl.rules.fuzzy.Token;
@@ -276,12 +278,16 @@ public final class DecisionTableHelper {
                                                   DecisionTable decisionTable,
                                                   int numberOfHConditions,
                                                   IBindingContext bindingContext) {
-        final ParameterTokens parameterTokens = buildParameterTokens(decisionTable);
+        FieldTokensIndex fieldTokensIndex = RulesModuleBindingContextHelper.getFieldTokensIndex(bindingContext);
+        final ParameterTokens parameterTokens = buildParameterTokens(decisionTable, fieldTokensIndex);
         if (numberOfHConditions == 0) {
             IOpenClass returnType = getCompoundReturnType(tableSyntaxNode, decisionTable, bindingContext);
             if (isCompoundReturnType(returnType)) {
                 Map<Token, IOpenField[][]> returnTypeFuzzyTokens = OpenLFuzzyUtils
-                        .tokensMapToOpenClassWritableFieldsRecursively(returnType, returnType.getName(), 1);
+                        .tokensMapToOpenClassWritableFieldsRecursively(fieldTokensIndex,
+                                returnType,
+                                returnType.getName(),
+                                1);
                 Token[] returnTokens = returnTypeFuzzyTokens.keySet().toArray(new Token[]{});
                 return new FuzzyContext(parameterTokens, returnTokens, returnTypeFuzzyTokens, returnType);
             }
@@ -2037,7 +2043,8 @@ public final class DecisionTableHelper {
         }
     }
 
-    private static ParameterTokens buildParameterTokens(DecisionTable decisionTable) {
+    private static ParameterTokens buildParameterTokens(DecisionTable decisionTable,
+                                                        FieldTokensIndex fieldTokensIndex) {
         int numberOfParameters = decisionTable.getSignature().getNumberOfParameters();
         Map<Token, Integer> tokenToParameterIndex = new HashMap<>();
         Map<Token, IOpenField[]> tokenToFieldsChain = new HashMap<>();
@@ -2047,7 +2054,8 @@ public final class DecisionTableHelper {
             IOpenClass parameterType = decisionTable.getSignature().getParameterType(i);
             if (isCompoundInputType(parameterType) && !parameterType.isArray()) {
                 Map<Token, IOpenField[][]> openClassFuzzyTokens = OpenLFuzzyUtils
-                        .tokensMapToOpenClassReadableFieldsRecursively(parameterType,
+                        .tokensMapToOpenClassReadableFieldsRecursively(fieldTokensIndex,
+                                parameterType,
                                 decisionTable.getSignature().getParameterName(i),
                                 1);
                 for (Map.Entry<Token, IOpenField[][]> entry : openClassFuzzyTokens.entrySet()) {
@@ -6,6 +6,7 @@ import org.openl.rules.dt.algorithm.FailOnMissException;
 import org.openl.rules.dt.algorithm.IDecisionTableAlgorithm;
 import org.openl.rules.enumeration.DTEmptyResultProcessingEnum;
 import org.openl.rules.method.RulesMethodInvoker;
+import org.openl.rules.method.RulesMetrics;
 import org.openl.types.IOpenClass;
 import org.openl.util.OpenClassUtils;
 import org.openl.vm.IRuntimeEnv;
@@ -53,8 +54,13 @@ public class DecisionTableInvoker extends RulesMethodInvoker<DecisionTable> {
 
         IBaseAction[] actions = getInvokableMethod().getActionRows();
 
-        Object returnValue = Tracer
-                .invoke(new ActionInvoker(rulesIntIterator, actions, returnEmptyResult), target, params, env, this);
+        ActionInvoker actionInvoker = new ActionInvoker(rulesIntIterator, actions, returnEmptyResult);
+        Object returnValue = Tracer.invoke(actionInvoker, target, params, env, this);
+        if (RulesMetrics.isEnabled()) {
+            DecisionTable table = getInvokableMethod();
+            table.getMetrics()
+                    .recordRuleHits(actionInvoker.getFiredRules(), table.getNumberOfRules(), table::getRuleName);
+        }
         if (!OpenClassUtils.isVoid(retType) && returnValue != null) {
             return returnValue;
         }
@@ -31,9 +31,16 @@ public abstract class ARangeIndexEvaluator extends AConditionEvaluator implement
         this.nparams = nparams;
     }
 
+    /**
+     * @return true if the original condition expression is used as the formal source code of the condition
+     */
+    public boolean isOriginalSourceUsed() {
+        return rangeAdaptor != null && rangeAdaptor.useOriginalSource();
+    }
+
     @Override
     public IOpenSourceCodeModule getFormalSourceCode(IBaseCondition condition) {
-        if (rangeAdaptor != null && rangeAdaptor.useOriginalSource()) {
+        if (isOriginalSourceUsed()) {
             return condition.getSourceCodeModule();
         }
 
@@ -40,6 +40,14 @@ public class DecisionTableValidationResult implements IValidationResult {
         this.uncovered = convertUncovered(uncovered, transformer, analyzer);
     }
 
+    public DecisionTableValidationResult(IDecisionTable decisionTable,
+                                         DecisionTableOverlapping[] overlappings,
+                                         DecisionTableUncovered[] uncovered) {
+        this.decisionTable = decisionTable;
+        this.overlappings = overlappings;
+        this.uncovered = uncovered;
+    }
+
     private DecisionTableOverlapping[] convertOverlappings(Overlapping[] overlappings,
                                                            IConditionTransformer transformer,
                                                            DecisionTableAnalyzer analyzer) {
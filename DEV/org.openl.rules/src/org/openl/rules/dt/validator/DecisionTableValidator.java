@@ -3,17 +3,22 @@
  */
 package org.openl.rules.dt.validator;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.openl.OpenL;
+import org.openl.domain.IDomain;
 import org.openl.rules.dt.IBaseCondition;
 import org.openl.rules.dt.IDecisionTable;
+import org.openl.rules.dt.algorithm.evaluator.DomainCanNotBeDefined;
+import org.openl.rules.dt.type.domains.DomainAdaptorFactory;
 import org.openl.rules.dt.type.domains.IDomainAdaptor;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.validator.IValidatedObject;
 import org.openl.rules.validator.IValidationResult;
 import org.openl.rules.validator.IValidator;
 import org.openl.types.IOpenClass;
+import org.openl.types.IParameterDeclaration;
 
 /**
  * @author snshor
@@ -31,6 +36,25 @@ public final class DecisionTableValidator implements IValidator {
     public static DecisionTableValidationResult validateTable(IDecisionTable decisionTable,
                                                               Map<String, IDomainAdaptor> domains,
                                                               IOpenClass type) {
+        DecisionTableValidationResult result = validateTableByIntervals(decisionTable, domains);
+        return result != null ? result : validateTableBySolver(decisionTable, domains, type);
+    }
+
+    /**
+     * Validates the table without the constraint solver, it doesn't use the shared state, so the tables can be
+     * validated concurrently.
+     *
+     * @return the result of the validation or {@code null} if the table conditions are not supported
+     * @see IntervalValidationAlgorithm
+     */
+    public static DecisionTableValidationResult validateTableByIntervals(IDecisionTable decisionTable,
+                                                                         Map<String, IDomainAdaptor> domains) {
+        return new IntervalValidationAlgorithm(new DecisionTableValidatedObject(decisionTable, domains)).validate();
+    }
+
+    public static DecisionTableValidationResult validateTableBySolver(IDecisionTable decisionTable,
+                                                                      Map<String, IDomainAdaptor> domains,
+                                                                      IOpenClass type) {
 
         IDecisionTableValidatedObject validatedObject = new DecisionTableValidatedObject(decisionTable, domains);
         OpenL openl = ((XlsModuleOpenClass) type).getOpenl();
@@ -38,6 +62,45 @@ public final class DecisionTableValidator implements IValidator {
         return (DecisionTableValidationResult) getInstance().validate(validatedObject, openl);
     }
 
+    /**
+     * Collects the domains of the signature and condition parameters without the declared domains from the rule values.
+     */
+    public static Map<String, IDomainAdaptor> gatherDomains(IDecisionTable dt) throws DomainCanNotBeDefined {
+        Map<String, IDomainAdaptor> domainsMap = new HashMap<>();
+        DecisionTableAnalyzer analyzer = new DecisionTableAnalyzer(dt);
+
+        for (IBaseCondition condition : dt.getConditionRows()) {
+            IParameterDeclaration[] pd = analyzer.referencedSignatureParams(condition);
+            for (IParameterDeclaration iParameterDeclaration : pd) {
+                IDomain<?> domain = iParameterDeclaration.getType().getDomain();
+                if (domain == null) {
+                    domain = condition.getConditionEvaluator().getRuleParameterDomain(condition);
+                    IDomainAdaptor adaptor = DomainAdaptorFactory.getAdaptor(domain);
+                    domainsMap.put(iParameterDeclaration.getName(), adaptor);
+                }
+            }
+
+            IParameterDeclaration[] cparams = condition.getParams();
+
+            for (int i = 0; i < cparams.length; i++) {
+                IDomain<?> domain = cparams[i].getType().getDomain();
+                if (domain == null) {
+                    domain = condition.getConditionEvaluator().getConditionParameterDomain(i, condition);
+                    if (domain != null) {
+                        IDomainAdaptor adaptor = DomainAdaptorFactory.getAdaptor(domain);
+                        domainsMap.put(
+                                getUniqueConditionParamName(condition, cparams[i].getName()),
+                                adaptor);
+                    }
+
+                }
+
+            }
+
+        }
+        return domainsMap;
+    }
+
     @Override
     public IValidationResult validate(IValidatedObject validatedObject, OpenL openl) {
         return new ValidationAlgorithm((IDecisionTableValidatedObject) validatedObject, openl).validate();
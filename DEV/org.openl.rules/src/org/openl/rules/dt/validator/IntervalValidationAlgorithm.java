@@ -0,0 +1,497 @@
+package org.openl.rules.dt.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.ie.constrainer.Constrainer;
+import org.openl.ie.constrainer.IntVar;
+import org.openl.ie.constrainer.consistencyChecking.Overlapping.OverlappingStatus;
+import org.openl.rules.dt.IBaseCondition;
+import org.openl.rules.dt.IBaseConditionEvaluator;
+import org.openl.rules.dt.IDecisionTable;
+import org.openl.rules.dt.algorithm.evaluator.AContainsInArrayIndexedEvaluator;
+import org.openl.rules.dt.algorithm.evaluator.ARangeIndexEvaluator;
+import org.openl.rules.dt.algorithm.evaluator.EqualsIndexedEvaluator;
+import org.openl.rules.dt.algorithm.evaluator.EqualsIndexedEvaluatorV2;
+import org.openl.types.IParameterDeclaration;
+import org.openl.types.impl.ParameterMethodCaller;
+import org.openl.util.ArrayOfNamedValues;
+
+/**
+ * Gap/overlap analysis of decision tables, which conditions compare a signature parameter with the rule values by
+ * equality, ranges or arrays. The domain of every parameter is swept into the segments, where each rule either matches
+ * or not, and the rules matching a segment are kept in the bit sets. So gaps and overlaps are found with the bitwise
+ * operations instead of the constraint solver used in {@link ValidationAlgorithm}.
+ */
+public class IntervalValidationAlgorithm {
+
+    private static final int MAX_OVERLAPPINGS = 50;
+
+    private enum ConditionKind {
+        EQUALS,
+        CONTAINS,
+        RANGE,
+        BETWEEN
+    }
+
+    private final IDecisionTableValidatedObject decisionTableToValidate;
+
+    private final List<String> varNames = new ArrayList<>();
+    private long[][] segments;
+    private BitSet[][] ruleSegments;
+    private BitSet[][] segmentRules;
+
+    public IntervalValidationAlgorithm(IDecisionTableValidatedObject validatedObject) {
+        this.decisionTableToValidate = validatedObject;
+    }
+
+    /**
+     * @return the result of the validation or {@code null} if the table contains conditions which cannot be analyzed
+     *         without the constraint solver
+     */
+    public DecisionTableValidationResult validate() {
+        IDecisionTable decisionTable = decisionTableToValidate.getDecisionTable();
+        int nConditions = decisionTable.getNumberOfConditions();
+        if (nConditions == 0) {
+            return new DecisionTableValidationResult(decisionTable);
+        }
+        DecisionTableAnalyzer analyzer = new DecisionTableAnalyzer(decisionTable);
+        IBaseCondition[] conditions = decisionTable.getConditionRows();
+        for (IBaseCondition condition : conditions) {
+            if (analyzer.containsFormula(condition)) {
+                return new DecisionTableValidationResult(decisionTable);
+            }
+        }
+
+        try {
+            ConditionKind[] kinds = new ConditionKind[nConditions];
+            String[] conditionVars = new String[nConditions];
+            for (int i = 0; i < nConditions; i++) {
+                IBaseCondition condition = conditions[i];
+                IParameterDeclaration[] referencedParams = analyzer.referencedSignatureParams(condition);
+                kinds[i] = getConditionKind(condition);
+                if (kinds[i] == null || referencedParams.length != 1 || !(condition
+                        .getEvaluator() instanceof ParameterMethodCaller)) {
+                    return null;
+                }
+                analyzer.transformSignatureType(referencedParams[0], decisionTableToValidate);
+                conditionVars[i] = referencedParams[0].getName();
+            }
+
+            long[][] domains = makeDomains(analyzer);
+            long[][][] intervals = makeIntervals(analyzer, kinds, conditionVars, domains);
+            if (intervals == null) {
+                return null;
+            }
+            makeSegments(domains, intervals, conditionVars);
+        } catch (RuntimeException e) {
+            // The constraint solver reports the problem
+            return null;
+        }
+
+        return new DecisionTableValidationResult(decisionTable,
+                findOverlappings(analyzer),
+                findUncovered(analyzer));
+    }
+
+    private static ConditionKind getConditionKind(IBaseCondition condition) {
+        IBaseConditionEvaluator evaluator = condition.getConditionEvaluator();
+        if (evaluator instanceof EqualsIndexedEvaluator || evaluator instanceof EqualsIndexedEvaluatorV2) {
+            return ConditionKind.EQUALS;
+        } else if (evaluator instanceof AContainsInArrayIndexedEvaluator) {
+            return ConditionKind.CONTAINS;
+        } else if (evaluator instanceof ARangeIndexEvaluator && !((ARangeIndexEvaluator) evaluator)
+                .isOriginalSourceUsed()) {
+            return condition.getParams().length == 2 ? ConditionKind.BETWEEN : ConditionKind.RANGE;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("deprecation")
+    private long[][] makeDomains(DecisionTableAnalyzer analyzer) {
+        Constrainer constrainer = new Constrainer("Validation");
+        List<long[]> domains = new ArrayList<>();
+        Iterator<DecisionTableParamDescription> iterator = analyzer.tableParams();
+        while (iterator.hasNext()) {
+            IParameterDeclaration parameter = iterator.next().getParameterDeclaration();
+            IntVar var = decisionTableToValidate.getTransformer()
+                    .makeSignatureVar(parameter.getName(), parameter.getType(), constrainer);
+            if (var == null) {
+                throw new OpenLRuntimeException(String.format("Could not create domain for %s", parameter.getName()));
+            }
+            varNames.add(parameter.getName());
+            domains.add(new long[] { var.min(), var.max() });
+        }
+        return domains.toArray(new long[0][]);
+    }
+
+    /**
+     * Collects the values matched by the rules as sorted inclusive bounds, {@code null} stands for an empty cell.
+     *
+     * @return the bounds per condition and rule, or {@code null} if a value cannot be analyzed
+     */
+    @SuppressWarnings("deprecation")
+    private long[][][] makeIntervals(DecisionTableAnalyzer analyzer,
+                                     ConditionKind[] kinds,
+                                     String[] conditionVars,
+                                     long[][] domains) {
+        IBaseCondition[] conditions = analyzer.getDecisionTable().getConditionRows();
+        int nRules = analyzer.getDecisionTable().getNumberOfRules();
+        long[][][] intervals = new long[conditions.length][nRules][];
+        for (int i = 0; i < conditions.length; i++) {
+            IBaseCondition condition = conditions[i];
+            IParameterDeclaration[] params = condition.getParams();
+            long[] domain = domains[varNames.indexOf(conditionVars[i])];
+            for (int rule = 0; rule < nRules; rule++) {
+                if (condition.isEmpty(rule)) {
+                    continue;
+                }
+                Object[] values = new Object[params.length];
+                for (int p = 0; p < params.length; p++) {
+                    values[p] = decisionTableToValidate.getTransformer()
+                            .transformLocalParameterValue(params[p].getName(),
+                                    condition,
+                                    condition.getParamValue(p, rule),
+                                    analyzer);
+                }
+                long[] bounds = makeBounds(kinds[i], values);
+                if (bounds == null) {
+                    return null;
+                }
+                intervals[i][rule] = clip(bounds, domain);
+            }
+        }
+        return intervals;
+    }
+
+    private static long[] makeBounds(ConditionKind kind, Object[] values) {
+        switch (kind) {
+            case EQUALS:
+                if (values[0] instanceof Integer) {
+                    long value = (Integer) values[0];
+                    return new long[] { value, value };
+                }
+                return null;
+            case CONTAINS:
+                if (values[0] instanceof int[]) {
+                    int[] array = ((int[]) values[0]).clone();
+                    Arrays.sort(array);
+                    long[] bounds = new long[array.length * 2];
+                    for (int i = 0; i < array.length; i++) {
+                        bounds[2 * i] = array[i];
+                        bounds[2 * i + 1] = array[i];
+                    }
+                    return bounds;
+                }
+                return null;
+            case RANGE:
+                if (values[0] instanceof CtrIntRange) {
+                    CtrIntRange range = (CtrIntRange) values[0];
+                    return new long[] { range.getMin(), range.getMax() };
+                }
+                return null;
+            case BETWEEN:
+                if (values[0] instanceof Integer && values[1] instanceof Integer) {
+                    return new long[] { (Integer) values[0], (Integer) values[1] - 1L };
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static long[] clip(long[] bounds, long[] domain) {
+        long[] result = new long[bounds.length];
+        int n = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            long from = Math.max(bounds[i], domain[0]);
+            long to = Math.min(bounds[i + 1], domain[1]);
+            if (from <= to) {
+                result[n++] = from;
+                result[n++] = to;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Splits the domain of every variable by the bounds of the rule values and marks the segments matched by the
+     * rules.
+     */
+    private void makeSegments(long[][] domains, long[][][] intervals, String[] conditionVars) {
+        int nVars = varNames.size();
+        int nRules = decisionTableToValidate.getDecisionTable().getNumberOfRules();
+        segments = new long[nVars][];
+        ruleSegments = new BitSet[nVars][nRules];
+        segmentRules = new BitSet[nVars][];
+        for (int v = 0; v < nVars; v++) {
+            long[] domain = domains[v];
+            long[] cuts = new long[1];
+            int nCuts = 1;
+            cuts[0] = domain[0];
+            for (int i = 0; i < conditionVars.length; i++) {
+                if (!varNames.get(v).equals(conditionVars[i])) {
+                    continue;
+                }
+                for (long[] bounds : intervals[i]) {
+                    if (bounds == null) {
+                        continue;
+                    }
+                    if (nCuts + bounds.length > cuts.length) {
+                        cuts = Arrays.copyOf(cuts, Math.max(cuts.length * 2, nCuts + bounds.length));
+                    }
+                    for (int k = 0; k < bounds.length; k += 2) {
+                        cuts[nCuts++] = bounds[k];
+                        if (bounds[k + 1] < domain[1]) {
+                            cuts[nCuts++] = bounds[k + 1] + 1;
+                        }
+                    }
+                }
+            }
+            long[] starts = Arrays.stream(cuts, 0, nCuts).sorted().distinct().toArray();
+            segments[v] = starts;
+
+            BitSet all = new BitSet();
+            all.set(0, starts.length);
+            for (int rule = 0; rule < nRules; rule++) {
+                BitSet matched = (BitSet) all.clone();
+                for (int i = 0; i < conditionVars.length; i++) {
+                    long[] bounds = intervals[i][rule];
+                    if (bounds == null || !varNames.get(v).equals(conditionVars[i])) {
+                        continue;
+                    }
+                    BitSet condition = new BitSet(starts.length);
+                    for (int k = 0; k < bounds.length; k += 2) {
+                        int from = Arrays.binarySearch(starts, bounds[k]);
+                        int to = bounds[k + 1] < domain[1] ? Arrays.binarySearch(starts, bounds[k + 1] + 1)
+                                                           : starts.length;
+                        condition.set(from, to);
+                    }
+                    matched.and(condition);
+                }
+                ruleSegments[v][rule] = matched;
+            }
+
+            segmentRules[v] = new BitSet[starts.length];
+            for (int s = 0; s < starts.length; s++) {
+                segmentRules[v][s] = new BitSet(nRules);
+            }
+            for (int rule = 0; rule < nRules; rule++) {
+                BitSet matched = ruleSegments[v][rule];
+                for (int s = matched.nextSetBit(0); s >= 0; s = matched.nextSetBit(s + 1)) {
+                    segmentRules[v][s].set(rule);
+                }
+            }
+        }
+    }
+
+    private DecisionTableUncovered[] findUncovered(DecisionTableAnalyzer analyzer) {
+        int nVars = varNames.size();
+        int nRules = decisionTableToValidate.getDecisionTable().getNumberOfRules();
+        // the first variable from which the rule matches any value of the rest ones
+        int[] matchesAllFrom = new int[nRules];
+        for (int rule = 0; rule < nRules; rule++) {
+            int v = nVars;
+            while (v > 0 && ruleSegments[v - 1][rule].cardinality() == segments[v - 1].length) {
+                v--;
+            }
+            matchesAllFrom[rule] = v;
+        }
+        BitSet rules = new BitSet(nRules);
+        rules.set(0, nRules);
+        int[] point = new int[nVars];
+        if (!findUncovered(0, rules, point, matchesAllFrom, new HashSet<>())) {
+            return new DecisionTableUncovered[0];
+        }
+        return new DecisionTableUncovered[] { new DecisionTableUncovered(toValues(point, analyzer)) };
+    }
+
+    /**
+     * Searches the first point in the lexicographical order which is not matched by any of the rules.
+     *
+     * @param rules the rules matching the point chosen for the previous variables
+     * @param covered the states already known to be covered by the rules
+     */
+    private boolean findUncovered(int v,
+                                  BitSet rules,
+                                  int[] point,
+                                  int[] matchesAllFrom,
+                                  Set<SearchState> covered) {
+        if (rules.isEmpty()) {
+            Arrays.fill(point, v, point.length, 0);
+            return true;
+        }
+        if (v == point.length) {
+            return false;
+        }
+        for (int rule = rules.nextSetBit(0); rule >= 0; rule = rules.nextSetBit(rule + 1)) {
+            if (matchesAllFrom[rule] <= v) {
+                return false;
+            }
+        }
+        SearchState state = new SearchState(v, rules);
+        if (covered.contains(state)) {
+            return false;
+        }
+        Set<BitSet> checked = new HashSet<>();
+        for (int s = 0; s < segments[v].length; s++) {
+            BitSet next = (BitSet) rules.clone();
+            next.and(segmentRules[v][s]);
+            if (checked.add(next)) {
+                point[v] = s;
+                if (findUncovered(v + 1, next, point, matchesAllFrom, covered)) {
+                    return true;
+                }
+            }
+        }
+        covered.add(state);
+        return false;
+    }
+
+    /**
+     * Finds the overlapping rules in the same order as the constraint solver does: the rules matching the first
+     * overlapping point are checked by pairs, then the search is repeated without each of the checked rules.
+     */
+    private DecisionTableOverlapping[] findOverlappings(DecisionTableAnalyzer analyzer) {
+        int nRules = decisionTableToValidate.getDecisionTable().getNumberOfRules();
+        List<DecisionTableOverlapping> overlappings = new ArrayList<>();
+        BitSet rules = new BitSet(nRules);
+        rules.set(0, nRules);
+        findOverlappings(rules, new boolean[nRules], new HashSet<>(), overlappings, analyzer);
+        return overlappings.toArray(new DecisionTableOverlapping[0]);
+    }
+
+    private void findOverlappings(BitSet rules,
+                                  boolean[] hadBeenRemoved,
+                                  Set<List<Integer>> checkedPairs,
+                                  List<DecisionTableOverlapping> overlappings,
+                                  DecisionTableAnalyzer analyzer) {
+        if (overlappings.size() > MAX_OVERLAPPINGS) {
+            return;
+        }
+        int[] point = new int[varNames.size()];
+        BitSet overlapped = findOverlapping(0, rules, point, new HashSet<>());
+        if (overlapped == null) {
+            return;
+        }
+        ArrayOfNamedValues values = toValues(point, analyzer);
+        int[] overlappedRules = overlapped.stream().toArray();
+        boolean ascending = decisionTableToValidate.isOverrideAscending();
+        for (int i = 0; i < overlappedRules.length; i++) {
+            for (int j = i + 1; j < overlappedRules.length; j++) {
+                if (!checkedPairs.add(List.of(overlappedRules[i], overlappedRules[j]))) {
+                    continue;
+                }
+                int first = overlappedRules[ascending ? i : j];
+                int second = overlappedRules[ascending ? j : i];
+                OverlappingStatus status;
+                if (contains(first, second)) {
+                    status = OverlappingStatus.BLOCK;
+                } else if (contains(second, first)) {
+                    status = OverlappingStatus.OVERRIDE;
+                } else {
+                    status = OverlappingStatus.PARTIAL;
+                }
+                overlappings.add(new DecisionTableOverlapping(new int[] { first, second }, values, status));
+                for (int rule : new int[] { first, second }) {
+                    if (!hadBeenRemoved[rule]) {
+                        hadBeenRemoved[rule] = true;
+                        rules.clear(rule);
+                        findOverlappings(rules, hadBeenRemoved, checkedPairs, overlappings, analyzer);
+                        rules.set(rule);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches the first point in the lexicographical order which is matched by two or more rules.
+     *
+     * @return the rules matching the found point or {@code null} if the rules don't overlap
+     */
+    private BitSet findOverlapping(int v, BitSet rules, int[] point, Set<SearchState> checked) {
+        if (rules.cardinality() < 2) {
+            return null;
+        }
+        if (v == point.length) {
+            return rules;
+        }
+        SearchState state = new SearchState(v, rules);
+        if (checked.contains(state)) {
+            return null;
+        }
+        Set<BitSet> nextRules = new HashSet<>();
+        for (int s = 0; s < segments[v].length; s++) {
+            BitSet next = (BitSet) rules.clone();
+            next.and(segmentRules[v][s]);
+            if (nextRules.add(next)) {
+                point[v] = s;
+                BitSet overlapped = findOverlapping(v + 1, next, point, checked);
+                if (overlapped != null) {
+                    return overlapped;
+                }
+            }
+        }
+        checked.add(state);
+        return null;
+    }
+
+    /**
+     * @return true if every point matched by the second rule is matched by the first one
+     */
+    private boolean contains(int first, int second) {
+        for (int v = 0; v < varNames.size(); v++) {
+            BitSet difference = (BitSet) ruleSegments[v][second].clone();
+            difference.andNot(ruleSegments[v][first]);
+            if (!difference.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("deprecation")
+    private ArrayOfNamedValues toValues(int[] point, DecisionTableAnalyzer analyzer) {
+        String[] names = varNames.toArray(new String[0]);
+        Object[] values = new Object[names.length];
+        for (int v = 0; v < names.length; v++) {
+            values[v] = decisionTableToValidate.getTransformer()
+                    .transformSignatureValueBack(names[v], (int) segments[v][point[v]], analyzer);
+        }
+        return new ArrayOfNamedValues(names, values);
+    }
+
+    private static final class SearchState {
+        private final int var;
+        private final BitSet rules;
+
+        SearchState(int var, BitSet rules) {
+            this.var = var;
+            this.rules = rules;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SearchState)) {
+                return false;
+            }
+            SearchState that = (SearchState) o;
+            return var == that.var && rules.equals(that.rules);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * var + rules.hashCode();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.openl.rules.fuzzy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenField;
+
+/**
+ * Index of the tokens built from the field names of the types. The tokens of a type are built once and reused by all
+ * types which have a field of this type. The index belongs to the module being compiled, so the types of the module
+ * are not referenced by other modules. It can be used by several compilation threads at once.
+ */
+public final class FieldTokensIndex {
+
+    private final Map<TypeKey, Map<Token, List<IOpenField[]>>> typeTokens = new ConcurrentHashMap<>();
+    private final Map<PrefixKey, Map<Token, IOpenField[][]>> prefixTokens = new ConcurrentHashMap<>();
+    private final int deepLevel;
+
+    public FieldTokensIndex() {
+        this.deepLevel = OpenLFuzzyUtils.DEEP_LEVEL;
+    }
+
+    Map<Token, IOpenField[][]> getTokens(IOpenClass openClass, String tokenPrefix, int startLevel, boolean writable) {
+        PrefixKey key = new PrefixKey(openClass, OpenLFuzzyUtils.toTokenString(tokenPrefix), startLevel, writable);
+        Map<Token, IOpenField[][]> tokens = prefixTokens.get(key);
+        if (tokens == null) {
+            tokens = buildTokens(openClass, tokenPrefix, key.prefix, startLevel, writable);
+            // The tokens built by another thread at the same time are equal, the first ones are kept
+            Map<Token, IOpenField[][]> existing = prefixTokens.putIfAbsent(key, tokens);
+            if (existing != null) {
+                tokens = existing;
+            }
+        }
+        return tokens;
+    }
+
+    private Map<Token, IOpenField[][]> buildTokens(IOpenClass openClass,
+                                                   String tokenPrefix,
+                                                   String tokenizedPrefix,
+                                                   int startLevel,
+                                                   boolean writable) {
+        Map<Token, List<IOpenField[]>> map = getTypeTokens(openClass, startLevel, writable);
+        if (StringUtils.isNotBlank(tokenPrefix)) {
+            Map<Token, List<IOpenField[]>> updatedMap = new HashMap<>(map);
+            for (Map.Entry<Token, List<IOpenField[]>> entry : map.entrySet()) {
+                Token updatedToken = new Token(
+                        OpenLFuzzyUtils.toTokenString(tokenizedPrefix + " " + entry.getKey().getValue()),
+                        entry.getKey().getDistance());
+                updatedMap.put(updatedToken, entry.getValue());
+            }
+            map = updatedMap;
+        }
+        Map<Token, IOpenField[][]> ret = new HashMap<>();
+        for (Map.Entry<Token, List<IOpenField[]>> entry : map.entrySet()) {
+            ret.put(entry.getKey(), entry.getValue().toArray(new IOpenField[0][]));
+        }
+        return Collections.unmodifiableMap(ret);
+    }
+
+    private Map<Token, List<IOpenField[]>> getTypeTokens(IOpenClass openClass, int level, boolean writable) {
+        if (level >= deepLevel) {
+            return Collections.emptyMap();
+        }
+        TypeKey key = new TypeKey(openClass, level, writable);
+        Map<Token, List<IOpenField[]>> tokens = typeTokens.get(key);
+        if (tokens == null) {
+            // not computeIfAbsent, because the tokens of the field types are added to the map recursively
+            tokens = buildTypeTokens(openClass, level, writable);
+            Map<Token, List<IOpenField[]>> existing = typeTokens.putIfAbsent(key, tokens);
+            if (existing != null) {
+                tokens = existing;
+            }
+        }
+        return tokens;
+    }
+
+    private Map<Token, List<IOpenField[]>> buildTypeTokens(IOpenClass openClass, int level, boolean writable) {
+        Map<Token, List<IOpenField[]>> ret = new HashMap<>();
+        if (openClass.isSimple()) {
+            return ret;
+        }
+        for (IOpenField field : openClass.getFields()) {
+            if (field.isStatic() || field.isConst() || !(writable ? field.isWritable() : field.isReadable())) {
+                continue;
+            }
+            String t = OpenLFuzzyUtils.toTokenString(OpenLFuzzyUtils.phoneticFix(field.getName()));
+            ret.computeIfAbsent(new Token(t, level), e -> new ArrayList<>()).add(new IOpenField[]{field});
+
+            IOpenClass type = field.getType();
+            if (!type.isSimple() && !type.isArray()) {
+                Map<Token, List<IOpenField[]>> map = getTypeTokens(type, level + 1, writable);
+                for (Map.Entry<Token, List<IOpenField[]>> entry : map.entrySet()) {
+                    if (!entry.getValue().isEmpty()) {
+                        Token k = new Token(t + " " + entry.getKey().getValue(), entry.getKey().getDistance() + 1);
+                        addFieldsChains(ret.computeIfAbsent(k, e -> new ArrayList<>()), field, entry.getValue());
+                        addFieldsChains(ret.computeIfAbsent(entry.getKey(), e -> new ArrayList<>()),
+                                field,
+                                entry.getValue());
+                    }
+                }
+            }
+        }
+        return ret;
+    }
+
+    private static void addFieldsChains(List<IOpenField[]> target, IOpenField field, List<IOpenField[]> chains) {
+        for (IOpenField[] chain : chains) {
+            IOpenField[] fieldsChain = new IOpenField[chain.length + 1];
+            fieldsChain[0] = field;
+            System.arraycopy(chain, 0, fieldsChain, 1, chain.length);
+            target.add(fieldsChain);
+        }
+    }
+
+    private static final class TypeKey {
+        private final IOpenClass openClass;
+        private final int level;
+        private final boolean writable;
+
+        private TypeKey(IOpenClass openClass, int level, boolean writable) {
+            this.openClass = openClass;
+            this.level = level;
+            this.writable = writable;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TypeKey)) {
+                return false;
+            }
+            TypeKey typeKey = (TypeKey) o;
+            return level == typeKey.level && writable == typeKey.writable && openClass == typeKey.openClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(openClass), level, writable);
+        }
+    }
+
+    private static final class PrefixKey {
+        private final IOpenClass openClass;
+        private final String prefix;
+        private final int level;
+        private final boolean writable;
+
+        private PrefixKey(IOpenClass openClass, String prefix, int level, boolean writable) {
+            this.openClass = openClass;
+            this.prefix = prefix;
+            this.level = level;
+            this.writable = writable;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PrefixKey)) {
+                return false;
+            }
+            PrefixKey prefixKey = (PrefixKey) o;
+            return level == prefixKey.level && writable == prefixKey.writable && openClass == prefixKey.openClass && prefix
+                    .equals(prefixKey.prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(openClass), prefix, level, writable);
+        }
+    }
+}
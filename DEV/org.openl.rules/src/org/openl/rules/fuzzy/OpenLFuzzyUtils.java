@@ -4,12 +4,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -25,85 +22,40 @@ public final class OpenLFuzzyUtils {
             .asList("at", "on", "for", "to", "with", "of", "on", "by", "from");
 
     private static final double ACCEPTABLE_SIMILARITY_VALUE = 0.86d;
-    private static final int DEEP_LEVEL = 5;
-
-    private static final ThreadLocal<Map<IOpenClass, Map<String, Map<Token, IOpenField[][]>>>> openClassRecursivelyCacheForWritableFields = ThreadLocal
-            .withInitial(HashMap::new);
-
-    private static final ThreadLocal<Map<IOpenClass, Map<String, Map<Token, IOpenField[][]>>>> openClassRecursivelyCacheForReadableFields = ThreadLocal
-            .withInitial(HashMap::new);
-
-    private static final ThreadLocal<Map<IOpenClass, Map<Token, IOpenField[]>>> openClassCacheForWritableFields = ThreadLocal
-            .withInitial(HashMap::new);
+    static final int DEEP_LEVEL = 5;
 
     private OpenLFuzzyUtils() {
     }
 
-    public static void clearCaches() {
-        openClassCacheForWritableFields.remove();
-        openClassRecursivelyCacheForReadableFields.remove();
-        openClassRecursivelyCacheForWritableFields.remove();
-    }
-
-    public static Map<Token, IOpenField[][]> tokensMapToOpenClassWritableFieldsRecursively(IOpenClass openClass,
+    /**
+     * @param index the index of the module being compiled, or {@code null} if the tokens are not cached
+     */
+    public static Map<Token, IOpenField[][]> tokensMapToOpenClassWritableFieldsRecursively(FieldTokensIndex index,
+                                                                                           IOpenClass openClass,
                                                                                            String tokenPrefix,
                                                                                            int startLevel) {
-        return tokensMapToOpenClassFieldsRecursively(openClass, tokenPrefix, startLevel, true);
+        return tokensMapToOpenClassFieldsRecursively(index, openClass, tokenPrefix, startLevel, true);
     }
 
-    public static Map<Token, IOpenField[][]> tokensMapToOpenClassReadableFieldsRecursively(IOpenClass openClass,
+    /**
+     * @param index the index of the module being compiled, or {@code null} if the tokens are not cached
+     */
+    public static Map<Token, IOpenField[][]> tokensMapToOpenClassReadableFieldsRecursively(FieldTokensIndex index,
+                                                                                           IOpenClass openClass,
                                                                                            String tokenPrefix,
                                                                                            int startLevel) {
-        return tokensMapToOpenClassFieldsRecursively(openClass, tokenPrefix, startLevel, false);
+        return tokensMapToOpenClassFieldsRecursively(index, openClass, tokenPrefix, startLevel, false);
     }
 
-    @SuppressWarnings("unchecked")
-    private static Map<Token, IOpenField[][]> tokensMapToOpenClassFieldsRecursively(IOpenClass openClass,
+    private static Map<Token, IOpenField[][]> tokensMapToOpenClassFieldsRecursively(FieldTokensIndex index,
+                                                                                    IOpenClass openClass,
                                                                                     String tokenPrefix,
                                                                                     int startLevel,
                                                                                     boolean writable) {
-        Map<IOpenClass, Map<String, Map<Token, IOpenField[][]>>> cache;
-        if (writable) {
-            cache = openClassRecursivelyCacheForWritableFields.get();
-        } else {
-            cache = openClassRecursivelyCacheForReadableFields.get();
-        }
-        Map<String, Map<Token, IOpenField[][]>> cache1 = cache.computeIfAbsent(openClass, e -> new HashMap<>());
-        final String tokenizedPrefix = toTokenString(tokenPrefix);
-        Map<Token, IOpenField[][]> ret = cache1.get(tokenizedPrefix);
-        if (ret == null) {
-            Map<Token, LinkedList<LinkedList<IOpenField>>> map;
-            if (StringUtils.isBlank(tokenPrefix)) {
-                map = buildTokensMapToOpenClassFieldsRecursively(openClass, startLevel, writable);
-            } else {
-                map = buildTokensMapToOpenClassFieldsRecursively(openClass, startLevel, writable);
-                Map<Token, LinkedList<LinkedList<IOpenField>>> updatedMap = new HashMap<>(map);
-                for (Entry<Token, LinkedList<LinkedList<IOpenField>>> entry : map.entrySet()) {
-                    Token updatedToken = new Token(toTokenString(tokenizedPrefix + " " + entry.getKey().getValue()),
-                            entry.getKey().getDistance());
-                    updatedMap.put(updatedToken, entry.getValue());
-                }
-                map = updatedMap;
-            }
-
-            Map<Token, LinkedList<IOpenField>[]> tmp = new HashMap<>();
-            for (Entry<Token, LinkedList<LinkedList<IOpenField>>> entry : map.entrySet()) {
-                tmp.put(entry.getKey(), entry.getValue().toArray(new LinkedList[]{}));
-            }
-
-            ret = new HashMap<>();
-            for (Entry<Token, LinkedList<IOpenField>[]> entry : tmp.entrySet()) {
-                IOpenField[][] m = new IOpenField[entry.getValue().length][];
-                int i = 0;
-                for (LinkedList<IOpenField> x : entry.getValue()) {
-                    m[i] = x.toArray(new IOpenField[]{});
-                    i++;
-                }
-                ret.put(entry.getKey(), m);
-            }
-            cache1.put(tokenizedPrefix, Collections.unmodifiableMap(ret));
+        if (index == null) {
+            index = new FieldTokensIndex();
         }
-        return ret;
+        return index.getTokens(openClass, tokenPrefix, startLevel, writable);
     }
 
     public static boolean isEqualsFieldsChains(IOpenField[] fieldsChain1, IOpenField[] fieldsChain2) {
@@ -113,71 +65,6 @@ public final class OpenLFuzzyUtils {
         return Arrays.deepEquals(fieldsChain1, fieldsChain2);
     }
 
-    private static Map<Token, LinkedList<LinkedList<IOpenField>>> buildTokensMapToOpenClassFieldsRecursively(
-            IOpenClass openClass,
-            int deepLevel,
-            boolean writable) {
-        if (deepLevel >= DEEP_LEVEL) {
-            return Collections.emptyMap();
-        }
-        Map<Token, LinkedList<LinkedList<IOpenField>>> ret = new HashMap<>();
-        if (!openClass.isSimple()) {
-            for (IOpenField field : openClass.getFields()) {
-                if (!field.isStatic() && !field.isConst()) {
-                    if (writable ? field.isWritable() : field.isReadable()) {
-                        String fieldName = field.getName();
-                        String t = OpenLFuzzyUtils.toTokenString(phoneticFix(fieldName));
-                        LinkedList<IOpenField> fields = new LinkedList<>();
-                        fields.add(field);
-                        LinkedList<LinkedList<IOpenField>> x = null;
-                        for (Entry<Token, LinkedList<LinkedList<IOpenField>>> entry : ret.entrySet()) {
-                            Token token = entry.getKey();
-                            if (token.getValue().equals(t) && entry.getKey().getDistance() == deepLevel) {
-                                x = entry.getValue();
-                                break;
-                            }
-                        }
-                        if (x == null) {
-                            x = new LinkedList<>();
-                            x.add(fields);
-                            ret.put(new Token(t, deepLevel), x);
-                        } else {
-                            x.add(fields);
-                        }
-
-                        IOpenClass type = field.getType();
-                        if (!type.isSimple() && !type.isArray()) {
-                            Map<Token, LinkedList<LinkedList<IOpenField>>> map = buildTokensMapToOpenClassFieldsRecursively(
-                                    type,
-                                    deepLevel + 1,
-                                    writable);
-                            for (Entry<Token, LinkedList<LinkedList<IOpenField>>> entry : map.entrySet()) {
-                                if (!entry.getValue().isEmpty()) {
-                                    Token k = new Token(t + " " + entry.getKey().getValue(),
-                                            entry.getKey().getDistance() + 1);
-                                    LinkedList<LinkedList<IOpenField>> v = ret.computeIfAbsent(k,
-                                            e -> new LinkedList<>());
-                                    for (LinkedList<IOpenField> y : entry.getValue()) {
-                                        LinkedList<IOpenField> y1 = new LinkedList<>(y);
-                                        y1.addFirst(field);
-                                        v.add(y1);
-                                    }
-                                    v = ret.computeIfAbsent(entry.getKey(), e -> new LinkedList<>());
-                                    for (LinkedList<IOpenField> y : entry.getValue()) {
-                                        LinkedList<IOpenField> y1 = new LinkedList<>(y);
-                                        y1.addFirst(field);
-                                        v.add(y1);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return ret;
-    }
-
     public static String phoneticFix(String value) {
         if (value.length() > 1 && Character.isLowerCase(value.charAt(0)) && Character.isUpperCase(value.charAt(1))) {
             value = Character.toUpperCase(value.charAt(0)) + value.substring(1);
@@ -59,7 +59,6 @@ import org.openl.rules.dt.ActionsTableBinder;
 import org.openl.rules.dt.ConditionsTableBinder;
 import org.openl.rules.dt.DecisionTableNodeBinder;
 import org.openl.rules.dt.ReturnsTableBinder;
-import org.openl.rules.fuzzy.OpenLFuzzyUtils;
 import org.openl.rules.lang.xls.binding.AExecutableNodeBinder;
 import org.openl.rules.lang.xls.binding.AXlsTableBinder;
 import org.openl.rules.lang.xls.binding.XlsMetaInfo;
@@ -250,140 +249,136 @@ public class XlsBinder implements IOpenBinder {
                                       OpenL openl,
                                       RulesModuleBindingContext rulesModuleBindingContext,
                                       XlsModuleOpenClass moduleOpenClass) {
-        try {
-            //
-            // Selectors
-            //
-            Predicate<ISyntaxNode> propertiesSelector = getSelector(XlsNodeTypes.XLS_PROPERTIES);
-            Predicate<ISyntaxNode> constantsSelector = getSelector(XlsNodeTypes.XLS_CONSTANTS);
-            Predicate<ISyntaxNode> dataTypeSelector = getSelector(XlsNodeTypes.XLS_DATATYPE);
-            Predicate<ISyntaxNode> conditionsSelector = getSelector(XlsNodeTypes.XLS_CONDITIONS);
-            Predicate<ISyntaxNode> actionsSelector = getSelector(XlsNodeTypes.XLS_ACTIONS);
-            Predicate<ISyntaxNode> returnsSelector = getSelector(XlsNodeTypes.XLS_RETURNS);
-
-            Predicate<ISyntaxNode> dtDefinitionSelector = conditionsSelector.or(actionsSelector).or(returnsSelector);
-
-            Predicate<ISyntaxNode> notPropertiesAndNotDatatypeAndNotConstantsSelector = propertiesSelector.negate()
-                    .and(dataTypeSelector.negate())
-                    .and(constantsSelector.negate());
-
-            Predicate<ISyntaxNode> spreadsheetSelector = getSelector(XlsNodeTypes.XLS_SPREADSHEET);
-            Predicate<ISyntaxNode> dtSelector = getSelector(XlsNodeTypes.XLS_DT);
-            Predicate<ISyntaxNode> testMethodSelector = getSelector(XlsNodeTypes.XLS_TEST_METHOD);
-            Predicate<ISyntaxNode> runMethodSelector = getSelector(XlsNodeTypes.XLS_RUN_METHOD);
-
-            Predicate<ISyntaxNode> commonTablesSelector = notPropertiesAndNotDatatypeAndNotConstantsSelector
-                    .and(spreadsheetSelector.negate()
-                            .and(testMethodSelector.negate()
-                                    .and(runMethodSelector.negate().and(dtSelector.negate().and(dtDefinitionSelector.negate())))));
-
-            // Bind property node at first.
-            //
-            TableSyntaxNode[] propertiesNodes = selectNodes(moduleNode, propertiesSelector);
-            bindInternal(moduleNode,
-                    moduleOpenClass,
-                    propertiesNodes,
-                    Collections.emptyMap(),
-                    openl,
-                    rulesModuleBindingContext);
+        //
+        // Selectors
+        //
+        Predicate<ISyntaxNode> propertiesSelector = getSelector(XlsNodeTypes.XLS_PROPERTIES);
+        Predicate<ISyntaxNode> constantsSelector = getSelector(XlsNodeTypes.XLS_CONSTANTS);
+        Predicate<ISyntaxNode> dataTypeSelector = getSelector(XlsNodeTypes.XLS_DATATYPE);
+        Predicate<ISyntaxNode> conditionsSelector = getSelector(XlsNodeTypes.XLS_CONDITIONS);
+        Predicate<ISyntaxNode> actionsSelector = getSelector(XlsNodeTypes.XLS_ACTIONS);
+        Predicate<ISyntaxNode> returnsSelector = getSelector(XlsNodeTypes.XLS_RETURNS);
+
+        Predicate<ISyntaxNode> dtDefinitionSelector = conditionsSelector.or(actionsSelector).or(returnsSelector);
+
+        Predicate<ISyntaxNode> notPropertiesAndNotDatatypeAndNotConstantsSelector = propertiesSelector.negate()
+                .and(dataTypeSelector.negate())
+                .and(constantsSelector.negate());
+
+        Predicate<ISyntaxNode> spreadsheetSelector = getSelector(XlsNodeTypes.XLS_SPREADSHEET);
+        Predicate<ISyntaxNode> dtSelector = getSelector(XlsNodeTypes.XLS_DT);
+        Predicate<ISyntaxNode> testMethodSelector = getSelector(XlsNodeTypes.XLS_TEST_METHOD);
+        Predicate<ISyntaxNode> runMethodSelector = getSelector(XlsNodeTypes.XLS_RUN_METHOD);
+
+        Predicate<ISyntaxNode> commonTablesSelector = notPropertiesAndNotDatatypeAndNotConstantsSelector
+                .and(spreadsheetSelector.negate()
+                        .and(testMethodSelector.negate()
+                                .and(runMethodSelector.negate().and(dtSelector.negate().and(dtDefinitionSelector.negate())))));
+
+        // Bind property node at first.
+        //
+        TableSyntaxNode[] propertiesNodes = selectNodes(moduleNode, propertiesSelector);
+        bindInternal(moduleNode,
+                moduleOpenClass,
+                propertiesNodes,
+                Collections.emptyMap(),
+                openl,
+                rulesModuleBindingContext);
 
-            bindPropertiesForAllTables(moduleNode, moduleOpenClass, openl, rulesModuleBindingContext);
+        bindPropertiesForAllTables(moduleNode, moduleOpenClass, openl, rulesModuleBindingContext);
 
-            IBoundNode topNode;
+        IBoundNode topNode;
 
-            // Constants
-            TableSyntaxNode[] constantNodes = selectNodes(moduleNode, constantsSelector);
+        // Constants
+        TableSyntaxNode[] constantNodes = selectNodes(moduleNode, constantsSelector);
 
-            // Datatypes
-            TableSyntaxNode[] datatypeNodes = selectNodes(moduleNode, dataTypeSelector);
+        // Datatypes
+        TableSyntaxNode[] datatypeNodes = selectNodes(moduleNode, dataTypeSelector);
 
-            // Conditions && Returns && Actions
-            TableSyntaxNode[] dtHeaderDefinitionsNodes = selectNodes(moduleNode, dtDefinitionSelector);
+        // Conditions && Returns && Actions
+        TableSyntaxNode[] dtHeaderDefinitionsNodes = selectNodes(moduleNode, dtDefinitionSelector);
 
-            // Select nodes excluding Properties, Datatype, Spreadsheet, Test,
-            // RunMethod tables
-            TableSyntaxNode[] commonTables = selectNodes(moduleNode, commonTablesSelector);
+        // Select nodes excluding Properties, Datatype, Spreadsheet, Test,
+        // RunMethod tables
+        TableSyntaxNode[] commonTables = selectNodes(moduleNode, commonTablesSelector);
 
-            // Select and sort Spreadsheet tables
-            TableSyntaxNode[] spreadsheets = selectNodes(moduleNode, spreadsheetSelector);
+        // Select and sort Spreadsheet tables
+        TableSyntaxNode[] spreadsheets = selectNodes(moduleNode, spreadsheetSelector);
 
-            TableSyntaxNode[] dts = selectNodes(moduleNode, dtSelector);
+        TableSyntaxNode[] dts = selectNodes(moduleNode, dtSelector);
 
-            TableSyntaxNode[] commonAndSpreadsheetTables = ArrayUtils.addAll(
-                    ArrayUtils.addAll(ArrayUtils.addAll(dtHeaderDefinitionsNodes, dts), spreadsheets),
-                    commonTables);
+        TableSyntaxNode[] commonAndSpreadsheetTables = ArrayUtils.addAll(
+                ArrayUtils.addAll(ArrayUtils.addAll(dtHeaderDefinitionsNodes, dts), spreadsheets),
+                commonTables);
 
-            Map<TableSyntaxNode, CustomSpreadsheetResultOpenClass> customSpreadsheetResultOpenClassMap = registerNewCustomSpreadsheetResultTypes(
-                    commonAndSpreadsheetTables,
-                    rulesModuleBindingContext);
+        Map<TableSyntaxNode, CustomSpreadsheetResultOpenClass> customSpreadsheetResultOpenClassMap = registerNewCustomSpreadsheetResultTypes(
+                commonAndSpreadsheetTables,
+                rulesModuleBindingContext);
 
-            // Bind constants
-            bindInternal(moduleNode,
-                    moduleOpenClass,
-                    constantNodes,
-                    customSpreadsheetResultOpenClassMap,
-                    openl,
-                    rulesModuleBindingContext);
-
-            // Bind datatype nodes.
-            bindInternal(moduleNode,
-                    moduleOpenClass,
-                    datatypeNodes,
-                    customSpreadsheetResultOpenClassMap,
-                    openl,
-                    rulesModuleBindingContext);
+        // Bind constants
+        bindInternal(moduleNode,
+                moduleOpenClass,
+                constantNodes,
+                customSpreadsheetResultOpenClassMap,
+                openl,
+                rulesModuleBindingContext);
 
-            bindInternal(moduleNode,
-                    moduleOpenClass,
-                    commonAndSpreadsheetTables,
-                    customSpreadsheetResultOpenClassMap,
-                    openl,
-                    rulesModuleBindingContext);
+        // Bind datatype nodes.
+        bindInternal(moduleNode,
+                moduleOpenClass,
+                datatypeNodes,
+                customSpreadsheetResultOpenClassMap,
+                openl,
+                rulesModuleBindingContext);
 
-            // Select Test and RunMethod tables
-            TableSyntaxNode[] runTables = selectNodes(moduleNode, runMethodSelector);
-            bindInternal(moduleNode,
-                    moduleOpenClass,
-                    runTables,
-                    customSpreadsheetResultOpenClassMap,
-                    openl,
-                    rulesModuleBindingContext);
+        bindInternal(moduleNode,
+                moduleOpenClass,
+                commonAndSpreadsheetTables,
+                customSpreadsheetResultOpenClassMap,
+                openl,
+                rulesModuleBindingContext);
+
+        // Select Test and RunMethod tables
+        TableSyntaxNode[] runTables = selectNodes(moduleNode, runMethodSelector);
+        bindInternal(moduleNode,
+                moduleOpenClass,
+                runTables,
+                customSpreadsheetResultOpenClassMap,
+                openl,
+                rulesModuleBindingContext);
 
-            TableSyntaxNode[] testTables = selectNodes(moduleNode, testMethodSelector);
-            topNode = bindInternal(moduleNode,
-                    moduleOpenClass,
-                    testTables,
-                    customSpreadsheetResultOpenClassMap,
-                    openl,
-                    rulesModuleBindingContext);
+        TableSyntaxNode[] testTables = selectNodes(moduleNode, testMethodSelector);
+        topNode = bindInternal(moduleNode,
+                moduleOpenClass,
+                testTables,
+                customSpreadsheetResultOpenClassMap,
+                openl,
+                rulesModuleBindingContext);
 
-            // After recursive compilation non initialized fields need to be initialized for CSR type in compile time
-            // and meta info initialized.
-            for (IOpenClass type : moduleOpenClass.getTypes()) {
-                if (type instanceof CustomSpreadsheetResultOpenClass) {
-                    type.getFields().forEach(IOpenField::getType);
-                }
-            }
-            moduleOpenClass.getSpreadsheetResultOpenClassWithResolvedFieldTypes()
-                    .toCustomSpreadsheetResultOpenClass()
-                    .getFields()
-                    .forEach(IOpenField::getType);
-            int combinedSpreadsheetResultOpenClassesSize = 0;
-            while (combinedSpreadsheetResultOpenClassesSize != moduleOpenClass
-                    .getCombinedSpreadsheetResultOpenClasses()
-                    .size()) {
-                combinedSpreadsheetResultOpenClassesSize = moduleOpenClass.getCombinedSpreadsheetResultOpenClasses()
-                        .size();
-                moduleOpenClass.getCombinedSpreadsheetResultOpenClasses()
-                        .forEach(e -> e.getFields().forEach(IOpenField::getType));
+        // After recursive compilation non initialized fields need to be initialized for CSR type in compile time
+        // and meta info initialized.
+        for (IOpenClass type : moduleOpenClass.getTypes()) {
+            if (type instanceof CustomSpreadsheetResultOpenClass) {
+                type.getFields().forEach(IOpenField::getType);
             }
+        }
+        moduleOpenClass.getSpreadsheetResultOpenClassWithResolvedFieldTypes()
+                .toCustomSpreadsheetResultOpenClass()
+                .getFields()
+                .forEach(IOpenField::getType);
+        int combinedSpreadsheetResultOpenClassesSize = 0;
+        while (combinedSpreadsheetResultOpenClassesSize != moduleOpenClass
+                .getCombinedSpreadsheetResultOpenClasses()
+                .size()) {
+            combinedSpreadsheetResultOpenClassesSize = moduleOpenClass.getCombinedSpreadsheetResultOpenClasses()
+                    .size();
+            moduleOpenClass.getCombinedSpreadsheetResultOpenClasses()
+                    .forEach(e -> e.getFields().forEach(IOpenField::getType));
+        }
 
-            ((XlsModuleOpenClass) topNode.getType()).completeOpenClassBuilding();
+        ((XlsModuleOpenClass) topNode.getType()).completeOpenClassBuilding();
 
-            return topNode;
-        } finally {
-            OpenLFuzzyUtils.clearCaches();
-        }
+        return topNode;
     }
 
     private Predicate<ISyntaxNode> getSelector(XlsNodeTypes selectorValue) {
@@ -11,14 +11,20 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +38,13 @@ import org.openl.util.StringTool;
 @Deprecated
 public class XlsWorkbookSourceCodeModule implements IOpenSourceCodeModule {
 
+    /**
+     * If enabled, only the sheets marked as modified are written on save of xlsx workbook, the other sheets are copied
+     * as is.
+     */
+    private static final boolean SAVE_MODIFIED_SHEETS_ONLY = Boolean
+            .parseBoolean(System.getProperty("openl.xls.save.modified-sheets-only", "true"));
+
     private final Logger log = LoggerFactory.getLogger(XlsWorkbookSourceCodeModule.class);
 
     protected final IOpenSourceCodeModule src;
@@ -44,6 +57,10 @@ public class XlsWorkbookSourceCodeModule implements IOpenSourceCodeModule {
 
     private Map<String, Object> params;
 
+    // Sheets are compared by identity, so the marks survive renaming and do not keep unloaded workbooks in memory
+    private final Set<Sheet> modifiedSheets = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
     public XlsWorkbookSourceCodeModule(IOpenSourceCodeModule src) {
         this(src, WorkbookLoaders.getWorkbookLoader(src));
     }
@@ -135,9 +152,18 @@ public class XlsWorkbookSourceCodeModule implements IOpenSourceCodeModule {
                 wl.beforeSave(this);
             }
 
-            OutputStream fileOut = new DeferredCreateFileOutputStream(fileName);
-            getWorkbook().write(fileOut);
-            fileOut.close();
+            Workbook workbook = getWorkbook();
+            List<XSSFSheet> notModifiedSheets = getNotModifiedSheets(workbook);
+            // Committed parts are not serialized again, so their original content is written to the file as is
+            notModifiedSheets.forEach(sheet -> sheet.setCommitted(true));
+            try {
+                OutputStream fileOut = new DeferredCreateFileOutputStream(fileName);
+                workbook.write(fileOut);
+                fileOut.close();
+            } finally {
+                notModifiedSheets.forEach(sheet -> sheet.setCommitted(false));
+            }
+            modifiedSheets.clear();
 
             for (XlsWorkbookListener wl : listeners) {
                 wl.afterSave(this);
@@ -145,6 +171,37 @@ public class XlsWorkbookSourceCodeModule implements IOpenSourceCodeModule {
         }
     }
 
+    /**
+     * Marks the sheet as modified. If the sheets of xlsx workbook are marked, only they are written on {@link #save()}.
+     *
+     * @param sheet the modified sheet
+     */
+    public void markSheetModified(Sheet sheet) {
+        modifiedSheets.add(sheet);
+    }
+
+    /**
+     * Finds the sheets which are not modified since the last save. If none of the sheets is marked as modified,
+     * the whole workbook is written, because it can be modified bypassing the grid.
+     */
+    private List<XSSFSheet> getNotModifiedSheets(Workbook workbook) {
+        List<XSSFSheet> sheets = new ArrayList<>();
+        if (!SAVE_MODIFIED_SHEETS_ONLY || !(workbook instanceof XSSFWorkbook)) {
+            return sheets;
+        }
+        boolean hasModified = false;
+        for (Sheet sheet : workbook) {
+            XSSFSheet xssfSheet = (XSSFSheet) sheet;
+            if (modifiedSheets.contains(sheet)) {
+                hasModified = true;
+            } else if (xssfSheet.getPackagePart().getSize() != 0) {
+                // Created sheets have no content yet and must be written
+                sheets.add(xssfSheet);
+            }
+        }
+        return hasModified ? sheets : new ArrayList<>();
+    }
+
     public IOpenSourceCodeModule getSource() {
         return src;
     }
@@ -104,6 +104,11 @@ public abstract class AbstractMatchingOpenMethodDispatcherWrapper extends Matchi
         return delegate.findMatchingMethod(env);
     }
 
+    @Override
+    public boolean isDispatchedWithoutDates() {
+        return delegate.isDispatchedWithoutDates();
+    }
+
     @Override
     public IOpenMethod getTargetMethod() {
         return delegate.getTargetMethod();
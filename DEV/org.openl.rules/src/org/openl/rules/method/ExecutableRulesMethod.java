@@ -31,6 +31,8 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
 
     private String moduleName;
 
+    private volatile TableMetrics metrics;
+
     @Override
     public String getModuleName() {
         return moduleName;
@@ -100,6 +102,24 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
         }
     }
 
+    /**
+     * @return execution metrics of this table, they are created on the first request
+     * @see RulesMetrics
+     */
+    public TableMetrics getMetrics() {
+        TableMetrics result = metrics;
+        if (result == null) {
+            synchronized (this) {
+                result = metrics;
+                if (result == null) {
+                    result = RulesMetrics.register(this);
+                    metrics = result;
+                }
+            }
+        }
+        return result;
+    }
+
     public ATableBoundNode getBoundNode() {
         return boundNode;
     }
@@ -23,8 +23,20 @@ public abstract class RulesMethodInvoker<T extends ExecutableRulesMethod> implem
         if (!canInvoke()) {
             throw new OpenLRuntimeException("Method cannot be invoked");
         } else {
-            // simple run invoke
-            return invokeSimple(target, params, env);
+            if (!RulesMetrics.isEnabled()) {
+                // simple run invoke
+                return invokeSimple(target, params, env);
+            }
+            TableMetrics metrics = invokableMethod.getMetrics();
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = invokeSimple(target, params, env);
+                failed = false;
+                return result;
+            } finally {
+                metrics.record(System.nanoTime() - start, failed);
+            }
         }
     }
 
@@ -0,0 +1,77 @@
+package org.openl.rules.method;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of the per-table execution metrics. Collection is disabled by default and costs one volatile read per
+ * table invocation in that case.
+ * <p>
+ * Metrics are kept together with the tables, so they are released when the rules are undeployed.
+ */
+public final class RulesMetrics {
+
+    private static volatile boolean enabled = Boolean.getBoolean("openl.rules.metrics.enabled");
+
+    private static final Queue<WeakReference<TableMetrics>> TABLES = new ConcurrentLinkedQueue<>();
+    private static final Map<String, LongAdder> DISPATCH_MISSES = new ConcurrentHashMap<>();
+
+    private RulesMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        RulesMetrics.enabled = enabled;
+    }
+
+    static TableMetrics register(ExecutableRulesMethod method) {
+        TableMetrics metrics = new TableMetrics(method);
+        TABLES.add(new WeakReference<>(metrics));
+        return metrics;
+    }
+
+    /**
+     * Registers the case when an overloaded table has not been found for the current runtime context.
+     */
+    public static void recordDispatchMiss(String methodName) {
+        DISPATCH_MISSES.computeIfAbsent(methodName, e -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return metrics of the tables which are still loaded and have been invoked at least once
+     */
+    public static List<TableMetrics> getTables() {
+        List<TableMetrics> result = new ArrayList<>();
+        TABLES.removeIf(ref -> {
+            TableMetrics metrics = ref.get();
+            if (metrics == null) {
+                return true;
+            }
+            if (metrics.getInvocations() > 0) {
+                result.add(metrics);
+            }
+            return false;
+        });
+        return result;
+    }
+
+    /**
+     * @return count of misses of the overloaded tables dispatching per a table name
+     */
+    public static Map<String, Long> getDispatchMisses() {
+        Map<String, Long> result = new TreeMap<>();
+        DISPATCH_MISSES.forEach((name, count) -> result.put(name, count.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,160 @@
+package org.openl.rules.method;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Execution metrics of one rules table. Counters are striped, so concurrent invocations do not contend on the same
+ * memory.
+ *
+ * @see RulesMetrics
+ */
+public final class TableMetrics {
+
+    /**
+     * Upper bounds of the latency histogram buckets in microseconds. The last bucket is unbounded.
+     */
+    static final long[] LATENCY_BOUNDS = {10, 50, 100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000};
+
+    private final String name;
+    private final String module;
+    private final String type;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Long::max, 0);
+    private final LongAdder[] latency = new LongAdder[LATENCY_BOUNDS.length + 1];
+    private final LongAdder noMatches = new LongAdder();
+    private volatile AtomicLongArray ruleHits;
+    private volatile IntFunction<String> ruleNames;
+
+    TableMetrics(ExecutableRulesMethod method) {
+        this.name = method.getName();
+        this.module = method.getModuleName();
+        this.type = method.getClass().getSimpleName();
+        for (int i = 0; i < latency.length; i++) {
+            latency[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos, boolean failed) {
+        invocations.increment();
+        if (failed) {
+            errors.increment();
+        }
+        totalTime.add(nanos);
+        maxTime.accumulate(nanos);
+        long micros = nanos / 1000;
+        int i = 0;
+        while (i < LATENCY_BOUNDS.length && micros > LATENCY_BOUNDS[i]) {
+            i++;
+        }
+        latency[i].increment();
+    }
+
+    /**
+     * Registers the fired rules of the decision table.
+     *
+     * @param fired indexes of the fired rules
+     * @param rulesCount total number of the rules in the table
+     * @param names resolves a rule name by its index
+     */
+    public void recordRuleHits(int[] fired, int rulesCount, IntFunction<String> names) {
+        if (fired.length == 0) {
+            noMatches.increment();
+            return;
+        }
+        AtomicLongArray hits = ruleHits;
+        if (hits == null || hits.length() < rulesCount) {
+            synchronized (this) {
+                hits = ruleHits;
+                if (hits == null || hits.length() < rulesCount) {
+                    hits = new AtomicLongArray(rulesCount);
+                    ruleNames = names;
+                    ruleHits = hits;
+                }
+            }
+        }
+        for (int rule : fired) {
+            if (rule >= 0 && rule < hits.length()) {
+                hits.incrementAndGet(rule);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getModule() {
+        return module;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return total execution time in milliseconds
+     */
+    public double getTotalTime() {
+        return (double) totalTime.sum() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the longest execution time in milliseconds
+     */
+    public double getMaxTime() {
+        return (double) maxTime.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return count of the invocations per latency bucket. The key is the upper bound of the bucket in microseconds.
+     */
+    public Map<String, Long> getLatency() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < latency.length; i++) {
+            result.put(i < LATENCY_BOUNDS.length ? String.valueOf(LATENCY_BOUNDS[i]) : "+Inf", latency[i].sum());
+        }
+        return result;
+    }
+
+    /**
+     * @return how many times the decision table has not matched any rule
+     */
+    public long getNoMatches() {
+        return noMatches.sum();
+    }
+
+    /**
+     * @return count of hits per rule of the decision table, or {@code null} for other tables
+     */
+    public Map<String, Long> getRuleHits() {
+        AtomicLongArray hits = ruleHits;
+        if (hits == null) {
+            return null;
+        }
+        IntFunction<String> names = ruleNames;
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < hits.length(); i++) {
+            long count = hits.get(i);
+            if (count > 0) {
+                result.merge(names.apply(i), count, Long::sum);
+            }
+        }
+        return result;
+    }
+}
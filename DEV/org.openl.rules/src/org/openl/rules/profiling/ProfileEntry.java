@@ -0,0 +1,83 @@
+package org.openl.rules.profiling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated profile of one rules table or spreadsheet cell.
+ * <p>
+ * Total (inclusive) values contain the time and the memory spent in the called tables. Self (exclusive) values
+ * contain only the time and the memory spent in the table itself. Recursive calls are counted in the total values once.
+ */
+public final class ProfileEntry {
+
+    private final String name;
+    private final String moduleName;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAdder selfTime = new LongAdder();
+    private final LongAdder totalAllocation = new LongAdder();
+    private final LongAdder selfAllocation = new LongAdder();
+
+    ProfileEntry(String name, String moduleName) {
+        this.name = name;
+        this.moduleName = moduleName;
+    }
+
+    void record(long time, long self, long allocation, long selfAllocation, boolean recursive) {
+        calls.increment();
+        selfTime.add(self);
+        this.selfAllocation.add(selfAllocation);
+        if (!recursive) {
+            totalTime.add(time);
+            totalAllocation.add(allocation);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the name of the module of the table, or {@code null} if it is unknown
+     */
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return inclusive time in milliseconds
+     */
+    public double getTotalTime() {
+        return toMillis(totalTime.sum());
+    }
+
+    /**
+     * @return exclusive time in milliseconds
+     */
+    public double getSelfTime() {
+        return toMillis(selfTime.sum());
+    }
+
+    /**
+     * @return inclusive allocated memory in bytes, or {@code 0} if the JVM does not support allocation measurement
+     */
+    public long getTotalAllocation() {
+        return totalAllocation.sum();
+    }
+
+    /**
+     * @return exclusive allocated memory in bytes, or {@code 0} if the JVM does not support allocation measurement
+     */
+    public long getSelfAllocation() {
+        return selfAllocation.sum();
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,302 @@
+package org.openl.rules.profiling;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.openl.rules.calc.Spreadsheet;
+import org.openl.rules.calc.SpreadsheetResultCalculator;
+import org.openl.rules.calc.element.SpreadsheetCell;
+import org.openl.rules.method.ExecutableRulesMethod;
+import org.openl.types.Invokable;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
+
+/**
+ * Profiler of the rules execution. It aggregates inclusive and exclusive time and allocated memory per rules table and
+ * per spreadsheet cell, and collects the call stacks in the collapsed format which is supported by the flame graph
+ * tools.
+ * <p>
+ * The profiler is registered in the chain of the {@link Tracer tracers}, so it can be used together with other
+ * tracers. While the profiler is enabled, the rules are executed in one thread to attribute the time to the right call
+ * stacks.
+ */
+public final class RulesProfiler extends Tracer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RulesProfiler.class);
+
+    private static final ThreadLocal<Frame> CURRENT = new ThreadLocal<>();
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private final LongSupplier clock;
+    private volatile boolean enabled = true;
+    // Frames are identified by the table URI and the module. The invoked objects are referenced weakly, so the profile
+    // does not keep undeployed rules and their class loaders
+    private final Map<Object, FrameId> frameIds = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<String, ProfileEntry> entries = new ConcurrentHashMap<>();
+    private final StackNode stacks = new StackNode(null);
+
+    private RulesProfiler(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Enables or disables the profiler.
+     *
+     * @return true if the profiler is active
+     */
+    public static synchronized boolean setEnabled(boolean enabled) {
+        if (enabled) {
+            return enable(System::nanoTime);
+        }
+        RulesProfiler profiler = get();
+        if (profiler != null) {
+            profiler.enabled = false;
+            unregister(profiler);
+        }
+        return false;
+    }
+
+    static synchronized boolean enable(LongSupplier clock) {
+        if (get() == null) {
+            register(new RulesProfiler(clock));
+        }
+        return true;
+    }
+
+    /**
+     * @return the active profiler or {@code null} if profiling is disabled
+     */
+    public static RulesProfiler get() {
+        return find(RulesProfiler.class);
+    }
+
+    /**
+     * Clears the collected profile.
+     */
+    public void reset() {
+        entries.clear();
+        stacks.children.clear();
+        frameIds.clear();
+    }
+
+    /**
+     * @return the profiled tables and spreadsheet cells sorted by the exclusive time in the descending order
+     */
+    public List<ProfileEntry> getEntries() {
+        List<ProfileEntry> result = new ArrayList<>(entries.values());
+        result.sort(Comparator.comparingDouble(ProfileEntry::getSelfTime).reversed());
+        return result;
+    }
+
+    /**
+     * Writes the call stacks in the collapsed format: {@code frame1;frame2;frame3 value}, where the value is the
+     * exclusive time of the last frame in microseconds.
+     */
+    public void writeCollapsedStacks(Appendable out) throws IOException {
+        Map<String, Long> sorted = new TreeMap<>();
+        collectStacks(stacks, null, sorted);
+        for (Map.Entry<String, Long> stack : sorted.entrySet()) {
+            if (stack.getValue() > 0) {
+                out.append(stack.getKey()).append(' ').append(String.valueOf(stack.getValue())).append('\n');
+            }
+        }
+    }
+
+    private static void collectStacks(StackNode node, String prefix, Map<String, Long> result) {
+        for (StackNode child : node.children.values()) {
+            String name = escape(child.id.name());
+            String stack = prefix == null ? name : prefix + ';' + name;
+            result.merge(stack, TimeUnit.NANOSECONDS.toMicros(child.time.sum()), Long::sum);
+            collectStacks(child, stack, result);
+        }
+    }
+
+    /**
+     * Writes the report of the top tables and spreadsheet cells by the exclusive time.
+     *
+     * @param limit maximum number of the rows in the report
+     */
+    public void writeReport(Appendable out, int limit) throws IOException {
+        out.append(String.format("%12s %12s %10s %14s %14s  %s%n",
+                "Self, ms",
+                "Total, ms",
+                "Calls",
+                "Self alloc, KB",
+                "Total alloc, KB",
+                "Table"));
+        List<ProfileEntry> top = getEntries();
+        for (ProfileEntry entry : top.subList(0, Math.min(limit, top.size()))) {
+            out.append(String.format("%12.3f %12.3f %10d %14d %14d  %s%n",
+                    entry.getSelfTime(),
+                    entry.getTotalTime(),
+                    entry.getCalls(),
+                    entry.getSelfAllocation() / 1024,
+                    entry.getTotalAllocation() / 1024,
+                    entry.getModuleName() == null ? entry.getName()
+                                                  : entry.getName() + " (" + entry.getModuleName() + ")"));
+        }
+    }
+
+    @Override
+    public boolean isOn() {
+        return enabled;
+    }
+
+    @Override
+    protected <T, E extends IRuntimeEnv, R> R doInvoke(Invokable<? super T, E> executor,
+                                                       T target,
+                                                       Object[] params,
+                                                       E env,
+                                                       Object source) {
+        Object invoked = getInvoked(executor, source);
+        if (invoked == null || !enabled) {
+            return proceed(executor, target, params, env, source);
+        }
+        FrameId id = frameIds.get(invoked);
+        if (id == null) {
+            id = createFrameId(executor, source);
+            frameIds.put(invoked, id);
+        }
+        Frame parent = CURRENT.get();
+        StackNode parentNode = parent == null ? stacks : parent.node;
+        StackNode node = parentNode.children.get(id.key());
+        if (node == null) {
+            FrameId nodeId = id;
+            node = parentNode.children.computeIfAbsent(id.key(), e -> new StackNode(nodeId));
+        }
+        Frame frame = new Frame(parent, node, allocatedBytes(), clock.getAsLong());
+        CURRENT.set(frame);
+        try {
+            return proceed(executor, target, params, env, source);
+        } finally {
+            long time = clock.getAsLong() - frame.start;
+            long allocation = allocatedBytes() - frame.allocation;
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+                parent.childrenTime += time;
+                parent.childrenAllocation += allocation;
+            }
+            long self = time - frame.childrenTime;
+            FrameId entryId = node.id;
+            entries.computeIfAbsent(entryId.key(), e -> new ProfileEntry(entryId.name(), entryId.module()))
+                    .record(time, self, allocation, allocation - frame.childrenAllocation, frame.isRecursive());
+            node.time.add(self);
+        }
+    }
+
+    /**
+     * @return the invoked table or spreadsheet cell, or {@code null} if the invocation is not profiled
+     */
+    private static Object getInvoked(Object executor, Object source) {
+        if (source instanceof ExecutableRulesMethod) {
+            return source;
+        } else if (executor instanceof SpreadsheetCell && source instanceof SpreadsheetResultCalculator) {
+            return executor;
+        }
+        return null;
+    }
+
+    private static FrameId createFrameId(Object executor, Object source) {
+        if (source instanceof ExecutableRulesMethod method) {
+            String module = method.getModuleName();
+            return new FrameId(module + '|' + getUri(method), method.getName(), module);
+        }
+        SpreadsheetCell cell = (SpreadsheetCell) executor;
+        Spreadsheet spreadsheet = ((SpreadsheetResultCalculator) source).getSpreadsheet();
+        String module = spreadsheet.getModuleName();
+        String cellName = "$" + spreadsheet.getColumnNames()[cell.getColumnIndex()] + "$" + spreadsheet
+                .getRowNames()[cell.getRowIndex()];
+        return new FrameId(module + '|' + getUri(spreadsheet) + '|' + cellName,
+                spreadsheet.getName() + "." + cellName,
+                module);
+    }
+
+    private static String getUri(ExecutableRulesMethod method) {
+        // Tables without the source are identified by the name in the module
+        return method.getSyntaxNode() == null ? method.getName() : method.getSyntaxNode().getUri();
+    }
+
+    private static String escape(String name) {
+        return name.replace(';', '_').replace(' ', '_');
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Ignored error: ", e);
+        }
+        return null;
+    }
+
+    /**
+     * Identifier of the profiled table or spreadsheet cell.
+     *
+     * @param key unique key of the table or the cell across the modules
+     * @param name displayed name
+     * @param module name of the module or {@code null}
+     */
+    private record FrameId(String key, String name, String module) {
+    }
+
+    /**
+     * A node of the call tree. The path from the root is the call stack of the node.
+     */
+    private static final class StackNode {
+        private final FrameId id;
+        private final Map<String, StackNode> children = new ConcurrentHashMap<>();
+        private final LongAdder time = new LongAdder();
+
+        private StackNode(FrameId id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Frame {
+        private final Frame parent;
+        private final StackNode node;
+        private final long allocation;
+        private final long start;
+        private long childrenTime;
+        private long childrenAllocation;
+
+        private Frame(Frame parent, StackNode node, long allocation, long start) {
+            this.parent = parent;
+            this.node = node;
+            this.allocation = allocation;
+            this.start = start;
+        }
+
+        private boolean isRecursive() {
+            for (Frame frame = parent; frame != null; frame = frame.parent) {
+                if (frame.node.id.key().equals(node.id.key())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
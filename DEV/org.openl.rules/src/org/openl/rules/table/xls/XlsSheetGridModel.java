@@ -38,6 +38,7 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import org.openl.rules.lang.xls.SpreadsheetConstants;
 import org.openl.rules.lang.xls.XlsSheetSourceCodeModule;
+import org.openl.rules.lang.xls.XlsWorkbookSourceCodeModule;
 import org.openl.rules.table.AGrid;
 import org.openl.rules.table.GridRegion;
 import org.openl.rules.table.ICell;
@@ -106,7 +107,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
         }
         setCellValue(reg.getLeft(), reg.getTop(), topLeftCellValue);
         getMergedRegionsPool().add(reg);
-        return getSheet()
+        return getSheetForUpdate()
                 .addMergedRegion(new CellRangeAddress(reg.getTop(), reg.getBottom(), reg.getLeft(), reg.getRight()));
     }
 
@@ -135,7 +136,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void clearCell(int col, int row) {
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         Cell cell = PoiExcelHelper.getCell(col, row, sheet);
         if (cell != null) {
             cell.removeCellComment();
@@ -147,7 +148,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
     @Override
     public void copyCell(int colFrom, int rowFrom, int colTo, int rowTo) {
         Cell cellFrom = PoiExcelHelper.getCell(colFrom, rowFrom, getSheet());
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         Cell cellTo = PoiExcelHelper.getCell(colTo, rowTo, sheet);
 
         if (cellFrom == null) {
@@ -329,7 +330,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void removeMergedRegion(int x, int y) {
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         getMergedRegionsPool().remove(x, y);
         int nregions = getNumberOfMergedRegions();
         for (int i = 0; i < nregions; i++) {
@@ -343,7 +344,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void setCellValue(int col, int row, Object value) {
-        Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
         if (value != null) {
             AXlsCellWriter cellWriter = getCellWriter(value);
             cellWriter.setCellToWrite(poiCell);
@@ -356,13 +357,13 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void setCellStringValue(int col, int row, String value) {
-        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
         cell.setCellValue(value);
     }
 
     @Override
     public void setCellFormula(int col, int row, String formula) {
-        Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
 
         if (formula != null) {
             AXlsCellWriter cellWriter = getCellWriters().get(AXlsCellWriter.FORMULA_WRITER);
@@ -381,7 +382,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void setCellStyle(int col, int row, ICellStyle style) {
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, sheet);
         CellStyle newPoiStyle;
         CellStyle styleToClone;
@@ -412,7 +413,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
             // no needs to set absent styles.
             return;
         }
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, sheet);
         CellStyle newPoiStyle = PoiExcelHelper.createCellStyle(sheet.getWorkbook());
 
@@ -437,21 +438,21 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void setCellAlignment(int col, int row, HorizontalAlignment alignment) {
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         Cell cell = PoiExcelHelper.getOrCreateCell(col, row, sheet);
         CellUtil.setCellStyleProperty(cell, CellUtil.ALIGNMENT, alignment);
     }
 
     @Override
     public void setCellIndent(int col, int row, int indent) {
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         Cell cell = PoiExcelHelper.getOrCreateCell(col, row, sheet);
         CellUtil.setCellStyleProperty(cell, CellUtil.INDENTION, (short) indent);
     }
 
     @Override
     public void setCellFillColor(int col, int row, short[] color) {
-        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
         CellStyle newStyle = PoiExcelHelper.cloneStyleFrom(cell);
 
         if (color != null) {
@@ -485,7 +486,7 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void setCellFontColor(int col, int row, short[] color) {
-        Sheet sheet = getSheet();
+        Sheet sheet = getSheetForUpdate();
         Cell cell = PoiExcelHelper.getOrCreateCell(col, row, sheet);
         Workbook workbook = sheet.getWorkbook();
 
@@ -552,29 +553,29 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
 
     @Override
     public void setCellFontBold(int col, int row, boolean bold) {
-        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
         PoiExcelHelper.setCellFontBold(cell, bold);
     }
 
     @Override
     public void setCellFontItalic(int col, int row, boolean italic) {
-        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
         PoiExcelHelper.setCellFontItalic(cell, italic);
     }
 
     @Override
     public void setCellFontUnderline(int col, int row, boolean underlined) {
-        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell cell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
         byte underline = underlined ? Font.U_SINGLE : Font.U_NONE;
         PoiExcelHelper.setCellFontUnderline(cell, underline);
     }
 
     @Override
     public void setCellComment(int col, int row, String comment, String prevCommentAuthor) {
-        Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, getSheet());
+        Cell poiCell = PoiExcelHelper.getOrCreateCell(col, row, getSheetForUpdate());
         Comment poiComment = null;
         if (comment != null) {
-            Sheet sheet = getSheet();
+            Sheet sheet = getSheetForUpdate();
             CreationHelper factory = sheet.getWorkbook().getCreationHelper();
             ClientAnchor anchor = factory.createClientAnchor();
             anchor.setCol1(poiCell.getColumnIndex());
@@ -624,6 +625,15 @@ public class XlsSheetGridModel extends AGrid implements IWritableGrid {
         return sheetSource.getSheet();
     }
 
+    private Sheet getSheetForUpdate() {
+        Sheet sheet = getSheet();
+        XlsWorkbookSourceCodeModule workbookSource = sheetSource.getWorkbookSource();
+        if (workbookSource != null) {
+            workbookSource.markSheetModified(sheet);
+        }
+        return sheet;
+    }
+
     private byte[] convertRGB(short[] rgb) {
         return new byte[]{(byte) rgb[0], (byte) rgb[1], (byte) rgb[2]};
     }
@@ -28,9 +28,7 @@ public class AlgorithmInvoker extends RulesMethodInvoker<Algorithm> {
         DelegatedDynamicObject thisInstance = new DelegatedDynamicObject(getInvokableMethod().getThisClass(),
                 (IDynamicObject) target);
 
-        TBasicVM algorithmVM = new TBasicVM(getInvokableMethod().getType(),
-                getInvokableMethod().getAlgorithmSteps(),
-                getInvokableMethod().getLabels());
+        TBasicVM algorithmVM = new TBasicVM(getInvokableMethod().getType(), getInvokableMethod().getDataContext());
 
         TBasicContextHolderEnv runtimeEnvironment = new TBasicContextHolderEnv(env, thisInstance, params, algorithmVM);
 
@@ -8,6 +8,7 @@ import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
 import org.openl.rules.table.IGridRegion;
 import org.openl.rules.tbasic.runtime.TBasicContextHolderEnv;
 import org.openl.rules.tbasic.runtime.TBasicVM;
+import org.openl.rules.tbasic.runtime.TBasicVMDataContext;
 import org.openl.rules.tbasic.runtime.operations.RuntimeOperation;
 import org.openl.types.IOpenMethodHeader;
 import org.openl.vm.IRuntimeEnv;
@@ -23,6 +24,7 @@ public class AlgorithmSubroutineMethod extends AlgorithmFunction {
      **************************************************************************/
     private List<RuntimeOperation> algorithmSteps;
     private Map<String, RuntimeOperation> labels;
+    private volatile TBasicVMDataContext dataContext;
 
     public AlgorithmSubroutineMethod(IOpenMethodHeader header) {
         super(header, null);
@@ -70,12 +72,18 @@ public class AlgorithmSubroutineMethod extends AlgorithmFunction {
         TBasicContextHolderEnv environment = (TBasicContextHolderEnv) env;
         TBasicVM vm = environment.getTbasicVm();
 
-        return vm.run(algorithmSteps, labels, environment);
+        TBasicVMDataContext context = dataContext;
+        if (context == null) {
+            context = new TBasicVMDataContext(algorithmSteps, labels, false);
+            dataContext = context;
+        }
+        return vm.run(context, environment);
     }
 
     @Override
     public void setAlgorithmSteps(List<RuntimeOperation> operations) {
         algorithmSteps = operations;
+        dataContext = null;
     }
 
     @Override
@@ -86,6 +94,7 @@ public class AlgorithmSubroutineMethod extends AlgorithmFunction {
     @Override
     public void setLabels(Map<String, RuntimeOperation> localLabelsRegister) {
         labels = localLabelsRegister;
+        dataContext = null;
     }
 
     @Override
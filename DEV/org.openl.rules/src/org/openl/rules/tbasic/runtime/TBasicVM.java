@@ -27,8 +27,18 @@ public class TBasicVM {
      * @param labels
      */
     public TBasicVM(IOpenClass tbasicType, List<RuntimeOperation> operations, Map<String, RuntimeOperation> labels) {
+        this(tbasicType, new TBasicVMDataContext(operations, labels, true));
+    }
+
+    /**
+     * Create an instance of <code>TBasicVM</code> initialized with the prepared context of main Algorithm method.
+     *
+     * @param tbasicType  The type of Algorithm.
+     * @param mainContext The context of main Algorithm method.
+     */
+    public TBasicVM(IOpenClass tbasicType, TBasicVMDataContext mainContext) {
         this.tbasicType = tbasicType;
-        this.mainContext = new TBasicVMDataContext(operations, labels, true);
+        this.mainContext = mainContext;
 
         // in the first turn only main can be called
         this.currentContext = mainContext;
@@ -40,11 +50,12 @@ public class TBasicVM {
      * execution will be switched to there.
      *
      * @param label The label to switch to.
-     * @return The labeled operation.
+     * @return The index of the labeled operation in current context.
      */
-    private RuntimeOperation getLabeledOperation(String label) {
-        if (currentContext.isLabelInContext(label)) {
-            return currentContext.getLabeledOperation(label);
+    private int getLabeledOperationIndex(String label) {
+        int index = currentContext.getLabeledOperationIndex(label);
+        if (index >= 0) {
+            return index;
         } else if (mainContext.isLabelInContext(label)) {
             goToLabelInMainContext(label);
         }
@@ -77,8 +88,18 @@ public class TBasicVM {
                       Map<String, RuntimeOperation> methodLabels,
                       TBasicContextHolderEnv environment) {
 
-        TBasicVMDataContext methodContext = new TBasicVMDataContext(methodSteps, methodLabels, false);
+        return run(new TBasicVMDataContext(methodSteps, methodLabels, false), environment);
+    }
 
+    /**
+     * Run sub-method of Algorithm with the prepared context. The context can be created once and reused by all calls
+     * of the sub-method.
+     *
+     * @param methodContext The context of sub-method.
+     * @param environment   The environment for execution.
+     * @return The result of the method execution.
+     */
+    public Object run(TBasicVMDataContext methodContext, TBasicContextHolderEnv environment) {
         TBasicVMDataContext previousContext = swapContext(methodContext);
 
         try {
@@ -93,7 +114,7 @@ public class TBasicVM {
      * context. <br>
      * Method also implements logic to handle all errors by user defined handling method. <br>
      * Method should be called only for main Algorithm method, all sub methods should be run using
-     * {@link #run(List, Map, TBasicContextHolderEnv)}.
+     * {@link #run(TBasicVMDataContext, TBasicContextHolderEnv)}.
      *
      * @param environment The environment for execution.
      * @return The result of the method execution.
@@ -137,18 +158,20 @@ public class TBasicVM {
     }
 
     /**
-     * Run all operations in the current context.
+     * Run all operations in the current context. The operations are addressed by their indexes, the jumps of GOTO
+     * operations within the context are resolved when the context is created.
      *
      * @param environment The environment for execution.
      * @return The result of the method execution.
      */
     private Object runAll(TBasicContextHolderEnv environment) {
 
-        RuntimeOperation operation = currentContext.getFirstOperation();
+        int index = 0;
         Object previousStepResult = null;
         Object returnResult = null;
 
-        while (operation != null) {
+        while (index < currentContext.size()) {
+            RuntimeOperation operation = currentContext.getOperation(index);
             Result operationResult;
             try {
 
@@ -156,20 +179,21 @@ public class TBasicVM {
                         .invoke(operation, null, new Object[]{previousStepResult}, environment, this);
 
             } catch (OpenLAlgorithmGoToMainSignal signal) {
-                operation = getLabeledOperation(signal.getLabel());
+                index = getLabeledOperationIndex(signal.getLabel());
                 continue;
             }
 
             if (operationResult.getReturnType() == ReturnType.GOTO) {
                 assert operationResult.getValue() instanceof String;
-                operation = getLabeledOperation((String) operationResult.getValue());
+                int jump = currentContext.getJumpIndex(index);
+                index = jump >= 0 ? jump : getLabeledOperationIndex((String) operationResult.getValue());
                 continue;
             } else if (operationResult.getReturnType() == ReturnType.RETURN) {
                 returnResult = operationResult.getValue();
                 break;
             }
 
-            operation = currentContext.getNextOperation(operation);
+            index++;
             previousStepResult = operationResult.getValue();
             if (previousStepResult != null) {
                 // store last not-null calculation result,
@@ -1,18 +1,28 @@
 package org.openl.rules.tbasic.runtime;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.openl.rules.tbasic.runtime.operations.GotoOperation;
 import org.openl.rules.tbasic.runtime.operations.RuntimeOperation;
 
 /**
- * The <code>TBasicVMDataContext</code> contains context for running <code>TBasicVM</code>.
+ * The <code>TBasicVMDataContext</code> contains context for running <code>TBasicVM</code>. The labels and the jumps
+ * of GOTO operations are resolved to the operation indexes when the context is created, so the context is immutable and
+ * can be reused by all executions of the method.
  */
 public class TBasicVMDataContext {
     private final List<RuntimeOperation> operations;
     private final Map<String, RuntimeOperation> labels;
     private final boolean isMainMethodContext;
 
+    private final RuntimeOperation[] operationsByIndex;
+    private final Map<RuntimeOperation, Integer> indexes;
+    private final Map<String, Integer> labelIndexes;
+    private final int[] jumps;
+
     /**
      * Create a new instance of <code>TBasicVMDataContext</code>.
      *
@@ -30,6 +40,66 @@ public class TBasicVMDataContext {
         this.operations = operations;
         this.labels = labels;
         isMainMethodContext = isMainMethod;
+
+        operationsByIndex = operations.toArray(new RuntimeOperation[0]);
+        indexes = new IdentityHashMap<>();
+        for (int i = 0; i < operationsByIndex.length; i++) {
+            indexes.putIfAbsent(operationsByIndex[i], i);
+        }
+        labelIndexes = new HashMap<>();
+        for (Map.Entry<String, RuntimeOperation> label : labels.entrySet()) {
+            Integer index = indexes.get(label.getValue());
+            if (index != null) {
+                labelIndexes.put(label.getKey(), index);
+            }
+        }
+        jumps = new int[operationsByIndex.length];
+        for (int i = 0; i < operationsByIndex.length; i++) {
+            RuntimeOperation operation = operationsByIndex[i];
+            Integer index = operation instanceof GotoOperation ? labelIndexes.get(((GotoOperation) operation).getLabel())
+                                                               : null;
+            jumps[i] = index != null ? index : -1;
+        }
+    }
+
+    /**
+     * Get the number of operations in context.
+     *
+     * @return The number of operations.
+     */
+    public int size() {
+        return operationsByIndex.length;
+    }
+
+    /**
+     * Get operation by its index.
+     *
+     * @param index The index of the operation.
+     * @return The operation.
+     */
+    public RuntimeOperation getOperation(int index) {
+        return operationsByIndex[index];
+    }
+
+    /**
+     * Get index of the operation the GOTO operation at the specified index jumps to.
+     *
+     * @param index The index of the GOTO operation.
+     * @return The index of the labeled operation or -1 if the label is not in the context.
+     */
+    public int getJumpIndex(int index) {
+        return jumps[index];
+    }
+
+    /**
+     * Get index of operation by its label.
+     *
+     * @param label The label to look for.
+     * @return The index of the labeled operation or -1 if the label is not in the context.
+     */
+    public int getLabeledOperationIndex(String label) {
+        Integer index = labelIndexes.get(label);
+        return index != null ? index : -1;
     }
 
     /**
@@ -69,13 +139,13 @@ public class TBasicVMDataContext {
     public RuntimeOperation getNextOperation(RuntimeOperation operation) {
         RuntimeOperation nextOperation = null;
 
-        int indexOfCurrent = operations.indexOf(operation);
+        Integer indexOfCurrent = indexes.get(operation);
 
-        if (indexOfCurrent > -1) {
+        if (indexOfCurrent != null) {
             int indexOfNext = indexOfCurrent + 1;
 
-            if (indexOfNext < operations.size()) {
-                nextOperation = operations.get(indexOfNext);
+            if (indexOfNext < operationsByIndex.length) {
+                nextOperation = operationsByIndex[indexOfNext];
             }
         } else {
             throw AlgorithmErrorHelper
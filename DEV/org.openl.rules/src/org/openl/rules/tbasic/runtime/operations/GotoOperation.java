@@ -36,4 +36,11 @@ public class GotoOperation extends RuntimeOperation {
         return new Result(ReturnType.GOTO, label);
     }
 
+    /**
+     * @return The label to jump to.
+     */
+    public String getLabel() {
+        return label;
+    }
+
 }
@@ -3,13 +3,16 @@ package org.openl.rules.types;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openl.base.INamedThing;
 import org.openl.binding.MethodUtil;
 import org.openl.exception.OpenLRuntimeException;
+import org.openl.rules.context.DispatchKey;
 import org.openl.rules.context.IRulesRuntimeContextOptimizationForOpenMethodDispatcher;
 import org.openl.rules.lang.xls.binding.TableVersionComparator;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
@@ -17,6 +20,7 @@ import org.openl.rules.lang.xls.binding.wrapper.IRulesMethodWrapper;
 import org.openl.rules.lang.xls.binding.wrapper.WrapperLogic;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
 import org.openl.rules.method.ITablePropertiesMethod;
+import org.openl.rules.method.RulesMetrics;
 import org.openl.rules.table.properties.DimensionPropertiesMethodKey;
 import org.openl.runtime.IRuntimeContext;
 import org.openl.types.IMemberMetaInfo;
@@ -37,6 +41,8 @@ import org.openl.vm.Tracer;
  */
 public abstract class OpenMethodDispatcher implements IOpenMethod {
 
+    private static final int MAX_DISPATCHED_METHODS = 1024;
+
     /**
      * Delegate method. Used as a descriptor of method for all overloaded version to delegate requests about method info
      * such as signature, name, etc.
@@ -60,6 +66,11 @@ public abstract class OpenMethodDispatcher implements IOpenMethod {
     private IMethodSignature signature;
     private IOpenClass type;
 
+    /**
+     * Methods resolved for the runtime context values. The cache is shared by all contexts with the same values.
+     */
+    private final Map<DispatchKey, IOpenMethod> dispatchedMethods = new ConcurrentHashMap<>();
+
     protected OpenMethodDispatcher() {
     }
 
@@ -193,6 +204,9 @@ public abstract class OpenMethodDispatcher implements IOpenMethod {
         // Check that founded required method.
         //
         if (method == null) {
+            if (RulesMetrics.isEnabled()) {
+                RulesMetrics.recordDispatchMiss(getName());
+            }
             StringBuilder sb = new StringBuilder();
             sb.append("Method signature: ");
             MethodUtil.printMethod(this, sb);
@@ -252,12 +266,42 @@ public abstract class OpenMethodDispatcher implements IOpenMethod {
         return -1;
     }
 
+    /**
+     * Gets the method resolved earlier for the runtime context with the given values.
+     */
+    public IOpenMethod getDispatchedMethod(DispatchKey key) {
+        return dispatchedMethods.get(key);
+    }
+
+    public void putDispatchedMethod(DispatchKey key, IOpenMethod method) {
+        if (method == null) {
+            return;
+        }
+        if (dispatchedMethods.size() >= MAX_DISPATCHED_METHODS) {
+            // An arbitrary entry is dropped to not block the concurrent dispatching
+            Iterator<DispatchKey> keys = dispatchedMethods.keySet().iterator();
+            if (keys.hasNext()) {
+                dispatchedMethods.remove(keys.next());
+            }
+        }
+        dispatchedMethods.put(key, method);
+    }
+
+    /**
+     * Checks that the dates of the runtime context do not affect the choice of the method, so the resolved methods
+     * can be cached by {@link DispatchKey} for all contexts. Otherwise, the methods are cached in the context only.
+     */
+    public boolean isDispatchedWithoutDates() {
+        return false;
+    }
+
     /**
      * Try to add method as overloaded version of decorated method.
      *
      * @param method method to add
      */
     public void addMethod(IOpenMethod method) {
+        dispatchedMethods.clear();
         // Evaluate the candidate method key.
         //
         MethodKey candidateKey = new MethodKey(method);
@@ -38,6 +38,8 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
 
     private List<IOpenMethod> candidatesSorted;
 
+    private volatile Boolean dispatchedWithoutDates;
+
     private IOpenMethod decisionTableOpenMethod;
 
     public IOpenMethod getDecisionTableOpenMethod() {
@@ -59,6 +61,25 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     public void addMethod(IOpenMethod candidate) {
         super.addMethod(candidate);
         candidatesSorted = null;
+        dispatchedWithoutDates = null;
+    }
+
+    @Override
+    public boolean isDispatchedWithoutDates() {
+        Boolean result = dispatchedWithoutDates;
+        if (result == null) {
+            result = true;
+            for (IOpenMethod candidate : getCandidates()) {
+                ITableProperties props = PropertiesHelper.getTableProperties(candidate);
+                if (props != null && (props.getEffectiveDate() != null || props.getExpirationDate() != null || props
+                        .getStartRequestDate() != null || props.getEndRequestDate() != null)) {
+                    result = false;
+                    break;
+                }
+            }
+            dispatchedWithoutDates = result;
+        }
+        return result;
     }
 
     @Override
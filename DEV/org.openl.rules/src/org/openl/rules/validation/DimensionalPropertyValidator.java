@@ -1,16 +1,19 @@
 package org.openl.rules.validation;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
-import org.openl.rules.table.properties.ITableProperties;
 import org.openl.rules.table.properties.PropertiesHelper;
 import org.openl.rules.types.OpenMethodDispatcher;
 import org.openl.types.IMemberMetaInfo;
@@ -36,17 +39,21 @@ public class DimensionalPropertyValidator implements IOpenLValidator {
             if (method instanceof OpenMethodDispatcher) {
                 OpenMethodDispatcher openMethodDispatcher = (OpenMethodDispatcher) method;
                 IOpenMethod[] methods = openMethodDispatcher.getCandidates().toArray(IOpenMethod.EMPTY_ARRAY);
+                List<Map<String, Object>> properties = new ArrayList<>(methods.length);
+                for (IOpenMethod m : methods) {
+                    properties.add(PropertiesHelper.getTableProperties(m).getAllDimensionalProperties());
+                }
+                PropertiesIndex index = new PropertiesIndex(properties);
                 for (int i = 0; i < methods.length - 1; i++) {
-                    ITableProperties propsA = PropertiesHelper.getTableProperties(methods[i]);
-                    Map<String, Object> propertiesA = propsA.getAllDimensionalProperties();
-                    for (int j = i + 1; j < methods.length; j++) {
+                    Map<String, Object> propertiesA = properties.get(i);
+                    // Only the methods having common values for all properties can overlap
+                    BitSet candidates = index.findIntersecting(i);
+                    for (int j = candidates.nextSetBit(i + 1); j >= 0; j = candidates.nextSetBit(j + 1)) {
                         OverlapState overlapState = OverlapState.UNKNOWN;
                         for (int q = 0; q < 3; q++) {
                             vResult[q] = null;
                         }
-                        ITableProperties propsB = PropertiesHelper.getTableProperties(methods[j]);
-                        Map<String, Object> propertiesB = propsB.getAllDimensionalProperties();
-
+                        Map<String, Object> propertiesB = properties.get(j);
                         Set<String> usedKeys = new HashSet<>(); // Performance
                         // improvement
                         for (String propKey : propertiesA.keySet()) {
@@ -249,4 +256,71 @@ public class DimensionalPropertyValidator implements IOpenLValidator {
         }
     }
 
+    /**
+     * Index of the dimensional properties values, which finds the methods with intersecting values for every property
+     * without comparing all pairs of the methods.
+     */
+    private static final class PropertiesIndex {
+        private final List<Map<String, Object>> properties;
+        private final Map<String, BitSet> withoutValue = new HashMap<>();
+        private final Map<String, Map<Object, BitSet>> withValue = new HashMap<>();
+
+        private PropertiesIndex(List<Map<String, Object>> properties) {
+            this.properties = properties;
+            Set<String> keys = new HashSet<>();
+            for (Map<String, Object> props : properties) {
+                keys.addAll(props.keySet());
+            }
+            for (String key : keys) {
+                BitSet nulls = new BitSet(properties.size());
+                Map<Object, BitSet> values = new HashMap<>();
+                for (int i = 0; i < properties.size(); i++) {
+                    Object value = properties.get(i).get(key);
+                    if (value == null) {
+                        nulls.set(i);
+                    } else if (value.getClass().isArray()) {
+                        int length = Array.getLength(value);
+                        for (int k = 0; k < length; k++) {
+                            values.computeIfAbsent(Array.get(value, k), e -> new BitSet()).set(i);
+                        }
+                    } else {
+                        values.computeIfAbsent(value, e -> new BitSet()).set(i);
+                    }
+                }
+                withoutValue.put(key, nulls);
+                withValue.put(key, values);
+            }
+        }
+
+        /**
+         * @return the methods which values of each property are either undefined or intersect with the values of the
+         *         given method
+         */
+        private BitSet findIntersecting(int i) {
+            BitSet result = new BitSet(properties.size());
+            result.set(0, properties.size());
+            for (Map.Entry<String, Object> entry : properties.get(i).entrySet()) {
+                Object value = entry.getValue();
+                if (value == null) {
+                    continue;
+                }
+                BitSet intersecting = (BitSet) withoutValue.get(entry.getKey()).clone();
+                Map<Object, BitSet> values = withValue.get(entry.getKey());
+                if (value.getClass().isArray()) {
+                    int length = Array.getLength(value);
+                    for (int k = 0; k < length; k++) {
+                        intersecting.or(values.get(Array.get(value, k)));
+                    }
+                } else {
+                    intersecting.or(values.get(value));
+                }
+                result.and(intersecting);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+
 }
@@ -1,19 +1,15 @@
 package org.openl.rules.validation;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
-import org.openl.domain.IDomain;
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
-import org.openl.rules.dt.IBaseCondition;
 import org.openl.rules.dt.IDecisionTable;
-import org.openl.rules.dt.type.domains.DomainAdaptorFactory;
 import org.openl.rules.dt.type.domains.IDomainAdaptor;
-import org.openl.rules.dt.validator.DecisionTableAnalyzer;
 import org.openl.rules.dt.validator.DecisionTableValidationResult;
 import org.openl.rules.dt.validator.DecisionTableValidator;
 import org.openl.rules.enumeration.ValidateDTEnum;
@@ -23,7 +19,6 @@ import org.openl.syntax.exception.SyntaxNodeException;
 import org.openl.syntax.exception.SyntaxNodeExceptionUtils;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenMethod;
-import org.openl.types.IParameterDeclaration;
 import org.openl.validation.ValidationResult;
 
 /**
@@ -39,8 +34,7 @@ public class GapOverlapValidator extends TablesValidator {
     public ValidationResult validateTables(TableSyntaxNode[] tableSyntaxNodes, IOpenClass openClass) {
         List<IOpenMethod> allModuleMethods = OpenMethodDispatcherHelper.extractMethods(openClass);
 
-        Collection<OpenLMessage> messages = new LinkedHashSet<>();
-
+        List<TableValidation> validations = new ArrayList<>();
         for (IOpenMethod method : allModuleMethods) {
             if (method instanceof ExecutableRulesMethod) {
                 ExecutableRulesMethod executableMethod = (ExecutableRulesMethod) method;
@@ -48,17 +42,26 @@ public class GapOverlapValidator extends TablesValidator {
                     // can cast to DecisionTable, as validateDT property belongs
                     // only to DT.
                     //
-                    IDecisionTable decisionTable = (IDecisionTable) executableMethod;
-                    DecisionTableValidationResult dtValidResult = validate(messages, openClass, decisionTable);
-                    if (dtValidResult != null && dtValidResult.hasProblems()) {
-                        decisionTable.getSyntaxNode().setValidationResult(dtValidResult);
-                        if (dtValidResult.hasErrors()) {
-                            addError(messages, decisionTable.getSyntaxNode(), dtValidResult.toString());
-                        } else {
-                            messages.add(OpenLMessagesUtils.newWarnMessage(dtValidResult.toString(),
-                                    decisionTable.getSyntaxNode()));
-                        }
-                    }
+                    validations.add(new TableValidation((IDecisionTable) executableMethod));
+                }
+            }
+        }
+
+        // The tables are independent, so they are analyzed in parallel. The constraint solver is used sequentially
+        // for the tables with conditions unsupported by the interval analysis.
+        validations.parallelStream().forEach(TableValidation::validateByIntervals);
+
+        Collection<OpenLMessage> messages = new LinkedHashSet<>();
+        for (TableValidation validation : validations) {
+            IDecisionTable decisionTable = validation.decisionTable;
+            DecisionTableValidationResult dtValidResult = validate(messages, openClass, validation);
+            if (dtValidResult != null && dtValidResult.hasProblems()) {
+                decisionTable.getSyntaxNode().setValidationResult(dtValidResult);
+                if (dtValidResult.hasErrors()) {
+                    addError(messages, decisionTable.getSyntaxNode(), dtValidResult.toString());
+                } else {
+                    messages.add(OpenLMessagesUtils.newWarnMessage(dtValidResult.toString(),
+                            decisionTable.getSyntaxNode()));
                 }
             }
         }
@@ -72,59 +75,50 @@ public class GapOverlapValidator extends TablesValidator {
 
     private DecisionTableValidationResult validate(Collection<OpenLMessage> messages,
                                                    IOpenClass openClass,
-                                                   IDecisionTable decisionTable) {
-        DecisionTableValidationResult dtValidResult = null;
-        try {
-            Map<String, IDomainAdaptor> domains = gatherDomains(decisionTable);
-            dtValidResult = DecisionTableValidator.validateTable(decisionTable, domains, openClass);
-        } catch (Exception t) {
+                                                   TableValidation validation) {
+        IDecisionTable decisionTable = validation.decisionTable;
+        DecisionTableValidationResult dtValidResult = validation.result;
+        Exception error = validation.error;
+        if (dtValidResult == null && error == null) {
+            try {
+                dtValidResult = DecisionTableValidator
+                        .validateTableBySolver(decisionTable, validation.domains, openClass);
+            } catch (Exception t) {
+                error = t;
+            }
+        }
+        if (error != null) {
             String errorMessage = String.format("%s%s.Reason : %s",
                     VALIDATION_FAILED,
                     decisionTable.getSyntaxNode().getDisplayName(),
-                    t.getMessage());
+                    error.getMessage());
             addError(messages, decisionTable.getSyntaxNode(), errorMessage);
         }
         return dtValidResult;
     }
 
-    private Map<String, IDomainAdaptor> gatherDomains(IDecisionTable dt) throws Exception {
-        Map<String, IDomainAdaptor> domainsMap = new HashMap<>();
-        DecisionTableAnalyzer analyzer = new DecisionTableAnalyzer(dt);
-
-        for (IBaseCondition condition : dt.getConditionRows()) {
-            IParameterDeclaration[] pd = analyzer.referencedSignatureParams(condition);
-            for (IParameterDeclaration iParameterDeclaration : pd) {
-                IDomain<?> domain = iParameterDeclaration.getType().getDomain();
-                if (domain == null) {
-                    domain = condition.getConditionEvaluator().getRuleParameterDomain(condition);
-                    IDomainAdaptor adaptor = DomainAdaptorFactory.getAdaptor(domain);
-                    domainsMap.put(iParameterDeclaration.getName(), adaptor);
-                }
-            }
-
-            IParameterDeclaration[] cparams = condition.getParams();
+    private static boolean isValidatableMethod(ExecutableRulesMethod executableMethod) {
+        return executableMethod.getMethodProperties() != null && ValidateDTEnum.ON
+                .equals(executableMethod.getMethodProperties().getValidateDT());
+    }
 
-            for (int i = 0; i < cparams.length; i++) {
-                IDomain<?> domain = cparams[i].getType().getDomain();
-                if (domain == null) {
-                    domain = condition.getConditionEvaluator().getConditionParameterDomain(i, condition);
-                    if (domain != null) {
-                        IDomainAdaptor adaptor = DomainAdaptorFactory.getAdaptor(domain);
-                        domainsMap.put(
-                                DecisionTableValidator.getUniqueConditionParamName(condition, cparams[i].getName()),
-                                adaptor);
-                    }
+    private static final class TableValidation {
+        private final IDecisionTable decisionTable;
+        private Map<String, IDomainAdaptor> domains;
+        private DecisionTableValidationResult result;
+        private Exception error;
 
-                }
+        private TableValidation(IDecisionTable decisionTable) {
+            this.decisionTable = decisionTable;
+        }
 
+        private void validateByIntervals() {
+            try {
+                domains = DecisionTableValidator.gatherDomains(decisionTable);
+                result = DecisionTableValidator.validateTableByIntervals(decisionTable, domains);
+            } catch (Exception e) {
+                error = e;
             }
-
         }
-        return domainsMap;
-    }
-
-    private static boolean isValidatableMethod(ExecutableRulesMethod executableMethod) {
-        return executableMethod.getMethodProperties() != null && ValidateDTEnum.ON
-                .equals(executableMethod.getMethodProperties().getValidateDT());
     }
 }
@@ -6,7 +6,58 @@ import org.openl.types.Invokable;
  * @author Yury Molchan
  */
 public class Tracer {
-    protected static Tracer instance = new Tracer();
+    protected static volatile Tracer instance = new Tracer();
+
+    /**
+     * The next registered tracer in the chain, or {@code null} for the last one.
+     */
+    private volatile Tracer next;
+
+    /**
+     * Adds the tracer to the chain of the active tracers. Several tracers can be active at once, the last registered
+     * tracer is invoked first.
+     *
+     * @return false if the tracer has been already registered
+     */
+    public static synchronized boolean register(Tracer tracer) {
+        for (Tracer t = instance; t != null; t = t.next) {
+            if (t == tracer) {
+                return false;
+            }
+        }
+        tracer.next = instance.getClass() == Tracer.class ? null : instance;
+        instance = tracer;
+        return true;
+    }
+
+    /**
+     * Removes the tracer from the chain of the active tracers. The other tracers stay active.
+     */
+    public static synchronized void unregister(Tracer tracer) {
+        if (instance == tracer) {
+            Tracer next = tracer.next;
+            instance = next == null ? new Tracer() : next;
+            return;
+        }
+        for (Tracer t = instance; t != null; t = t.next) {
+            if (t.next == tracer) {
+                t.next = tracer.next;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the registered tracer of the given type or {@code null}
+     */
+    public static <T extends Tracer> T find(Class<T> type) {
+        for (Tracer t = instance; t != null; t = t.next) {
+            if (type.isInstance(t)) {
+                return type.cast(t);
+            }
+        }
+        return null;
+    }
 
     protected void doPut(Object source, String id, Object... args) {
         // Nothing
@@ -17,7 +68,20 @@ public class Tracer {
                                                        Object[] params,
                                                        E env,
                                                        Object source) {
-        return executor.invoke(target, params, env);
+        return proceed(executor, target, params, env, source);
+    }
+
+    /**
+     * Passes the invocation to the next tracer in the chain or invokes the executor if it is the last tracer. The
+     * tracers must use this method instead of invoking the executor directly.
+     */
+    protected final <T, E extends IRuntimeEnv, R> R proceed(Invokable<? super T, E> executor,
+                                                            T target,
+                                                            Object[] params,
+                                                            E env,
+                                                            Object source) {
+        Tracer t = next;
+        return t == null ? executor.invoke(target, params, env) : t.doInvoke(executor, target, params, env, source);
     }
 
     protected <T> T doWrap(Object source, T target, Object[] args) {
@@ -40,37 +104,45 @@ public class Tracer {
 
     public static void put(Object source, String id, Object arg1) {
         if (isEnabled()) {
-            instance.doPut(source, id, arg1);
+            putAll(source, id, arg1);
         }
     }
 
     public static void put(Object source, String id, Object arg1, int arg2, boolean arg3) {
         if (isEnabled()) {
-            instance.doPut(source, id, arg1, arg2, arg3);
+            putAll(source, id, arg1, arg2, arg3);
         }
     }
 
     public static void put(Object source, String id, Object arg1, Object arg2, boolean arg3) {
         if (isEnabled()) {
-            instance.doPut(source, id, arg1, arg2, arg3);
+            putAll(source, id, arg1, arg2, arg3);
         }
     }
 
     public static void put(Object source, String id, Object arg1, int arg2, Object arg3) {
         if (isEnabled()) {
-            instance.doPut(source, id, arg1, arg2, arg3);
+            putAll(source, id, arg1, arg2, arg3);
         }
     }
 
     public static void put(Object source, String id, Object arg1, Object arg2, int arg3, int arg4) {
         if (isEnabled()) {
-            instance.doPut(source, id, arg1, arg2, arg3, arg4);
+            putAll(source, id, arg1, arg2, arg3, arg4);
         }
     }
 
     public static void put(Object source, String id, Object arg1, Object arg2, int arg3, Object arg4) {
         if (isEnabled()) {
-            instance.doPut(source, id, arg1, arg2, arg3, arg4);
+            putAll(source, id, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    private static void putAll(Object source, String id, Object... args) {
+        for (Tracer t = instance; t != null; t = t.next) {
+            if (t.isOn()) {
+                t.doPut(source, id, args);
+            }
         }
     }
 
@@ -79,7 +151,12 @@ public class Tracer {
     }
 
     public static boolean isEnabled() {
-        return instance.isOn();
+        for (Tracer t = instance; t != null; t = t.next) {
+            if (t.isOn()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static <T, E extends IRuntimeEnv, R> R invoke(Invokable<? super T, E> executor,
@@ -92,10 +169,14 @@ public class Tracer {
 
     public static <T> T wrap(Object source, T target, Object arg1) {
         if (isEnabled()) {
-            return instance.doWrap(source, target, new Object[]{arg1});
-        } else {
-            return target;
+            Object[] args = new Object[]{arg1};
+            for (Tracer t = instance; t != null; t = t.next) {
+                if (t.isOn()) {
+                    target = t.doWrap(source, target, args);
+                }
+            }
         }
+        return target;
     }
 
     public static <T, E extends IRuntimeEnv> boolean resolveTraceNode(Invokable<? super T, E> executor,
@@ -103,6 +184,11 @@ public class Tracer {
                                                                    Object[] params,
                                                                    E env,
                                                                    Object source) {
-        return instance.doResolveTraceNode(executor, target, params, env, source);
+        for (Tracer t = instance; t != null; t = t.next) {
+            if (t.doResolveTraceNode(executor, target, params, env, source)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
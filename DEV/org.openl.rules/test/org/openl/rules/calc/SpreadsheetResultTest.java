@@ -2,9 +2,16 @@ package org.openl.rules.calc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.openl.rules.TestUtils;
+
 public class SpreadsheetResultTest {
 
     @Test
@@ -22,4 +29,57 @@ public class SpreadsheetResultTest {
         // toPlain in SPR does not work with SortedSets
         assertFalse(Comparable.class.isAssignableFrom(SpreadsheetResult.class));
     }
+
+    @Test
+    public void testToMapWithoutType() {
+        SpreadsheetResult sr = new SpreadsheetResult(new Object[][]{{1, 2}, {3, 4}},
+                new String[]{"R1", "R2"},
+                new String[]{"C1", "C2"},
+                new String[]{"R1", "R2"},
+                new String[]{"C", "C"},
+                null);
+        assertEquals(Map.of("C_R1", 1, "C_R11", 2, "C_R2", 3, "C_R21", 4), sr.toMap());
+        assertEquals(Map.of("c/R1", 1, "c/R11", 2, "c/R2", 3, "c/R21", 4), sr.toMap(true, new LowerCaseNaming()));
+
+        SpreadsheetResult column = new SpreadsheetResult(new Object[][]{{1, 2}, {3, 4}},
+                new String[]{"R1", "R2"},
+                new String[]{"C1", "C2"},
+                new String[]{"R1", "R2"},
+                new String[]{"C1", null},
+                null);
+        assertEquals(Map.of("R1", 1, "R2", 3), column.toMap());
+    }
+
+    @Test
+    public void testToMapPlanIsReused() {
+        Test0.ITestCalc test = TestUtils.create("test/rules/calc0/calc0-1.xls", Test0.ITestCalc.class);
+        SpreadsheetResult first = test.calc();
+        SpreadsheetResult second = test.calc();
+        CustomSpreadsheetResultOpenClass type = first.getCustomSpreadsheetResultOpenClass();
+        assertNotNull(type);
+
+        Map<String, Object> expected = first.toMap();
+        assertEquals(6, expected.size());
+        assertEquals(expected, second.toMap());
+        assertSame(type.getToMapPlan(first, null), type.getToMapPlan(second, null));
+
+        LowerCaseNaming naming = new LowerCaseNaming();
+        Map<String, Object> transformed = first.toMap(true, naming);
+        assertEquals(6, transformed.size());
+        assertEquals(transformed, second.toMap(true, naming));
+        assertSame(type.getToMapPlan(first, naming), type.getToMapPlan(second, naming));
+        assertNotSame(type.getToMapPlan(first, null), type.getToMapPlan(first, naming));
+    }
+
+    private static final class LowerCaseNaming implements SpreadsheetResultBeanPropertyNamingStrategy {
+        @Override
+        public String transform(String name) {
+            return name.toLowerCase();
+        }
+
+        @Override
+        public String transform(String column, String row) {
+            return column.toLowerCase() + "/" + row;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package org.openl.rules.cmatch.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.cmatch.matcher.ClassMinMaxMatcher;
+import org.openl.rules.cmatch.matcher.IMatcher;
+import org.openl.rules.cmatch.matcher.NumberMatchMatcher;
+import org.openl.rules.helpers.IntRange;
+
+public class ColumnIndexTest {
+
+    @Test
+    public void testEqualsAndRanges() {
+        IMatcher matcher = new NumberMatchMatcher(Integer.class, IntRange.class);
+        Object[] checkValues = { 5, null, new IntRange(1, 10), 7, 5, new IntRange(20, 30) };
+        ColumnIndex index = new ColumnIndex(matcher, checkValues);
+
+        for (int var = 0; var < 35; var++) {
+            BitSet candidates = index.getCandidates(var);
+            int first = -1;
+            for (int column = 0; column < checkValues.length; column++) {
+                boolean expected = matcher.match(var, checkValues[column]);
+                assertEquals(expected, candidates.get(column) && index.match(var, column), "var=" + var);
+                if (expected && first < 0) {
+                    first = column;
+                }
+            }
+            assertEquals(first, index.findFirst(var, checkValues.length), "var=" + var);
+        }
+
+        assertEquals(0, index.findFirst(5, 6));
+        assertEquals(2, index.findFirst(7, 6));
+        assertEquals(-1, index.findFirst(7, 2));
+        assertEquals(-1, index.findFirst(null, 6));
+    }
+
+    @Test
+    public void testNotIndexedMatcher() {
+        IMatcher matcher = new ClassMinMaxMatcher<>(Integer.class, false);
+        ColumnIndex index = new ColumnIndex(matcher, new Object[] { 10, 5, 0 });
+
+        assertEquals(3, index.getCandidates(7).cardinality());
+        assertFalse(index.match(7, 0));
+        assertTrue(index.match(7, 1));
+        assertEquals(1, index.findFirst(7, 3));
+        assertEquals(-1, index.findFirst(-1, 3));
+    }
+}
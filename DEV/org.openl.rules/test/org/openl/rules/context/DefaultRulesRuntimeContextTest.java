@@ -5,11 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Date;
 
 import org.junit.jupiter.api.Test;
 
+import org.openl.rules.types.OpenMethodDispatcher;
+import org.openl.types.IOpenMethod;
+
 public class DefaultRulesRuntimeContextTest {
 
     @Test
@@ -42,4 +50,60 @@ public class DefaultRulesRuntimeContextTest {
         assertNull(cloned.getValue("lob"));
     }
 
+    @Test
+    public void testDispatchKey() {
+        final DefaultRulesRuntimeContext first = new DefaultRulesRuntimeContext();
+        first.setCurrentDate(new Date(1_000_000L));
+        first.setValue("lob", "UL");
+        final DefaultRulesRuntimeContext second = new DefaultRulesRuntimeContext();
+        second.setCurrentDate(new Date(2_000_000L));
+        second.setRequestDate(new Date());
+        second.setLob("UL");
+        DispatchKey key = first.getDispatchKey();
+        // The dates are not a part of the key
+        assertSame(key, second.getDispatchKey());
+
+        second.setLob("AL");
+        assertNotEquals(key, second.getDispatchKey());
+        second.setLob("UL");
+        assertSame(key, second.getDispatchKey());
+
+        assertNull(first.getValue("unknown"));
+        assertNull(first.getValue(null));
+        first.setValue("unknown", "value");
+    }
+
+    @Test
+    public void testMethodsOfDispatchersDependingOnDates() throws CloneNotSupportedException {
+        OpenMethodDispatcher dispatcher = mock(OpenMethodDispatcher.class);
+        when(dispatcher.isDispatchedWithoutDates()).thenReturn(false);
+        IOpenMethod method = mock(IOpenMethod.class);
+
+        final DefaultRulesRuntimeContext context = new DefaultRulesRuntimeContext();
+        context.setCurrentDate(new Date(1_000_000L));
+        assertNull(context.getMethodForOpenMethodDispatcher(dispatcher));
+        context.putMethodForOpenMethodDispatcher(dispatcher, method);
+        assertSame(method, context.getMethodForOpenMethodDispatcher(dispatcher));
+        // The method is cached in the context only
+        verify(dispatcher, never()).putDispatchedMethod(any(), any());
+
+        final DefaultRulesRuntimeContext cloned = (DefaultRulesRuntimeContext) context.clone();
+        assertNull(cloned.getMethodForOpenMethodDispatcher(dispatcher));
+
+        context.setCurrentDate(new Date(2_000_000L));
+        assertNull(context.getMethodForOpenMethodDispatcher(dispatcher));
+    }
+
+    @Test
+    public void testMethodsOfDispatchersNotDependingOnDates() {
+        OpenMethodDispatcher dispatcher = mock(OpenMethodDispatcher.class);
+        when(dispatcher.isDispatchedWithoutDates()).thenReturn(true);
+        IOpenMethod method = mock(IOpenMethod.class);
+
+        final DefaultRulesRuntimeContext context = new DefaultRulesRuntimeContext();
+        context.setLob("UL");
+        context.putMethodForOpenMethodDispatcher(dispatcher, method);
+        verify(dispatcher).putDispatchedMethod(context.getDispatchKey(), method);
+    }
+
 }
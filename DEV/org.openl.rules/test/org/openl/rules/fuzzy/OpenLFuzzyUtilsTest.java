@@ -0,0 +1,126 @@
+package org.openl.rules.fuzzy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenField;
+import org.openl.types.java.JavaOpenClass;
+
+public class OpenLFuzzyUtilsTest {
+
+    @Test
+    public void testTokensMapToOpenClassReadableFieldsRecursively() {
+        IOpenClass openClass = JavaOpenClass.getOpenClass(Policy.class);
+        FieldTokensIndex index = new FieldTokensIndex();
+        Map<Token, IOpenField[][]> tokens = OpenLFuzzyUtils
+                .tokensMapToOpenClassReadableFieldsRecursively(index, openClass, "policy", 1);
+
+        IOpenField[][] amount = tokens.get(new Token("amount", 1));
+        assertEquals(1, amount.length);
+        assertEquals("amount", amount[0][0].getName());
+
+        IOpenField[][] driverAge = tokens.get(new Token("driver age", 3));
+        assertEquals(1, driverAge.length);
+        assertEquals("driver", driverAge[0][0].getName());
+        assertEquals("age", driverAge[0][1].getName());
+
+        IOpenField[][] age = tokens.get(new Token("age", 2));
+        assertEquals(2, age.length);
+        assertEquals(Set.of("driver", "owner"), Set.of(age[0][0].getName(), age[1][0].getName()));
+
+        assertEquals(1, tokens.get(new Token("policy driver age", 3)).length);
+
+        assertSame(tokens,
+                OpenLFuzzyUtils.tokensMapToOpenClassReadableFieldsRecursively(index, openClass, "policy", 1));
+    }
+
+    @Test
+    public void testTokensAreNotCachedWithoutIndex() {
+        IOpenClass openClass = JavaOpenClass.getOpenClass(Policy.class);
+        Map<Token, IOpenField[][]> tokens = OpenLFuzzyUtils
+                .tokensMapToOpenClassReadableFieldsRecursively(null, openClass, "policy", 1);
+        Map<Token, IOpenField[][]> rebuilt = OpenLFuzzyUtils
+                .tokensMapToOpenClassReadableFieldsRecursively(null, openClass, "policy", 1);
+        assertNotSame(tokens, rebuilt);
+        assertEquals(tokens.keySet(), rebuilt.keySet());
+        assertNotSame(tokens,
+                OpenLFuzzyUtils.tokensMapToOpenClassReadableFieldsRecursively(new FieldTokensIndex(),
+                        openClass,
+                        "policy",
+                        1));
+    }
+
+    @Test
+    public void testIndexIsSharedBetweenThreads() throws Exception {
+        IOpenClass openClass = JavaOpenClass.getOpenClass(Policy.class);
+        FieldTokensIndex index = new FieldTokensIndex();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<Token, IOpenField[][]>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> OpenLFuzzyUtils
+                        .tokensMapToOpenClassWritableFieldsRecursively(index, openClass, "policy", 1)));
+            }
+            Map<Token, IOpenField[][]> tokens = futures.get(0).get();
+            for (Future<Map<Token, IOpenField[][]>> future : futures) {
+                assertSame(tokens, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static class Policy {
+        private int amount;
+        private Person driver;
+        private Person owner;
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public void setAmount(int amount) {
+            this.amount = amount;
+        }
+
+        public Person getDriver() {
+            return driver;
+        }
+
+        public void setDriver(Person driver) {
+            this.driver = driver;
+        }
+
+        public Person getOwner() {
+            return owner;
+        }
+
+        public void setOwner(Person owner) {
+            this.owner = owner;
+        }
+    }
+
+    public static class Person {
+        private int age;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+}
@@ -1,24 +1,36 @@
 package org.openl.rules.lang.xls;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.ZipFile;
 
 import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
 
 import org.openl.rules.lang.xls.load.SimpleWorkbookLoader;
+import org.openl.rules.table.xls.XlsSheetGridModel;
 import org.openl.source.IOpenSourceCodeModule;
 import org.openl.source.impl.PathSourceCodeModule;
 import org.openl.source.impl.URLSourceCodeModule;
@@ -62,4 +74,76 @@ public class XlsWorkbookSourceCodeModuleTest {
 
         assertEquals(4, tempFile.length(), "File should not cleared if there are no actual write operations");
     }
+
+    @Test
+    public void testOnlyModifiedSheetsAreWritten() throws IOException {
+        File tempFile = createWorkbook("First", "Second");
+        byte[] secondSheet = markNotModified(tempFile, "xl/worksheets/sheet2.xml");
+
+        XlsWorkbookSourceCodeModule module = new XlsWorkbookSourceCodeModule(
+                new PathSourceCodeModule(tempFile.toPath()));
+        new XlsSheetGridModel(new XlsSheetSourceCodeModule(0, module)).setCellValue(1, 0, "modified");
+        module.getWorkbook().createSheet("Third").createRow(0).createCell(0).setCellValue("third");
+        module.save();
+
+        assertArrayEquals(secondSheet, readEntry(tempFile, "xl/worksheets/sheet2.xml"));
+        try (Workbook workbook = WorkbookFactory.create(tempFile)) {
+            assertEquals("modified", workbook.getSheet("First").getRow(0).getCell(1).getStringCellValue());
+            assertEquals("second", workbook.getSheet("Second").getRow(0).getCell(0).getStringCellValue());
+            assertEquals("third", workbook.getSheet("Third").getRow(0).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    public void testClearedAndRenamedSheetsAreWritten() throws IOException {
+        File tempFile = createWorkbook("First", "Second", "Third");
+        byte[] thirdSheet = markNotModified(tempFile, "xl/worksheets/sheet3.xml");
+
+        XlsWorkbookSourceCodeModule module = new XlsWorkbookSourceCodeModule(
+                new PathSourceCodeModule(tempFile.toPath()));
+        new XlsSheetGridModel(new XlsSheetSourceCodeModule(0, module)).clearCell(0, 0);
+        new XlsSheetGridModel(new XlsSheetSourceCodeModule(1, module)).setCellValue(0, 0, "modified");
+        module.getWorkbook().setSheetName(1, "Renamed");
+        module.save();
+
+        assertArrayEquals(thirdSheet, readEntry(tempFile, "xl/worksheets/sheet3.xml"));
+        try (Workbook workbook = WorkbookFactory.create(tempFile)) {
+            assertNull(workbook.getSheet("First").getRow(0).getCell(0));
+            assertEquals("modified", workbook.getSheet("Renamed").getRow(0).getCell(0).getStringCellValue());
+            assertEquals("third", workbook.getSheet("Third").getRow(0).getCell(0).getStringCellValue());
+        }
+    }
+
+    private static File createWorkbook(String... sheetNames) throws IOException {
+        File tempFile = File.createTempFile("test", ".xlsx");
+        tempFile.deleteOnExit();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(tempFile)) {
+            for (String sheetName : sheetNames) {
+                workbook.createSheet(sheetName).createRow(0).createCell(0).setCellValue(sheetName.toLowerCase());
+            }
+            workbook.write(out);
+        }
+        return tempFile;
+    }
+
+    /**
+     * Adds a comment to the sheet xml. The comment is lost if the sheet is serialized again.
+     */
+    private static byte[] markNotModified(File file, String name) throws IOException {
+        try (FileSystem zip = FileSystems.newFileSystem(file.toPath())) {
+            Path sheet = zip.getPath(name);
+            String xml = Files.readString(sheet);
+            int i = xml.indexOf("?>") + 2;
+            byte[] content = (xml.substring(0, i) + "<!-- Not modified -->" + xml.substring(i))
+                    .getBytes(StandardCharsets.UTF_8);
+            Files.write(sheet, content);
+            return content;
+        }
+    }
+
+    private static byte[] readEntry(File file, String name) throws IOException {
+        try (ZipFile zipFile = new ZipFile(file)) {
+            return zipFile.getInputStream(zipFile.getEntry(name)).readAllBytes();
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package org.openl.rules.method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.TestUtils;
+
+public class RulesMetricsTest {
+
+    @BeforeEach
+    public void enable() {
+        RulesMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    public void disable() {
+        RulesMetrics.setEnabled(false);
+    }
+
+    @Test
+    public void testDecisionTableMetrics() {
+        Object instance = TestUtils.create("test/rules/dt/DTInvokeTest.xls");
+        TestUtils.invoke(instance, "getILFactor", "Comp", "PA");
+        TestUtils.invoke(instance, "getILFactor", "Comp", "PA");
+        TestUtils.invoke(instance, "getILFactor", "Coll", "PA");
+        TestUtils.invoke(instance, "getILFactor", "Any", "GH");
+
+        TableMetrics metrics = RulesMetrics.getTables()
+                .stream()
+                .filter(e -> "getILFactor".equals(e.getName()))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(metrics);
+        assertEquals(4, metrics.getInvocations());
+        assertEquals(0, metrics.getErrors());
+        assertTrue(metrics.getTotalTime() >= metrics.getMaxTime());
+        assertEquals(4, metrics.getLatency().values().stream().mapToLong(Long::longValue).sum());
+
+        Map<String, Long> ruleHits = metrics.getRuleHits();
+        assertNotNull(ruleHits);
+        assertEquals(3, ruleHits.size());
+        assertTrue(ruleHits.containsValue(2L));
+    }
+
+    @Test
+    public void testRuleHits() {
+        TableMetrics metrics = new TableMetrics(mock(ExecutableRulesMethod.class));
+        assertNull(metrics.getRuleHits());
+        metrics.recordRuleHits(new int[0], 3, i -> "R" + (i + 1));
+        metrics.recordRuleHits(new int[]{0, 2}, 3, i -> "R" + (i + 1));
+        metrics.recordRuleHits(new int[]{2}, 3, i -> "R" + (i + 1));
+        assertEquals(1, metrics.getNoMatches());
+        assertEquals(Map.of("R1", 1L, "R3", 2L), metrics.getRuleHits());
+
+        metrics.record(20_000, false);
+        metrics.record(2_000_000_000L, true);
+        assertEquals(2, metrics.getInvocations());
+        assertEquals(1, metrics.getErrors());
+        assertEquals(2000.0, metrics.getMaxTime());
+        assertEquals(1L, metrics.getLatency().get("50"));
+        assertEquals(1L, metrics.getLatency().get("+Inf"));
+    }
+}
@@ -0,0 +1,172 @@
+package org.openl.rules.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.TestUtils;
+import org.openl.rules.method.ExecutableRulesMethod;
+import org.openl.types.Invokable;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
+
+public class RulesProfilerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, ExecutableRulesMethod> tables = new HashMap<>();
+    private RulesProfiler profiler;
+
+    @BeforeEach
+    public void enable() {
+        assertTrue(RulesProfiler.enable(clock::get));
+        profiler = RulesProfiler.get();
+        assertNotNull(profiler);
+        assertTrue(Tracer.isEnabled());
+    }
+
+    @AfterEach
+    public void disable() {
+        RulesProfiler.setEnabled(false);
+        assertNull(RulesProfiler.get());
+        assertFalse(Tracer.isEnabled());
+    }
+
+    @Test
+    public void testSelfAndTotalTime() throws Exception {
+        call("Main", () -> {
+            elapse(20);
+            call("Rate", () -> elapse(30));
+            call("Rate", () -> call("Rate", () -> elapse(10)));
+        });
+
+        Map<String, ProfileEntry> entries = profiler.getEntries()
+                .stream()
+                .collect(Collectors.toMap(ProfileEntry::getName, Function.identity()));
+        ProfileEntry mainEntry = entries.get("Main");
+        ProfileEntry rateEntry = entries.get("Rate");
+        assertEquals(1, mainEntry.getCalls());
+        assertEquals(3, rateEntry.getCalls());
+        assertEquals(60, mainEntry.getTotalTime(), "Total time includes the called tables");
+        assertEquals(20, mainEntry.getSelfTime(), "Self time excludes the called tables");
+        assertEquals(40, rateEntry.getTotalTime(), "Recursive calls are counted once");
+        assertEquals(40, rateEntry.getSelfTime());
+        assertEquals("Rate", profiler.getEntries().get(0).getName());
+
+        StringBuilder collapsed = new StringBuilder();
+        profiler.writeCollapsedStacks(collapsed);
+        assertEquals("Main 20000\nMain;Rate 30000\nMain;Rate;Rate 10000\n", collapsed.toString());
+
+        StringBuilder report = new StringBuilder();
+        profiler.writeReport(report, 1);
+        assertEquals(2, report.toString().split("\n").length);
+        assertTrue(report.toString().contains("Rate"));
+
+        profiler.reset();
+        assertTrue(profiler.getEntries().isEmpty());
+    }
+
+    @Test
+    public void testSameNamesInDifferentModules() throws Exception {
+        call("Main", () -> {
+            call("Rate", () -> elapse(30));
+            call("Rate", "Other", () -> elapse(10));
+        });
+
+        List<ProfileEntry> rates = profiler.getEntries().stream().filter(e -> "Rate".equals(e.getName())).toList();
+        assertEquals(2, rates.size());
+        assertEquals(30, rates.get(0).getSelfTime());
+        assertNull(rates.get(0).getModuleName());
+        assertEquals(10, rates.get(1).getSelfTime());
+        assertEquals("Other", rates.get(1).getModuleName());
+
+        StringBuilder report = new StringBuilder();
+        profiler.writeReport(report, 3);
+        assertTrue(report.toString().contains("Rate (Other)"));
+    }
+
+    @Test
+    public void testWorksWithOtherTracers() {
+        List<String> traced = new ArrayList<>();
+        Tracer tracer = new Tracer() {
+            @Override
+            protected <T, E extends IRuntimeEnv, R> R doInvoke(Invokable<? super T, E> executor,
+                                                               T target,
+                                                               Object[] params,
+                                                               E env,
+                                                               Object source) {
+                traced.add(((ExecutableRulesMethod) source).getName());
+                return proceed(executor, target, params, env, source);
+            }
+        };
+        assertTrue(Tracer.register(tracer));
+        try {
+            call("Main", () -> call("Rate", () -> elapse(5)));
+        } finally {
+            Tracer.unregister(tracer);
+        }
+        assertEquals(List.of("Main", "Rate"), traced);
+        assertEquals(2, profiler.getEntries().size());
+        assertEquals(profiler, RulesProfiler.get());
+    }
+
+    @Test
+    public void testDecisionTable() {
+        Object instance = TestUtils.create("test/rules/dt/DTInvokeTest.xls");
+        TestUtils.invoke(instance, "getILFactor", "Comp", "PA");
+        TestUtils.invoke(instance, "getILFactor", "Coll", "PA");
+
+        ProfileEntry entry = profiler.getEntries()
+                .stream()
+                .filter(e -> "getILFactor".equals(e.getName()))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(entry);
+        assertEquals(2, entry.getCalls());
+    }
+
+    private void elapse(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Invokes the body as the rules table with the given name. The table is the same object for the same name and
+     * module.
+     */
+    private void call(String name, Runnable body) {
+        call(name, null, body);
+    }
+
+    private void call(String name, String module, Runnable body) {
+        ExecutableRulesMethod table = tables.computeIfAbsent(module + "|" + name, e -> {
+            ExecutableRulesMethod method = mock(ExecutableRulesMethod.class);
+            when(method.getName()).thenReturn(name);
+            when(method.getModuleName()).thenReturn(module);
+            return method;
+        });
+        Invokable<Object, IRuntimeEnv> executor = new Invokable<>() {
+            @Override
+            public <T> T invoke(Object target, Object[] params, IRuntimeEnv env) {
+                body.run();
+                return null;
+            }
+        };
+        Tracer.invoke(executor, null, new Object[0], null, table);
+    }
+}
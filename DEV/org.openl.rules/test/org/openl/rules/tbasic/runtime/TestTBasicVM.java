@@ -5,8 +5,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import org.junit.jupiter.api.Test;
 
+import org.openl.rules.tbasic.runtime.operations.GotoOperation;
 import org.openl.rules.tbasic.runtime.operations.NopOperation;
 import org.openl.rules.tbasic.runtime.operations.RuntimeOperation;
 import org.openl.types.impl.DelegatedDynamicObject;
@@ -38,4 +41,46 @@ public class TestTBasicVM {
 
         tvm.run(environment);
     }
+
+    @Test
+    public void testGoto() {
+        List<RuntimeOperation> operations = new ArrayList<>();
+        Map<String, RuntimeOperation> labels = new HashMap<>();
+
+        RuntimeOperation end = new ValueOperation(ReturnType.RETURN, "end");
+        operations.add(new GotoOperation("end"));
+        operations.add(new ValueOperation(ReturnType.RETURN, "skipped"));
+        operations.add(end);
+        labels.put("end", end);
+
+        TBasicVMDataContext context = new TBasicVMDataContext(operations, labels, true);
+        assertEquals(2, context.getJumpIndex(0));
+        assertEquals(-1, context.getJumpIndex(1));
+        assertEquals(2, context.getLabeledOperationIndex("end"));
+        assertEquals(-1, context.getLabeledOperationIndex("unknown"));
+
+        TBasicVM tvm = new TBasicVM(JavaOpenClass.STRING, context);
+        TBasicContextHolderEnv environment = new TBasicContextHolderEnv(new SimpleVM().getRuntimeEnv(),
+                null,
+                new Object[0],
+                tvm);
+
+        assertEquals("end", tvm.run(environment));
+        assertEquals("end", tvm.run(environment));
+    }
+
+    private static final class ValueOperation extends RuntimeOperation {
+        private final ReturnType returnType;
+        private final Object value;
+
+        private ValueOperation(ReturnType returnType, Object value) {
+            this.returnType = returnType;
+            this.value = value;
+        }
+
+        @Override
+        public Result execute(TBasicContextHolderEnv environment, Object param) {
+            return new Result(returnType, value);
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package org.openl.rules.validator.dt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.CompiledOpenClass;
+import org.openl.rules.dt.IDecisionTable;
+import org.openl.rules.dt.type.domains.IDomainAdaptor;
+import org.openl.rules.dt.validator.DecisionTableValidationResult;
+import org.openl.rules.dt.validator.DecisionTableValidator;
+import org.openl.rules.lang.xls.binding.XlsMetaInfo;
+import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.rules.runtime.RulesEngineFactory;
+
+public class IntervalValidationAlgorithmTest {
+
+    @Test
+    public void testValidatorTables() {
+        assertSameResultAsSolver("test/rules/Test_Validator_DT.xls");
+    }
+
+    @Test
+    public void testValidateDTTables() {
+        assertSameResultAsSolver("test/rules/validation/TestValidateDT.xls");
+    }
+
+    private static void assertSameResultAsSolver(String src) {
+        CompiledOpenClass compiledOpenClass = new RulesEngineFactory<>(src).getCompiledOpenClass();
+        TableSyntaxNode[] tableSyntaxNodes = ((XlsMetaInfo) compiledOpenClass.getOpenClassWithErrors().getMetaInfo())
+                .getXlsModuleNode()
+                .getXlsTableSyntaxNodes();
+
+        int validated = 0;
+        for (TableSyntaxNode tsn : tableSyntaxNodes) {
+            if (!(tsn.getMember() instanceof IDecisionTable)) {
+                continue;
+            }
+            IDecisionTable decisionTable = (IDecisionTable) tsn.getMember();
+            Map<String, IDomainAdaptor> domains;
+            try {
+                domains = DecisionTableValidator.gatherDomains(decisionTable);
+            } catch (Exception e) {
+                continue;
+            }
+            DecisionTableValidationResult result = DecisionTableValidator.validateTableByIntervals(decisionTable,
+                    domains);
+            if (result == null) {
+                continue;
+            }
+            DecisionTableValidationResult expected = DecisionTableValidator.validateTableBySolver(decisionTable,
+                    domains,
+                    compiledOpenClass.getOpenClassWithErrors());
+            String table = tsn.getDisplayName();
+            assertEquals(Arrays.toString(expected.getOverlappings()), Arrays.toString(result.getOverlappings()), table);
+            assertEquals(Arrays.toString(expected.getUncovered()), Arrays.toString(result.getUncovered()), table);
+            validated++;
+        }
+        assertTrue(validated > 0);
+    }
+}
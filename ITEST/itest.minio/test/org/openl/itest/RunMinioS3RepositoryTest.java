@@ -0,0 +1,86 @@
+package org.openl.itest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import io.minio.PutObjectArgs;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.repository.api.FileData;
+import org.openl.rules.repository.api.FileItem;
+import org.openl.rules.repository.aws.S3Repository;
+
+public class RunMinioS3RepositoryTest extends AbstractMinioTest {
+
+    @Test
+    public void transferByParts() throws Exception {
+        byte[] content = new byte[12 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+
+        try (var repository = createRepository()) {
+            FileData data = new FileData();
+            data.setName("deploy/big-file");
+            var saved = repository.save(data, new ByteArrayInputStream(content));
+            assertNotNull(saved);
+            assertEquals(content.length, saved.getSize());
+            verifyS3Repository();
+
+            assertArrayEquals(content, read(repository.read("deploy/big-file")));
+            assertArrayEquals(content, read(repository.readHistory("deploy/big-file", saved.getVersion())));
+
+            // The object size is unknown before uploading
+            data.setSize(FileData.UNDEFINED_SIZE);
+            repository.save(data, new ByteArrayInputStream(content, 0, 1024));
+            assertEquals(1024, read(repository.read("deploy/big-file")).length);
+            assertEquals(2, repository.listHistory("deploy/big-file").size());
+        }
+    }
+
+    @Test
+    public void listingCache() throws Exception {
+        try (var repository = createRepository()) {
+            FileData data = new FileData();
+            data.setName("deploy/project1");
+            repository.save(data, new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+            assertEquals(1, repository.list("deploy/").size());
+
+            // Modify the bucket bypassing the repository
+            minioClient.putObject(PutObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object("deploy/project2")
+                    .stream(new ByteArrayInputStream(new byte[] { 4, 5 }), 2, -1)
+                    .build());
+            assertEquals(1, repository.list("deploy/").size(), "The listing must be cached");
+
+            data.setName("deploy/project3");
+            repository.save(data, new ByteArrayInputStream(new byte[] { 6 }));
+            assertEquals(3, repository.list("deploy/").size(), "The listing must be invalidated after modification");
+        }
+    }
+
+    private S3Repository createRepository() {
+        var repository = new S3Repository();
+        repository.setServiceEndpoint(config.get("production-repository.service-endpoint"));
+        repository.setRegionName(config.get("production-repository.region-name"));
+        repository.setBucketName(bucketName);
+        repository.setAccessKey(config.get("production-repository.access-key"));
+        repository.setSecretKey(config.get("production-repository.secret-key"));
+        repository.setPartSize(5);
+        repository.setConcurrency(3);
+        repository.setListingCacheTtl(60);
+        repository.initialize();
+        return repository;
+    }
+
+    private static byte[] read(FileItem item) throws Exception {
+        assertNotNull(item);
+        try (InputStream stream = item.getStream()) {
+            return stream.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package org.openl.rules.diff.xls2;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Finds the different cells of two grids of the same width. The rows are compared by their fingerprints: equal rows
+ * are aligned with the patience diff, then the rows left between the aligned ones are paired with each other and only
+ * the cells of the paired rows are compared. The rows which are not paired are treated as deleted or added.
+ * <p>
+ * The grids are given as arrays of the cell values, so the comparison does not touch the source tables and can be
+ * executed in any thread.
+ */
+final class GridRowsDiff {
+
+    // Regions without unique rows up to this size are aligned with LCS
+    private static final int MAX_LCS_SIZE = 250_000;
+    // Not aligned rows of regions up to this size are paired by the number of equal cells, else by the position
+    private static final int MAX_SIMILARITY_SIZE = 10_000;
+
+    private final Object[][] rows1;
+    private final Object[][] rows2;
+    private final int[] ids1;
+    private final int[] ids2;
+    // The index of the equal row from rows2 for each row from rows1 or -1
+    private final int[] matches;
+
+    private final List<int[]> diff1 = new ArrayList<>();
+    private final List<int[]> diff2 = new ArrayList<>();
+
+    private GridRowsDiff(Object[][] rows1, Object[][] rows2) {
+        this.rows1 = rows1;
+        this.rows2 = rows2;
+        Map<List<Object>, Integer> fingerprints = new HashMap<>();
+        this.ids1 = toIds(rows1, fingerprints);
+        this.ids2 = toIds(rows2, fingerprints);
+        this.matches = new int[rows1.length];
+        Arrays.fill(matches, -1);
+    }
+
+    /**
+     * Compares two grids of the same width.
+     *
+     * @param rows1 the cell values of the first grid by rows
+     * @param rows2 the cell values of the second grid by rows
+     * @return the comparison result
+     */
+    static GridRowsDiff compare(Object[][] rows1, Object[][] rows2) {
+        GridRowsDiff diff = new GridRowsDiff(rows1, rows2);
+        diff.alignEqualRows();
+        diff.compareNotAlignedRows();
+        return diff;
+    }
+
+    /**
+     * @return the {row, column} coordinates of the different cells of the first grid
+     */
+    List<int[]> getDiff1() {
+        return diff1;
+    }
+
+    /**
+     * @return the {row, column} coordinates of the different cells of the second grid
+     */
+    List<int[]> getDiff2() {
+        return diff2;
+    }
+
+    private static int[] toIds(Object[][] rows, Map<List<Object>, Integer> fingerprints) {
+        int[] ids = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            Integer id = fingerprints.putIfAbsent(Arrays.asList(rows[i]), fingerprints.size());
+            ids[i] = id != null ? id : fingerprints.size() - 1;
+        }
+        return ids;
+    }
+
+    private void alignEqualRows() {
+        // Regions are processed with an explicit stack, because the recursion can be as deep as the number of rows
+        Deque<int[]> regions = new ArrayDeque<>();
+        regions.push(new int[] { 0, ids1.length, 0, ids2.length });
+        while (!regions.isEmpty()) {
+            int[] region = regions.pop();
+            int start1 = region[0];
+            int end1 = region[1];
+            int start2 = region[2];
+            int end2 = region[3];
+            while (start1 < end1 && start2 < end2 && ids1[start1] == ids2[start2]) {
+                matches[start1++] = start2++;
+            }
+            while (start1 < end1 && start2 < end2 && ids1[end1 - 1] == ids2[end2 - 1]) {
+                matches[--end1] = --end2;
+            }
+            if (start1 == end1 || start2 == end2) {
+                continue;
+            }
+            int[][] anchors = findUniqueCommonRows(start1, end1, start2, end2);
+            if (anchors.length == 0) {
+                alignWithLcs(start1, end1, start2, end2);
+                continue;
+            }
+            int from1 = start1;
+            int from2 = start2;
+            for (int[] anchor : anchors) {
+                matches[anchor[0]] = anchor[1];
+                regions.push(new int[] { from1, anchor[0], from2, anchor[1] });
+                from1 = anchor[0] + 1;
+                from2 = anchor[1] + 1;
+            }
+            regions.push(new int[] { from1, end1, from2, end2 });
+        }
+    }
+
+    /**
+     * Finds the longest increasing sequence of the rows which occur exactly once in both regions.
+     */
+    private int[][] findUniqueCommonRows(int start1, int end1, int start2, int end2) {
+        // {count in region 1, index in region 1, count in region 2, index in region 2}
+        Map<Integer, int[]> occurrences = new HashMap<>();
+        for (int i = start1; i < end1; i++) {
+            int[] occurrence = occurrences.computeIfAbsent(ids1[i], e -> new int[4]);
+            occurrence[0]++;
+            occurrence[1] = i;
+        }
+        for (int i = start2; i < end2; i++) {
+            int[] occurrence = occurrences.get(ids2[i]);
+            if (occurrence != null) {
+                occurrence[2]++;
+                occurrence[3] = i;
+            }
+        }
+        List<int[]> unique = new ArrayList<>();
+        for (int i = start1; i < end1; i++) {
+            int[] occurrence = occurrences.get(ids1[i]);
+            if (occurrence[0] == 1 && occurrence[2] == 1) {
+                unique.add(new int[] { i, occurrence[3] });
+            }
+        }
+        if (unique.isEmpty()) {
+            return new int[0][];
+        }
+        // Patience sorting by the index in region 2
+        int n = unique.size();
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int value = unique.get(i)[1];
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (unique.get(tails[mid])[1] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        int[][] anchors = new int[length][];
+        for (int i = tails[length - 1], k = length - 1; k >= 0; i = previous[i], k--) {
+            anchors[k] = unique.get(i);
+        }
+        return anchors;
+    }
+
+    private void alignWithLcs(int start1, int end1, int start2, int end2) {
+        int n = end1 - start1;
+        int m = end2 - start2;
+        if ((long) n * m > MAX_LCS_SIZE) {
+            return;
+        }
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                if (ids1[start1 + i] == ids2[start2 + j]) {
+                    lcs[i][j] = lcs[i + 1][j + 1] + 1;
+                } else {
+                    lcs[i][j] = Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+                }
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (ids1[start1 + i] == ids2[start2 + j]) {
+                matches[start1 + i++] = start2 + j++;
+            } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+
+    private void compareNotAlignedRows() {
+        int from1 = 0;
+        int from2 = 0;
+        for (int i = 0; i <= rows1.length; i++) {
+            if (i == rows1.length || matches[i] >= 0) {
+                int to2 = i == rows1.length ? rows2.length : matches[i];
+                if (from1 < i || from2 < to2) {
+                    pairRows(from1, i, from2, to2);
+                }
+                from1 = i + 1;
+                from2 = to2 + 1;
+            }
+        }
+    }
+
+    /**
+     * Pairs the not aligned rows between two aligned ones. The rows keep their order.
+     */
+    private void pairRows(int start1, int end1, int start2, int end2) {
+        int n = end1 - start1;
+        int m = end2 - start2;
+        if (n == m || n == 0 || m == 0 || (long) n * m > MAX_SIMILARITY_SIZE) {
+            int paired = Math.min(n, m);
+            for (int k = 0; k < paired; k++) {
+                compareCells(start1 + k, start2 + k);
+            }
+            deleted(start1 + paired, end1);
+            added(start2 + paired, end2);
+            return;
+        }
+        // Maximize the number of equal cells of the paired rows
+        int[][] similarity = new int[n][m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                similarity[i][j] = countEqualCells(rows1[start1 + i], rows2[start2 + j]);
+            }
+        }
+        int[][] best = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                int pair = similarity[i][j] > 0 ? best[i + 1][j + 1] + similarity[i][j] : 0;
+                best[i][j] = Math.max(pair, Math.max(best[i + 1][j], best[i][j + 1]));
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (similarity[i][j] > 0 && best[i][j] == best[i + 1][j + 1] + similarity[i][j]) {
+                compareCells(start1 + i++, start2 + j++);
+            } else if (best[i][j] == best[i + 1][j]) {
+                deleted(start1 + i, start1 + i + 1);
+                i++;
+            } else {
+                added(start2 + j, start2 + j + 1);
+                j++;
+            }
+        }
+        deleted(start1 + i, end1);
+        added(start2 + j, end2);
+    }
+
+    private static int countEqualCells(Object[] row1, Object[] row2) {
+        int count = 0;
+        for (int x = 0; x < row1.length; x++) {
+            if (Objects.equals(row1[x], row2[x])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void compareCells(int row1, int row2) {
+        Object[] values1 = rows1[row1];
+        Object[] values2 = rows2[row2];
+        for (int x = 0; x < values1.length; x++) {
+            if (!Objects.equals(values1[x], values2[x])) {
+                diff1.add(new int[] { row1, x });
+                diff2.add(new int[] { row2, x });
+            }
+        }
+    }
+
+    private void deleted(int from, int to) {
+        for (int row = from; row < to; row++) {
+            for (int x = 0; x < rows1[row].length; x++) {
+                diff1.add(new int[] { row, x });
+            }
+        }
+    }
+
+    private void added(int from, int to) {
+        for (int row = from; row < to; row++) {
+            for (int x = 0; x < rows2[row].length; x++) {
+                diff2.add(new int[] { row, x });
+            }
+        }
+    }
+}
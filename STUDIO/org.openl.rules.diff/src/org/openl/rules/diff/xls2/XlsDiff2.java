@@ -3,13 +3,10 @@ package org.openl.rules.diff.xls2;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -35,7 +32,7 @@ import org.openl.xls.Parser;
 /**
  * Find difference between two XLS files. It compares per Table.
  * <p>
- * Incomplete. Need AxB vs CxD implementation. Need to be optimal.
+ * Incomplete. Need AxB vs CxD implementation.
  *
  * @author Aleh Bykhavets
  */
@@ -53,10 +50,19 @@ public class XlsDiff2 {
     private static final String GUESS_MAY_BE_SAME = "4-mayBeSame";
 
     private final Map<String, List<DiffPair>> diffGuess;
+    private final boolean parallel;
 
     public XlsDiff2() {
+        this(false);
+    }
+
+    /**
+     * @param parallel if {@code true} then the grids of the matched tables are compared concurrently
+     */
+    public XlsDiff2(boolean parallel) {
         // TreeMap -- Key as a weight
         diffGuess = new TreeMap<>();
+        this.parallel = parallel;
     }
 
     private List<XlsTable> load(IOpenSourceCodeModule src) {
@@ -182,11 +188,13 @@ public class XlsDiff2 {
         builder.setProjectionDiffer(new XlsProjectionDiffer());
 
         // 1. Pairs v1:v2
-        for (String guess : diffGuess.keySet()) {
-            for (DiffPair pair : diffGuess.get(guess)) {
-                checkGrid(pair);
-                builder.add(pair);
-            }
+        List<DiffPair> pairs = new ArrayList<>();
+        for (List<DiffPair> guessPairs : diffGuess.values()) {
+            pairs.addAll(guessPairs);
+        }
+        checkGrids(pairs);
+        for (DiffPair pair : pairs) {
+            builder.add(pair);
         }
 
         // 2. Lonely tables
@@ -202,179 +210,91 @@ public class XlsDiff2 {
         return builder.compare();
     }
 
-    private void checkGrid(DiffPair pair) {
-        IGridTable grid1 = pair.getTable1().getTable().getGridTable();
-        IGridTable grid2 = pair.getTable2().getTable().getGridTable();
-
-        List<ICell> diff1 = new ArrayList<>();
-        List<ICell> diff2 = new ArrayList<>();
-
-        if (grid1.getWidth() == grid2.getWidth() || grid1.getHeight() == grid2.getHeight()) {
-            if (grid1.getWidth() == grid2.getWidth()) {
-                compareRows(grid1, grid2, diff1, diff2);
-            } else {
-                compareCols(grid1, grid2, diff1, diff2);
-            }
+    private void checkGrids(List<DiffPair> pairs) {
+        if (parallel && pairs.size() > 1) {
+            // The cells are read and set in the current thread, only the comparison of the values is parallel
+            List<GridComparison> comparisons = pairs.stream().map(GridComparison::new).collect(Collectors.toList());
+            comparisons.parallelStream().forEach(GridComparison::compare);
+            comparisons.forEach(GridComparison::apply);
         } else {
-            // Diff Size
-            // TODO Implement AxB vs CxD algorithm
-        }
-
-        if (!diff1.isEmpty()) {
-            pair.setDiffCells1(diff1);
-        }
-        if (!diff2.isEmpty()) {
-            pair.setDiffCells2(diff2);
+            for (DiffPair pair : pairs) {
+                GridComparison comparison = new GridComparison(pair);
+                comparison.compare();
+                comparison.apply();
+            }
         }
     }
 
-    private void compareRows(IGridTable grid1, IGridTable grid2, List<ICell> diff1, List<ICell> diff2) {
-        ArrayList<Integer> grid1MatchedRows = new ArrayList<>();
-        // For each row from grid1, the value of the corresponding row from grid2 (if found)
-        // and the difference between them are stored.
-        Map<Integer, RowDiff> grid1RowsState = new HashMap<>();
-        // This index is needed so that for each n+1 row from grid1, the corresponding row from grid2 is not lower
-        // than the corresponding row from grid2, for row n from grid1.
-        int grid2LastMatched = 0;
-        // Below we fill grid1RowsState for those rows from grid1 that have a complete match with the rows from grid2
-        // if there are no such rows, then the index is set to -1.
-        int grid1Height = grid1.getHeight();
-        int grid2Height = grid2.getHeight();
-        for (int grid1Row = 0; grid1Row < grid1Height; grid1Row++) {
-            boolean followingRow = true;
-            for (int grid2Row = grid2LastMatched; grid2Row < grid2Height; grid2Row++) {
-                List<ICell> diffs = getDiffs(grid1, grid2, grid1Row, grid2Row);
-                if (diffs.size() == 0) {
-                    if (!followingRow && grid1Row != grid2Row && grid1Row < grid1Height + 1) {
-                        // Check if the next line matches the one found.
-                        // For cases when several identical lines can go in a row.
-                        List<ICell> nextRowDiffs = getDiffs(grid1, grid2, grid1Row + 1, grid2Row);
-                        if (nextRowDiffs.size() == 0) {
-                            break;
-                        }
-                    }
-                    grid1MatchedRows.add(grid1Row);
-                    grid1RowsState.put(grid1Row, new RowDiff().setRowIndex(grid2Row));
-                    grid2LastMatched = grid2Row + 1;
-                    break;
-                } else if (grid1Height == grid2Height) {
-                    grid1RowsState.put(grid1Row, new RowDiff().setRowIndex(grid2Row).setDiff(diffs));
-                    grid2LastMatched = grid2Row + 1;
-                    break;
-                }
-                followingRow = false;
-            }
-            if (grid1RowsState.get(grid1Row) == null) {
-                grid1RowsState.put(grid1Row, new RowDiff().setRowIndex(-1));
-            }
-        }
-        for (Integer grid1row : grid1RowsState.keySet()) {
-            if (grid1RowsState.get(grid1row).getRowIndex() != -1) {
-                continue;
-            }
-            // From and to, the value between which the most suitable string should be found,
-            // the range must be between the previous and next found match against grid2.
-            int from = grid1row > 1 ? grid1RowsState.get(grid1row - 1).getRowIndex() + 1 : grid1row;
-            Optional<Integer> nextMatched = grid1MatchedRows.stream().filter(i -> i > grid1row).findFirst();
-            int to = nextMatched.map(i -> grid1RowsState.get(i).getRowIndex()).orElseGet(grid2::getHeight);
-            List<RowDiff> allRowDiffs = new ArrayList<>();
-            if (from < to) {
-                for (; from < to; from++) {
-                    allRowDiffs.add(new RowDiff().setRowIndex(from).setDiff(getDiffs(grid1, grid2, grid1row, from)));
-                }
-                Optional<RowDiff> minDiff = allRowDiffs.stream().min(Comparator.comparingInt(o -> o.getDiff().size()));
-                RowDiff rowDiff = minDiff.orElse(new RowDiff());
-                grid1RowsState.get(grid1row).setRowIndex(rowDiff.getRowIndex()).setDiff(rowDiff.getDiff());
+    /**
+     * Comparison of the grids of a pair of tables. The grids are compared by rows if they have the same width, else by
+     * columns if they have the same height.
+     */
+    private static final class GridComparison {
+        private final DiffPair pair;
+        private final IGridTable grid1;
+        private final IGridTable grid2;
+        private final boolean byColumns;
+        private final Object[][] rows1;
+        private final Object[][] rows2;
+        private GridRowsDiff diff;
+
+        private GridComparison(DiffPair pair) {
+            this.pair = pair;
+            this.grid1 = pair.getTable1().getTable().getGridTable();
+            this.grid2 = pair.getTable2().getTable().getGridTable();
+            if (grid1.getWidth() == grid2.getWidth() || grid1.getHeight() == grid2.getHeight()) {
+                byColumns = grid1.getWidth() != grid2.getWidth();
+                rows1 = readRows(grid1, byColumns);
+                rows2 = readRows(grid2, byColumns);
             } else {
-                // If there are no rows in the range, then we assume that the row was deleted.
-                for (int grid1Col = 0; grid1Col < grid1.getWidth(); grid1Col++) {
-                    diff1.add(grid1.getCell(grid1Col, grid1row));
-                }
+                // Diff Size
+                // TODO Implement AxB vs CxD algorithm
+                byColumns = false;
+                rows1 = null;
+                rows2 = null;
             }
         }
-        diff1.addAll(
-                grid1RowsState.values().stream().map(RowDiff::getDiff).flatMap(List::stream).collect(Collectors.toList()));
-        // For grid2 we compare the rows found for grid1, if there are no such rows, we assume that the row was added.
-        for (int grid2Row = 0; grid2Row < grid2Height; grid2Row++) {
-            int finalGrid2Row = grid2Row;
-            Optional<Integer> matchedKey = grid1RowsState.keySet()
-                    .stream()
-                    .filter(key -> grid1RowsState.get(key).getRowIndex() == finalGrid2Row)
-                    .findFirst();
-            if (matchedKey.isPresent()) {
-                int rowIndex = matchedKey.get();
-                if (!grid1RowsState.get(rowIndex).getDiff().isEmpty()) {
-                    diff2.addAll(getDiffs(grid2, grid1, grid2Row, rowIndex));
-                }
-            } else {
-                for (int grid2Col = 0; grid2Col < grid2.getWidth(); grid2Col++) {
-                    diff2.add(grid2.getCell(grid2Col, grid2Row));
+
+        private static Object[][] readRows(IGridTable grid, boolean byColumns) {
+            int height = byColumns ? grid.getWidth() : grid.getHeight();
+            int width = byColumns ? grid.getHeight() : grid.getWidth();
+            Object[][] rows = new Object[height][width];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    ICell cell = byColumns ? grid.getCell(y, x) : grid.getCell(x, y);
+                    // TODO compare value, comment, value and so on...
+                    rows[y][x] = cell.getObjectValue();
                 }
             }
+            return rows;
         }
-    }
 
-    private List<ICell> getDiffs(IGridTable grid1, IGridTable grid2, int y1, int y2) {
-        List<ICell> diff = new ArrayList<>();
-        for (int x = 0; x < grid1.getWidth(); x++) {
-            ICell c1 = grid1.getCell(x, y1);
-            ICell c2 = grid2.getCell(x, y2);
-            if (notEquals(c1, c2)) {
-                diff.add(c1);
+        private void compare() {
+            if (rows1 != null) {
+                diff = GridRowsDiff.compare(rows1, rows2);
             }
         }
-        return diff;
-    }
-
-    private static class RowDiff {
-
-        private int rowIndex;
-        private List<ICell> diff = new ArrayList<>();
-
-        public int getRowIndex() {
-            return rowIndex;
-        }
-
-        public List<ICell> getDiff() {
-            return diff;
-        }
-
-        public RowDiff setRowIndex(int rowIndex) {
-            this.rowIndex = rowIndex;
-            return this;
-        }
 
-        public RowDiff setDiff(List<ICell> diff) {
-            this.diff = diff;
-            return this;
-        }
-    }
-
-    private void compareCols(IGridTable grid1, IGridTable grid2, List<ICell> diff1, List<ICell> diff2) {
-        // compareRows is hard enough :)
-        // let reuse it
-        List<ICell> iDiff1 = new ArrayList<>();
-        List<ICell> iDiff2 = new ArrayList<>();
-        compareRows(grid1.transpose(), grid2.transpose(), iDiff1, iDiff2);
-
-        // fix diff -- invert coordinates
-        for (ICell c : iDiff1) {
-            diff1.add(grid1.getCell(c.getRow(), c.getColumn()));
-        }
-        for (ICell c : iDiff2) {
-            diff2.add(grid2.getCell(c.getRow(), c.getColumn()));
+        private void apply() {
+            if (diff == null) {
+                return;
+            }
+            List<ICell> diff1 = toCells(grid1, diff.getDiff1());
+            List<ICell> diff2 = toCells(grid2, diff.getDiff2());
+            if (!diff1.isEmpty()) {
+                pair.setDiffCells1(diff1);
+            }
+            if (!diff2.isEmpty()) {
+                pair.setDiffCells2(diff2);
+            }
         }
-    }
 
-    private boolean notEquals(ICell c1, ICell c2) {
-        Object o1 = c1.getObjectValue();
-        Object o2 = c2.getObjectValue();
-
-        // TODO compare value, comment, value and so on...
-        if (o1 == null) {
-            return o2 != null;
-        } else {
-            return !o1.equals(o2);
+        private List<ICell> toCells(IGridTable grid, List<int[]> coordinates) {
+            List<ICell> cells = new ArrayList<>(coordinates.size());
+            for (int[] c : coordinates) {
+                cells.add(byColumns ? grid.getCell(c[0], c[1]) : grid.getCell(c[1], c[0]));
+            }
+            return cells;
         }
     }
 }
@@ -0,0 +1,81 @@
+package org.openl.rules.diff.xls2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class GridRowsDiffTest {
+
+    @Test
+    public void testEqualGrids() {
+        GridRowsDiff diff = GridRowsDiff.compare(rows("a1", "b2", "c3"), rows("a1", "b2", "c3"));
+        assertTrue(diff.getDiff1().isEmpty());
+        assertTrue(diff.getDiff2().isEmpty());
+    }
+
+    @Test
+    public void testModifiedCell() {
+        GridRowsDiff diff = GridRowsDiff.compare(rows("a1", "b2", "c3"), rows("a1", "bX", "c3"));
+        assertEquals(Set.of("1:1"), toSet(diff.getDiff1()));
+        assertEquals(Set.of("1:1"), toSet(diff.getDiff2()));
+    }
+
+    @Test
+    public void testAddedAndDeletedRows() {
+        GridRowsDiff diff = GridRowsDiff.compare(rows("a1", "b2", "c3", "d4"), rows("x0", "a1", "c3", "d4", "e5"));
+        assertEquals(Set.of("1:0", "1:1"), toSet(diff.getDiff1()));
+        assertEquals(Set.of("0:0", "0:1", "4:0", "4:1"), toSet(diff.getDiff2()));
+    }
+
+    @Test
+    public void testDuplicatedRows() {
+        GridRowsDiff diff = GridRowsDiff.compare(rows("a1", "a1", "b2", "a1"), rows("a1", "b2", "a1", "a1"));
+        assertEquals(Set.of("1:0", "1:1"), toSet(diff.getDiff1()));
+        assertEquals(Set.of("2:0", "2:1"), toSet(diff.getDiff2()));
+    }
+
+    @Test
+    public void testRowsArePairedBySimilarity() {
+        GridRowsDiff diff = GridRowsDiff.compare(rows("a1", "b2", "z9"), rows("a1", "xy", "b3", "z9"));
+        assertEquals(Set.of("1:1"), toSet(diff.getDiff1()));
+        assertEquals(Set.of("1:0", "1:1", "2:1"), toSet(diff.getDiff2()));
+    }
+
+    @Test
+    public void testBigGrids() {
+        int size = 100_000;
+        Object[][] rows1 = new Object[size][];
+        Object[][] rows2 = new Object[size + 1][];
+        for (int i = 0; i < size; i++) {
+            rows1[i] = new Object[] { i, "rate", i % 7 };
+        }
+        for (int i = 0, j = 0; i < size; i++) {
+            if (i == 500) {
+                rows2[j++] = new Object[] { -1, "added", 0 };
+            }
+            rows2[j++] = i == 70_000 ? new Object[] { i, "changed", i % 7 } : rows1[i].clone();
+        }
+        GridRowsDiff diff = GridRowsDiff.compare(rows1, rows2);
+        assertEquals(Set.of("70000:1"), toSet(diff.getDiff1()));
+        assertEquals(Set.of("500:0", "500:1", "500:2", "70001:1"), toSet(diff.getDiff2()));
+    }
+
+    private static Object[][] rows(String... rows) {
+        List<Object[]> result = new ArrayList<>();
+        for (String row : rows) {
+            result.add(row.chars().mapToObj(c -> String.valueOf((char) c)).toArray());
+        }
+        return result.toArray(new Object[0][]);
+    }
+
+    private static Set<String> toSet(List<int[]> coordinates) {
+        return coordinates.stream().map(c -> c[0] + ":" + c[1]).collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -83,6 +83,10 @@ public class ExtendedStdDateFormat extends StdDateFormat {
         return df.format(date, toAppendTo, fieldPosition);
     }
 
+    public String getPattern() {
+        return pattern;
+    }
+
     @Override
     public StdDateFormat clone() {
         return new ExtendedStdDateFormat(pattern, _timezone, _locale, _lenient, isColonIncludedInTimeZone());
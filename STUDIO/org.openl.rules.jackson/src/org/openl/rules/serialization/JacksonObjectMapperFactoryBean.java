@@ -1,13 +1,16 @@
 package org.openl.rules.serialization;
 
 import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import jakarta.xml.bind.annotation.XmlSeeAlso;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -98,28 +101,80 @@ public class JacksonObjectMapperFactoryBean implements JacksonObjectMapperFactor
                 parentTypeClass = x;
             }
         }
-        String className = classFor.getName() + "$EnhancedMixInClassWithSubTypes$" + incrementer.getAndIncrement();
-        ClassWriter classWriter = new ClassWriter(0);
         String typingPropertyName = StringUtils.isNotBlank(
                 getTypingPropertyName()) ? getTypingPropertyName() : JsonTypeInfo.Id.CLASS.getDefaultPropertyName();
         if (DefaultTypingMode.DISABLED.equals(getDefaultTypingMode())) {
             typingPropertyName = null;
         }
-        ClassVisitor classVisitor = new SubtypeMixInClassWriter(classWriter,
-                originalClass,
-                parentTypeClass,
-                subTypeClasses.toArray(new Class<?>[0]),
-                Boolean.TRUE.equals(isSimpleClassNameAsTypingPropertyValue()) && JsonTypeInfo.Id.CLASS
-                        .equals(getJsonTypeInfoId()) ? JsonTypeInfo.Id.NAME : getJsonTypeInfoId(),
-                typingPropertyName);
-        InterfaceTransformer transformer = new InterfaceTransformer(originalClass, className);
-        transformer.accept(classVisitor);
-        classWriter.visitEnd();
-        try {
-            return ClassLoaderUtils.defineClass(className, classWriter.toByteArray(), classLoader);
-        } catch (Exception e1) {
-            throw new IllegalStateException(e1);
+        JsonTypeInfo.Id typeInfoId = Boolean.TRUE.equals(isSimpleClassNameAsTypingPropertyValue()) && JsonTypeInfo.Id.CLASS
+                .equals(getJsonTypeInfoId()) ? JsonTypeInfo.Id.NAME : getJsonTypeInfoId();
+        String key = "subtypes:" + classFor.getName() + "|" + originalClass.getName() + "|" + (parentTypeClass != null
+                ? parentTypeClass.getName()
+                : null) + "|" + subTypeClasses.stream()
+                .map(Class::getName)
+                .sorted()
+                .collect(Collectors.joining(",")) + "|" + typeInfoId + "|" + typingPropertyName;
+        Class<?> mixInOriginalClass = originalClass;
+        Class<?> mixInParentTypeClass = parentTypeClass;
+        String mixInTypingPropertyName = typingPropertyName;
+        return MixInClassCache.get(classLoader, key, () -> {
+            String className = classFor.getName() + "$EnhancedMixInClassWithSubTypes$" + incrementer.getAndIncrement();
+            ClassWriter classWriter = new ClassWriter(0);
+            ClassVisitor classVisitor = new SubtypeMixInClassWriter(classWriter,
+                    mixInOriginalClass,
+                    mixInParentTypeClass,
+                    subTypeClasses.toArray(new Class<?>[0]),
+                    typeInfoId,
+                    mixInTypingPropertyName);
+            InterfaceTransformer transformer = new InterfaceTransformer(mixInOriginalClass, className);
+            transformer.accept(classVisitor);
+            classWriter.visitEnd();
+            try {
+                return ClassLoaderUtils.defineClass(className, classWriter.toByteArray(), classLoader);
+            } catch (Exception e1) {
+                throw new IllegalStateException(e1);
+            }
+        });
+    }
+
+    /**
+     * Describes all settings the object mapper is configured with. The factories with the same fingerprint and the same
+     * class loader create equivalent object mappers.
+     */
+    String fingerprint() {
+        return String.join("|",
+                String.valueOf(getDefaultTypingMode()),
+                describe(getDefaultDateFormat()),
+                String.valueOf(getSerializationInclusion()),
+                getOverrideTypes() != null ? String.join(",", new TreeSet<>(getOverrideTypes())) : "null",
+                getOverrideClasses() != null ? getOverrideClasses().stream()
+                        .map(Class::getName)
+                        .sorted()
+                        .collect(Collectors.joining(",")) : "null",
+                String.valueOf(isFailOnUnknownProperties()),
+                String.valueOf(isFailOnEmptyBeans()),
+                String.valueOf(isPolymorphicTypeValidation()),
+                String.valueOf(isCaseInsensitiveProperties()),
+                String.valueOf(isSimpleClassNameAsTypingPropertyValue()),
+                String.valueOf(getJsonTypeInfoId()),
+                String.valueOf(getTypingPropertyName()));
+    }
+
+    private static String describe(DateFormat dateFormat) {
+        if (dateFormat == null) {
+            return "null";
+        }
+        TimeZone timeZone = dateFormat.getTimeZone();
+        String zone = timeZone != null ? timeZone.getID() : "null";
+        if (dateFormat instanceof ExtendedStdDateFormat) {
+            return "extended:" + ((ExtendedStdDateFormat) dateFormat).getPattern() + ":" + zone;
+        } else if (dateFormat.getClass() == StdDateFormat.class) {
+            return "std:" + zone;
+        } else if (dateFormat.getClass() == SimpleDateFormat.class) {
+            return "simple:" + ((SimpleDateFormat) dateFormat).toPattern() + ":" + zone;
         }
+        // Unknown implementations are never treated as equal
+        return dateFormat.getClass().getName() + "@" + System.identityHashCode(dateFormat);
     }
 
     public ObjectMapper createJacksonObjectMapper() throws ClassNotFoundException {
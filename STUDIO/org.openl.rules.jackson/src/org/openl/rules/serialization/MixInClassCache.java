@@ -0,0 +1,38 @@
+package org.openl.rules.serialization;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the generated mix-in classes per class loader, so the object mappers created for the same rules reuse them
+ * instead of defining new classes every time. A generated mix-in class depends only on the key it's stored with. Both
+ * class loaders and generated classes are weakly referenced to not prevent unloading of the rules.
+ */
+final class MixInClassCache {
+
+    private static final Map<ClassLoader, Map<String, WeakReference<Class<?>>>> CACHE = new WeakHashMap<>();
+
+    private MixInClassCache() {
+    }
+
+    /**
+     * @param classLoader the class loader the mix-in class is defined in
+     * @param key the description of the generated class, it must not contain references to the classes
+     * @param generator defines a new mix-in class in the class loader
+     */
+    static Class<?> get(ClassLoader classLoader, String key, Supplier<Class<?>> generator) {
+        synchronized (CACHE) {
+            Map<String, WeakReference<Class<?>>> classes = CACHE.computeIfAbsent(classLoader, k -> new HashMap<>());
+            WeakReference<Class<?>> reference = classes.get(key);
+            Class<?> mixInClass = reference != null ? reference.get() : null;
+            if (mixInClass == null) {
+                mixInClass = generator.get();
+                classes.put(key, new WeakReference<>(mixInClass));
+            }
+            return mixInClass;
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package org.openl.rules.serialization;
 
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
@@ -12,16 +19,23 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyName;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 
 import org.openl.classloader.ClassLoaderUtils;
 import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.calc.SpreadsheetResultBeanPropertyNamingStrategy;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.lang.xls.types.DatatypeOpenClass;
 import org.openl.rules.project.model.RulesDeploy;
@@ -49,14 +63,28 @@ public class ProjectJacksonObjectMapperFactoryBean implements JacksonObjectMappe
     public static final String JACKSON_JSON_TYPE_INFO_ID = "jackson.jsonTypeInfoId";
     public static final String JACKSON_TYPING_PROPERTY_NAME = "jackson.typingPropertyName";
     public static final String JACKSON_PROPERTY_NAMING_STRATEGY = "jackson.propertyNamingStrategy";
+    public static final String JACKSON_SPREADSHEET_RESULT_STREAMING = "jackson.spreadsheetResultStreaming";
+    public static final String JACKSON_WARM_UP = "jackson.warmUp";
     private static final DefaultStrategy DEFAULT_STRATEGY = new DefaultStrategy();
 
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectJacksonObjectMapperFactoryBean.class);
+
+    /**
+     * Object mappers shared between the factories with the same class loader and the same effective configuration. The
+     * class loaders are weakly referenced and the mappers are softly referenced, so a mapper survives garbage
+     * collections while it's in use, but it does not prevent unloading of the rules.
+     */
+    private static final Map<ClassLoader, Map<String, SoftReference<ObjectMapper>>> SHARED_MAPPERS =
+            new WeakHashMap<>();
+
     private final JacksonObjectMapperFactoryBean delegate = new JacksonObjectMapperFactoryBean();
 
     private XlsModuleOpenClass xlsModuleOpenClass;
 
     private RulesDeploy rulesDeploy;
     private Environment environment;
+    private boolean spreadsheetResultStreaming;
+    private boolean warmUp;
 
     public RulesDeploy getRulesDeploy() {
         return rulesDeploy;
@@ -74,6 +102,31 @@ public class ProjectJacksonObjectMapperFactoryBean implements JacksonObjectMappe
         this.xlsModuleOpenClass = xlsModuleOpenClass;
     }
 
+    /**
+     * If enabled, spreadsheet results are written as JSON objects with the same properties as the spreadsheet result
+     * beans have, without converting them to the beans. Otherwise, the spreadsheet results are written in the raw
+     * format with the results array and the row and column names.
+     */
+    public boolean isSpreadsheetResultStreaming() {
+        return spreadsheetResultStreaming;
+    }
+
+    public void setSpreadsheetResultStreaming(boolean spreadsheetResultStreaming) {
+        this.spreadsheetResultStreaming = spreadsheetResultStreaming;
+    }
+
+    /**
+     * If enabled, the serializers and deserializers for the service method types are created on deploying, so the
+     * first requests to the service do not pay for introspection of the types.
+     */
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
+
     private DefaultTypingMode toDefaultTypingMode(String defaultTypingMode) {
         if (DefaultTypingMode.DISABLED.name().equalsIgnoreCase(defaultTypingMode.trim())) {
             return DefaultTypingMode.DISABLED;
@@ -104,6 +157,10 @@ public class ProjectJacksonObjectMapperFactoryBean implements JacksonObjectMappe
         processJacksonPropertiesSettingBoolean(getProperty(JACKSON_FAIL_ON_EMPTY_BEANS),
                 JACKSON_FAIL_ON_EMPTY_BEANS,
                 delegate::setFailOnEmptyBeans);
+        processJacksonPropertiesSettingBoolean(getProperty(JACKSON_SPREADSHEET_RESULT_STREAMING),
+                JACKSON_SPREADSHEET_RESULT_STREAMING,
+                this::setSpreadsheetResultStreaming);
+        processJacksonPropertiesSettingBoolean(getProperty(JACKSON_WARM_UP), JACKSON_WARM_UP, this::setWarmUp);
 
         processJacksonDefaultDateFormatSetting(getProperty(JACKSON_DEFAULT_DATE_FORMAT));
         processJacksonDefaultTypingModeSetting(getProperty(JACKSON_DEFAULT_TYPING_MODE));
@@ -305,10 +362,94 @@ public class ProjectJacksonObjectMapperFactoryBean implements JacksonObjectMappe
     }
 
     public final ObjectMapper createJacksonObjectMapper() throws ClassNotFoundException {
+        configure();
+        return enhanceObjectMapper(delegate.createJacksonObjectMapper());
+    }
+
+    /**
+     * Returns the object mapper shared with other factories having the same settings and the same types of the module.
+     * The object mapper is created only if there is no such mapper yet. The returned mapper must not be reconfigured,
+     * use {@link #createJacksonObjectMapper()} to get a mapper for customization.
+     */
+    public final ObjectMapper getSharedJacksonObjectMapper() throws ClassNotFoundException {
+        configure();
+        // Only the names of the classes are used to not hold the classes of the rules
+        String key = String.join("|",
+                getClass().getName(),
+                delegate.fingerprint(),
+                String.valueOf(spreadsheetResultStreaming),
+                extractPropertyNamingStrategy().getClass().getName(),
+                getModuleTypeNames());
+        // The class loader resolves the class names in the settings and in the typing information of JSON
+        ClassLoader classLoader = getClassLoader();
+        synchronized (SHARED_MAPPERS) {
+            ObjectMapper objectMapper = getSharedMapper(classLoader, key);
+            if (objectMapper != null) {
+                return objectMapper;
+            }
+        }
+        ObjectMapper objectMapper = enhanceObjectMapper(delegate.createJacksonObjectMapper());
+        synchronized (SHARED_MAPPERS) {
+            ObjectMapper existing = getSharedMapper(classLoader, key);
+            if (existing != null) {
+                return existing;
+            }
+            SHARED_MAPPERS.computeIfAbsent(classLoader, e -> new HashMap<>())
+                    .put(key, new SoftReference<>(objectMapper));
+            return objectMapper;
+        }
+    }
+
+    private static ObjectMapper getSharedMapper(ClassLoader classLoader, String key) {
+        Map<String, SoftReference<ObjectMapper>> mappers = SHARED_MAPPERS.get(classLoader);
+        SoftReference<ObjectMapper> reference = mappers != null ? mappers.get(key) : null;
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * Returns the sorted names of the module types which are configured in the object mapper.
+     */
+    private String getModuleTypeNames() {
+        Set<String> types = new TreeSet<>();
+        if (xlsModuleOpenClass != null) {
+            Consumer<XlsModuleOpenClass> collector = module -> forEachType(module,
+                    e -> types.add(e.getInstanceClass().getName()),
+                    e -> types.add(e.getBeanClass().getName()));
+            collector.accept(xlsModuleOpenClass);
+            xlsModuleOpenClass.getExternalXlsModuleOpenClasses().forEach(collector);
+        }
+        return String.join(",", types);
+    }
+
+    /**
+     * Creates the serializers and deserializers for the parameter and return types of the given methods in advance.
+     * The object mapper caches them, so the first invocation of the methods does not introspect the types.
+     */
+    public static void warmUp(ObjectMapper objectMapper, Collection<Method> methods) {
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        Set<Type> types = new HashSet<>();
+        for (Method method : methods) {
+            types.addAll(Arrays.asList(method.getGenericParameterTypes()));
+            types.add(method.getGenericReturnType());
+        }
+        for (Type type : types) {
+            if (type == void.class || type == Void.class) {
+                continue;
+            }
+            try {
+                JavaType javaType = typeFactory.constructType(type);
+                objectMapper.writerFor(javaType);
+                objectMapper.readerFor(javaType);
+            } catch (Exception e) {
+                LOG.debug("Failed to prepare serializers for type '{}'.", type.getTypeName(), e);
+            }
+        }
+    }
+
+    private void configure() {
         applyBeforeProjectConfiguration();
         applyProjectConfiguration();
         applyAfterProjectConfiguration();
-        return enhanceObjectMapper(delegate.createJacksonObjectMapper());
     }
 
     private static String getRootName(ObjectMapper objectMapper, Class<?> cls) {
@@ -374,6 +515,14 @@ public class ProjectJacksonObjectMapperFactoryBean implements JacksonObjectMappe
             xlsModuleOpenClass.getExternalXlsModuleOpenClasses()
                     .forEach(e -> processTypesFromXlsModuleOpenClass(objectMapper, e));
         }
+        if (spreadsheetResultStreaming) {
+            SpreadsheetResultBeanPropertyNamingStrategy namingStrategy = null;
+            if (objectMapper.getPropertyNamingStrategy() instanceof SpreadsheetResultBeanPropertyNamingStrategy) {
+                namingStrategy = (SpreadsheetResultBeanPropertyNamingStrategy) objectMapper.getPropertyNamingStrategy();
+            }
+            objectMapper.registerModule(new SimpleModule().addSerializer(SpreadsheetResult.class,
+                    new SpreadsheetResultSerializer(namingStrategy)));
+        }
         return objectMapper;
     }
 
@@ -452,27 +601,31 @@ public class ProjectJacksonObjectMapperFactoryBean implements JacksonObjectMappe
     private Class<?> enhanceMixInClassForSprBeanClass(Class<?> originalMixInClass,
                                                       String rootName,
                                                       ClassLoader classLoader) {
-        String className = originalMixInClass.getName() + "$EnhancedMixInClassForSprBeanClass$" + incrementer
-                .getAndIncrement();
-        ClassWriter classWriter = new ClassWriter(0);
-        ClassVisitor classVisitor = new SpreadsheetResultBeanClassMixInAnnotationsWriter(classWriter,
-                className,
-                originalMixInClass,
-                rootName);
-        return defineAndLoadClass(originalMixInClass, classLoader, className, classWriter, classVisitor);
+        return MixInClassCache.get(classLoader, "spr:" + originalMixInClass.getName() + "|" + rootName, () -> {
+            String className = originalMixInClass.getName() + "$EnhancedMixInClassForSprBeanClass$" + incrementer
+                    .getAndIncrement();
+            ClassWriter classWriter = new ClassWriter(0);
+            ClassVisitor classVisitor = new SpreadsheetResultBeanClassMixInAnnotationsWriter(classWriter,
+                    className,
+                    originalMixInClass,
+                    rootName);
+            return defineAndLoadClass(originalMixInClass, classLoader, className, classWriter, classVisitor);
+        });
     }
 
     private Class<?> enhanceMixInClassForDatatypeClass(Class<?> originalMixInClass,
                                                        String rootName,
                                                        ClassLoader classLoader) {
-        String className = originalMixInClass.getName() + "$EnhancedMixInClassForDatatypeClass$" + incrementer
-                .getAndIncrement();
-        ClassWriter classWriter = new ClassWriter(0);
-        ClassVisitor classVisitor = new DatatypeOpenClassMixInAnnotationsWriter(classWriter,
-                className,
-                originalMixInClass,
-                rootName);
-        return defineAndLoadClass(originalMixInClass, classLoader, className, classWriter, classVisitor);
+        return MixInClassCache.get(classLoader, "datatype:" + originalMixInClass.getName() + "|" + rootName, () -> {
+            String className = originalMixInClass.getName() + "$EnhancedMixInClassForDatatypeClass$" + incrementer
+                    .getAndIncrement();
+            ClassWriter classWriter = new ClassWriter(0);
+            ClassVisitor classVisitor = new DatatypeOpenClassMixInAnnotationsWriter(classWriter,
+                    className,
+                    originalMixInClass,
+                    rootName);
+            return defineAndLoadClass(originalMixInClass, classLoader, className, classWriter, classVisitor);
+        });
     }
 
     private Class<?> defineAndLoadClass(Class<?> originalMixInClass,
@@ -0,0 +1,73 @@
+package org.openl.rules.serialization;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.calc.SpreadsheetResultBeanPropertyNamingStrategy;
+
+/**
+ * Writes the spreadsheet result as a JSON object directly from the cells of the result model. The output is the same
+ * as for the bean or the map the spreadsheet result is converted to, but no intermediate objects are created. Null
+ * values are skipped like for the spreadsheet result bean classes.
+ */
+class SpreadsheetResultSerializer extends StdSerializer<SpreadsheetResult> {
+
+    private final SpreadsheetResultBeanPropertyNamingStrategy namingStrategy;
+
+    SpreadsheetResultSerializer(SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
+        super(SpreadsheetResult.class);
+        this.namingStrategy = namingStrategy;
+    }
+
+    @Override
+    public void serialize(SpreadsheetResult value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeFields(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(SpreadsheetResult value,
+                                  JsonGenerator gen,
+                                  SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeFields(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeIdDef);
+    }
+
+    private void writeFields(SpreadsheetResult value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean skipEmpty = provider.getConfig()
+                .getDefaultPropertyInclusion(SpreadsheetResult.class)
+                .getValueInclusion() == JsonInclude.Include.NON_EMPTY;
+        try {
+            value.forEachResultModelValue(namingStrategy, (name, fieldValue) -> {
+                if (fieldValue == null) {
+                    return;
+                }
+                try {
+                    Class<?> type = fieldValue.getClass();
+                    if (skipEmpty && provider.findValueSerializer(type).isEmpty(provider, fieldValue)) {
+                        return;
+                    }
+                    gen.writeFieldName(name);
+                    // Writes the type property of the value if the default typing is enabled
+                    provider.findTypedValueSerializer(type, true, null).serialize(fieldValue, gen, provider);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
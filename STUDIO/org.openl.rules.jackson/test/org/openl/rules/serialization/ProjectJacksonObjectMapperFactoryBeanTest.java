@@ -0,0 +1,122 @@
+package org.openl.rules.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.project.model.RulesDeploy;
+
+public class ProjectJacksonObjectMapperFactoryBeanTest {
+
+    @Test
+    public void testSharedObjectMapper() throws Exception {
+        ObjectMapper objectMapper = createFactory(false).getSharedJacksonObjectMapper();
+        assertSame(objectMapper, createFactory(false).getSharedJacksonObjectMapper());
+        assertNotSame(objectMapper, createFactory(true).getSharedJacksonObjectMapper());
+        assertNotSame(objectMapper, createFactory(false).createJacksonObjectMapper());
+    }
+
+    @Test
+    public void testSharedObjectMapperIsKept() throws Exception {
+        WeakReference<ObjectMapper> objectMapper = new WeakReference<>(
+                createFactory(false).getSharedJacksonObjectMapper());
+        System.gc();
+        assertSame(objectMapper.get(), createFactory(false).getSharedJacksonObjectMapper());
+    }
+
+    @Test
+    public void testSharedObjectMapperPerClassLoader() throws Exception {
+        ObjectMapper objectMapper = createFactory(false).getSharedJacksonObjectMapper();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            ProjectJacksonObjectMapperFactoryBean factory = createFactory(false);
+            factory.setClassLoader(classLoader);
+            ObjectMapper other = factory.getSharedJacksonObjectMapper();
+            assertNotSame(objectMapper, other);
+            factory = createFactory(false);
+            factory.setClassLoader(classLoader);
+            assertSame(other, factory.getSharedJacksonObjectMapper());
+        }
+    }
+
+    @Test
+    public void testSharedObjectMapperForModulesWithSameTypes() throws Exception {
+        ProjectJacksonObjectMapperFactoryBean first = createFactory(false);
+        first.setXlsModuleOpenClass(mock(XlsModuleOpenClass.class));
+        ProjectJacksonObjectMapperFactoryBean second = createFactory(false);
+        second.setXlsModuleOpenClass(mock(XlsModuleOpenClass.class));
+        assertSame(first.getSharedJacksonObjectMapper(), second.getSharedJacksonObjectMapper());
+    }
+
+    @Test
+    public void testMixInClassesAreReused() throws Exception {
+        JacksonObjectMapperFactoryBean factory = new JacksonObjectMapperFactoryBean();
+        factory.setOverrideClasses(Set.of(Animal.class, Dog.class));
+        ObjectMapper first = factory.createJacksonObjectMapper();
+        ObjectMapper second = factory.createJacksonObjectMapper();
+        assertSame(first.findMixInClassFor(Animal.class), second.findMixInClassFor(Animal.class));
+        assertSame(first.findMixInClassFor(Dog.class), second.findMixInClassFor(Dog.class));
+
+        Dog dog = new Dog();
+        dog.setName("Rex");
+        Animal animal = second.readValue(first.writeValueAsString(dog), Animal.class);
+        assertEquals(Dog.class, animal.getClass());
+        assertEquals("Rex", animal.getName());
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        ObjectMapper objectMapper = createFactory(false).createJacksonObjectMapper();
+        ProjectJacksonObjectMapperFactoryBean.warmUp(objectMapper, Arrays.asList(Service.class.getMethods()));
+
+        Animal animal = new Animal();
+        animal.setName("Rex");
+        String text = objectMapper.writeValueAsString(new Animal[] { animal });
+        Animal[] animals = objectMapper.readValue(text, Animal[].class);
+        assertEquals("Rex", animals[0].getName());
+    }
+
+    private static ProjectJacksonObjectMapperFactoryBean createFactory(boolean failOnUnknownProperties) {
+        RulesDeploy rulesDeploy = new RulesDeploy();
+        rulesDeploy.setServiceName("service");
+        rulesDeploy.setConfiguration(
+                Map.of(ProjectJacksonObjectMapperFactoryBean.JACKSON_FAIL_ON_UNKNOWN_PROPERTIES,
+                        String.valueOf(failOnUnknownProperties)));
+        ProjectJacksonObjectMapperFactoryBean factory = new ProjectJacksonObjectMapperFactoryBean();
+        factory.setRulesDeploy(rulesDeploy);
+        return factory;
+    }
+
+    public interface Service {
+        Animal[] find(String name);
+
+        void save(List<Animal> animals);
+    }
+
+    public static class Animal {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Dog extends Animal {
+    }
+}
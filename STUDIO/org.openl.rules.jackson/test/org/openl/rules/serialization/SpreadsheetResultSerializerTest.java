@@ -0,0 +1,98 @@
+package org.openl.rules.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.serialization.spr.LowerCamelCaseStrategy;
+
+public class SpreadsheetResultSerializerTest {
+
+    @Test
+    public void testStreaming() throws Exception {
+        ProjectJacksonObjectMapperFactoryBean factory = new ProjectJacksonObjectMapperFactoryBean();
+        factory.setSpreadsheetResultStreaming(true);
+        ObjectMapper objectMapper = factory.createJacksonObjectMapper();
+
+        String text = objectMapper.writeValueAsString(createSpreadsheetResult());
+        assertEquals(objectMapper.readTree("{\"Value_A\":1,\"Text_A\":\"x\",\"Value_B\":{\"X\":5}}"),
+                objectMapper.readTree(text));
+    }
+
+    @Test
+    public void testNamingStrategy() throws Exception {
+        ObjectMapper objectMapper = new JacksonObjectMapperFactoryBean().createJacksonObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addSerializer(SpreadsheetResult.class,
+                new SpreadsheetResultSerializer(new LowerCamelCaseStrategy())));
+
+        String text = objectMapper.writeValueAsString(createSpreadsheetResult());
+        assertEquals(objectMapper.readTree("{\"valueA\":1,\"textA\":\"x\",\"valueB\":{\"x\":5}}"),
+                objectMapper.readTree(text));
+    }
+
+    @Test
+    public void testDefaultTyping() throws Exception {
+        JacksonObjectMapperFactoryBean factory = new JacksonObjectMapperFactoryBean();
+        factory.setDefaultTypingMode(DefaultTypingMode.NON_FINAL);
+        factory.setPolymorphicTypeValidation(false);
+        ObjectMapper objectMapper = factory.createJacksonObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addSerializer(SpreadsheetResult.class,
+                new SpreadsheetResultSerializer(new LowerCamelCaseStrategy())));
+
+        Driver driver = new Driver();
+        driver.setName("John");
+        SpreadsheetResult result = new SpreadsheetResult(new Object[][] { { driver } },
+                new String[] { "Driver" },
+                new String[] { "Value" },
+                new String[] { "Driver" },
+                new String[] { "Value" },
+                Collections.emptyMap());
+
+        String text = objectMapper.writeValueAsString(result);
+        JsonNode value = objectMapper.readTree(text).get("driver");
+        assertEquals(Driver.class.getName(), value.get("@class").asText(), text);
+        assertEquals("John", value.get("name").asText(), text);
+    }
+
+    @Test
+    public void testRawFormatByDefault() throws Exception {
+        ObjectMapper objectMapper = new ProjectJacksonObjectMapperFactoryBean().createJacksonObjectMapper();
+
+        String text = objectMapper.writeValueAsString(createSpreadsheetResult());
+        assertTrue(objectMapper.readTree(text).has("results"), text);
+    }
+
+    public static class Driver {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static SpreadsheetResult createSpreadsheetResult() {
+        SpreadsheetResult nested = new SpreadsheetResult(new Object[][] { { 5 } },
+                new String[] { "X" },
+                new String[] { "Value" },
+                new String[] { "X" },
+                new String[] { "Value" },
+                Collections.emptyMap());
+        return new SpreadsheetResult(new Object[][] { { 1, "x" }, { nested, null } },
+                new String[] { "A", "B" },
+                new String[] { "Value", "Text" },
+                new String[] { "A", "B" },
+                new String[] { "Value", "Text" },
+                Collections.emptyMap());
+    }
+}
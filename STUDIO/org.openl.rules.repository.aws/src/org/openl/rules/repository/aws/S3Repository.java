@@ -3,15 +3,24 @@ package org.openl.rules.repository.aws;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,9 +31,14 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.BucketVersioningStatus;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteMarkerEntry;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -33,6 +47,7 @@ import software.amazon.awssdk.services.s3.model.GetBucketVersioningRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectVersionsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectVersionsResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
@@ -40,6 +55,7 @@ import software.amazon.awssdk.services.s3.model.ObjectVersion;
 import software.amazon.awssdk.services.s3.model.PutBucketVersioningRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.VersioningConfiguration;
 
 import org.openl.rules.repository.api.ChangesetType;
@@ -51,6 +67,7 @@ import org.openl.rules.repository.api.Listener;
 import org.openl.rules.repository.api.Repository;
 import org.openl.rules.repository.api.UserInfo;
 import org.openl.rules.repository.common.ChangesMonitor;
+import org.openl.rules.repository.common.ParallelRangeInputStream;
 import org.openl.rules.repository.common.RevisionGetter;
 import org.openl.util.StringUtils;
 
@@ -61,6 +78,13 @@ public class S3Repository implements Repository, Closeable {
 
     private static final Comparator<FileData> FILE_DATA_COMPARATOR = Comparator.comparing(FileData::getModifiedAt);
 
+    private static final int MEGABYTE = 1024 * 1024;
+    /**
+     * S3 does not accept the parts of a multipart upload less than 5 MB except the last one.
+     */
+    private static final int MIN_PART_SIZE = 5;
+    private static final int MAX_CACHED_LISTINGS = 1000;
+
     private String serviceEndpoint;
     private String bucketName;
     private String regionName;
@@ -68,8 +92,19 @@ public class S3Repository implements Repository, Closeable {
     private String secretKey;
     private String sseAlgorithm;
     private int listenerTimerPeriod = 10;
+    private int partSize = 8 * MEGABYTE;
+    private int concurrency = 4;
+    private int listingCacheTtl;
 
     private S3Client s3;
+    private ExecutorService transferExecutor;
+    private final Map<ListObjectVersionsRequest, CachedListing> listingCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ListObjectVersionsRequest, CachedListing> eldest) {
+            return size() > MAX_CACHED_LISTINGS;
+        }
+    };
+    private long listingGeneration;
     private ChangesMonitor monitor;
     private String id;
     private String name;
@@ -106,12 +141,40 @@ public class S3Repository implements Repository, Closeable {
         this.listenerTimerPeriod = listenerTimerPeriod;
     }
 
+    /**
+     * Sets the size of the parts in megabytes. The files greater than a part are uploaded and downloaded by several
+     * parts in parallel.
+     */
+    public void setPartSize(int partSize) {
+        this.partSize = Math.max(MIN_PART_SIZE, partSize) * MEGABYTE;
+    }
+
+    /**
+     * Sets the maximum number of the parts transferred in parallel.
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Sets the time in seconds to keep the listings of the bucket. Cached listings are discarded as soon as a change
+     * of the repository is detected. 0 disables the cache.
+     */
+    public void setListingCacheTtl(int listingCacheTtl) {
+        this.listingCacheTtl = listingCacheTtl;
+    }
+
     @Override
     public void close() {
         if (monitor != null) {
             monitor.release();
             monitor = null;
         }
+        if (transferExecutor != null) {
+            transferExecutor.shutdownNow();
+            transferExecutor = null;
+        }
+        invalidateListings();
         if (s3 != null) {
             s3.close();
             s3 = null;
@@ -134,6 +197,14 @@ public class S3Repository implements Repository, Closeable {
         }
         s3 = builder.build();
 
+        // Every transfer limits the number of its parts in progress by itself, so transfers do not wait for each other
+        AtomicInteger threadNumber = new AtomicInteger();
+        transferExecutor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "openl-s3-transfer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
         try {
             try {
                 s3.headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
@@ -212,7 +283,7 @@ public class S3Repository implements Repository, Closeable {
             List<FileData> result = new ArrayList<>();
             var request = ListObjectVersionsRequest.builder().bucket(bucketName).prefix(path);
             do {
-                var response = s3.listObjectVersions(request.build());
+                var response = listObjectVersions(request.build());
                 var versionSummaries = response.versions();
                 for (var versionSummary : versionSummaries) {
                     if (versionSummary.isLatest()) {
@@ -262,7 +333,7 @@ public class S3Repository implements Repository, Closeable {
         try {
             var request = ListObjectVersionsRequest.builder().bucket(bucketName).prefix(name);
             do {
-                var response = s3.listObjectVersions(request.build());
+                var response = listObjectVersions(request.build());
                 var versionSummaries = response.versions();
                 for (var versionSummary : versionSummaries) {
                     if (versionSummary.isLatest() && Objects.equals(versionSummary.key(), name)) {
@@ -295,15 +366,42 @@ public class S3Repository implements Repository, Closeable {
             if (fileData == null || fileData.isDeleted()) {
                 return null;
             }
-            return new FileItem(fileData, new DrainableInputStream(doRead(name, null)));
+            String version = isVersioned(fileData.getVersion()) ? fileData.getVersion() : null;
+            return new FileItem(fileData, doRead(name, version, fileData.getSize()));
         } catch (SdkClientException e) {
             throw new IOException(e);
         }
     }
 
-    private InputStream doRead(String name, String versionId) {
+    private InputStream doRead(String name, String versionId, long size) {
+        if (size > partSize && versionId != null) {
+            // The version is fixed, so all the parts are read from the same object
+            return new ParallelRangeInputStream((offset, length) -> readRange(name, versionId, offset, length),
+                    size,
+                    partSize,
+                    concurrency,
+                    transferExecutor);
+        }
         var request = GetObjectRequest.builder().bucket(bucketName).key(name).versionId(versionId).build();
-        return s3.getObject(request);
+        return new DrainableInputStream(s3.getObject(request));
+    }
+
+    private byte[] readRange(String name, String versionId, long offset, int length) throws IOException {
+        try {
+            var request = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(name)
+                    .versionId(versionId)
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build();
+            return s3.getObjectAsBytes(request).asByteArray();
+        } catch (SdkClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static boolean isVersioned(String versionId) {
+        return StringUtils.isNotBlank(versionId) && !"null".equalsIgnoreCase(versionId);
     }
 
     @Override
@@ -317,14 +415,99 @@ public class S3Repository implements Repository, Closeable {
         }
     }
 
-    private void doSave(FileData data, InputStream stream) {
+    private void doSave(FileData data, InputStream stream) throws IOException {
         var request = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(data.getName())
                 .metadata(createInsertFileMetadata(data))
                 .build();
 
-        s3.putObject(request, RequestBody.fromInputStream(stream, data.getSize()));
+        long size = data.getSize();
+        if (size != FileData.UNDEFINED_SIZE && size <= partSize) {
+            s3.putObject(request, RequestBody.fromInputStream(stream, size));
+            return;
+        }
+        byte[] firstPart = stream.readNBytes(partSize);
+        if (firstPart.length < partSize) {
+            s3.putObject(request, RequestBody.fromBytes(firstPart));
+        } else {
+            uploadByParts(data, firstPart, stream);
+        }
+    }
+
+    /**
+     * Uploads the file by parts in parallel. Not more than {@code concurrency} parts are kept in memory.
+     */
+    private void uploadByParts(FileData data, byte[] firstPart, InputStream stream) throws IOException {
+        String key = data.getName();
+        var createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .metadata(createInsertFileMetadata(data))
+                .build();
+        String uploadId = s3.createMultipartUpload(createRequest).uploadId();
+
+        List<Future<CompletedPart>> uploads = new ArrayList<>();
+        Semaphore permits = new Semaphore(concurrency);
+        try {
+            byte[] part = firstPart;
+            int partNumber = 1;
+            while (part.length > 0) {
+                permits.acquire();
+                byte[] bytes = part;
+                int number = partNumber++;
+                uploads.add(transferExecutor.submit(() -> {
+                    try {
+                        var request = UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(number)
+                                .contentLength((long) bytes.length)
+                                .build();
+                        String eTag = s3.uploadPart(request, RequestBody.fromBytes(bytes)).eTag();
+                        return CompletedPart.builder().partNumber(number).eTag(eTag).build();
+                    } finally {
+                        permits.release();
+                    }
+                }));
+                part = stream.readNBytes(partSize);
+            }
+
+            List<CompletedPart> parts = new ArrayList<>(uploads.size());
+            for (Future<CompletedPart> upload : uploads) {
+                parts.add(upload.get());
+            }
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortUpload(key, uploadId, uploads);
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            abortUpload(key, uploadId, uploads);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abortUpload(key, uploadId, uploads);
+            throw e;
+        }
+    }
+
+    private void abortUpload(String key, String uploadId, List<Future<CompletedPart>> uploads) {
+        uploads.forEach(upload -> upload.cancel(true));
+        try {
+            s3.abortMultipartUpload(
+                    AbortMultipartUploadRequest.builder().bucket(bucketName).key(key).uploadId(uploadId).build());
+        } catch (S3Exception | SdkClientException e) {
+            log.warn("Failed to abort the multipart upload of '{}'.", key, e);
+        }
     }
 
     private Map<String, String> createInsertFileMetadata(FileData data) {
@@ -403,7 +586,45 @@ public class S3Repository implements Repository, Closeable {
         }
     }
 
+    /**
+     * Lists the versions of the objects using the cached listing if it's still valid. The modification marker is never
+     * cached because it's used to detect the changes.
+     */
+    private ListObjectVersionsResponse listObjectVersions(ListObjectVersionsRequest request) {
+        if (listingCacheTtl <= 0 || MODIFICATION_FILE.equals(request.prefix())) {
+            return s3.listObjectVersions(request);
+        }
+        long generation;
+        synchronized (listingCache) {
+            var cached = listingCache.get(request);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.response();
+            }
+            generation = listingGeneration;
+        }
+        var response = s3.listObjectVersions(request);
+        synchronized (listingCache) {
+            // Skip the listing if the repository has been modified while the request was being executed
+            if (generation == listingGeneration) {
+                long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(listingCacheTtl);
+                listingCache.put(request, new CachedListing(response, expiresAt));
+            }
+        }
+        return response;
+    }
+
+    private void invalidateListings() {
+        synchronized (listingCache) {
+            listingGeneration++;
+            listingCache.clear();
+        }
+    }
+
+    private record CachedListing(ListObjectVersionsResponse response, long expiresAt) {
+    }
+
     private class S3RevisionGetter implements RevisionGetter {
+        private Object lastRevision;
 
         @Override
         public Object getRevision() {
@@ -418,6 +639,11 @@ public class S3Repository implements Repository, Closeable {
                 if (StringUtils.isBlank(version) || "null".equalsIgnoreCase(version)) {
                     revision = fileData.getModifiedAt();
                 }
+                if (!Objects.equals(revision, lastRevision)) {
+                    // Changed by another instance
+                    lastRevision = revision;
+                    invalidateListings();
+                }
                 return revision;
             } catch (Exception e) {
                 log.warn(e.getMessage(), e);
@@ -433,7 +659,7 @@ public class S3Repository implements Repository, Closeable {
 
             var request = ListObjectVersionsRequest.builder().bucket(bucketName).prefix(name);
             do {
-                var response = s3.listObjectVersions(request.build());
+                var response = listObjectVersions(request.build());
                 for (ObjectVersion version : response.versions()) {
                     if (version.key().equals(name)) {
                         result.add(createFileData(version));
@@ -464,7 +690,7 @@ public class S3Repository implements Repository, Closeable {
         try {
             var request = ListObjectVersionsRequest.builder().bucket(bucketName).prefix(name);
             do {
-                var response = s3.listObjectVersions(request.build());
+                var response = listObjectVersions(request.build());
                 for (ObjectVersion versionSummary : response.versions()) {
                     if (versionSummary.key().equals(name) && versionSummary.versionId().equals(version)) {
                         return createFileData(versionSummary);
@@ -494,11 +720,11 @@ public class S3Repository implements Repository, Closeable {
         try {
             var request = ListObjectVersionsRequest.builder().bucket(bucketName).prefix(name);
             do {
-                var response = s3.listObjectVersions(request.build());
+                var response = listObjectVersions(request.build());
                 for (var versionSummary : response.versions()) {
                     if (versionSummary.key().equals(name) && versionSummary.versionId().equals(version)) {
                         return new FileItem(checkHistory(name, version),
-                                new DrainableInputStream(doRead(name, version)));
+                                doRead(name, version, versionSummary.size()));
                     }
                 }
                 if (response.isTruncated()) {
@@ -590,6 +816,7 @@ public class S3Repository implements Repository, Closeable {
                 .metadata(metadataMap)
                 .build();
         s3.putObject(request, RequestBody.empty());
+        invalidateListings();
 
         // Invoke listener if exist
         if (monitor != null) {
@@ -1,5 +1,7 @@
 package org.openl.rules.repository.azure;
 
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+
 import static org.openl.util.formatters.FileNameFormatter.fromNormalizedPath;
 import static org.openl.util.formatters.FileNameFormatter.normalizePath;
 
@@ -17,7 +19,10 @@ import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import com.azure.core.http.rest.PagedIterable;
@@ -31,8 +36,12 @@ import com.azure.storage.blob.models.BlobItem;
 import com.azure.storage.blob.models.BlobListDetails;
 import com.azure.storage.blob.models.BlobProperties;
 import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.BlockBlobItem;
 import com.azure.storage.blob.models.ListBlobsOptions;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobInputStreamOptions;
 import com.azure.storage.blob.options.BlobParallelUploadOptions;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
@@ -50,6 +59,7 @@ import org.openl.rules.repository.api.Listener;
 import org.openl.rules.repository.api.Repository;
 import org.openl.rules.repository.api.UserInfo;
 import org.openl.rules.repository.common.ChangesMonitor;
+import org.openl.rules.repository.common.ParallelRangeInputStream;
 import org.openl.util.StringUtils;
 
 /**
@@ -69,6 +79,7 @@ public class AzureBlobRepository implements Repository {
     private static final String MODIFICATION_FILE = ".modification";
     static final String CONTENT_PREFIX = "[content]/";
     static final String VERSIONS_PREFIX = ".versions/";
+    private static final int MEGABYTE = 1024 * 1024;
 
     private final Logger log = LoggerFactory.getLogger(AzureBlobRepository.class);
 
@@ -79,9 +90,16 @@ public class AzureBlobRepository implements Repository {
     private String uri;
     private String accountName;
     private String accountKey;
+    private int partSize = 8 * MEGABYTE;
+    private int concurrency = 4;
+    private int listingCacheTtl;
 
     private BlobContainerClient blobContainerClient;
     private PassiveExpiringMap<CacheKey, AzureCommit> commitsCache;
+    private PassiveExpiringMap<ListingKey, List<BlobItem>> listingsCache;
+    private long listingGeneration;
+    private Object lastRevision;
+    private ExecutorService transferExecutor;
 
     private final YAMLMapper mapper = YamlMapperFactory.getYamlMapper();
 
@@ -113,6 +131,29 @@ public class AzureBlobRepository implements Repository {
         this.accountKey = accountKey;
     }
 
+    /**
+     * Sets the size of the blocks in megabytes. The files greater than a block are uploaded and downloaded by several
+     * blocks in parallel.
+     */
+    public void setPartSize(int partSize) {
+        this.partSize = Math.max(1, partSize) * MEGABYTE;
+    }
+
+    /**
+     * Sets the maximum number of the blocks transferred in parallel.
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Sets the time in seconds to keep the listings of the container. Cached listings are discarded as soon as a change
+     * of the repository is detected. 0 disables the cache.
+     */
+    public void setListingCacheTtl(int listingCacheTtl) {
+        this.listingCacheTtl = listingCacheTtl;
+    }
+
     public void initialize() {
         if (blobContainerClient == null) {
             final BlobContainerClientBuilder builder = new BlobContainerClientBuilder().endpoint(uri);
@@ -124,6 +165,17 @@ public class AzureBlobRepository implements Repository {
         }
 
         commitsCache = new PassiveExpiringMap<>(10, TimeUnit.SECONDS);
+        if (listingCacheTtl > 0) {
+            listingsCache = new PassiveExpiringMap<>(listingCacheTtl, TimeUnit.SECONDS);
+        }
+
+        // Every transfer limits the number of its parts in progress by itself, so transfers do not wait for each other
+        AtomicInteger threadNumber = new AtomicInteger();
+        transferExecutor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "openl-azure-transfer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
 
         monitor = new ChangesMonitor(this::getLatestRevision, listenerTimerPeriod);
     }
@@ -157,8 +209,7 @@ public class AzureBlobRepository implements Repository {
                 // Get folders outside of projects (folders containing projects).
                 ListBlobsOptions options = new ListBlobsOptions();
                 options.setPrefix(VERSIONS_PREFIX + path);
-                final PagedIterable<BlobItem> items = blobContainerClient.listBlobs(options, null);
-                for (BlobItem item : items) {
+                for (BlobItem item : listBlobs(options)) {
                     Path filePath = fromNormalizedPath(VERSIONS_PREFIX).relativize(fromNormalizedPath(item.getName()));
                     Path subFolder = parentFolder.relativize(filePath).getName(0);
                     folders.add(createFileData(normalizePath(parentFolder.resolve(subFolder)), getCommit(item)));
@@ -267,9 +318,8 @@ public class AzureBlobRepository implements Repository {
                 // Get files inside a folder outside of projects (folders containing projects).
                 ListBlobsOptions options = new ListBlobsOptions();
                 options.setPrefix(VERSIONS_PREFIX + path);
-                PagedIterable<BlobItem> items = blobContainerClient.listBlobs(options, null);
                 List<FileData> result = new ArrayList<>();
-                for (BlobItem item : items) {
+                for (BlobItem item : listBlobs(options)) {
                     result.addAll(getFilesForCommit(getCommit(item), path));
                 }
 
@@ -300,21 +350,26 @@ public class AzureBlobRepository implements Repository {
     public FileItem read(String name) throws IOException {
         try {
             final BlobClient client = blobContainerClient.getBlobClient(CONTENT_PREFIX + name);
-            if (client.exists()) {
-                return new FileItem(name, client.openInputStream()) {
-                    private FileData lazyData;
-
-                    @Override
-                    public FileData getData() {
-                        if (lazyData == null) {
-                            lazyData = createFileDataForFile(name, null, client);
-                        }
-                        return lazyData;
-                    }
-                };
+            final BlobProperties properties;
+            try {
+                properties = client.getProperties();
+            } catch (BlobStorageException e) {
+                if (e.getStatusCode() == HTTP_NOT_FOUND) {
+                    return null;
+                }
+                throw e;
             }
+            return new FileItem(name, openStream(client, properties)) {
+                private FileData lazyData;
 
-            return null;
+                @Override
+                public FileData getData() {
+                    if (lazyData == null) {
+                        lazyData = createFileDataForFile(name, null, properties);
+                    }
+                    return lazyData;
+                }
+            };
         } catch (Exception e) {
             throw new IOException(e);
         }
@@ -378,8 +433,7 @@ public class AzureBlobRepository implements Repository {
             options.setDetails(new BlobListDetails().setRetrieveVersions(true));
 
             List<AzureCommit> commits = new ArrayList<>();
-            final PagedIterable<BlobItem> items = blobContainerClient.listBlobs(options, null);
-            for (BlobItem item : items) {
+            for (BlobItem item : listBlobs(options)) {
                 commits.add(getCommit(item));
             }
 
@@ -415,15 +469,14 @@ public class AzureBlobRepository implements Repository {
         try {
             BlobClient client = findFile(name, version);
             if (client != null) {
-                final BinaryData binaryData = client.downloadContent();
-
-                return new FileItem(name, binaryData.toStream()) {
+                final BlobProperties properties = client.getProperties();
+                return new FileItem(name, openStream(client, properties)) {
                     private FileData lazyData;
 
                     @Override
                     public FileData getData() {
                         if (lazyData == null) {
-                            lazyData = createFileDataForFile(name, version, client);
+                            lazyData = createFileDataForFile(name, version, properties);
                         }
                         return lazyData;
                     }
@@ -513,7 +566,7 @@ public class AzureBlobRepository implements Repository {
                 try (final InputStream stream = file.getStream()) {
                     BlobClient blobClient = blobContainerClient.getBlobClient(CONTENT_PREFIX + newFile);
                     response = blobClient.uploadWithResponse(new BlobParallelUploadOptions(BinaryData.fromStream(stream)).setRequestConditions(
-                                    new BlobRequestConditions()),
+                                    new BlobRequestConditions()).setParallelTransferOptions(createTransferOptions()),
                             null, Context.NONE);
                 }
 
@@ -554,6 +607,12 @@ public class AzureBlobRepository implements Repository {
             monitor = null;
         }
 
+        if (transferExecutor != null) {
+            transferExecutor.shutdownNow();
+            transferExecutor = null;
+        }
+        invalidateListings();
+
         if (blobContainerClient != null) {
             blobContainerClient = null;
         }
@@ -596,18 +655,86 @@ public class AzureBlobRepository implements Repository {
         BlobRequestConditions blobRequestConditions = new BlobRequestConditions();
         final Response<BlockBlobItem> response;
         try (final InputStream stream = file.getStream()) {
-            response = blobClient.uploadWithResponse(new BlobParallelUploadOptions(BinaryData.fromStream(stream)).setRequestConditions(blobRequestConditions),
+            response = blobClient.uploadWithResponse(new BlobParallelUploadOptions(BinaryData.fromStream(stream)).setRequestConditions(blobRequestConditions)
+                            .setParallelTransferOptions(createTransferOptions()),
                     null, Context.NONE);
         }
         return response;
     }
 
+    private ParallelTransferOptions createTransferOptions() {
+        return new ParallelTransferOptions().setBlockSizeLong((long) partSize)
+                .setMaxSingleUploadSizeLong((long) partSize)
+                .setMaxConcurrency(concurrency);
+    }
+
+    /**
+     * Opens the stream reading the blob described by the given properties. A blob not greater than a block is
+     * streamed sequentially, a greater one is read by several ranges in parallel.
+     */
+    private InputStream openStream(BlobClient client, BlobProperties properties) {
+        long size = properties.getBlobSize();
+        // All the ranges must be read from the same blob even if it's overwritten during reading
+        BlobRequestConditions conditions = new BlobRequestConditions().setIfMatch(properties.getETag());
+        if (size <= partSize) {
+            // The properties are taken from the response of the first chunk, so they are not requested again
+            return client.openInputStream(new BlobInputStreamOptions().setRequestConditions(conditions), Context.NONE);
+        }
+        return new ParallelRangeInputStream((offset, length) -> client
+                .downloadContentWithResponse(null, conditions, new BlobRange(offset, (long) length), false, null, Context.NONE)
+                .getValue()
+                .toBytes(), size, partSize, concurrency, transferExecutor);
+    }
+
+    /**
+     * Lists the blobs using the cached listing if it's still valid. Without the cache the listing is iterated page by
+     * page.
+     */
+    private Iterable<BlobItem> listBlobs(ListBlobsOptions options) {
+        ListingKey key = new ListingKey(options.getPrefix(), options.getDetails().getRetrieveVersions());
+        long generation;
+        synchronized (this) {
+            if (listingsCache == null) {
+                return blobContainerClient.listBlobs(options, null);
+            }
+            List<BlobItem> cached = listingsCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            generation = listingGeneration;
+        }
+        List<BlobItem> items = new ArrayList<>();
+        for (BlobItem item : blobContainerClient.listBlobs(options, null)) {
+            items.add(item);
+        }
+        synchronized (this) {
+            // Skip the listing if the repository has been modified while the request was being executed
+            if (generation == listingGeneration) {
+                listingsCache.put(key, Collections.unmodifiableList(items));
+            }
+        }
+        return items;
+    }
+
+    private synchronized void invalidateListings() {
+        listingGeneration++;
+        if (listingsCache != null) {
+            listingsCache.clear();
+        }
+    }
+
     private Object getLatestRevision() {
         BlobClient client = blobContainerClient.getBlobClient(MODIFICATION_FILE);
 
         try {
             // Avoid making extra request. If file is absent, getProperties() will throw exception.
-            return client.getProperties().getCreationTime().toInstant().toEpochMilli();
+            Object revision = client.getProperties().getCreationTime().toInstant().toEpochMilli();
+            if (!revision.equals(lastRevision)) {
+                // Changed by another instance
+                lastRevision = revision;
+                invalidateListings();
+            }
+            return revision;
         } catch (Exception e) {
             log.debug(e.getMessage(), e);
         }
@@ -621,6 +748,7 @@ public class AzureBlobRepository implements Repository {
             client.delete();
         }
         client.upload(BinaryData.fromBytes(new byte[0]));
+        invalidateListings();
 
         // Invoke listener if exist
         if (monitor != null) {
@@ -711,8 +839,10 @@ public class AzureBlobRepository implements Repository {
     }
 
     private FileData createFileDataForFile(String name, String version, BlobClient client) {
-        BlobProperties properties = client.getProperties();
+        return createFileDataForFile(name, version, client.getProperties());
+    }
 
+    private FileData createFileDataForFile(String name, String version, BlobProperties properties) {
         FileData fileData = new FileData();
         fileData.setName(name);
         fileData.setVersion(version == null ? properties.getVersionId() : version);
@@ -805,6 +935,9 @@ public class AzureBlobRepository implements Repository {
         this.blobContainerClient = client;
     }
 
+    private record ListingKey(String prefix, boolean versions) {
+    }
+
     private static final class CacheKey {
         final String name;
         final String version;
@@ -1,5 +1,6 @@
 package org.openl.rules.repository.azure;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -7,9 +8,12 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
@@ -33,10 +37,14 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobDownloadContentResponse;
 import com.azure.storage.blob.models.BlobItem;
 import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.BlockBlobItem;
 import com.azure.storage.blob.models.ListBlobsOptions;
+import com.azure.storage.blob.options.BlobInputStreamOptions;
 import com.azure.storage.blob.options.BlobParallelUploadOptions;
 import com.azure.storage.blob.specialized.BlobInputStream;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
@@ -53,15 +61,16 @@ import org.openl.util.IOUtils;
 
 public class AzureBlobRepositoryTest {
     private AzureBlobRepository repo;
+    private BlobContainerClient containerClient;
     private final YAMLMapper mapper = YamlMapperFactory.getYamlMapper();
     private final Map<String, List<BlobEmulation>> blobs = new HashMap<>();
 
     @BeforeEach
     public void setUp() throws IOException {
-        BlobContainerClient client = mockContainerClient();
+        containerClient = mockContainerClient();
 
         repo = new AzureBlobRepository();
-        repo.setBlobContainerClient(client);
+        repo.setBlobContainerClient(containerClient);
         repo.initialize();
     }
 
@@ -153,6 +162,54 @@ public class AzureBlobRepositoryTest {
         assertEquals(createFileContent(file2), readFile(file2));
     }
 
+    @Test
+    public void readRequestsPropertiesOnce() throws IOException {
+        var file = "rules/project1/file11";
+        BlobClient client = mockGetBlobVersionClient(AzureBlobRepository.CONTENT_PREFIX + file, null);
+        when(containerClient.getBlobClient(AzureBlobRepository.CONTENT_PREFIX + file)).thenReturn(client);
+
+        assertEquals(createFileContent(file), readFile(file));
+        verify(client, never()).exists();
+        verify(client).getProperties();
+        verify(client, never()).openInputStream();
+        verify(client).openInputStream(any(BlobInputStreamOptions.class), any());
+    }
+
+    @Test
+    public void readByRanges() throws IOException {
+        repo.setPartSize(1);
+        byte[] content = new byte[3 * 1024 * 1024 + 5];
+        Arrays.fill(content, (byte) 'x');
+        content[content.length - 1] = 'y';
+        var file = "rules/project1/big-file";
+        addBlob(AzureBlobRepository.CONTENT_PREFIX + file, "big-revision", content);
+
+        try (var input = repo.read(file).getStream()) {
+            assertArrayEquals(content, input.readAllBytes());
+        }
+    }
+
+    @Test
+    public void listingCache() throws IOException {
+        AzureBlobRepository cachingRepo = new AzureBlobRepository();
+        cachingRepo.setBlobContainerClient(containerClient);
+        cachingRepo.setListingCacheTtl(60);
+        cachingRepo.initialize();
+        try {
+            assertEquals(4, cachingRepo.list("").size());
+
+            addBlobsForProject("rules/project3", "version31", "rules/project3/file31");
+            assertEquals(4, cachingRepo.list("").size(), "The listing must be cached");
+
+            List<FileItem> changes = List
+                    .of(new FileItem("rules/project1/new-file", IOUtils.toInputStream("Added")));
+            cachingRepo.save(createFileData("rules/project1"), changes, ChangesetType.DIFF);
+            assertEquals(6, cachingRepo.list("").size(), "The listing must be invalidated after modification");
+        } finally {
+            cachingRepo.close();
+        }
+    }
+
     private String readFile(String file1) throws IOException {
         try (var input = repo.read(file1).getStream()) {
             return new String(input.readAllBytes(), StandardCharsets.UTF_8);
@@ -318,21 +375,42 @@ public class AzureBlobRepositoryTest {
 
             BlobInputStream stream = mockBlobInputStream(new ByteArrayInputStream(blob.getContent()));
             when(client.openInputStream()).thenReturn(stream);
+            when(client.openInputStream(any(BlobInputStreamOptions.class), any()))
+                    .thenAnswer(invocation -> mockBlobInputStream(new ByteArrayInputStream(blob.getContent())));
         }
         when(client.getBlobName()).thenReturn(blobName);
         when(client.getVersionId()).thenReturn(versionId);
         when(client.uploadWithResponse(any(), any(), any()))
                 .thenAnswer(invocation -> mockUploadWithResponse(client, invocation.getArgument(0)));
-        BlobProperties properties = mockBlobProperties(versionId, blob);
-        when(client.getProperties()).thenReturn(properties);
+        if (blob != null) {
+            BlobProperties properties = mockBlobProperties(versionId, blob);
+            when(client.getProperties()).thenReturn(properties);
+        } else {
+            BlobStorageException notFound = mock(BlobStorageException.class);
+            when(notFound.getStatusCode()).thenReturn(404);
+            when(client.getProperties()).thenThrow(notFound);
+        }
 
         doAnswer(invocation -> mockDelete(Objects.requireNonNull(blob))).when(client).delete();
 
         when(client.downloadContent()).thenAnswer(invocation -> BinaryData.fromBytes(Objects.requireNonNull(blob)
                 .getContent()));
+        when(client.downloadContentWithResponse(any(), any(), any(), anyBoolean(), any(), any()))
+                .thenAnswer(invocation -> mockDownloadRange(Objects.requireNonNull(blob), invocation.getArgument(2)));
         return client;
     }
 
+    private BlobDownloadContentResponse mockDownloadRange(BlobEmulation blob, BlobRange range) {
+        byte[] content = blob.getContent();
+        if (range != null) {
+            int offset = (int) range.getOffset();
+            content = Arrays.copyOfRange(content, offset, offset + range.getCount().intValue());
+        }
+        BlobDownloadContentResponse response = mock(BlobDownloadContentResponse.class);
+        when(response.getValue()).thenReturn(BinaryData.fromBytes(content));
+        return response;
+    }
+
     private Object mockDelete(BlobEmulation blob) {
         blobs.remove(blob.getBlobItem().getName());
 
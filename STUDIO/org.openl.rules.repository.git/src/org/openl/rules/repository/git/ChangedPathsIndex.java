@@ -0,0 +1,276 @@
+package org.openl.rules.repository.git;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent index of the paths changed by every commit of the repository. For each commit a Bloom filter of the
+ * changed files and their parent folders is stored, so history queries can skip the commits which definitely do not
+ * touch the requested path without comparing the trees. For merge commits the paths changed comparing to any of the
+ * parents are stored.
+ * <p>
+ * The index is appended incrementally: only the commits which are not reachable from the references indexed
+ * previously are processed. The commits absent in the index are treated as possibly changed, so the index can be used
+ * while it is being built.
+ */
+final class ChangedPathsIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangedPathsIndex.class);
+
+    private static final int MAGIC = 0x4f4c4350; // OLCP
+    private static final int VERSION = 1;
+    private static final int MAX_CHANGED_PATHS = 512;
+    private static final int BITS_PER_PATH = 10;
+    private static final int HASH_COUNT = 7;
+    private static final long[] ALL_PATHS = new long[0];
+
+    private final Path indexFile;
+    private final Path tipsFile;
+    private final Map<ObjectId, long[]> filters = new ConcurrentHashMap<>();
+    private Set<ObjectId> tips = new HashSet<>();
+
+    ChangedPathsIndex(Path directory) {
+        this.indexFile = directory.resolve("changed-paths.idx");
+        this.tipsFile = directory.resolve("changed-paths.tips");
+    }
+
+    /**
+     * Reads the index from the disk. A partially written record at the end of the file is discarded.
+     */
+    synchronized void load() throws IOException {
+        filters.clear();
+        tips = new HashSet<>();
+        if (!Files.isRegularFile(indexFile)) {
+            return;
+        }
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                LOG.info("Unsupported format of the history index '{}'. It will be rebuilt.", indexFile);
+                Files.delete(indexFile);
+                Files.deleteIfExists(tipsFile);
+                return;
+            }
+            validLength = 8;
+            byte[] id = new byte[Constants.OBJECT_ID_LENGTH];
+            while (true) {
+                in.readFully(id);
+                int size = in.readInt();
+                long[] filter = size == 0 ? ALL_PATHS : new long[size];
+                for (int i = 0; i < size; i++) {
+                    filter[i] = in.readLong();
+                }
+                filters.put(ObjectId.fromRaw(id), filter);
+                validLength += Constants.OBJECT_ID_LENGTH + 4 + 8L * size;
+            }
+        } catch (EOFException e) {
+            if (validLength < Files.size(indexFile)) {
+                try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                }
+            }
+        }
+        if (Files.isRegularFile(tipsFile)) {
+            for (String line : Files.readAllLines(tipsFile, StandardCharsets.UTF_8)) {
+                if (ObjectId.isId(line)) {
+                    tips.add(ObjectId.fromString(line));
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the commits reachable from the local and remote branches which have not been indexed yet.
+     */
+    synchronized void update(Repository repository) throws IOException {
+        List<Ref> refs = new ArrayList<>(repository.getRefDatabase().getRefsByPrefix(Constants.R_HEADS));
+        refs.addAll(repository.getRefDatabase().getRefsByPrefix(Constants.R_REMOTES));
+        Set<ObjectId> newTips = new HashSet<>();
+
+        try (RevWalk walk = new RevWalk(repository);
+                ObjectReader reader = repository.newObjectReader();
+                TreeWalk tw = new TreeWalk(reader)) {
+            tw.setFilter(TreeFilter.ANY_DIFF);
+            tw.setRecursive(true);
+            for (Ref ref : refs) {
+                ObjectId id = ref.getObjectId();
+                if (id != null && !ref.isSymbolic()) {
+                    RevCommit commit = parseCommit(walk, id);
+                    if (commit != null) {
+                        walk.markStart(commit);
+                        newTips.add(id.copy());
+                    }
+                }
+            }
+            if (newTips.equals(tips)) {
+                return;
+            }
+            for (ObjectId tip : tips) {
+                RevCommit commit = parseCommit(walk, tip);
+                if (commit != null) {
+                    walk.markUninteresting(commit);
+                }
+            }
+
+            boolean exists = Files.isRegularFile(indexFile);
+            Files.createDirectories(indexFile.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND)))) {
+                if (!exists) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                }
+                int count = 0;
+                for (RevCommit commit : walk) {
+                    if (filters.containsKey(commit)) {
+                        continue;
+                    }
+                    long[] filter = createFilter(tw, commit);
+                    write(out, commit, filter);
+                    filters.put(commit.copy(), filter);
+                    count++;
+                }
+                LOG.debug("{} commits have been added to the history index '{}'.", count, indexFile);
+            }
+        }
+
+        Path tmp = tipsFile.resolveSibling(tipsFile.getFileName() + ".tmp");
+        List<String> lines = newTips.stream().map(ObjectId::getName).toList();
+        Files.write(tmp, lines, StandardCharsets.UTF_8);
+        Files.move(tmp, tipsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        tips = newTips;
+    }
+
+    /**
+     * @return {@code true} if the commit is indexed and definitely does not change the given file or folder,
+     *         {@code false} if the path may be changed or the commit is not indexed yet
+     */
+    boolean isUnchanged(AnyObjectId commit, String path) {
+        long[] filter = filters.get(commit);
+        if (filter == null || filter == ALL_PATHS) {
+            return false;
+        }
+        return !mayContain(filter, trimSlashes(path));
+    }
+
+    private static RevCommit parseCommit(RevWalk walk, ObjectId id) throws IOException {
+        try {
+            return walk.parseCommit(id);
+        } catch (MissingObjectException e) {
+            // Removed by garbage collection or not fetched yet.
+            return null;
+        } catch (IOException e) {
+            // Not a commit, for example a tag pointing to a tree.
+            LOG.debug(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static long[] createFilter(TreeWalk tw, RevCommit commit) throws IOException {
+        RevCommit[] parents = commit.getParents();
+        ObjectId[] trees = new ObjectId[parents.length + 1];
+        for (int i = 0; i < parents.length; i++) {
+            trees[i] = parents[i].getTree();
+        }
+        trees[parents.length] = commit.getTree();
+        tw.reset(trees);
+
+        Set<String> paths = new HashSet<>();
+        while (tw.next()) {
+            String path = tw.getPathString();
+            // Register the file with all its parent folders
+            for (int i = path.length(); i > 0; i = path.lastIndexOf('/', i - 1)) {
+                if (!paths.add(path.substring(0, i))) {
+                    break;
+                }
+            }
+            if (paths.size() > MAX_CHANGED_PATHS) {
+                return ALL_PATHS;
+            }
+        }
+
+        long[] filter = new long[Math.max(1, (paths.size() * BITS_PER_PATH + 63) / 64)];
+        for (String path : paths) {
+            long bits = filter.length * 64L;
+            int h1 = path.hashCode();
+            int h2 = fnvHash(path);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+                filter[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+        return filter;
+    }
+
+    private static boolean mayContain(long[] filter, String path) {
+        long bits = filter.length * 64L;
+        int h1 = path.hashCode();
+        int h2 = fnvHash(path);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+            if ((filter[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fnvHash(String path) {
+        int hash = 0x811c9dc5;
+        for (byte b : path.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x01000193;
+        }
+        // Must be odd to produce distinct positions for every hash function
+        return hash | 1;
+    }
+
+    private static String trimSlashes(String path) {
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+
+    private static void write(DataOutputStream out, ObjectId id, long[] filter) throws IOException {
+        byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+        id.copyRawTo(raw, 0);
+        out.write(raw);
+        out.writeInt(filter.length);
+        for (long word : filter) {
+            out.writeLong(word);
+        }
+    }
+}
@@ -34,6 +34,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -175,6 +179,11 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
     private WildcardBranchNameFilter protectedBranchFilter = WildcardBranchNameFilter.NO_MATCH;
 
     private boolean useLFS = false;
+    private boolean historyIndex;
+    private ChangedPathsIndex changedPathsIndex;
+    private ExecutorService maintenanceExecutor;
+    private final AtomicBoolean historyIndexUpdateScheduled = new AtomicBoolean();
+    private final AtomicBoolean gcScheduled = new AtomicBoolean();
 
     private ChangesMonitor monitor;
     private volatile Git git;
@@ -219,28 +228,21 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
     public List<FileData> list(String path) throws IOException {
         initializeGit(true);
 
-        if (isEmpty()) {
-            return Collections.emptyList();
-        }
-        ObjectId objectId = resolveBranchId();
-        if (objectId == null) {
-            return Collections.emptyList();
-        }
-        return iterate(path, new ListCommand(objectId));
+        return iterate(path, ListCommand::new);
     }
 
     @Override
     public FileData check(String name) throws IOException {
         initializeGit(true);
 
-        return iterate(name, new CheckCommand());
+        return iterate(name, CheckCommand::new);
     }
 
     @Override
     public FileItem read(String name) throws IOException {
         initializeGit(true);
 
-        return iterate(name, new ReadCommand());
+        return iterate(name, ReadCommand::new);
     }
 
     @Override
@@ -753,6 +755,14 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
                 credentialsProvider.successAuthentication(GitActionType.INIT);
             }
             tryToUnlockIndex();
+            if (maintenanceExecutor == null) {
+                maintenanceExecutor = Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "openl-git-maintenance");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            initHistoryIndex();
         } catch (Exception e) {
             if (git != null) {
                 try {
@@ -983,6 +993,80 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
         throw new IllegalStateException("Failed to initialize a repository: " + e.getMessage(), e);
     }
 
+    private void initHistoryIndex() {
+        if (!historyIndex || changedPathsIndex != null) {
+            return;
+        }
+        ChangedPathsIndex index = new ChangedPathsIndex(git.getRepository().getDirectory().toPath().resolve("openl"));
+        try {
+            index.load();
+        } catch (IOException e) {
+            log.warn("Failed to read the history index for '{}' repository. It will be rebuilt.", name, e);
+            index = new ChangedPathsIndex(git.getRepository().getDirectory().toPath().resolve("openl"));
+        }
+        changedPathsIndex = index;
+        scheduleHistoryIndexUpdate();
+    }
+
+    /**
+     * Indexes new commits in background. The commits which are not indexed yet are checked by comparing the trees, so
+     * history queries don't wait for the index.
+     */
+    private void scheduleHistoryIndexUpdate() {
+        ChangedPathsIndex index = changedPathsIndex;
+        if (index == null || !historyIndexUpdateScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        maintenanceExecutor.execute(() -> {
+            historyIndexUpdateScheduled.set(false);
+            Git current = git;
+            if (current == null) {
+                return;
+            }
+            try {
+                index.update(current.getRepository());
+            } catch (Exception e) {
+                log.warn("Failed to update the history index for '{}' repository.", name, e);
+            }
+        });
+    }
+
+    /**
+     * Runs garbage collection in background. It holds the write lock to not interfere with saving changes.
+     */
+    private void scheduleGc() {
+        if (!gcScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        maintenanceExecutor.execute(() -> {
+            gcScheduled.set(false);
+            Lock writeLock = repositoryLock.writeLock();
+            try {
+                log.debug("gc(): lock");
+                writeLock.lock();
+                if (git != null) {
+                    git.gc().call();
+                }
+            } catch (Exception e) {
+                log.warn(e.getMessage(), e);
+            } finally {
+                writeLock.unlock();
+                log.debug("gc(): unlock");
+            }
+        });
+    }
+
+    /**
+     * Waits until the background tasks scheduled before, such as garbage collection, are completed.
+     */
+    void awaitMaintenance() throws InterruptedException, ExecutionException {
+        ExecutorService executor = maintenanceExecutor;
+        if (executor != null) {
+            executor.submit(() -> {
+            }).get();
+        }
+    }
+
     @Override
     public void close() {
         closed = true;
@@ -991,6 +1075,11 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
             monitor.release();
             monitor = null;
         }
+        if (maintenanceExecutor != null) {
+            maintenanceExecutor.shutdownNow();
+            maintenanceExecutor = null;
+            changedPathsIndex = null;
+        }
         if (git != null) {
             git.close();
             git = null;
@@ -1071,6 +1160,13 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
         this.gcAutoDetach = gcAutoDetach;
     }
 
+    /**
+     * If true, the paths changed by each commit are indexed on the disk to skip unrelated commits in history queries.
+     */
+    public void setHistoryIndex(boolean historyIndex) {
+        this.historyIndex = historyIndex;
+    }
+
     private static TreeWalk buildTreeWalk(Repository repository,
                                           String path,
                                           RevTree tree) throws IOException {
@@ -1209,6 +1305,7 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
         if (branchesChanged) {
             monitor.fireOnChange();
         }
+        scheduleHistoryIndexUpdate();
 
         try {
             log.debug("getLastRevision(): lock");
@@ -1726,23 +1823,38 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
         }
     }
 
-    private <T> T iterate(String path, WalkCommand<T> command) throws IOException {
+    /**
+     * Resolves the current commit of the branch. Saving changes commits to the branch before pushing and resets it
+     * back if they are rejected, so the reference is resolved under the read lock to not see such commits.
+     */
+    private ObjectId resolveCommittedBranchId() throws IOException {
         Lock readLock = repositoryLock.readLock();
         try {
-            log.debug("iterate(): lock");
+            log.debug("resolveCommittedBranchId(): lock");
             readLock.lock();
+            return isEmpty() ? null : resolveBranchId();
+        } finally {
+            readLock.unlock();
+            log.debug("resolveCommittedBranchId(): unlock");
+        }
+    }
+
+    /**
+     * Reads the tree of the current commit of the branch. Committed objects are immutable and the branch reference is
+     * resolved only once, so the repository lock is held only for resolving it.
+     */
+    private <T> T iterate(String path, Function<ObjectId, WalkCommand<T>> commandFactory) throws IOException {
+        try {
             initLfsCredentials();
 
             Repository repository = git.getRepository();
-            if (isEmpty()) {
+            ObjectId branchId = resolveCommittedBranchId();
+            WalkCommand<T> command = commandFactory.apply(branchId);
+            if (branchId == null) {
                 return command.apply(repository, null, path);
             }
 
             try (RevWalk walk = new RevWalk(repository)) {
-                ObjectId branchId = resolveBranchId();
-                if (branchId == null) {
-                    return command.apply(repository, null, path);
-                }
                 RevCommit commit = walk.parseCommit(branchId);
                 RevTree tree = commit.getTree();
 
@@ -1759,8 +1871,6 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
             throw new IOException(e);
         } finally {
             resetLfsCredentials();
-            readLock.unlock();
-            log.debug("iterate(): unlock");
         }
     }
 
@@ -1769,20 +1879,18 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
                                  String globalFilter,
                                  boolean techRevs,
                                  Pageable page) throws IOException {
-        Lock readLock = repositoryLock.readLock();
         try {
-            log.debug("iterateHistory(): lock");
-            readLock.lock();
             initLfsCredentials();
 
-            if (isEmpty()) {
+            ObjectId branchId = resolveCommittedBranchId();
+            if (branchId == null) {
                 return historyVisitor.getResult();
             }
 
             // We cannot use git.log().addPath(path) because jgit has some issues for some scenarios when merging commits
             // so some history elements aren't shown. So we iterate all commits and filter them out ourselves.
             Iterator<RevCommit> iterator = git.log()
-                    .add(resolveBranchId())
+                    .add(branchId)
                     .setRevFilter(buildGlobalRevisionFilter(globalFilter))
                     .call()
                     .iterator();
@@ -1799,12 +1907,15 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
                 skip = page.getOffset();
                 maxCount = page.getPageSize();
             }
+            ChangedPathsIndex index = changedPathsIndex;
             try (ObjectReader or = repository.newObjectReader()) {
                 TreeWalk tw = createTreeWalk(or, name);
 
                 while (iterator.hasNext() && processed < maxCount) {
                     RevCommit commit = iterator.next();
-                    boolean hasChanges = hasChangesInPath(tw, commit, git);
+                    boolean hasChanges = (index == null || !index.isUnchanged(commit, name)) && hasChangesInPath(tw,
+                            commit,
+                            git);
                     if (!techRevs && !hasChanges) {
                         continue;
                     }
@@ -1828,8 +1939,6 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
             throw new IOException(e);
         } finally {
             resetLfsCredentials();
-            readLock.unlock();
-            log.debug("iterateHistory(): unlock");
         }
     }
 
@@ -1864,10 +1973,7 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
     }
 
     private <T> T parseHistory(String name, String version, HistoryVisitor<T> historyVisitor) throws IOException {
-        Lock readLock = repositoryLock.readLock();
         try {
-            log.debug("parseHistory(): lock");
-            readLock.lock();
             initLfsCredentials();
 
             return parseHistory0(name, version, historyVisitor);
@@ -1877,8 +1983,6 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
             throw new IOException(e);
         } finally {
             resetLfsCredentials();
-            readLock.unlock();
-            log.debug("parseHistory(): unlock");
         }
     }
 
@@ -2188,7 +2292,7 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
     public List<FileData> listFolders(String path) throws IOException {
         initializeGit(true);
 
-        return iterate(path, new ListFoldersCommand());
+        return iterate(path, ListFoldersCommand::new);
     }
 
     @Override
@@ -2401,11 +2505,7 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
             if (uri == null) {
                 // GC is required in local mode. In remote mode autoGC() will be invoked on each fetch or merge.
                 // autoGC() didn't solve the issue for local repository, so we use gc() instead.
-                try {
-                    git.gc().call();
-                } catch (Exception e) {
-                    log.warn(e.getMessage(), e);
-                }
+                scheduleGc();
             }
         } catch (IOException e) {
             reset(commitId);
@@ -2838,6 +2938,8 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
         repo.branches = branches; // Can be shared between instances
         repo.monitor = monitor;
         repo.useLFS = useLFS;
+        repo.maintenanceExecutor = maintenanceExecutor; // Background tasks are for the same git repository
+        repo.changedPathsIndex = changedPathsIndex;
         return repo;
     }
 
@@ -3233,6 +3335,12 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
     }
 
     private class ListFoldersCommand implements WalkCommand<List<FileData>> {
+        private final ObjectId start;
+
+        private ListFoldersCommand(ObjectId start) {
+            this.start = start;
+        }
+
         @Override
         public List<FileData> apply(Repository repository,
                                     TreeWalk rootWalk,
@@ -3256,7 +3364,6 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
         private List<FileData> collectFolderData(TreeWalk rootWalk, String baseFolder) throws IOException {
             List<FileData> files = new ArrayList<>();
             rootWalk.setRecursive(false);
-            ObjectId start = resolveBranchId();
             while (rootWalk.next()) {
                 if ((rootWalk.getFileMode().getBits() & FileMode.TYPE_TREE) != 0) {
                     files.add(createFileData(rootWalk, baseFolder, start));
@@ -3268,12 +3375,18 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
     }
 
     private class CheckCommand implements WalkCommand<FileData> {
+        private final ObjectId start;
+
+        private CheckCommand(ObjectId start) {
+            this.start = start;
+        }
+
         @Override
         public FileData apply(Repository repository,
                               TreeWalk rootWalk,
                               String baseFolder) throws IOException {
             if (rootWalk != null && StringUtils.isNotEmpty(baseFolder)) {
-                return createFileData(rootWalk, "", resolveBranchId());
+                return createFileData(rootWalk, "", start);
             } else {
                 return null;
             }
@@ -3281,12 +3394,18 @@ public class GitRepository implements BranchRepository, RepositorySettingsAware,
     }
 
     private class ReadCommand implements WalkCommand<FileItem> {
+        private final ObjectId start;
+
+        private ReadCommand(ObjectId start) {
+            this.start = start;
+        }
+
         @Override
         public FileItem apply(Repository repository,
                               TreeWalk rootWalk,
                               String baseFolder) throws IOException {
             if (rootWalk != null && StringUtils.isNotEmpty(baseFolder)) {
-                FileData fileData = createFileData(rootWalk, "", resolveBranchId());
+                FileData fileData = createFileData(rootWalk, "", start);
                 ObjectLoader loader = downloadLfs(repository.open(rootWalk.getObjectId(0)));
                 return new FileItem(fileData, loader.openStream());
             } else {
@@ -0,0 +1,68 @@
+package org.openl.rules.repository.git;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.openl.rules.repository.git.TestGitUtils.createNewFile;
+import static org.openl.rules.repository.git.TestGitUtils.writeText;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChangedPathsIndexTest {
+
+    @TempDir
+    private File root;
+
+    @Test
+    public void indexChangedPaths() throws Exception {
+        try (Git git = Git.init().setDirectory(root).call()) {
+            File fileA = createNewFile(new File(root, "rules/a"), "file", "a");
+            File fileB = createNewFile(new File(root, "rules/b"), "file", "b");
+            RevCommit first = commit(git, "Initial commit");
+            writeText(fileA, "a2");
+            RevCommit second = commit(git, "Modify a");
+
+            Path indexFolder = root.toPath().resolve(".git/openl");
+            ChangedPathsIndex index = new ChangedPathsIndex(indexFolder);
+            index.load();
+            assertFalse(index.isUnchanged(second, "rules/b"), "Not indexed commits are treated as changed");
+
+            index.update(git.getRepository());
+            assertFalse(index.isUnchanged(first, "rules/a"));
+            assertFalse(index.isUnchanged(first, "rules/b/file"));
+            assertFalse(index.isUnchanged(second, "rules"));
+            assertFalse(index.isUnchanged(second, "rules/a/"));
+            assertFalse(index.isUnchanged(second, "rules/a/file"));
+            assertTrue(index.isUnchanged(second, "rules/b"));
+            assertTrue(index.isUnchanged(second, "rules/b/file"));
+            assertTrue(index.isUnchanged(second, "other"));
+
+            writeText(fileB, "b2");
+            RevCommit third = commit(git, "Modify b");
+            assertFalse(index.isUnchanged(third, "rules/a"));
+            index.update(git.getRepository());
+            assertTrue(index.isUnchanged(third, "rules/a"));
+            assertFalse(index.isUnchanged(third, "rules/b"));
+
+            // Emulate the record interrupted while writing
+            Files.write(indexFolder.resolve("changed-paths.idx"), new byte[] { 1, 2, 3 }, StandardOpenOption.APPEND);
+            ChangedPathsIndex loaded = new ChangedPathsIndex(indexFolder);
+            loaded.load();
+            assertTrue(loaded.isUnchanged(second, "rules/b"));
+            assertTrue(loaded.isUnchanged(third, "rules/a"));
+            assertFalse(loaded.isUnchanged(third, "rules/b"));
+        }
+    }
+
+    private static RevCommit commit(Git git, String message) throws Exception {
+        git.add().addFilepattern(".").call();
+        return git.commit().setMessage(message).setCommitter("User 1", "user1@email.to").call();
+    }
+}
@@ -487,6 +487,28 @@ public class GitRepositoryTest {
         assertEquals(1, repo.listHistory("rules/project1/folder").size());
     }
 
+    @Test
+    public void listHistoryWithIndex() throws Exception {
+        File indexed = new File(root, "indexed");
+        try (GitRepository repository = createRepository(remote.toURI().toString(), indexed, BRANCH, true)) {
+            File tips = new File(indexed, ".git/openl/changed-paths.tips");
+            for (int i = 0; i < 100 && !tips.exists(); i++) {
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+            assertTrue(tips.exists(), "History index must be built in background");
+
+            List<FileData> file2History = repository.listHistory("rules/project1/file2");
+            assertEquals(2, file2History.size());
+            assertEquals("Rules_2", file2History.get(0).getVersion());
+            assertEquals("Rules_3", file2History.get(1).getVersion());
+
+            assertEquals(2, repository.listHistory("rules/project1").size());
+            assertEquals(1, repository.listHistory("rules/project1/folder").size());
+            assertEquals(repo.listHistory("rules/project1", null, true, Page.unpaged()).size(),
+                    repository.listHistory("rules/project1", null, true, Page.unpaged()).size());
+        }
+    }
+
     @Test
     public void checkHistory() throws IOException {
         assertEquals("Rules_2", repo.checkHistory("rules/project1/file2", "Rules_2").getVersion());
@@ -1282,6 +1304,10 @@ public class GitRepositoryTest {
     }
 
     private GitRepository createRepository(String remoteUri, File local, String branch) {
+        return createRepository(remoteUri, local, branch, false);
+    }
+
+    private GitRepository createRepository(String remoteUri, File local, String branch, boolean historyIndex) {
         GitRepository repo = new GitRepository();
         repo.setUri(remoteUri);
         repo.setLocalRepositoryPath(local.getAbsolutePath());
@@ -1294,6 +1320,7 @@ public class GitRepositoryTest {
         String locksRoot = new File(root, "locks").getAbsolutePath();
         repo.setRepositorySettings(new RepositorySettings(settingsRepository, locksRoot, 1));
         repo.setGcAutoDetach(false);
+        repo.setHistoryIndex(historyIndex);
         repo.initialize();
 
         return repo;
@@ -11,10 +11,15 @@ import static org.openl.rules.repository.git.TestGitUtils.assertContains;
 import static org.openl.rules.repository.git.TestGitUtils.createFileData;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -100,7 +105,7 @@ public class LocalGitRepositoryTest {
     }
 
     @Test
-    public void testCreatePackFolderAfterGC() throws IOException {
+    public void testCreatePackFolderAfterGC() throws Exception {
         File packDirectory;
         try (Git git = repo.getClosableGit()) {
             packDirectory = ((ObjectDirectory) git.getRepository().getObjectDatabase()).getPackDirectory();
@@ -115,12 +120,47 @@ public class LocalGitRepositoryTest {
         folderData.setName("rules/project1");
         folderData.setAuthor(new UserInfo("jsmith", "jsmith@email", "John Smith"));
 
-        // git.gc() is invoked inside repo.save()
+        // git.gc() is invoked in background after repo.save()
         FileData savedData = repo.save(folderData, changes, ChangesetType.FULL);
         assertNotNull(savedData);
+        repo.awaitMaintenance();
         assertTrue(packDirectory.exists());
     }
 
+    @Test
+    public void testReadWaitsForSave() throws Exception {
+        String path = "rules/project1/file1";
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream content = new FilterInputStream(IOUtils.toInputStream("Saved")) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                saving.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                return super.read(b, off, len);
+            }
+        };
+        FutureTask<FileData> save = new FutureTask<>(() -> repo.save(createFileData(path, "Saved"), content));
+        new Thread(save).start();
+        saving.await();
+
+        // The write lock is held by the save, so reading must wait for the saved commit
+        FutureTask<String> read = new FutureTask<>(() -> GitRepositoryTest.readText(repo.read(path)));
+        Thread reader = new Thread(read);
+        reader.start();
+        while (reader.isAlive() && reader.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertNotNull(save.get());
+        assertEquals("Saved", read.get());
+    }
+
     @Test
     public void testBranches() throws IOException {
         try {
@@ -1,9 +1,11 @@
 package org.openl.rules.repository.common;
 
+import java.io.IOException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,13 +15,24 @@ import org.openl.rules.repository.api.Listener;
 /**
  * For monitoring changes in a repository. If the difference is detected then a {@link Listener#onChange()} will be
  * called. Monitor uses {@link RevisionGetter#getRevision()} to retrieve the current change set revision.
+ * <p>
+ * If a {@link ChangesNotifier} is defined, the revision is checked as soon as a notification is received in addition to
+ * the periodical checks.
  *
  * @author Yury Molchan
  */
 public class ChangesMonitor implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(ChangesMonitor.class);
+    /**
+     * Delay in milliseconds to collect a burst of the notifications, e.g. while a deployment is being copied, into one
+     * check.
+     */
+    private static final long NOTIFICATION_DELAY = 200;
     private RevisionGetter getter;
     private final int period;
+    private final ChangesNotifier notifier;
+    private final AtomicBoolean checkScheduled = new AtomicBoolean();
+    private boolean notifierStarted;
 
     private ScheduledExecutorService scheduledPool;
     private ScheduledFuture<?> scheduled;
@@ -34,9 +47,20 @@ public class ChangesMonitor implements Runnable {
      * @param period the comparison period of revisions in seconds
      */
     public ChangesMonitor(RevisionGetter getter, int period) {
+        this(getter, period, null);
+    }
+
+    /**
+     * Creates a monitor instance which checks the revision on the notifications as well.
+     *
+     * @param getter for retrieving revisions of the monitored repository
+     * @param period the comparison period of revisions in seconds
+     * @param notifier the source of the notifications about changes, can be null
+     */
+    public ChangesMonitor(RevisionGetter getter, int period, ChangesNotifier notifier) {
         this.getter = getter;
         this.period = period;
-
+        this.notifier = notifier;
     }
 
     public synchronized void setListener(Listener listener) {
@@ -57,6 +81,31 @@ public class ChangesMonitor implements Runnable {
             lastChange = getRevision();
             // run a new monitoring task
             scheduled = scheduledPool.scheduleWithFixedDelay(this, period, period, TimeUnit.SECONDS);
+            startNotifier();
+        }
+    }
+
+    private void startNotifier() {
+        if (notifier == null || notifierStarted) {
+            return;
+        }
+        try {
+            notifier.start(this::onNotification);
+            notifierStarted = true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to subscribe to the repository changes. Only periodical checking is used.", e);
+        }
+    }
+
+    private synchronized void onNotification() {
+        if (scheduled == null || scheduledPool == null) {
+            return;
+        }
+        if (checkScheduled.compareAndSet(false, true)) {
+            scheduledPool.schedule(() -> {
+                checkScheduled.set(false);
+                run();
+            }, NOTIFICATION_DELAY, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -102,6 +151,13 @@ public class ChangesMonitor implements Runnable {
     public synchronized void release() {
         getter = null;
         scheduled = null;
+        if (notifier != null) {
+            try {
+                notifier.close();
+            } catch (Exception e) {
+                LOG.debug("Ignored error: ", e);
+            }
+        }
         if (scheduledPool == null) {
             return;
         }
@@ -0,0 +1,20 @@
+package org.openl.rules.repository.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Source of the push notifications about changes in a repository, such as a file system watcher or a queue of the
+ * storage events. A notification only triggers checking of the revision by {@link ChangesMonitor}, so duplicated or
+ * false notifications are harmless. The periodical checking is kept to detect the changes which have been missed.
+ */
+public interface ChangesNotifier extends Closeable {
+
+    /**
+     * Starts delivering of the notifications.
+     *
+     * @param callback is called when the repository might have been changed
+     * @throws IOException if notifications cannot be delivered, so the changes are detected by polling only
+     */
+    void start(Runnable callback) throws IOException;
+}
@@ -0,0 +1,166 @@
+package org.openl.rules.repository.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a remote object by the consecutive byte ranges downloaded in parallel. Up to {@code concurrency} parts are
+ * requested ahead of the current reading position, so the transfer rate is not limited by the latency of a single
+ * request. The memory used by the stream is bounded by {@code concurrency * partSize} bytes.
+ */
+public final class ParallelRangeInputStream extends InputStream {
+
+    /**
+     * Downloads a byte range of the object.
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+        /**
+         * @param offset the first byte of the range
+         * @param length the length of the range
+         * @return exactly {@code length} bytes of the object starting from {@code offset}
+         */
+        byte[] read(long offset, int length) throws IOException;
+    }
+
+    private final RangeReader reader;
+    private final long size;
+    private final int partSize;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final Deque<Future<byte[]>> parts = new ArrayDeque<>();
+
+    private long nextOffset;
+    private byte[] current;
+    private int position;
+    private boolean closed;
+
+    /**
+     * @param reader downloads the ranges of the object
+     * @param size the size of the object in bytes
+     * @param partSize the size of the range requested at once
+     * @param concurrency the maximum number of the ranges requested ahead
+     * @param executor the executor to download the ranges
+     */
+    public ParallelRangeInputStream(RangeReader reader,
+                                    long size,
+                                    int partSize,
+                                    int concurrency,
+                                    ExecutorService executor) {
+        if (partSize <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("Part size and concurrency must be greater than 0.");
+        }
+        this.reader = Objects.requireNonNull(reader);
+        this.executor = Objects.requireNonNull(executor);
+        this.size = size;
+        this.partSize = partSize;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextPart()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextPart()) {
+            return -1;
+        }
+        int count = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return current == null ? 0 : current.length - position;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        current = null;
+        Future<byte[]> part;
+        while ((part = parts.poll()) != null) {
+            part.cancel(true);
+        }
+    }
+
+    private boolean nextPart() throws IOException {
+        ensureOpen();
+        if (current != null && position < current.length) {
+            return true;
+        }
+        requestParts();
+        Future<byte[]> part = parts.poll();
+        if (part == null) {
+            current = null;
+            return false;
+        }
+        current = await(part);
+        position = 0;
+        requestParts();
+        return current.length > 0 || nextPart();
+    }
+
+    private void requestParts() {
+        while (parts.size() < concurrency && nextOffset < size) {
+            long offset = nextOffset;
+            int length = (int) Math.min(partSize, size - offset);
+            parts.add(executor.submit(() -> {
+                byte[] bytes = reader.read(offset, length);
+                if (bytes.length != length) {
+                    throw new IOException(String.format("Expected %s bytes at offset %s, but %s bytes were received.",
+                            length,
+                            offset,
+                            bytes.length));
+                }
+                return bytes;
+            }));
+            nextOffset += length;
+        }
+    }
+
+    private byte[] await(Future<byte[]> part) throws IOException {
+        try {
+            return part.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed.");
+        }
+    }
+}
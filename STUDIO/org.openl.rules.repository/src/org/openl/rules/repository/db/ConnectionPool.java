@@ -0,0 +1,206 @@
+package org.openl.rules.repository.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps idle JDBC connections to reuse them instead of opening a new physical connection for every repository
+ * operation. A connection is returned to the pool when it is closed. An uncommitted transaction is rolled back, and
+ * the auto-commit, read-only, transaction isolation, catalog and schema settings are restored to the values the
+ * connection had when it was opened.
+ */
+final class ConnectionPool {
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+
+    /**
+     * Connections idle longer than this time are validated before reusing.
+     */
+    private static final long VALIDATION_INTERVAL = 30_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final int maxIdle;
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private boolean closed;
+
+    ConnectionPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    Connection getConnection(ConnectionFactory factory) throws SQLException {
+        IdleConnection candidate;
+        while ((candidate = poll()) != null) {
+            Connection connection = candidate.connection();
+            boolean valid;
+            try {
+                long idleTime = System.currentTimeMillis() - candidate.since();
+                valid = idleTime < VALIDATION_INTERVAL ? !connection.isClosed()
+                                                       : connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                LOG.debug("Connection validation is failed.", e);
+                valid = false;
+            }
+            if (valid) {
+                return wrap(connection, candidate.initialState());
+            }
+            closeQuietly(connection);
+        }
+        Connection connection = factory.create();
+        ConnectionState initialState;
+        try {
+            initialState = ConnectionState.of(connection);
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+        return wrap(connection, initialState);
+    }
+
+    /**
+     * Closes the idle connections. The connections in use are closed when they are released.
+     */
+    void close() {
+        List<IdleConnection> toClose;
+        synchronized (idle) {
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+        }
+        toClose.forEach(c -> closeQuietly(c.connection()));
+    }
+
+    private IdleConnection poll() {
+        synchronized (idle) {
+            return idle.pollFirst();
+        }
+    }
+
+    private void release(Connection connection, ConnectionState initialState) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            initialState.restore(connection);
+            connection.clearWarnings();
+        } catch (SQLException e) {
+            LOG.debug("Cannot reset the connection state.", e);
+            closeQuietly(connection);
+            return;
+        }
+        synchronized (idle) {
+            if (!closed && idle.size() < maxIdle) {
+                idle.addFirst(new IdleConnection(connection, initialState, System.currentTimeMillis()));
+                return;
+            }
+        }
+        closeQuietly(connection);
+    }
+
+    private Connection wrap(Connection connection, ConnectionState initialState) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new PooledConnectionHandler(connection, initialState));
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (Exception e) {
+            LOG.warn("Unexpected sql failure", e);
+        }
+    }
+
+    private record IdleConnection(Connection connection, ConnectionState initialState, long since) {
+    }
+
+    /**
+     * The settings of a connection which can be changed by a user of the pooled connection.
+     */
+    private record ConnectionState(boolean autoCommit,
+            boolean readOnly,
+            int transactionIsolation,
+            String catalog,
+            String schema) {
+
+        static ConnectionState of(Connection connection) throws SQLException {
+            return new ConnectionState(connection.getAutoCommit(),
+                    connection.isReadOnly(),
+                    connection.getTransactionIsolation(),
+                    connection.getCatalog(),
+                    connection.getSchema());
+        }
+
+        void restore(Connection connection) throws SQLException {
+            if (connection.getAutoCommit() != autoCommit) {
+                connection.setAutoCommit(autoCommit);
+            }
+            if (connection.isReadOnly() != readOnly) {
+                connection.setReadOnly(readOnly);
+            }
+            if (connection.getTransactionIsolation() != transactionIsolation) {
+                connection.setTransactionIsolation(transactionIsolation);
+            }
+            if (!Objects.equals(connection.getCatalog(), catalog)) {
+                connection.setCatalog(catalog);
+            }
+            if (!Objects.equals(connection.getSchema(), schema)) {
+                connection.setSchema(schema);
+            }
+        }
+    }
+
+    private final class PooledConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private final ConnectionState initialState;
+        private boolean released;
+
+        private PooledConnectionHandler(Connection connection, ConnectionState initialState) {
+            this.connection = connection;
+            this.initialState = initialState;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!released) {
+                        released = true;
+                        release(connection, initialState);
+                    }
+                    return null;
+                case "isClosed":
+                    return released || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + connection;
+                default:
+                    if (released) {
+                        throw new SQLException("Connection is closed.");
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package org.openl.rules.repository.db;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -34,6 +42,12 @@ import org.openl.util.db.SqlDBUtils;
 abstract class DBRepository implements Repository, Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(DBRepository.class);
 
+    /**
+     * Files bigger than this size are copied to a temporary file instead of the memory when they are read.
+     */
+    private static final long MAX_IN_MEMORY_SIZE = 1024 * 1024;
+    private static final int MAX_CACHED_VERSIONS = 1000;
+
     private String id;
     private String name;
     private volatile Settings settings;
@@ -42,6 +56,18 @@ abstract class DBRepository implements Repository, Closeable {
 
     private volatile boolean initialized = false;
 
+    /**
+     * Meta information of the historic versions. It is cleared when the repository is changed.
+     */
+    private final Map<HistoryKey, FileMetaInfo> historyCache = Collections
+            .synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<HistoryKey, FileMetaInfo> eldest) {
+                    return size() > MAX_CACHED_VERSIONS;
+                }
+            });
+    private volatile Object lastRevision;
+
     public void setId(String id) {
         this.id = id;
     }
@@ -139,18 +165,16 @@ abstract class DBRepository implements Repository, Closeable {
     public List<FileData> save(List<FileItem> fileItems) throws IOException {
         List<FileData> result = new ArrayList<>();
         Connection connection = null;
+        PreparedStatement statement = null;
         try {
             connection = getConnection();
             connection.setAutoCommit(false);
+            // The same statement is reused for all the files in the transaction
+            statement = connection.prepareStatement(settings.insertFile);
             for (FileItem fileItem : fileItems) {
                 FileData data = fileItem.getData();
-                PreparedStatement statement = null;
-                try {
-                    statement = createInsertFileStatement(connection, data, fileItem.getStream());
-                    statement.executeUpdate();
-                } finally {
-                    SqlDBUtils.safeClose(statement);
-                }
+                setInsertFileParameters(statement, data, fileItem.getStream());
+                statement.executeUpdate();
                 data.setVersion(null);
                 result.add(data);
             }
@@ -158,6 +182,7 @@ abstract class DBRepository implements Repository, Closeable {
         } catch (SQLException e) {
             throw new IOException(e);
         } finally {
+            SqlDBUtils.safeClose(statement);
             SqlDBUtils.safeClose(connection);
         }
         invokeListener();
@@ -182,17 +207,15 @@ abstract class DBRepository implements Repository, Closeable {
             return false;
         }
         boolean deleted = false;
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getConnection();
+                PreparedStatement statement = connection.prepareStatement(settings.insertFile)) {
             connection.setAutoCommit(false);
             for (FileData f : data) {
                 FileData lastVersion = getLatestVersionFileData(connection, f.getName());
                 if (lastVersion != null) {
-                    try (PreparedStatement statement = createInsertFileStatement(connection, lastVersion, null)) {
-                        statement.executeUpdate();
-                        deleted = true;
-                    } catch (SQLException e) {
-                        throw new IOException(e);
-                    }
+                    setInsertFileParameters(statement, lastVersion, null);
+                    statement.executeUpdate();
+                    deleted = true;
                 }
             }
             connection.commit();
@@ -448,6 +471,11 @@ abstract class DBRepository implements Repository, Closeable {
     }
 
     private FileData getHistoryVersionFileData(String name, String version) throws IOException {
+        HistoryKey key = new HistoryKey(name, version);
+        FileMetaInfo cached = historyCache.get(key);
+        if (cached != null) {
+            return cached.toFileData();
+        }
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet rs = null;
@@ -460,7 +488,9 @@ abstract class DBRepository implements Repository, Closeable {
 
             FileData fileData = null;
             if (rs.next()) {
-                fileData = createFileData(rs);
+                FileMetaInfo metaInfo = readMetaInfo(rs);
+                historyCache.put(key, metaInfo);
+                fileData = metaInfo.toFileData();
             }
 
             rs.close();
@@ -484,26 +514,43 @@ abstract class DBRepository implements Repository, Closeable {
         }
 
         // ResultSet will be closed, so InputStream can be closed too, that's
-        // why copy it to byte array before.
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try {
-            data.transferTo(out);
+        // why copy it to byte array or to a temporary file before.
+        try (data) {
+            if (fileData.getSize() <= MAX_IN_MEMORY_SIZE) {
+                return new FileItem(fileData, new ByteArrayInputStream(data.readAllBytes()));
+            }
+            return new FileItem(fileData, copyToTempFile(data));
         } catch (IOException e) {
             throw new SQLException(e);
         }
-        return new FileItem(fileData, new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    /**
+     * Copies the stream to a temporary file. The file is removed when the returned stream is closed.
+     */
+    private static InputStream copyToTempFile(InputStream data) throws IOException {
+        Path tempFile = Files.createTempFile("openl-db-repository", ".tmp");
+        try {
+            Files.copy(data, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return Files.newInputStream(tempFile, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
     }
 
     private FileData createFileData(ResultSet rs) throws SQLException {
-        FileData fileData = new FileData();
-        fileData.setName(rs.getString("file_name"));
-        fileData.setSize(rs.getLong("file_size"));
-        fileData.setAuthor(new UserInfo(rs.getString("author")));
-        fileData.setComment(rs.getString("file_comment"));
-        fileData.setModifiedAt(rs.getTimestamp("modified_at"));
-        fileData.setVersion(rs.getString("id"));
-        fileData.setDeleted(rs.getBoolean("deleted"));
-        return fileData;
+        return readMetaInfo(rs).toFileData();
+    }
+
+    private static FileMetaInfo readMetaInfo(ResultSet rs) throws SQLException {
+        return new FileMetaInfo(rs.getString("file_name"),
+                rs.getLong("file_size"),
+                rs.getString("author"),
+                rs.getString("file_comment"),
+                rs.getTimestamp("modified_at"),
+                rs.getString("id"),
+                rs.getBoolean("deleted"));
     }
 
     private String makePathPattern(String path) {
@@ -511,6 +558,7 @@ abstract class DBRepository implements Repository, Closeable {
     }
 
     private void invokeListener() {
+        historyCache.clear();
         monitor.fireOnChange();
     }
 
@@ -520,6 +568,7 @@ abstract class DBRepository implements Repository, Closeable {
             monitor.release();
             monitor = null;
         }
+        historyCache.clear();
 
         synchronized (this) {
             settings = null;
@@ -532,7 +581,8 @@ abstract class DBRepository implements Repository, Closeable {
         PreparedStatement statement = null;
         try {
             connection = getConnection();
-            statement = createInsertFileStatement(connection, data, stream);
+            statement = connection.prepareStatement(settings.insertFile);
+            setInsertFileParameters(statement, data, stream);
             statement.executeUpdate();
             data.setVersion(null);
         } catch (SQLException e) {
@@ -544,31 +594,18 @@ abstract class DBRepository implements Repository, Closeable {
         return data;
     }
 
-    private PreparedStatement createInsertFileStatement(Connection connection,
-                                                        FileData data,
-                                                        InputStream stream) throws SQLException {
-
-        PreparedStatement statement = null;
-        try {
-            statement = connection.prepareStatement(settings.insertFile);
-            String username = Optional.ofNullable(data.getAuthor()).map(UserInfo::getUsername).orElse(null);
-            statement.setString(1, data.getName());
-            statement.setString(2, username);
-            statement.setString(3, data.getComment());
-            if (stream != null) {
-                statement.setBinaryStream(4, stream);
-            } else {
-                // Workaround for PostgreSQL
-                statement.setBinaryStream(4, null, 0);
-            }
-            return statement;
-        } catch (Exception e) {
-            // If exception is thrown, we must close statement in this method and rethrow exception.
-            // If no exception, statement will be closed later.
-            if (statement != null) {
-                SqlDBUtils.safeClose(statement);
-            }
-            throw e;
+    private static void setInsertFileParameters(PreparedStatement statement,
+                                                FileData data,
+                                                InputStream stream) throws SQLException {
+        String username = Optional.ofNullable(data.getAuthor()).map(UserInfo::getUsername).orElse(null);
+        statement.setString(1, data.getName());
+        statement.setString(2, username);
+        statement.setString(3, data.getComment());
+        if (stream != null) {
+            statement.setBinaryStream(4, stream);
+        } else {
+            // Workaround for PostgreSQL
+            statement.setBinaryStream(4, null, 0);
         }
     }
 
@@ -675,6 +712,11 @@ abstract class DBRepository implements Repository, Closeable {
                 LOG.warn("Cannot check revision of the repository.", (Throwable) revision);
                 return null;
             }
+            if (!Objects.equals(revision, lastRevision)) {
+                // Versions can be deleted by other instances
+                historyCache.clear();
+                lastRevision = revision;
+            }
             return revision;
         }
     }
@@ -704,4 +746,28 @@ abstract class DBRepository implements Repository, Closeable {
         }
         return changeSet;
     }
+
+    private record HistoryKey(String name, String version) {
+    }
+
+    private record FileMetaInfo(String name,
+            long size,
+            String author,
+            String comment,
+            Timestamp modifiedAt,
+            String version,
+            boolean deleted) {
+
+        FileData toFileData() {
+            FileData fileData = new FileData();
+            fileData.setName(name);
+            fileData.setSize(size);
+            fileData.setAuthor(new UserInfo(author));
+            fileData.setComment(comment);
+            fileData.setModifiedAt(modifiedAt);
+            fileData.setVersion(version);
+            fileData.setDeleted(deleted);
+            return fileData;
+        }
+    }
 }
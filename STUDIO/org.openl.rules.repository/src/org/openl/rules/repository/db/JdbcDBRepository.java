@@ -11,6 +11,8 @@ public class JdbcDBRepository extends DBRepository {
     private String uri;
     private String login;
     private String password;
+    private int maxIdleConnections = 4;
+    private ConnectionPool connectionPool;
 
     public void setLogin(String login) {
         this.login = login;
@@ -24,12 +26,42 @@ public class JdbcDBRepository extends DBRepository {
         this.uri = uri;
     }
 
+    /**
+     * Maximum number of the opened connections kept for reusing. If 0, a new connection is opened for every operation.
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
     @Override
     protected Connection createConnection() throws SQLException {
+        ConnectionPool pool = getConnectionPool();
+        return pool == null ? openConnection() : pool.getConnection(this::openConnection);
+    }
+
+    private Connection openConnection() throws SQLException {
         if (StringUtils.isBlank(login)) {
             return DriverManager.getConnection(uri);
         } else {
             return DriverManager.getConnection(uri, login, password);
         }
     }
+
+    private synchronized ConnectionPool getConnectionPool() {
+        if (connectionPool == null && maxIdleConnections > 0) {
+            connectionPool = new ConnectionPool(maxIdleConnections);
+        }
+        return connectionPool;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        synchronized (this) {
+            if (connectionPool != null) {
+                connectionPool.close();
+                connectionPool = null;
+            }
+        }
+    }
 }
@@ -11,13 +11,32 @@ public final class FileChangesMonitor implements RevisionGetter {
     private final Path baseDir;
     private ArrayList<FileTimeStamp> timestamps = new ArrayList<>(0);
     private int revision;
+    private volatile boolean watched;
+    private volatile boolean changed = true;
 
     FileChangesMonitor(Path baseDir) {
         this.baseDir = baseDir;
     }
 
+    /**
+     * Enables skipping of the scanning of the base directory until {@link #markChanged()} is called.
+     */
+    void setWatched(boolean watched) {
+        this.watched = watched;
+        this.changed = true;
+    }
+
+    void markChanged() {
+        changed = true;
+    }
+
     @Override
     public Object getRevision() {
+        if (watched && !changed) {
+            return revision;
+        }
+        // The changes made during scanning will be detected on the next check
+        changed = false;
         int quantity = timestamps.size();
         // Allocate memory for scanning the base directory.
         // Usually directory size is not increased extensively from the previous scanning,
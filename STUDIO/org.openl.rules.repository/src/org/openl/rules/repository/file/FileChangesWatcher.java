@@ -0,0 +1,107 @@
+package org.openl.rules.repository.file;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.openl.rules.repository.common.ChangesNotifier;
+
+/**
+ * Notifies about changes in the base directory using {@link WatchService}, so the directory is scanned by
+ * {@link FileChangesMonitor} only if something has been changed there.
+ * <p>
+ * NOTE: The watch service might not receive the changes made on the network file systems from other hosts.
+ */
+final class FileChangesWatcher implements ChangesNotifier {
+    private static final Logger LOG = LoggerFactory.getLogger(FileChangesWatcher.class);
+
+    private final Path baseDir;
+    private final FileChangesMonitor monitor;
+    private WatchService watchService;
+    private Thread thread;
+
+    FileChangesWatcher(Path baseDir, FileChangesMonitor monitor) {
+        this.baseDir = baseDir;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public synchronized void start(Runnable callback) throws IOException {
+        WatchService service = baseDir.getFileSystem().newWatchService();
+        try {
+            register(service, baseDir);
+        } catch (IOException | RuntimeException e) {
+            service.close();
+            throw e;
+        }
+        watchService = service;
+        thread = new Thread(() -> watch(service, callback), "openl-file-changes-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        monitor.setWatched(true);
+    }
+
+    private static void register(WatchService service, Path dir) throws IOException {
+        // WatchService does not watch the subdirectories, so each of them is registered separately
+        try (Stream<Path> dirs = Files.walk(dir)) {
+            for (Path d : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                d.register(service, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            }
+        }
+    }
+
+    private void watch(WatchService service, Runnable callback) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == ENTRY_CREATE && key.watchable() instanceof Path dir) {
+                        Path created = dir.resolve((Path) event.context());
+                        if (Files.isDirectory(created)) {
+                            register(service, created);
+                        }
+                    }
+                }
+                boolean valid = key.reset();
+                monitor.markChanged();
+                callback.run();
+                if (!valid && baseDir.equals(key.watchable())) {
+                    LOG.info("The folder '{}' has been removed. Only periodical checking is used.", baseDir);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // The watcher is stopped
+        } catch (Exception e) {
+            LOG.warn("Watching of the changes in '{}' has been stopped. Only periodical checking is used.", baseDir, e);
+        }
+        // Scan the directory on every check from now on
+        monitor.setWatched(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+}
@@ -46,6 +46,7 @@ public class FileSystemRepository implements Repository, Closeable {
     private ChangesMonitor monitor;
     private String id;
     private int listenerTimerPeriod = 10;
+    private boolean watchChanges;
     private String name;
 
     public void setRoot(Path root) {
@@ -216,7 +217,10 @@ public class FileSystemRepository implements Repository, Closeable {
     @Override
     public void setListener(Listener callback) {
         if (monitor == null) {
-            monitor = new ChangesMonitor(new FileChangesMonitor(getRoot()), listenerTimerPeriod);
+            FileChangesMonitor revisionGetter = new FileChangesMonitor(getRoot());
+            monitor = new ChangesMonitor(revisionGetter,
+                    listenerTimerPeriod,
+                    watchChanges ? new FileChangesWatcher(getRoot(), revisionGetter) : null);
         }
         monitor.setListener(callback);
     }
@@ -422,4 +426,12 @@ public class FileSystemRepository implements Repository, Closeable {
         this.listenerTimerPeriod = listenerTimerPeriod;
     }
 
+    /**
+     * If enabled, the changes are detected with the file system notifications, so the repository folder is not
+     * scanned on every check.
+     */
+    public void setWatchChanges(boolean watchChanges) {
+        this.watchChanges = watchChanges;
+    }
+
 }
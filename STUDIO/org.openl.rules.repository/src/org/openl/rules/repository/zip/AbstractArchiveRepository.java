@@ -19,10 +19,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,7 +54,20 @@ import org.openl.util.ZipUtils;
  */
 abstract class AbstractArchiveRepository implements Repository, Closeable {
 
+    private static final int MAX_ARCHIVE_CHECKS = 1024;
+
     private final Map<Path, FileSystem> openedFileSystems = new HashMap<>();
+    /**
+     * The results of the checks are reused until the file is modified, instead of reading the file signature for every
+     * path. The root folders of the opened archives are reused instead of looking up the file system for every path.
+     */
+    private final Map<Path, ArchiveCheck> archives = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, ArchiveCheck> eldest) {
+            return size() > MAX_ARCHIVE_CHECKS;
+        }
+    };
+    private final Map<Path, Path> archiveRoots = new ConcurrentHashMap<>();
 
     /**
      * Verifies if it's an archive
@@ -62,6 +77,10 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
      * @see <a href="https://en.wikipedia.org/wiki/List_of_file_signatures">List of file signatures</a>
      */
     public static boolean zipArchiveFilter(Path path) {
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+            // Nested archives are not supported
+            return false;
+        }
         if (!Files.isRegularFile(path)) {
             return false;
         }
@@ -159,7 +178,7 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
     public List<FileData> list(String path) throws IOException {
         LinkedList<FileData> files = new LinkedList<>();
         CompoundPath resolvedPath = resolvePath(path);
-        if (zipArchiveFilter(resolvedPath.getPath())) {
+        if (isArchive(resolvedPath.getPath())) {
             resolvedPath = new CompoundPath(resolvedPath.getRoot(),
                     enterZipArchive(resolvedPath.getPath()),
                     resolvedPath.getPath());
@@ -181,7 +200,7 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
         Files.walkFileTree(resolvedPath, new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult visitFile(Path p, BasicFileAttributes attr) throws IOException {
-                if (pathToArchive == null && zipArchiveFilter(p)) {
+                if (pathToArchive == null && isArchive(p)) {
                     try {
                         Path zip = enterZipArchive(p);
                         listFiles(files, root, p, zip);
@@ -211,7 +230,7 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
     public List<FileData> listFolders(String path) throws IOException {
         List<FileData> files = new LinkedList<>();
         CompoundPath resolvedPath = resolvePath(path);
-        if (zipArchiveFilter(resolvedPath.getPath())) {
+        if (isArchive(resolvedPath.getPath())) {
             resolvedPath = new CompoundPath(resolvedPath.getRoot(),
                     enterZipArchive(resolvedPath.getPath()),
                     resolvedPath.getPath());
@@ -223,7 +242,7 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
         List<Path> found;
         try (Stream<Path> stream = Objects.equals(walkRoot, root) ? storage.values().stream()
                 : Files.walk(walkRoot, 1).filter(p -> !walkRoot.equals(p))) {
-            found = stream.filter(p -> Files.isDirectory(p) || zipArchiveFilter(p)).collect(Collectors.toList());
+            found = stream.filter(p -> Files.isDirectory(p) || isArchive(p)).collect(Collectors.toList());
         }
         for (Path p : found) {
             CompoundPath cp = new CompoundPath(Objects.equals(walkRoot, root) ? p.getParent() : resolvedPath.getRoot(),
@@ -263,7 +282,7 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
                 throw new IOException(String.format("Unable to resolve the path [%s].", p));
             }
             // don't enter an archive if it's the last token in the path
-            if (i < path.getNameCount() - 1 && archivePath == null && zipArchiveFilter(resolvedPath)) {
+            if (i < path.getNameCount() - 1 && archivePath == null && isArchive(resolvedPath)) {
                 try {
                     Path tmp = resolvedPath;
                     resolvedPath = enterZipArchive(resolvedPath);
@@ -280,7 +299,47 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
         return new CompoundPath(localRoot, resolvedPath, archivePath);
     }
 
-    private synchronized Path enterZipArchive(Path path) throws IOException {
+    private boolean isArchive(Path path) {
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+            // Nested archives are not supported
+            return false;
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return false;
+        }
+        if (!attributes.isRegularFile()) {
+            return false;
+        }
+        long modified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+        ArchiveCheck check;
+        synchronized (archives) {
+            check = archives.get(path);
+        }
+        if (check == null || check.modified() != modified || check.size() != size) {
+            check = new ArchiveCheck(modified, size, zipArchiveFilter(path));
+            synchronized (archives) {
+                archives.put(path, check);
+            }
+        }
+        return check.archive();
+    }
+
+    private record ArchiveCheck(long modified, long size, boolean archive) {
+    }
+
+    private Path enterZipArchive(Path path) throws IOException {
+        Path archiveRoot = archiveRoots.get(path);
+        if (archiveRoot != null && archiveRoot.getFileSystem().isOpen()) {
+            return archiveRoot;
+        }
+        return openZipArchive(path);
+    }
+
+    private synchronized Path openZipArchive(Path path) throws IOException {
         URI jarURI = ZipUtils.toJarURI(path);
         FileSystem fs;
         try {
@@ -289,7 +348,9 @@ abstract class AbstractArchiveRepository implements Repository, Closeable {
             fs = FileSystems.newFileSystem(jarURI, Collections.emptyMap());
             openedFileSystems.put(path, fs);
         }
-        return fs.getPath(CompoundPath.PATH_SEPARATOR);
+        Path archiveRoot = fs.getPath(CompoundPath.PATH_SEPARATOR);
+        archiveRoots.put(path, archiveRoot);
+        return archiveRoot;
     }
 
     protected int getHashVersion(Path path) throws IOException {
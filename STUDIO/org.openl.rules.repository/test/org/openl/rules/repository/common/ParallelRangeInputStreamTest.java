@@ -0,0 +1,59 @@
+package org.openl.rules.repository.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelRangeInputStreamTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void readByRanges() throws IOException {
+        byte[] content = new byte[10_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        AtomicInteger requests = new AtomicInteger();
+        ParallelRangeInputStream.RangeReader reader = (offset, length) -> {
+            requests.incrementAndGet();
+            return Arrays.copyOfRange(content, (int) offset, (int) offset + length);
+        };
+
+        try (InputStream stream = new ParallelRangeInputStream(reader, content.length, 1024, 3, executor)) {
+            assertEquals(0, stream.read());
+            assertEquals(1, stream.read());
+            byte[] rest = stream.readAllBytes();
+            assertArrayEquals(Arrays.copyOfRange(content, 2, content.length), rest);
+            assertEquals(-1, stream.read());
+        }
+        assertEquals(10, requests.get());
+
+        try (InputStream stream = new ParallelRangeInputStream(reader, 0, 1024, 3, executor)) {
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void failOnBrokenRange() throws IOException {
+        ParallelRangeInputStream.RangeReader reader = (offset, length) -> new byte[length - 1];
+        try (InputStream stream = new ParallelRangeInputStream(reader, 100, 10, 2, executor)) {
+            assertThrows(IOException.class, stream::readAllBytes);
+        }
+    }
+}
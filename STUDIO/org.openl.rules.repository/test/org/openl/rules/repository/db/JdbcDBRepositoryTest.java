@@ -0,0 +1,121 @@
+package org.openl.rules.repository.db;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.repository.api.FileData;
+import org.openl.rules.repository.api.FileItem;
+import org.openl.rules.repository.api.UserInfo;
+
+public class JdbcDBRepositoryTest {
+
+    private JdbcDBRepository repo;
+
+    @BeforeEach
+    public void setUp() {
+        repo = new JdbcDBRepository();
+        repo.setUri("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        repo.setMaxIdleConnections(2);
+        repo.initialize();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    public void saveAndReadFiles() throws IOException {
+        byte[] small = "Small file".getBytes(StandardCharsets.UTF_8);
+        byte[] big = new byte[3 * 1024 * 1024];
+        Arrays.fill(big, (byte) 'x');
+
+        List<FileData> saved = repo.save(List.of(new FileItem(createFileData("rules/small"),
+                new ByteArrayInputStream(small)), new FileItem(createFileData("rules/big"), new ByteArrayInputStream(big))));
+        assertEquals(2, saved.size());
+
+        assertArrayEquals(small, readAll(repo.read("rules/small")));
+        assertArrayEquals(big, readAll(repo.read("rules/big")));
+        assertEquals(2, repo.list("rules/").size());
+
+        String version = repo.check("rules/big").getVersion();
+        assertArrayEquals(big, readAll(repo.readHistory("rules/big", version)));
+        assertEquals(big.length, repo.checkHistory("rules/big", version).getSize());
+        // Cached meta information is returned as a new object
+        FileData cached = repo.checkHistory("rules/big", version);
+        assertEquals(version, cached.getVersion());
+        assertEquals("jsmith", cached.getAuthor().getUsername());
+        assertTrue(repo.checkHistory("rules/big", version) != cached);
+
+        FileData toDelete = new FileData();
+        toDelete.setName("rules/big");
+        toDelete.setVersion(version);
+        assertTrue(repo.deleteHistory(toDelete));
+        assertNull(repo.checkHistory("rules/big", version));
+    }
+
+    @Test
+    public void pooledConnectionStateIsReset() throws SQLException {
+        String uri = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        ConnectionPool pool = new ConnectionPool(1);
+        try {
+            Connection connection = pool.getConnection(() -> DriverManager.getConnection(uri));
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE SCHEMA OTHER");
+            }
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            connection.setSchema("OTHER");
+            connection.close();
+            assertTrue(connection.isClosed());
+
+            try (Connection reused = pool.getConnection(() -> {
+                throw new SQLException("The idle connection must be reused.");
+            })) {
+                assertTrue(reused.getAutoCommit());
+                assertFalse(reused.isReadOnly());
+                assertEquals(Connection.TRANSACTION_READ_COMMITTED, reused.getTransactionIsolation());
+                assertEquals("PUBLIC", reused.getSchema());
+                assertNull(reused.getWarnings());
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    private static byte[] readAll(FileItem item) throws IOException {
+        assertNotNull(item);
+        try (InputStream stream = item.getStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static FileData createFileData(String name) {
+        FileData data = new FileData();
+        data.setName(name);
+        data.setAuthor(new UserInfo("jsmith", "jsmith@email", "John Smith"));
+        data.setComment("Comment for " + name);
+        return data;
+    }
+}
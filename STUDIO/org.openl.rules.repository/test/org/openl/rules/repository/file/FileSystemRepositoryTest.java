@@ -17,6 +17,8 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -35,6 +37,23 @@ public class FileSystemRepositoryTest {
     @TempDir
     Path tmpDir;
 
+    @Test
+    public void watchChanges() throws Exception {
+        var root = Files.createDirectories(tmpDir.resolve("watched-repo"));
+
+        try (FileSystemRepository repo = new FileSystemRepository()) {
+            repo.setRoot(root);
+            repo.setListenerTimerPeriod(3600);
+            repo.setWatchChanges(true);
+            repo.initialize();
+            CountDownLatch changed = new CountDownLatch(1);
+            repo.setListener(changed::countDown);
+
+            assertSave(repo, "folder1/text", "The file in the folder");
+            assertTrue(changed.await(30, TimeUnit.SECONDS), "Changes must be detected without waiting for the timer.");
+        }
+    }
+
     @Test
     public void createFolderOnDemand() throws IOException {
         var root = tmpDir.resolve("parent/my-repo");
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -169,6 +170,27 @@ public class ZippedLocalRepositoryTest {
         read(zipArchive.getStream());
     }
 
+    @Test
+    public void archiveCheckIsRepeatedAfterModificationTest() throws IOException {
+        Path project = repositoryRoot.toPath().resolve("folderDeployment/project");
+        Files.createDirectories(project.getParent());
+        Files.writeString(project, "not an archive");
+        configureZipRepository();
+
+        List<FileData> files = repository.list("/folderDeployment/");
+        assertEquals(1, files.size());
+        assertEquals("folderDeployment/project", files.get(0).getName());
+
+        // The file becomes an archive
+        Files.delete(project);
+        generateZipFile("folderDeployment", "project", Map.of("rules.xml", "foo".getBytes()));
+        Files.setLastModifiedTime(project, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        files = repository.list("/folderDeployment/");
+        assertEquals(1, files.size());
+        assertEquals("folderDeployment/project/rules.xml", files.get(0).getName());
+    }
+
     @Test
     public void initializationTest() throws IOException {
         try {
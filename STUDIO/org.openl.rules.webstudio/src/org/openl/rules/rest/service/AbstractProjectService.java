@@ -45,10 +45,10 @@ public abstract class AbstractProjectService<T extends AProject> implements Proj
     @Override
     @Nonnull
     public List<ProjectViewModel> getProjects(ProjectCriteriaQuery query) {
-        var criteriaFilter = buildFilterCriteria(query)
-                .and(proj -> designRepositoryAclService.isGranted(proj, List.of(BasePermission.READ)))
-                .and(buildTagsFilterCriteria(query));
-        return getProjects0(query).filter(criteriaFilter)
+        var projects = getProjects0(query).filter(buildFilterCriteria(query)).collect(Collectors.toList());
+        return designRepositoryAclService.filterGranted(projects, List.of(BasePermission.READ))
+                .stream()
+                .filter(buildTagsFilterCriteria(query))
                 .sorted(Comparator.comparing(AProject::getBusinessName, String.CASE_INSENSITIVE_ORDER))
                 .map(this::mapProjectResponse)
                 .map(ProjectViewModel.Builder::build)
@@ -93,6 +93,7 @@ import org.openl.rules.webstudio.dependencies.WebStudioWorkspaceRelatedDependenc
 import org.openl.rules.webstudio.web.Props;
 import org.openl.rules.webstudio.web.SearchScope;
 import org.openl.rules.webstudio.web.admin.AdministrationSettings;
+import org.openl.rules.webstudio.web.trace.TreeBuildTracer;
 import org.openl.rules.webstudio.web.trace.node.CachingArgumentsCloner;
 import org.openl.rules.webstudio.web.util.Constants;
 import org.openl.rules.webstudio.web.util.WebStudioUtils;
@@ -1407,13 +1408,17 @@ public class ProjectModel {
         boolean currentOpenedModule = Boolean
                 .parseBoolean(WebStudioUtils.getRequestParameter(Constants.REQUEST_PARAM_CURRENT_OPENED_MODULE));
         try {
+            if (TreeBuildTracer.isStreaming()) {
+                // Arguments are written into the file immediately, so there is no need to clone them
+                CachingArgumentsCloner.initNotCloningInstance();
+            } else {
+                CachingArgumentsCloner.initInstance();
+            }
             if (currentOpenedModule) {
                 Thread.currentThread().setContextClassLoader(openedModuleCompiledOpenClass.getClassLoader());
-                CachingArgumentsCloner.initInstance();
                 runTest(testSuite, false, openedModuleCompiledOpenClass.getOpenClassWithErrors());
             } else {
                 Thread.currentThread().setContextClassLoader(compiledOpenClass.getClassLoader());
-                CachingArgumentsCloner.initInstance();
                 runTest(testSuite, false, compiledOpenClass.getOpenClassWithErrors());
             }
         } finally {
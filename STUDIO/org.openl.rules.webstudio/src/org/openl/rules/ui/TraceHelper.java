@@ -4,13 +4,20 @@
  */
 package org.openl.rules.ui;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionBindingListener;
 
 import org.apache.commons.collections4.BidiMap;
 import org.apache.commons.collections4.bidimap.DualHashBidiMap;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.openl.rules.webstudio.web.trace.TreeBuildTracer;
+import org.openl.rules.webstudio.web.trace.file.TraceFileReader;
 import org.openl.rules.webstudio.web.trace.node.ITracerObject;
 import org.openl.rules.webstudio.web.trace.node.LazyTracerNodeObject;
 import org.openl.rules.webstudio.web.trace.node.RefToTracerNodeObject;
@@ -18,9 +25,12 @@ import org.openl.rules.webstudio.web.trace.node.RefToTracerNodeObject;
 /**
  * @author snshor
  */
-public class TraceHelper {
+public class TraceHelper implements HttpSessionBindingListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TraceHelper.class);
 
     private final BidiMap<Integer, ITracerObject> traceTreeCache = new DualHashBidiMap<>();
+    private TraceFileReader traceFile;
 
     public ITracerObject getTableTracer(int elementId) {
         var node = traceTreeCache.get(elementId);
@@ -74,4 +84,32 @@ public class TraceHelper {
     public Integer getNodeKey(ITracerObject node) {
         return traceTreeCache.getKey(node);
     }
+
+    /**
+     * Registers the trace which has been written into the file. The previous trace file is closed and removed.
+     */
+    public synchronized void cacheTraceFile(TraceFileReader reader) {
+        closeTraceFile();
+        traceFile = reader;
+    }
+
+    public synchronized TraceFileReader getTraceFile() {
+        return traceFile;
+    }
+
+    private void closeTraceFile() {
+        if (traceFile != null) {
+            try {
+                traceFile.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close the trace file.", e);
+            }
+            traceFile = null;
+        }
+    }
+
+    @Override
+    public synchronized void valueUnbound(HttpSessionBindingEvent event) {
+        closeTraceFile();
+    }
 }
@@ -3,6 +3,7 @@ package org.openl.rules.webstudio.web.diff;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -163,9 +164,9 @@ public abstract class AbstractDiffController {
             if (projectionTableToCompare != null) {
                 List<ICell> otherDiffCells = projectionTableToCompare.getDiffCells();
                 if (otherDiffCells != null) {
-                    List<ICell> finalDiffCells = diffCells;
+                    Set<Integer> diffRows = diffCells.stream().map(ICell::getRow).collect(Collectors.toSet());
                     List<ICell> emptyCells = otherDiffCells.stream()
-                            .filter(cell -> finalDiffCells.stream().noneMatch(c -> c.getRow() == cell.getRow()))
+                            .filter(cell -> !diffRows.contains(cell.getRow()))
                             .map(EmptyCell::new)
                             .collect(Collectors.toList());
                     diffCells.addAll(emptyCells);
@@ -43,7 +43,7 @@ public class ExcelDiffController extends AbstractDiffController {
                 // previous instance anymore, we should clear it before any
                 // further calculations.
                 setDiffTree(null);
-                XlsDiff2 x = new XlsDiff2();
+                XlsDiff2 x = new XlsDiff2(true);
                 DiffTreeNode diffTree = x.diffFiles(file1, file2);
                 setDiffTree(diffTree);
                 defineChangesStatus(diffTree);
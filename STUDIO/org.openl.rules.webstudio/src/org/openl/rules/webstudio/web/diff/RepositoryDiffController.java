@@ -321,7 +321,7 @@ public class RepositoryDiffController extends AbstractDiffController {
             // previous instance anymore, we should clear it before any
             // further calculations.
             setDiffTree(null);
-            XlsDiff2 x = new XlsDiff2();
+            XlsDiff2 x = new XlsDiff2(true);
             DiffTreeNode diffTree = x.diffFiles(excelFile1, excelFile2);
             setDiffTree(diffTree);
         } catch (Exception e) {
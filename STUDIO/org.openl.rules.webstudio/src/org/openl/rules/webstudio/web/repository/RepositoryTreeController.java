@@ -2294,14 +2294,10 @@ public class RepositoryTreeController {
             if (isMainBranch(project) || isCurrentBranchProtected(project)) {
                 return false;
             }
-            // FIXME Potential performance spike: If the project contains a large number of artifacts, it may result in slower performance.
-            for (AProjectArtefact artefact : project.getArtefacts()) {
-                if (aclServiceProvider.getDesignRepoAclService().isGranted(artefact,
-                        List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))) {
-                    return true;
-                }
-            }
-            return false;
+            return !aclServiceProvider.getDesignRepoAclService()
+                    .filterGranted(project.getArtefacts(),
+                            List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))
+                    .isEmpty();
 
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -2946,14 +2942,10 @@ public class RepositoryTreeController {
         if (project == null) {
             return false;
         }
-        // FIXME Potential performance spike: If the project contains a large number of artifacts, it may result in slower performance.
-        for (AProjectArtefact artefact : project.getArtefacts()) {
-            if (aclServiceProvider.getDesignRepoAclService().isGranted(artefact,
-                    List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))) {
-                return true;
-            }
-        }
-        return false;
+        return !aclServiceProvider.getDesignRepoAclService()
+                .filterGranted(project.getArtefacts(),
+                        List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))
+                .isEmpty();
     }
 
     public boolean isBranchDeletable() {
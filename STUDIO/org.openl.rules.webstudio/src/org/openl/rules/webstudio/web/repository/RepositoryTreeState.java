@@ -758,14 +758,10 @@ public class RepositoryTreeState implements DesignTimeRepositoryListener {
             if (isMainBranch(selectedProject) || isCurrentBranchProtected(selectedProject)) {
                 return false;
             }
-            // FIXME Potential performance spike: If the project contains a large number of artifacts, it may result in slower performance.
-            for (AProjectArtefact artefact : selectedProject.getArtefacts()) {
-                if (aclServiceProvider.getDesignRepoAclService().isGranted(artefact,
-                        List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))) {
-                    return true;
-                }
-            }
-            return false;
+            return !aclServiceProvider.getDesignRepoAclService()
+                    .filterGranted(selectedProject.getArtefacts(),
+                            List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))
+                    .isEmpty();
         } catch (Exception e) {
             log.error(e.getMessage(), e);
             return false;
@@ -942,14 +938,10 @@ public class RepositoryTreeState implements DesignTimeRepositoryListener {
                 return false;
             }
 
-            // FIXME Potential performance spike: If the project contains a large number of artifacts, it may result in slower performance.
-            for (AProjectArtefact artefact : project.getArtefacts()) {
-                if (aclServiceProvider.getDesignRepoAclService().isGranted(artefact,
-                        List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))) {
-                    return true;
-                }
-            }
-            return false;
+            return !aclServiceProvider.getDesignRepoAclService()
+                    .filterGranted(project.getArtefacts(),
+                            List.of(BasePermission.WRITE, BasePermission.DELETE, BasePermission.CREATE))
+                    .isEmpty();
         } catch (IOException e) {
             return false;
         }
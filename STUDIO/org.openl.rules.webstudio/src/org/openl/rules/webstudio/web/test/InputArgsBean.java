@@ -170,7 +170,7 @@ public class InputArgsBean {
         try {
             var objectMapperFactory = WebStudioUtils.getWebStudio().getCurrentProjectJacksonObjectMapperFactoryBean();
             objectMapperFactory.setEnvironment(environment);
-            return objectMapperFactory.createJacksonObjectMapper();
+            return objectMapperFactory.getSharedJacksonObjectMapper();
         } catch (ClassNotFoundException e) {
             if (StringUtils.isNotBlank(e.getMessage())) {
                 throw new Message("Invalid rules deploy configuration: " + e.getMessage());
@@ -1,5 +1,10 @@
 package org.openl.rules.webstudio.web.test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.annotation.SessionScope;
 
@@ -14,6 +19,8 @@ import org.openl.rules.types.OpenMethodDispatcher;
 import org.openl.rules.ui.ProjectModel;
 import org.openl.rules.ui.TraceHelper;
 import org.openl.rules.webstudio.web.trace.TreeBuildTracer;
+import org.openl.rules.webstudio.web.trace.file.TraceEventWriter;
+import org.openl.rules.webstudio.web.trace.file.TraceFileReader;
 import org.openl.rules.webstudio.web.trace.node.ITracerObject;
 import org.openl.rules.webstudio.web.util.Constants;
 import org.openl.rules.webstudio.web.util.WebStudioUtils;
@@ -45,6 +52,31 @@ public class RunTestHelper {
         return t;
     }
 
+    /**
+     * Traces the selected test suite into the temporary file. Trace objects are written as soon as they occur, so the
+     * size of the trace is not limited by the available memory.
+     *
+     * @return the reader of the written trace, the trace file is removed when the reader is closed
+     */
+    public TraceFileReader traceIntoFile(ObjectMapper objectMapper) throws IOException {
+        catchParams();
+        TestSuite testSuite = getTestSuite();
+        ProjectModel model = WebStudioUtils.getProjectModel();
+        Path file = Files.createTempFile("trace_", ".ndjson");
+        try {
+            try (TraceEventWriter writer = new TraceEventWriter(file, objectMapper)) {
+                TreeBuildTracer.initialize(writer);
+                model.traceElement(testSuite);
+            } finally {
+                TreeBuildTracer.destroy();
+            }
+            return new TraceFileReader(file, objectMapper, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
     public void initTrace() {
         ITracerObject root = getTraceObject(true);
 
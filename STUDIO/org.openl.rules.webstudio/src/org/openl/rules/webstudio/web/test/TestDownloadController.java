@@ -150,7 +150,7 @@ public class TestDownloadController {
             var sprNamingStrategy = propertyNamingStrategy instanceof SpreadsheetResultBeanPropertyNamingStrategy ? (SpreadsheetResultBeanPropertyNamingStrategy) propertyNamingStrategy : null;
             var objectMapperFactory = studio.getCurrentProjectJacksonObjectMapperFactoryBean();
             objectMapperFactory.setEnvironment(environment);
-            var objectMapper = objectMapperFactory.createJacksonObjectMapper();
+            var objectMapper = objectMapperFactory.getSharedJacksonObjectMapper();
             Object result = SpreadsheetResult.convertSpreadsheetResult(results.getTestUnits().get(0).getActualResult(), sprNamingStrategy);
             try {
                 return ResponseEntity.ok()
@@ -1,9 +1,11 @@
 package org.openl.rules.webstudio.web.trace;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,7 +15,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import org.openl.rules.rest.exception.NotFoundException;
 import org.openl.rules.ui.TraceHelper;
+import org.openl.rules.webstudio.web.trace.file.TraceFileNode;
+import org.openl.rules.webstudio.web.trace.file.TraceFileReader;
 import org.openl.rules.webstudio.web.trace.node.DTRuleTraceObject;
 import org.openl.rules.webstudio.web.trace.node.DTRuleTracerLeaf;
 import org.openl.rules.webstudio.web.trace.node.ITracerObject;
@@ -28,6 +33,8 @@ import org.openl.util.StringUtils;
 @Tag(name = "Trace")
 public class TraceController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     @Operation(summary = "trace.get-nodes.summary", description = "trace.get-nodes.desc")
     @GetMapping("/nodes")
     public List<TraceNode> getNodes(
@@ -39,6 +46,57 @@ public class TraceController {
         return createNodes(element.getChildren(), traceHelper, showRealNumbers != null && showRealNumbers);
     }
 
+    @Operation(summary = "trace.get-file-nodes.summary", description = "trace.get-file-nodes.desc")
+    @GetMapping("/file/nodes")
+    public List<TraceNode> getFileNodes(
+            @Parameter(description = "trace.field.id") @RequestParam(value = "id", required = false) Integer id,
+            @Parameter(description = "trace.field.from") @RequestParam(value = "from", required = false) Integer from,
+            @Parameter(description = "trace.field.size") @RequestParam(value = "size", required = false) Integer size,
+            HttpServletRequest request) throws IOException {
+        TraceFileReader traceFile = getTraceFile(request);
+        List<TraceFileNode> children = traceFile.getChildren(id == null ? 0 : id,
+                from == null ? 0 : from,
+                size == null ? DEFAULT_PAGE_SIZE : size);
+        List<TraceNode> nodes = new ArrayList<>(children.size());
+        for (TraceFileNode child : children) {
+            TraceNode node = new TraceNode();
+            node.setTitle(child.getTitle());
+            node.setTooltip(child.getTitle());
+            node.setKey(child.getId());
+            node.setExtraClasses(child.getType() == null ? StringUtils.EMPTY : child.getType());
+            node.setLazy(!child.isLeaf());
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    @Operation(summary = "trace.get-file-node.summary", description = "trace.get-file-node.desc")
+    @GetMapping("/file/node")
+    public TraceNodeDetails getFileNode(
+            @Parameter(description = "trace.field.node-id") @RequestParam(value = "id") Integer id,
+            HttpServletRequest request) throws IOException {
+        TraceFileReader traceFile = getTraceFile(request);
+        TraceFileNode node = traceFile.getNode(id);
+        TraceNodeDetails details = new TraceNodeDetails();
+        details.setTitle(node.getTitle());
+        details.setError(node.getError());
+        List<JsonNode> parameters = new ArrayList<>(node.getArguments().length);
+        for (int argument : node.getArguments()) {
+            parameters.add(traceFile.getValue(argument));
+        }
+        details.setParameters(parameters);
+        details.setResult(traceFile.getValue(node.getResult()));
+        return details;
+    }
+
+    private static TraceFileReader getTraceFile(HttpServletRequest request) {
+        TraceFileReader traceFile = WebStudioUtils.getTraceHelper(request.getSession()).getTraceFile();
+        if (traceFile == null) {
+            throw new NotFoundException("trace.file.message");
+        }
+        return traceFile;
+    }
+
     private List<TraceNode> createNodes(Iterable<ITracerObject> children,
                                         TraceHelper traceHelper,
                                         boolean showRealNumbers) {
@@ -3,21 +3,29 @@ package org.openl.rules.webstudio.web.trace;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import jakarta.faces.context.FacesContext;
 import jakarta.servlet.http.HttpServletResponse;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.annotation.SessionScope;
 
+import org.openl.rules.ui.Message;
 import org.openl.rules.webstudio.web.test.RunTestHelper;
-import org.openl.rules.webstudio.web.trace.node.ITracerObject;
-import org.openl.rules.webstudio.web.trace.node.RefToTracerNodeObject;
+import org.openl.rules.webstudio.web.trace.file.TraceFileNode;
+import org.openl.rules.webstudio.web.trace.file.TraceFileReader;
 import org.openl.rules.webstudio.web.util.WebStudioUtils;
 import org.openl.util.FileUtils;
+import org.openl.util.StringUtils;
 
 /**
  * Request scope managed bean for Trace into File functionality.
+ * <p>
+ * The trace is streamed into a temporary file while the rules are executed and then it is printed page by page from
+ * that file, so the whole trace tree is never kept in memory.
  *
  * @author Yury Molchan
  */
@@ -26,6 +34,7 @@ import org.openl.util.FileUtils;
 public class TraceIntoFileBean {
 
     private static final int MAX_WAIT_TIMEOUT = 60 * 1000;
+    private static final int PAGE_SIZE = 256;
 
     private static final char[] indents = new char[256];
 
@@ -34,51 +43,76 @@ public class TraceIntoFileBean {
     }
 
     private final RunTestHelper runTestHelper;
+    private final Environment environment;
 
-    public TraceIntoFileBean(RunTestHelper runTestHelper) {
+    public TraceIntoFileBean(RunTestHelper runTestHelper, Environment environment) {
         this.runTestHelper = runTestHelper;
+        this.environment = environment;
     }
 
     public void traceIntoFile() throws IOException {
-        ITracerObject tracer = runTestHelper.getTraceObject(false);
-
-        HttpServletResponse response = (HttpServletResponse) WebStudioUtils.getExternalContext().getResponse();
-        response.setHeader("Content-Disposition", "attachment; filename=trace.txt; filename*=UTF-8''trace.txt");
-        response.setContentType("text/plain");
-
-        try (Writer writer = response.getWriter()) {
-            long start = System.currentTimeMillis();
-            try {
-                print(tracer, 0, writer, start + MAX_WAIT_TIMEOUT);
-            } catch (TimeoutException e) {
-                writer.write("\n!!!TRACE WAS LIMITED BY TIMEOUT!!!\n");
+        try (TraceFileReader tracer = runTestHelper.traceIntoFile(configureObjectMapper())) {
+            HttpServletResponse response = (HttpServletResponse) WebStudioUtils.getExternalContext().getResponse();
+            response.setHeader("Content-Disposition", "attachment; filename=trace.txt; filename*=UTF-8''trace.txt");
+            response.setContentType("text/plain");
+
+            try (Writer writer = response.getWriter()) {
+                long start = System.currentTimeMillis();
+                try {
+                    print(tracer, 0, 0, writer, start + MAX_WAIT_TIMEOUT);
+                } catch (TimeoutException e) {
+                    writer.write("\n!!!TRACE WAS LIMITED BY TIMEOUT!!!\n");
+                }
             }
         } finally {
             FacesContext.getCurrentInstance().responseComplete();
         }
     }
 
-    private void print(ITracerObject tracer, int level, Writer writer, long deadline) throws IOException,
-            TimeoutException {
-        if (deadline < System.currentTimeMillis()) {
-            throw new TimeoutException();
+    /**
+     * Streams the trace into the temporary file which can be browsed page by page using {@link TraceController}.
+     */
+    public void initFileTrace() throws IOException {
+        TraceFileReader tracer = runTestHelper.traceIntoFile(configureObjectMapper());
+        WebStudioUtils.getTraceHelper().cacheTraceFile(tracer);
+    }
+
+    private ObjectMapper configureObjectMapper() {
+        try {
+            var objectMapperFactory = WebStudioUtils.getWebStudio().getCurrentProjectJacksonObjectMapperFactoryBean();
+            objectMapperFactory.setEnvironment(environment);
+            return objectMapperFactory.getSharedJacksonObjectMapper();
+        } catch (ClassNotFoundException e) {
+            if (StringUtils.isNotBlank(e.getMessage())) {
+                throw new Message("Invalid rules deploy configuration: " + e.getMessage());
+            }
+            throw new Message("Invalid rules deploy configuration.");
         }
-        Iterable<ITracerObject> tracerObjects = tracer.getChildren();
-        for (ITracerObject aTrace : tracerObjects) {
-            writer.write(indents, 0, level % indents.length);
-            writer.write("TRACE: ");
-            writer.write(TraceFormatter.getDisplayName(aTrace, false));
-            writer.write('\n');
-            writer.write(indents, 0, level % indents.length);
-            writer.write("    at ");
-            writer.write(FileUtils.getBaseName(aTrace.getUri()));
-            writer.write("&openl=");
-            writer.write('\n');
-
-            if (aTrace instanceof RefToTracerNodeObject) {
-                continue;
+    }
+
+    private void print(TraceFileReader tracer, int id, int level, Writer writer, long deadline) throws IOException,
+            TimeoutException {
+        int count = tracer.getChildrenCount(id);
+        for (int from = 0; from < count; from += PAGE_SIZE) {
+            List<TraceFileNode> page = tracer.getChildren(id, from, PAGE_SIZE);
+            for (TraceFileNode aTrace : page) {
+                if (deadline < System.currentTimeMillis()) {
+                    throw new TimeoutException();
+                }
+                writer.write(indents, 0, level % indents.length);
+                writer.write("TRACE: ");
+                writer.write(String.valueOf(aTrace.getTitle()));
+                writer.write('\n');
+                writer.write(indents, 0, level % indents.length);
+                writer.write("    at ");
+                writer.write(String.valueOf(FileUtils.getBaseName(aTrace.getUri())));
+                writer.write("&openl=");
+                writer.write('\n');
+
+                if (!aTrace.isLeaf()) {
+                    print(tracer, aTrace.getId(), level + 1, writer, deadline);
+                }
             }
-            print(aTrace, level + 1, writer, deadline);
         }
     }
 
@@ -0,0 +1,47 @@
+package org.openl.rules.webstudio.web.trace;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Details of the trace node read from the trace file.
+ */
+public class TraceNodeDetails {
+    private String title;
+    private String error;
+    private List<JsonNode> parameters;
+    private JsonNode result;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public List<JsonNode> getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(List<JsonNode> parameters) {
+        this.parameters = parameters;
+    }
+
+    public JsonNode getResult() {
+        return result;
+    }
+
+    public void setResult(JsonNode result) {
+        this.result = result;
+    }
+}
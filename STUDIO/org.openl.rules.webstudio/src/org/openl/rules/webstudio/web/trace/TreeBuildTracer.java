@@ -3,6 +3,8 @@
  */
 package org.openl.rules.webstudio.web.trace;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,7 +14,9 @@ import org.slf4j.LoggerFactory;
 import org.openl.domain.IIntSelector;
 import org.openl.exception.OpenLUserRuntimeException;
 import org.openl.rules.dt.element.ICondition;
+import org.openl.rules.webstudio.web.trace.file.TraceEventWriter;
 import org.openl.rules.webstudio.web.trace.node.CachingArgumentsCloner;
+import org.openl.rules.webstudio.web.trace.node.DTRuleTraceObject;
 import org.openl.rules.webstudio.web.trace.node.ITracerObject;
 import org.openl.rules.webstudio.web.trace.node.LazyTracerNodeObject;
 import org.openl.rules.webstudio.web.trace.node.RefToTracerNodeObject;
@@ -32,9 +36,10 @@ public final class TreeBuildTracer extends Tracer {
     private static final ThreadLocal<ITracerObject> tree = new ThreadLocal<>();
     private static final ThreadLocal<Map<TracerKeyNode, SimpleTracerObject>> map = new ThreadLocal<>();
     private static final ThreadLocal<Boolean> lazyNodesHolder = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<TraceStream> stream = new ThreadLocal<>();
 
     static {
-        Tracer.instance = new TreeBuildTracer();
+        Tracer.register(new TreeBuildTracer());
     }
 
     @Override
@@ -45,7 +50,12 @@ public final class TreeBuildTracer extends Tracer {
         ITracerObject trObj = TracedObjectFactory.getTracedObject(source, id, args);
 
         if (trObj != null) {
-            doPut(trObj);
+            TraceStream traceStream = stream.get();
+            if (traceStream != null) {
+                traceStream.leaf(trObj);
+            } else {
+                doPut(trObj);
+            }
         }
     }
 
@@ -82,7 +92,11 @@ public final class TreeBuildTracer extends Tracer {
                                                        Object source) {
         if (!isOn() || isLazy()) {
             // Skip if tracing is switched off
-            return executor.invoke(target, params, env);
+            return proceed(executor, target, params, env, source);
+        }
+        TraceStream traceStream = stream.get();
+        if (traceStream != null) {
+            return traceStream.invoke(this, executor, target, params, env, source);
         }
 
         ITracerObject trObj;
@@ -98,11 +112,11 @@ public final class TreeBuildTracer extends Tracer {
         }
         if (trObj == null) {
             // Skip if no tracing objects are
-            return executor.invoke(target, params, env);
+            return proceed(executor, target, params, env, source);
         }
         doBegin(trObj);
         try {
-            R res = executor.invoke(target, params, env);
+            R res = proceed(executor, target, params, env, source);
             if (trObj instanceof SimpleTracerObject) {
                 ((SimpleTracerObject) trObj).setResult(res);
             }
@@ -138,7 +152,14 @@ public final class TreeBuildTracer extends Tracer {
 
     @Override
     public boolean isOn() {
-        return tree.get() != null;
+        return tree.get() != null || stream.get() != null;
+    }
+
+    /**
+     * @return true if the trace of the current thread is written into a file instead of building a tree in memory.
+     */
+    public static boolean isStreaming() {
+        return stream.get() != null;
     }
 
     private boolean isLazy() {
@@ -182,9 +203,18 @@ public final class TreeBuildTracer extends Tracer {
         return root;
     }
 
+    /**
+     * Starts the tracing of the current thread into the file. Trace objects are written by the given writer as soon as
+     * they occur and they are not kept in memory.
+     */
+    public static void initialize(TraceEventWriter writer) {
+        stream.set(new TraceStream(writer));
+    }
+
     public static void destroy() {
         tree.set(null);
         map.set(null);
+        stream.remove();
     }
 
     private void cacheNode(TracerKeyNode key, SimpleTracerObject value) {
@@ -205,7 +235,8 @@ public final class TreeBuildTracer extends Tracer {
                                                                  Object[] params,
                                                                  E env,
                                                                  Object source) {
-        if (!isOn()) {
+        if (!isOn() || isStreaming()) {
+            // Streamed trace has no references to the previously traced nodes
             return false;
         }
 
@@ -242,4 +273,101 @@ public final class TreeBuildTracer extends Tracer {
             return null;
         }
     }
+
+    /**
+     * Writes trace objects into a file. Only the chain of the currently executed nodes is kept in memory, it is
+     * required to calculate titles of the nested trace objects.
+     */
+    private static final class TraceStream {
+        private final TraceEventWriter writer;
+        private ITracerObject current = new TracerRootNodeObject();
+        private int currentId;
+
+        private TraceStream(TraceEventWriter writer) {
+            this.writer = writer;
+        }
+
+        private <T, E extends IRuntimeEnv, R> R invoke(TreeBuildTracer tracer,
+                                                       Invokable<? super T, E> executor,
+                                                       T target,
+                                                       Object[] params,
+                                                       E env,
+                                                       Object source) {
+            SimpleTracerObject trObj = TracedObjectFactory.getTracedObject(source, executor, target, params, env);
+            if (trObj == null) {
+                return tracer.proceed(executor, target, params, env, source);
+            }
+            trObj.setParent(current);
+            ITracerObject parent = current;
+            int parentId = currentId;
+            try {
+                currentId = writer.begin(parentId, trObj.getType(), getUri(trObj), trObj.getParameters());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = trObj;
+            R res;
+            try {
+                res = tracer.proceed(executor, target, params, env, source);
+                trObj.setResult(res);
+            } catch (Throwable ex) {
+                trObj.setError(ex);
+                try {
+                    end(trObj, parent, parentId);
+                } catch (IOException e) {
+                    // Do not hide the failure of the rules by the failure of the trace
+                    ex.addSuppressed(e);
+                }
+                throw ex;
+            }
+            try {
+                end(trObj, parent, parentId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return res;
+        }
+
+        private void end(SimpleTracerObject trObj, ITracerObject parent, int parentId) throws IOException {
+            try {
+                writer.end(currentId, getTitle(trObj), trObj.getResult(), trObj.getError());
+            } finally {
+                current = parent;
+                currentId = parentId;
+            }
+        }
+
+        private void leaf(ITracerObject trObj) {
+            trObj.setParent(current);
+            try {
+                writer.leaf(currentId, getType(trObj), getTitle(trObj), getUri(trObj), trObj.getResult());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String getType(ITracerObject trObj) {
+            if (trObj instanceof DTRuleTraceObject && !((DTRuleTraceObject) trObj).isSuccessful()) {
+                return trObj.getType() + " fail";
+            }
+            return trObj.getType();
+        }
+
+        private static String getTitle(ITracerObject trObj) {
+            try {
+                return TraceFormatter.getDisplayName(trObj, false);
+            } catch (RuntimeException e) {
+                LOG.debug("Ignored error: ", e);
+                return trObj.getType();
+            }
+        }
+
+        private static String getUri(ITracerObject trObj) {
+            try {
+                return trObj.getUri();
+            } catch (IllegalStateException e) {
+                return null;
+            }
+        }
+    }
 }
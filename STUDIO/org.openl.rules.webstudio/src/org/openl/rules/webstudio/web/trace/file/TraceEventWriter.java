@@ -0,0 +1,178 @@
+package org.openl.rules.webstudio.web.trace.file;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes trace events into an NDJSON file as soon as they occur, so the trace tree is never kept in memory.
+ * <p>
+ * Every line is one of the following events:
+ * <ul>
+ * <li>{@code {"e":"V","id":1,"v":...}} - serialized argument or result snapshot</li>
+ * <li>{@code {"e":"B","id":2,"p":1,"t":"spreadsheet","u":"...","a":[1,0]}} - begin of the traced node</li>
+ * <li>{@code {"e":"E","id":2,"n":"...","r":1,"x":"..."}} - end of the traced node with its title, result and error</li>
+ * <li>{@code {"e":"L","id":3,"p":2,"t":"spreadsheetCell","n":"...","u":"...","r":0}} - leaf node</li>
+ * </ul>
+ * Snapshots are serialized once. Equal snapshots are written only once and are referenced by id, {@code 0} is
+ * reserved for {@code null}. Node id {@code 0} is the root of the trace.
+ */
+public final class TraceEventWriter implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TraceEventWriter.class);
+
+    static final String VALUE = "V";
+    static final String BEGIN = "B";
+    static final String END = "E";
+    static final String LEAF = "L";
+
+    /**
+     * Limits memory used for de-duplication of snapshots. Evicted snapshots are written again if they appear later.
+     */
+    private static final int MAX_CACHED_VALUES = 8192;
+
+    private final JsonGenerator generator;
+    private final ObjectWriter valueWriter;
+    private final MessageDigest digest;
+    private final Map<String, Integer> values = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_CACHED_VALUES;
+        }
+    };
+    private int nextNodeId = 1;
+    private int nextValueId = 1;
+
+    public TraceEventWriter(Path file, ObjectMapper objectMapper) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(new SerializedString("\n"));
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the beginning of the node.
+     *
+     * @return id of the created node
+     */
+    public int begin(int parentId, String type, String uri, Object[] params) throws IOException {
+        int[] args;
+        if (params == null) {
+            args = new int[0];
+        } else {
+            args = new int[params.length];
+            for (int i = 0; i < params.length; i++) {
+                args[i] = writeValue(params[i]);
+            }
+        }
+        int id = nextNodeId++;
+        generator.writeStartObject();
+        generator.writeStringField("e", BEGIN);
+        generator.writeNumberField("id", id);
+        generator.writeNumberField("p", parentId);
+        writeStringField("t", type);
+        writeStringField("u", uri);
+        generator.writeFieldName("a");
+        generator.writeArray(args, 0, args.length);
+        generator.writeEndObject();
+        return id;
+    }
+
+    /**
+     * Writes the end of the node which has been started by {@link #begin(int, String, String, Object[])}.
+     */
+    public void end(int id, String title, Object result, Throwable error) throws IOException {
+        int resultId = writeValue(result);
+        generator.writeStartObject();
+        generator.writeStringField("e", END);
+        generator.writeNumberField("id", id);
+        writeStringField("n", title);
+        generator.writeNumberField("r", resultId);
+        if (error != null) {
+            writeStringField("x", error.getMessage() == null ? error.getClass().getName() : error.getMessage());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the node without children.
+     *
+     * @return id of the created node
+     */
+    public int leaf(int parentId, String type, String title, String uri, Object result) throws IOException {
+        int resultId = writeValue(result);
+        int id = nextNodeId++;
+        generator.writeStartObject();
+        generator.writeStringField("e", LEAF);
+        generator.writeNumberField("id", id);
+        generator.writeNumberField("p", parentId);
+        writeStringField("t", type);
+        writeStringField("n", title);
+        writeStringField("u", uri);
+        generator.writeNumberField("r", resultId);
+        generator.writeEndObject();
+        return id;
+    }
+
+    private void writeStringField(String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private int writeValue(Object value) throws IOException {
+        if (value == null) {
+            return 0;
+        }
+        byte[] json;
+        try {
+            json = valueWriter.writeValueAsBytes(value);
+        } catch (Exception e) {
+            LOG.debug("Ignored error: ", e);
+            json = valueWriter.writeValueAsBytes(String.valueOf(value));
+        }
+        String key = Base64.getEncoder().encodeToString(digest.digest(json));
+        Integer id = values.get(key);
+        if (id != null) {
+            return id;
+        }
+        id = nextValueId++;
+        values.put(key, id);
+        generator.writeStartObject();
+        generator.writeStringField("e", VALUE);
+        generator.writeNumberField("id", id);
+        generator.writeFieldName("v");
+        generator.writeRawValue(new String(json, StandardCharsets.UTF_8));
+        generator.writeEndObject();
+        return id;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
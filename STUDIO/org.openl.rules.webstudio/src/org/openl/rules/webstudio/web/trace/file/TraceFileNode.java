@@ -0,0 +1,113 @@
+package org.openl.rules.webstudio.web.trace.file;
+
+/**
+ * A node of the trace which is read from the trace file by {@link TraceFileReader}. Arguments and result are stored
+ * as ids of the snapshots, use {@link TraceFileReader#getValue(int)} to read them.
+ */
+public final class TraceFileNode {
+    private final int id;
+    private final int childrenCount;
+    private int parentId;
+    private String type;
+    private String title;
+    private String uri;
+    private int[] arguments = new int[0];
+    private int result;
+    private String error;
+
+    TraceFileNode(int id, int childrenCount) {
+        this.id = id;
+        this.childrenCount = childrenCount;
+    }
+
+    TraceFileNode(int id,
+                  int parentId,
+                  String type,
+                  String title,
+                  String uri,
+                  int[] arguments,
+                  int result,
+                  String error,
+                  int childrenCount) {
+        this(id, childrenCount);
+        this.parentId = parentId;
+        this.type = type;
+        this.title = title;
+        this.uri = uri;
+        this.arguments = arguments;
+        this.result = result;
+        this.error = error;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getParentId() {
+        return parentId;
+    }
+
+    void setParentId(int parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    void setType(String type) {
+        this.type = type;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public int[] getArguments() {
+        return arguments;
+    }
+
+    void setArguments(int[] arguments) {
+        this.arguments = arguments;
+    }
+
+    public int getResult() {
+        return result;
+    }
+
+    void setResult(int result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    void setError(String error) {
+        this.error = error;
+    }
+
+    public boolean hasError() {
+        return error != null;
+    }
+
+    public int getChildrenCount() {
+        return childrenCount;
+    }
+
+    public boolean isLeaf() {
+        return childrenCount == 0;
+    }
+}
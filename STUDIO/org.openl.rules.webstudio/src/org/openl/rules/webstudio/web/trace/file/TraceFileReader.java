@@ -0,0 +1,338 @@
+package org.openl.rules.webstudio.web.trace.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Random access reader of the trace file written by {@link TraceEventWriter}.
+ * <p>
+ * The file is scanned once to build a compact index of line offsets and parent-child relations. Children of every
+ * node are stored contiguously, so a page of children is located directly by its index. Nodes and snapshots are read
+ * from the disk only when they are requested, so the huge trace can be browsed page by page.
+ */
+public final class TraceFileReader implements Closeable {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Path file;
+    private final boolean deleteOnClose;
+    private final FileChannel channel;
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+
+    // Node index. Id is the index in the arrays. The root node has 0 id.
+    private long[] begins = new long[1024];
+    private long[] ends = new long[1024];
+    private int[] parents = new int[1024];
+    private int[] childCount = new int[1024];
+    private int nodes = 1;
+
+    // Children index. Children of the node are stored in the order of the trace starting from childStart[id].
+    private int[] childStart;
+    private int[] children;
+
+    // Snapshot index. Id is the index in the array. 0 is reserved for null.
+    private long[] values = new long[1024];
+
+    public TraceFileReader(Path file, ObjectMapper objectMapper) throws IOException {
+        this(file, objectMapper, false);
+    }
+
+    /**
+     * @param deleteOnClose if true, the trace file is removed when the reader is closed
+     */
+    public TraceFileReader(Path file, ObjectMapper objectMapper, boolean deleteOnClose) throws IOException {
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+        Arrays.fill(begins, -1);
+        Arrays.fill(ends, -1);
+        Arrays.fill(values, -1);
+        buildIndex(file);
+        buildChildrenIndex();
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    private void buildIndex(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            byte[] buffer = new byte[64 * 1024];
+            long offset = 0;
+            long lineStart = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        line.write(buffer, start, i - start);
+                        indexLine(line.toByteArray(), lineStart);
+                        line.reset();
+                        start = i + 1;
+                        lineStart = offset + start;
+                    }
+                }
+                line.write(buffer, start, read - start);
+                offset += read;
+            }
+            if (line.size() > 0) {
+                indexLine(line.toByteArray(), lineStart);
+            }
+        }
+    }
+
+    private void indexLine(byte[] line, long offset) throws IOException {
+        String event = null;
+        int id = -1;
+        int parent = 0;
+        try (JsonParser parser = jsonFactory.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("e".equals(name)) {
+                    event = parser.getText();
+                } else if ("id".equals(name)) {
+                    id = parser.getIntValue();
+                } else if ("p".equals(name)) {
+                    parent = parser.getIntValue();
+                } else {
+                    // Other fields are not needed for the index
+                    break;
+                }
+            }
+        }
+        if (event == null || id < 0) {
+            return;
+        }
+        switch (event) {
+            case TraceEventWriter.VALUE:
+                ensureValuesCapacity(id);
+                values[id] = offset;
+                break;
+            case TraceEventWriter.BEGIN:
+                addNode(id, parent, offset, -1);
+                break;
+            case TraceEventWriter.LEAF:
+                addNode(id, parent, offset, offset);
+                break;
+            case TraceEventWriter.END:
+                if (id < nodes && begins[id] >= 0) {
+                    ends[id] = offset;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addNode(int id, int parent, long begin, long end) {
+        ensureNodesCapacity(id);
+        begins[id] = begin;
+        ends[id] = end;
+        nodes = Math.max(nodes, id + 1);
+        parents[id] = parent;
+        childCount[parent]++;
+    }
+
+    private void buildChildrenIndex() {
+        childStart = new int[nodes + 1];
+        for (int id = 0; id < nodes; id++) {
+            childStart[id + 1] = childStart[id] + childCount[id];
+        }
+        children = new int[childStart[nodes]];
+        int[] filled = new int[nodes];
+        // Ids are assigned in the order of the trace, so the children keep their order
+        for (int id = 1; id < nodes; id++) {
+            if (begins[id] >= 0) {
+                int parent = parents[id];
+                children[childStart[parent] + filled[parent]++] = id;
+            }
+        }
+    }
+
+    private void ensureNodesCapacity(int id) {
+        if (id >= begins.length) {
+            int size = Math.max(begins.length * 2, id + 1);
+            int oldSize = begins.length;
+            begins = Arrays.copyOf(begins, size);
+            Arrays.fill(begins, oldSize, size, -1);
+            ends = Arrays.copyOf(ends, size);
+            Arrays.fill(ends, oldSize, size, -1);
+            parents = Arrays.copyOf(parents, size);
+            childCount = Arrays.copyOf(childCount, size);
+        }
+    }
+
+    private void ensureValuesCapacity(int id) {
+        if (id >= values.length) {
+            int oldSize = values.length;
+            values = Arrays.copyOf(values, Math.max(values.length * 2, id + 1));
+            Arrays.fill(values, oldSize, values.length, -1);
+        }
+    }
+
+    /**
+     * @return the number of the traced nodes excluding the root node.
+     */
+    public int getNodesCount() {
+        return nodes - 1;
+    }
+
+    public int getChildrenCount(int id) {
+        checkNode(id);
+        return childCount[id];
+    }
+
+    /**
+     * Reads a page of the children nodes.
+     *
+     * @param id parent node id, {@code 0} for the root
+     * @param from index of the first child to read
+     * @param size maximum number of children to read
+     */
+    public List<TraceFileNode> getChildren(int id, int from, int size) throws IOException {
+        checkNode(id);
+        from = Math.max(from, 0);
+        if (from >= childCount[id] || size <= 0) {
+            return Collections.emptyList();
+        }
+        int start = childStart[id] + from;
+        int count = Math.min(size, childCount[id] - from);
+        List<TraceFileNode> result = new ArrayList<>(count);
+        for (int i = start; i < start + count; i++) {
+            result.add(getNode(children[i]));
+        }
+        return result;
+    }
+
+    public TraceFileNode getNode(int id) throws IOException {
+        checkNode(id);
+        if (id == 0) {
+            return new TraceFileNode(0, -1, "traceroot", null, null, EMPTY, 0, null, childCount[0]);
+        }
+        TraceFileNode node = new TraceFileNode(id, childCount[id]);
+        readNodeLine(node, begins[id]);
+        if (ends[id] >= 0 && ends[id] != begins[id]) {
+            readNodeLine(node, ends[id]);
+        }
+        return node;
+    }
+
+    /**
+     * Reads the snapshot of argument or result.
+     *
+     * @param valueId id of the snapshot
+     * @return the snapshot or {@code null} if value id is {@code 0}
+     */
+    public JsonNode getValue(int valueId) throws IOException {
+        if (valueId == 0) {
+            return null;
+        }
+        if (valueId < 0 || valueId >= values.length || values[valueId] < 0) {
+            throw new IllegalArgumentException(String.format("Value with id '%s' is not found.", valueId));
+        }
+        JsonNode event = objectMapper.readTree(readLine(values[valueId]));
+        return event.get("v");
+    }
+
+    private void readNodeLine(TraceFileNode node, long offset) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(readLine(offset))) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "p":
+                        node.setParentId(parser.getIntValue());
+                        break;
+                    case "t":
+                        node.setType(parser.getText());
+                        break;
+                    case "u":
+                        node.setUri(parser.getText());
+                        break;
+                    case "n":
+                        node.setTitle(parser.getText());
+                        break;
+                    case "r":
+                        node.setResult(parser.getIntValue());
+                        break;
+                    case "x":
+                        node.setError(parser.getText());
+                        break;
+                    case "a":
+                        int[] args = new int[4];
+                        int n = 0;
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (n == args.length) {
+                                args = Arrays.copyOf(args, n * 2);
+                            }
+                            args[n++] = parser.getIntValue();
+                        }
+                        node.setArguments(Arrays.copyOf(args, n));
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        }
+    }
+
+    private byte[] readLine(long offset) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+        long position = offset;
+        int read;
+        while ((read = channel.read(buffer, position)) > 0) {
+            byte[] array = buffer.array();
+            for (int i = 0; i < read; i++) {
+                if (array[i] == '\n') {
+                    line.write(array, 0, i);
+                    return line.toByteArray();
+                }
+            }
+            line.write(array, 0, read);
+            position += read;
+            buffer.clear();
+        }
+        return line.toByteArray();
+    }
+
+    private void checkNode(int id) {
+        if (id < 0 || id >= nodes || id > 0 && begins[id] < 0) {
+            throw new IllegalArgumentException(String.format("Trace node with id '%s' is not found.", id));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            if (deleteOnClose) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -22,10 +22,22 @@ import org.openl.rules.cloner.Cloner;
  */
 public final class CachingArgumentsCloner<T> {
     private static final ThreadLocal<CachingArgumentsCloner<?>> instance = new ThreadLocal<>();
+    private static final CachingArgumentsCloner<?> NOT_CLONING = new CachingArgumentsCloner<>(null);
 
-    private final Map<Object, Object> cache = new HashMap<>();
+    private final Map<Object, Object> cache;
+
+    public CachingArgumentsCloner() {
+        this(new HashMap<>());
+    }
+
+    private CachingArgumentsCloner(Map<Object, Object> cache) {
+        this.cache = cache;
+    }
 
     public T clone(T o) {
+        if (cache == null) {
+            return o;
+        }
         return Cloner.clone(o, cache);
     }
 
@@ -37,6 +49,14 @@ public final class CachingArgumentsCloner<T> {
         instance.set(new CachingArgumentsCloner<>());
     }
 
+    /**
+     * Initializes the cloner which returns objects as is. It is used when arguments are serialized immediately, for
+     * example, when the trace is written into a file.
+     */
+    public static void initNotCloningInstance() {
+        instance.set(NOT_CLONING);
+    }
+
     public static void initInstance(CachingArgumentsCloner<?> cloner) {
         instance.set(cloner);
     }
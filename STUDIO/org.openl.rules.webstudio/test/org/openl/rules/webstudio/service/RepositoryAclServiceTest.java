@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -104,6 +105,37 @@ public class RepositoryAclServiceTest {
                 designRepositoryAclService.isGranted("repoId2", "/projectName1/rules/module1.xlsx", List.of(BasePermission.WRITE)));
     }
 
+    @Test
+    @WithMockUser(value = "oleg", authorities = DEVELOPERS_JUNIT)
+    @Transactional
+    @Rollback
+    public void bulkPermissionChecking() {
+        Authentication mockUser = setAdminAuthenticationToContext();
+        designRepositoryAclService.addPermissions("repoId2",
+                "/projectName1/rules",
+                List.of(BasePermission.WRITE),
+                List.of(new GrantedAuthoritySid(DEVELOPERS_JUNIT)));
+        designRepositoryAclService.addPermissions("repoId2",
+                "/projectName2",
+                List.of(BasePermission.READ),
+                List.of(new GrantedAuthoritySid(DEVELOPERS_JUNIT)));
+
+        SecurityContextHolder.getContext().setAuthentication(mockUser);
+        List<String> paths = List.of("/projectName1/rules/module1.xlsx",
+                "/projectName1/rules/module2.xlsx",
+                "/projectName1/rules.xml",
+                "/projectName2/rules/module1.xlsx");
+        assertEquals(Set.of("/projectName1/rules/module1.xlsx", "/projectName1/rules/module2.xlsx"),
+                designRepositoryAclService.getGrantedPaths("repoId2", paths, List.of(BasePermission.WRITE)));
+        assertEquals(Set.of("/projectName2/rules/module1.xlsx"),
+                designRepositoryAclService.getGrantedPaths("repoId2", paths, List.of(BasePermission.READ)));
+        for (String path : paths) {
+            assertEquals(designRepositoryAclService.isGranted("repoId2", path, List.of(BasePermission.WRITE)),
+                    designRepositoryAclService.getGrantedPaths("repoId2", List.of(path), List.of(BasePermission.WRITE))
+                            .contains(path));
+        }
+    }
+
     @Test
     @WithMockUser(value = "admin", authorities = "ADMIN")
     @Transactional
@@ -0,0 +1,125 @@
+package org.openl.rules.webstudio.web.trace.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TraceFileReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Path file = tempDir.resolve("trace.ndjson");
+        Map<String, Object> arg = Map.of("name", "John", "age", 42);
+        try (TraceEventWriter writer = new TraceEventWriter(file, objectMapper)) {
+            int spr = writer.begin(0, "spreadsheet", "file.xlsx?sheet=Main&range=A1:C3", new Object[]{arg, null});
+            writer.leaf(spr, "spreadsheetCell", "$Value$Step1 = 10", null, 10);
+            int dt = writer.begin(spr, "decisiontable", "file.xlsx?sheet=Main&range=E1:F3", new Object[]{arg});
+            writer.leaf(dt, "dtRule fail", "Condition: C1, Rules: [R1]", null, null);
+            writer.end(dt, "Rules String Rate(Person) = 12", "12", null);
+            writer.end(spr, "SpreadSheet SpreadsheetResult Main(Person)", null, new IllegalStateException("Oops"));
+            int method = writer.begin(0, "method", null, null);
+            writer.end(method, "Method void run()", null, null);
+        }
+
+        try (TraceFileReader reader = new TraceFileReader(file, objectMapper)) {
+            assertEquals(5, reader.getNodesCount());
+            assertEquals(2, reader.getChildrenCount(0));
+
+            List<TraceFileNode> roots = reader.getChildren(0, 0, 10);
+            assertEquals(2, roots.size());
+
+            TraceFileNode spr = roots.get(0);
+            assertEquals("spreadsheet", spr.getType());
+            assertEquals("SpreadSheet SpreadsheetResult Main(Person)", spr.getTitle());
+            assertEquals("file.xlsx?sheet=Main&range=A1:C3", spr.getUri());
+            assertEquals("Oops", spr.getError());
+            assertTrue(spr.hasError());
+            assertEquals(2, spr.getChildrenCount());
+            assertEquals(2, spr.getArguments().length);
+            assertEquals(0, spr.getArguments()[1]);
+            assertEquals("John", reader.getValue(spr.getArguments()[0]).get("name").asText());
+            assertNull(reader.getValue(spr.getResult()));
+
+            List<TraceFileNode> children = reader.getChildren(spr.getId(), 1, 10);
+            assertEquals(1, children.size());
+            TraceFileNode dt = children.get(0);
+            assertEquals("Rules String Rate(Person) = 12", dt.getTitle());
+            assertEquals(spr.getId(), dt.getParentId());
+            // The same argument is written only once
+            assertArrayEquals(new int[]{spr.getArguments()[0]}, dt.getArguments());
+            assertEquals("12", reader.getValue(dt.getResult()).asText());
+
+            TraceFileNode rule = reader.getChildren(dt.getId(), 0, 10).get(0);
+            assertEquals("dtRule fail", rule.getType());
+            assertTrue(rule.isLeaf());
+
+            TraceFileNode cell = reader.getChildren(spr.getId(), 0, 1).get(0);
+            assertEquals("$Value$Step1 = 10", cell.getTitle());
+            assertEquals(10, reader.getValue(cell.getResult()).asInt());
+
+            TraceFileNode method = roots.get(1);
+            assertEquals("Method void run()", method.getTitle());
+            assertEquals(0, method.getArguments().length);
+            assertFalse(method.hasError());
+
+            assertTrue(reader.getChildren(spr.getId(), 2, 10).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> reader.getNode(100));
+        }
+    }
+
+    @Test
+    public void testChildrenPages() throws Exception {
+        Path file = tempDir.resolve("trace.ndjson");
+        try (TraceEventWriter writer = new TraceEventWriter(file, objectMapper)) {
+            int root = writer.begin(0, "method", null, null);
+            for (int i = 0; i < 1000; i++) {
+                int step = writer.begin(root, "spreadsheet", null, null);
+                writer.leaf(step, "spreadsheetCell", "Cell " + i, null, i);
+                writer.end(step, "Step " + i, null, null);
+            }
+            writer.end(root, "Method void run()", null, null);
+        }
+
+        try (TraceFileReader reader = new TraceFileReader(file, objectMapper)) {
+            TraceFileNode root = reader.getChildren(0, 0, 1).get(0);
+            assertEquals(1000, reader.getChildrenCount(root.getId()));
+
+            List<TraceFileNode> page = reader.getChildren(root.getId(), 990, 100);
+            assertEquals(10, page.size());
+            for (int i = 0; i < page.size(); i++) {
+                TraceFileNode step = page.get(i);
+                assertEquals("Step " + (990 + i), step.getTitle());
+                assertEquals(root.getId(), step.getParentId());
+                assertEquals("Cell " + (990 + i), reader.getChildren(step.getId(), 0, 10).get(0).getTitle());
+            }
+            assertEquals("Step 500", reader.getChildren(root.getId(), 500, 1).get(0).getTitle());
+        }
+    }
+
+    @Test
+    public void testDeleteOnClose() throws Exception {
+        Path file = tempDir.resolve("trace.ndjson");
+        try (TraceEventWriter writer = new TraceEventWriter(file, objectMapper)) {
+            writer.leaf(0, "result", "Result: 1", null, 1);
+        }
+        new TraceFileReader(file, objectMapper, true).close();
+        assertFalse(Files.exists(file));
+    }
+}
@@ -1,26 +1,40 @@
 package org.openl.rules.deploy;
 
+import java.io.IOException;
 import java.io.InputStream;
 
+import org.openl.rules.common.ProjectException;
 import org.openl.rules.project.abstraction.IProjectResource;
 import org.openl.rules.repository.api.FileData;
 import org.openl.rules.repository.api.FileItem;
+import org.openl.rules.repository.api.Repository;
 
+/**
+ * Resource of the local project. The content is read from the repository on demand, so listing of the projects does
+ * not open the files.
+ */
 public class LocalProjectResource extends ALocalProjectArtefact implements IProjectResource {
 
-    private final FileItem file;
+    private final FileData fileData;
+    private final Repository repository;
 
-    public LocalProjectResource(String name, FileItem file) {
+    public LocalProjectResource(String name, FileData fileData, Repository repository) {
         super(name);
-        this.file = file;
+        this.fileData = fileData;
+        this.repository = repository;
     }
 
     @Override
-    public InputStream getContent() {
-        return file.getStream();
+    public InputStream getContent() throws ProjectException {
+        try {
+            FileItem file = repository.read(fileData.getName());
+            return file == null ? null : file.getStream();
+        } catch (IOException e) {
+            throw new ProjectException(e.getMessage(), e);
+        }
     }
 
     public FileData getFileData() {
-        return file.getData();
+        return fileData;
     }
 }
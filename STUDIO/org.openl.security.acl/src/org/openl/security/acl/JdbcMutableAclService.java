@@ -1,11 +1,16 @@
 package org.openl.security.acl;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.sql.DataSource;
 
 import org.springframework.security.acls.domain.GrantedAuthoritySid;
 import org.springframework.security.acls.domain.PrincipalSid;
 import org.springframework.security.acls.jdbc.LookupStrategy;
+import org.springframework.security.acls.model.Acl;
 import org.springframework.security.acls.model.AclCache;
+import org.springframework.security.acls.model.ObjectIdentity;
 import org.springframework.security.acls.model.Sid;
 
 public class JdbcMutableAclService extends org.springframework.security.acls.jdbc.JdbcMutableAclService implements MutableAclService {
@@ -15,6 +20,7 @@ public class JdbcMutableAclService extends org.springframework.security.acls.jdb
     private static final String DELETE_ENTRIES_BY_SID_QUERY = "delete from acl_entry where sid=?";
     private static final String UPDATE_SID_QUERY = "update acl_sid set sid = ? where sid = ? and principal=?";
 
+    private final LookupStrategy lookupStrategy;
     private final AclCache aclCache;
     private final Sid relevantSystemWideSid;
 
@@ -23,6 +29,7 @@ public class JdbcMutableAclService extends org.springframework.security.acls.jdb
                                  AclCache aclCache,
                                  Sid relevantSystemWideSid) {
         super(dataSource, lookupStrategy, aclCache);
+        this.lookupStrategy = lookupStrategy;
         this.aclCache = aclCache;
         this.relevantSystemWideSid = relevantSystemWideSid;
     }
@@ -40,6 +47,14 @@ public class JdbcMutableAclService extends org.springframework.security.acls.jdb
         aclCache.clearCache();
     }
 
+    @Override
+    public Map<ObjectIdentity, Acl> readExistingAclsById(List<ObjectIdentity> objects, List<Sid> sids) {
+        if (objects.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return lookupStrategy.readAclsById(objects, sids);
+    }
+
     public void updateSid(Sid sid, String newSidName) {
         String currentSidName;
         boolean isPrincipal;
@@ -1,9 +1,24 @@
 package org.openl.security.acl;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.acls.model.Acl;
+import org.springframework.security.acls.model.ObjectIdentity;
 import org.springframework.security.acls.model.Sid;
 
 public interface MutableAclService extends org.springframework.security.acls.model.MutableAclService {
 
     void deleteSid(Sid sid);
 
+    /**
+     * Reads the ACLs of the given object identities in one batch. Unlike {@link #readAclsById(List, List)} the object
+     * identities without ACL are omitted from the result instead of failing the whole lookup.
+     *
+     * @param objects object identities to read ACLs for
+     * @param sids sids to load entries for, or {@code null} to load all entries
+     * @return found ACLs by object identity
+     */
+    Map<ObjectIdentity, Acl> readExistingAclsById(List<ObjectIdentity> objects, List<Sid> sids);
+
 }
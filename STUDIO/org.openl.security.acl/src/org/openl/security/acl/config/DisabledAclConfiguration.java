@@ -47,8 +47,11 @@ public class DisabledAclConfiguration {
         }
 
         @Override
-        public Object invoke(Object proxy, Method method, Object[] args) {
-            if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.isDefault()) {
+                // bulk methods are evaluated through the stubs of the single ones
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            } else if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
                 return System.identityHashCode(proxy);
             } else if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
                 return proxy == args[0];
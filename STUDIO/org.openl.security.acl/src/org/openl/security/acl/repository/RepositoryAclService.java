@@ -1,5 +1,7 @@
 package org.openl.security.acl.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +20,24 @@ public interface RepositoryAclService extends SimpleRepositoryAclService {
 
     boolean isGranted(AProjectArtefact projectArtefact, boolean useParentStrategy, Permission... permissions);
 
+    /**
+     * Evaluates the permissions of the current user for many project artefacts at once.
+     *
+     * @param projectArtefacts project artefacts to check
+     * @param permissions permissions to check
+     * @return the project artefacts for which the permissions are granted in the order of iteration
+     */
+    default <T extends AProjectArtefact> List<T> filterGranted(Collection<T> projectArtefacts,
+                                                                List<Permission> permissions) {
+        List<T> granted = new ArrayList<>();
+        for (T projectArtefact : projectArtefacts) {
+            if (isGranted(projectArtefact, permissions)) {
+                granted.add(projectArtefact);
+            }
+        }
+        return granted;
+    }
+
     boolean createAcl(AProjectArtefact projectArtefact, List<Permission> permissions, boolean force);
 
     boolean hasAcl(AProjectArtefact projectArtefact);
@@ -1,9 +1,12 @@
 package org.openl.security.acl.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.security.acls.domain.PrincipalSid;
 import org.springframework.security.acls.model.AclCache;
@@ -53,6 +56,33 @@ public class RepositoryAclServiceImpl extends SimpleRepositoryAclServiceImpl imp
         return isGranted0(projectArtefact, useParentStrategy, List.of(permissions));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public <T extends AProjectArtefact> List<T> filterGranted(Collection<T> projectArtefacts,
+                                                               List<Permission> permissions) {
+        List<ObjectIdentity> oids = new ArrayList<>();
+        for (T projectArtefact : projectArtefacts) {
+            if (projectArtefact != null && !LocalWorkspace.LOCAL_ID.equals(projectArtefact.getRepository().getId())) {
+                oids.add(oidProvider.getArtifactOid(projectArtefact));
+            }
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        List<Sid> sids = sidRetrievalStrategy.getSids(authentication);
+        Set<ObjectIdentity> grantedOids = getGrantedOids(oids, sids, permissions);
+        List<T> granted = new ArrayList<>();
+        int i = 0;
+        for (T projectArtefact : projectArtefacts) {
+            if (projectArtefact == null) {
+                continue;
+            }
+            if (LocalWorkspace.LOCAL_ID.equals(projectArtefact.getRepository().getId()) || grantedOids
+                    .contains(oids.get(i++))) {
+                granted.add(projectArtefact);
+            }
+        }
+        return granted;
+    }
+
     private boolean isGranted0(AProjectArtefact projectArtefact, boolean useParentStrategy, List<Permission> permissions) {
         if (projectArtefact == null) {
             return false;
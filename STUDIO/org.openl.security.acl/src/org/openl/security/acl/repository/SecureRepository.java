@@ -6,6 +6,7 @@ import java.nio.file.AccessDeniedException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.security.acls.domain.BasePermission;
@@ -45,10 +46,14 @@ public class SecureRepository implements Repository, RepositoryDelegate {
 
     @Override
     public List<FileData> list(String path) throws IOException {
-        return repository.list(path)
-                .stream()
-                .filter(e -> simpleRepositoryAclService.isGranted(getId(), e.getName(), List.of(BasePermission.READ)))
-                .collect(Collectors.toList());
+        return filterReadable(repository.list(path));
+    }
+
+    private List<FileData> filterReadable(List<FileData> files) {
+        Set<String> granted = simpleRepositoryAclService.getGrantedPaths(getId(),
+                files.stream().map(FileData::getName).collect(Collectors.toList()),
+                List.of(BasePermission.READ));
+        return files.stream().filter(e -> granted.contains(e.getName())).collect(Collectors.toList());
     }
 
     @Override
@@ -170,18 +175,12 @@ public class SecureRepository implements Repository, RepositoryDelegate {
 
     @Override
     public List<FileData> listFolders(String path) throws IOException {
-        return repository.listFolders(path)
-                .stream()
-                .filter(e -> simpleRepositoryAclService.isGranted(getId(), e.getName(), List.of(BasePermission.READ)))
-                .collect(Collectors.toList());
+        return filterReadable(repository.listFolders(path));
     }
 
     @Override
     public List<FileData> listFiles(String path, String version) throws IOException {
-        return repository.listFiles(path, version)
-                .stream()
-                .filter(e -> simpleRepositoryAclService.isGranted(getId(), e.getName(), List.of(BasePermission.READ)))
-                .collect(Collectors.toList());
+        return filterReadable(repository.listFiles(path, version));
     }
 
     @Override
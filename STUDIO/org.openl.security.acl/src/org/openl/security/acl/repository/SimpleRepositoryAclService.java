@@ -1,7 +1,10 @@
 package org.openl.security.acl.repository;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.security.acls.model.Permission;
 import org.springframework.security.acls.model.Sid;
@@ -46,6 +49,24 @@ public interface SimpleRepositoryAclService {
 
     boolean isGranted(String repositoryId, String path, boolean useParentStrategy, Permission... permissions);
 
+    /**
+     * Evaluates the permissions of the current user for many paths of the same repository at once.
+     *
+     * @param repositoryId repository id
+     * @param paths paths to check
+     * @param permissions permissions to check
+     * @return the paths for which the permissions are granted
+     */
+    default Set<String> getGrantedPaths(String repositoryId, Collection<String> paths, List<Permission> permissions) {
+        Set<String> granted = new LinkedHashSet<>();
+        for (String path : paths) {
+            if (isGranted(repositoryId, path, permissions)) {
+                granted.add(path);
+            }
+        }
+        return granted;
+    }
+
     boolean createAcl(String repositoryId, String path, List<Permission> permissions, boolean force);
 
     Sid getOwner(String repositoryId, String path);
@@ -1,12 +1,16 @@
 package org.openl.security.acl.repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -388,6 +392,95 @@ public class SimpleRepositoryAclServiceImpl implements SimpleRepositoryAclServic
         }
     }
 
+    /**
+     * Evaluates the permissions for many object identities at once. The ACLs of the object identities and of all their
+     * parents are read in batches, and the decision for a parent without own ACL is computed once for all its children.
+     */
+    protected Set<ObjectIdentity> getGrantedOids(Collection<ObjectIdentity> objectIdentities,
+                                                 List<Sid> sids,
+                                                 List<Permission> permissions) {
+        if (permissions == null || sids == null) {
+            return Collections.emptySet();
+        }
+        if (sids.contains(relevantSystemWideSid)) {
+            return new HashSet<>(objectIdentities);
+        }
+        long now = System.currentTimeMillis();
+        Set<ObjectIdentity> lookup = new LinkedHashSet<>();
+        for (ObjectIdentity objectIdentity : objectIdentities) {
+            ObjectIdentity oi = objectIdentity;
+            while (oi != null && lookup.add(oi)) {
+                oi = oidProvider.getParentOid(oi);
+            }
+        }
+        List<ObjectIdentity> toRead = new ArrayList<>();
+        for (ObjectIdentity oi : lookup) {
+            Long t = objectIdentityIdCache.get(oi);
+            if (t == null || now - t > MAX_LIFE_TIME) {
+                toRead.add(oi);
+            }
+        }
+        Map<ObjectIdentity, Acl> acls = aclService.readExistingAclsById(toRead, null);
+        for (ObjectIdentity oi : toRead) {
+            if (!acls.containsKey(oi)) {
+                objectIdentityIdCache.put(oi, now);
+            }
+        }
+        Map<ObjectIdentity, Boolean> decisions = new HashMap<>();
+        Set<ObjectIdentity> granted = new HashSet<>();
+        for (ObjectIdentity oi : objectIdentities) {
+            if (isGranted(oi, acls, decisions, sids, permissions)) {
+                granted.add(oi);
+            }
+        }
+        return granted;
+    }
+
+    private boolean isGranted(ObjectIdentity objectIdentity,
+                              Map<ObjectIdentity, Acl> acls,
+                              Map<ObjectIdentity, Boolean> decisions,
+                              List<Sid> sids,
+                              List<Permission> permissions) {
+        Boolean decision = decisions.get(objectIdentity);
+        if (decision == null) {
+            Acl acl = acls.get(objectIdentity);
+            if (acl != null) {
+                try {
+                    decision = acl.isGranted(permissions, sids, false);
+                } catch (NotFoundException nfe) {
+                    decision = false;
+                }
+            } else {
+                ObjectIdentity poi = oidProvider.getParentOid(objectIdentity);
+                decision = poi != null && isGranted(poi, acls, decisions, sids, permissions);
+            }
+            decisions.put(objectIdentity, decision);
+        }
+        return decision;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> getGrantedPaths(String repositoryId, Collection<String> paths, List<Permission> permissions) {
+        if (LocalWorkspace.LOCAL_ID.equals(repositoryId)) {
+            return new LinkedHashSet<>(paths);
+        }
+        Map<String, ObjectIdentity> oids = new LinkedHashMap<>();
+        for (String path : paths) {
+            oids.put(path, oidProvider.getRepositoryOid(repositoryId, path));
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        List<Sid> sids = sidRetrievalStrategy.getSids(authentication);
+        Set<ObjectIdentity> grantedOids = getGrantedOids(oids.values(), sids, permissions);
+        Set<String> granted = new LinkedHashSet<>();
+        for (Map.Entry<String, ObjectIdentity> entry : oids.entrySet()) {
+            if (grantedOids.contains(entry.getValue())) {
+                granted.add(entry.getKey());
+            }
+        }
+        return granted;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean isGranted(String repositoryId, String path, List<Permission> permissions) {
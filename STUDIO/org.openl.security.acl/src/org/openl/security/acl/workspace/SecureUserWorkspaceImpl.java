@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.security.acls.domain.BasePermission;
 
@@ -45,10 +44,8 @@ public class SecureUserWorkspaceImpl implements UserWorkspace {
 
     @Override
     public List<RulesProject> getProjects(String repositoryId) {
-        return userWorkspace.getProjects(repositoryId)
-                .stream()
-                .filter(e -> designRepositoryAclService.isGranted(e, List.of(BasePermission.READ)))
-                .collect(Collectors.toList());
+        return designRepositoryAclService.filterGranted(userWorkspace.getProjects(repositoryId),
+                List.of(BasePermission.READ));
     }
 
     @Override
@@ -161,18 +158,13 @@ public class SecureUserWorkspaceImpl implements UserWorkspace {
 
     @Override
     public Collection<RulesProject> getProjects() {
-        return userWorkspace.getProjects()
-                .stream()
-                .filter(e -> designRepositoryAclService.isGranted(e, List.of(BasePermission.READ)))
-                .collect(Collectors.toList());
+        return designRepositoryAclService.filterGranted(userWorkspace.getProjects(), List.of(BasePermission.READ));
     }
 
     @Override
     public Collection<RulesProject> getProjects(boolean refreshBefore) {
-        return userWorkspace.getProjects(refreshBefore)
-                .stream()
-                .filter(e -> designRepositoryAclService.isGranted(e, List.of(BasePermission.READ)))
-                .collect(Collectors.toList());
+        return designRepositoryAclService.filterGranted(userWorkspace.getProjects(refreshBefore),
+                List.of(BasePermission.READ));
     }
 
     @Override
@@ -1,11 +1,13 @@
 package org.openl.security.acl.config;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +46,7 @@ public class DisabledAclConfigurationTest {
         assertTrue(service.createAcl(stubArtefact, List.of(), false));
         assertTrue(service.hasAcl(stubArtefact));
         assertNull(service.getPath(stubArtefact));
+        assertEquals(List.of(stubArtefact), service.filterGranted(List.of(stubArtefact), List.of()));
     }
 
     private void test_DisabledSimpleRepositoryAclService_stubs(SimpleRepositoryAclService service) {
@@ -63,6 +66,7 @@ public class DisabledAclConfigurationTest {
         service.removeRootPermissions();
 
         assertTrue(service.isGranted(null, null, List.of()));
+        assertEquals(Set.of("a", "b"), service.getGrantedPaths(null, List.of("a", "b"), List.of()));
         assertTrue(service.createAcl(null, null, List.of(), false));
 
         assertNull(service.getOwner(null, null));
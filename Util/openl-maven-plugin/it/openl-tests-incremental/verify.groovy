@@ -0,0 +1,16 @@
+try {
+    File folder = basedir
+    def lines = new File(folder, 'build.log').readLines('UTF-8')
+
+    assert lines.count { it.contains("Running 'halfTest' from module 'SimpleRules'...") } == 1
+    assert lines.count { it.contains("Skipping 'halfTest' from module 'SimpleRules'. Tests run: 2 in the previous build.") } == 1
+    assert lines.count { it.contains('Total tests run: 2, Failures: 0, Errors: 0') } == 2
+
+    assert new File(folder, 'target/openl-test-index.txt').exists()
+    assert new File(folder, 'target/openl-test-reports/TEST-OpenL.SimpleRules.halfTest.xml').exists()
+
+    return true
+} catch (Throwable e) {
+    e.printStackTrace()
+    return false
+}
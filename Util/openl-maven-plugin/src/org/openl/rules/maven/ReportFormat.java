@@ -2,6 +2,7 @@ package org.openl.rules.maven;
 
 import java.io.File;
 
+import org.openl.rules.testmethod.TestSuiteMethod;
 import org.openl.rules.testmethod.TestUnitsResults;
 
 public enum ReportFormat {
@@ -19,4 +20,9 @@ public enum ReportFormat {
         }
         throw new IllegalArgumentException(this + " writer is not found.");
     }
+
+    File getReportFile(File dir, TestSuiteMethod test) {
+        String filename = "TEST-OpenL." + test.getModuleName() + "." + test.getName();
+        return new File(dir, filename + (this == xlsx ? ".xlsx" : ".xml"));
+    }
 }
@@ -0,0 +1,294 @@
+package org.openl.rules.maven;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.openl.dependency.CompiledDependency;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.rules.method.ExecutableRulesMethod;
+import org.openl.rules.table.ICell;
+import org.openl.rules.table.IGridTable;
+import org.openl.rules.testmethod.TestSuiteMethod;
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenMember;
+import org.openl.types.Invokable;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
+
+/**
+ * Index of the tables reached by the OpenL tests. It is used to skip the test suites, which have passed in the
+ * previous build, if neither the test table nor the tables executed by the test have been changed since that time.
+ * <p>
+ * The fingerprint of a test suite consists of:
+ * <ul>
+ * <li>the content of the test table,</li>
+ * <li>the content of all the tables with the same names as the executed tables, so adding a new overloaded version of
+ * the table also invalidates the test,</li>
+ * <li>the content of all non-executable tables, such as datatypes, data and properties tables,</li>
+ * <li>the classpath of the project.</li>
+ * </ul>
+ */
+final class TestImpactIndex {
+    private static final String SEPARATOR = "\t";
+
+    private final Path file;
+    private final String classpathHash;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new TreeMap<>();
+
+    private TestImpactIndex(Path file, String classpathHash, Map<String, Entry> previous) {
+        this.file = file;
+        this.classpathHash = classpathHash;
+        this.previous = previous;
+    }
+
+    static TestImpactIndex load(File file, List<String> classpath) throws IOException {
+        String classpathHash = hashClasspath(classpath);
+        Map<String, Entry> entries = new HashMap<>();
+        Path path = file.toPath();
+        if (Files.isRegularFile(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                if (classpathHash.equals(line)) {
+                    while ((line = reader.readLine()) != null) {
+                        String[] parts = line.split(SEPARATOR, -1);
+                        if (parts.length == 4) {
+                            Set<String> tables = parts[3].isEmpty() ? Collections.emptySet()
+                                                                    : Set.of(parts[3].split(","));
+                            entries.put(parts[0], new Entry(parts[1], Integer.parseInt(parts[2]), tables));
+                        }
+                    }
+                }
+            }
+        }
+        return new TestImpactIndex(path, classpathHash, entries);
+    }
+
+    /**
+     * @return the number of the passed tests of the suite if the suite can be skipped, or {@code -1} otherwise
+     */
+    int getCachedTests(String suite, TestSuiteMethod test, Tables tables) {
+        Entry entry = previous.get(suite);
+        if (entry == null) {
+            return -1;
+        }
+        String fingerprint = tables.fingerprint(test, entry.tables);
+        if (!entry.fingerprint.equals(fingerprint)) {
+            return -1;
+        }
+        current.put(suite, entry);
+        return entry.tests;
+    }
+
+    void passed(String suite, TestSuiteMethod test, Tables tables, int tests, Set<String> reached) {
+        String fingerprint = tables.fingerprint(test, reached);
+        if (fingerprint != null) {
+            current.put(suite, new Entry(fingerprint, tests, reached));
+        }
+    }
+
+    void save() throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.append(classpathHash).append('\n');
+            for (Map.Entry<String, Entry> e : current.entrySet()) {
+                Entry entry = e.getValue();
+                writer.append(e.getKey())
+                        .append(SEPARATOR)
+                        .append(entry.fingerprint)
+                        .append(SEPARATOR)
+                        .append(String.valueOf(entry.tests))
+                        .append(SEPARATOR)
+                        .append(String.join(",", new TreeSet<>(entry.tables)))
+                        .append('\n');
+            }
+        }
+    }
+
+    private static String hashClasspath(List<String> classpath) throws IOException {
+        MessageDigest digest = newDigest();
+        for (String element : classpath) {
+            Path path = Path.of(element);
+            update(digest, element);
+            if (Files.isDirectory(path)) {
+                // Project classes can be regenerated on each build, so their content is compared
+                List<Path> files;
+                try (Stream<Path> stream = Files.walk(path)) {
+                    files = stream.filter(Files::isRegularFile).sorted().toList();
+                }
+                for (Path f : files) {
+                    update(digest, path.relativize(f).toString());
+                    try (InputStream in = Files.newInputStream(f)) {
+                        digest.update(in.readAllBytes());
+                    }
+                }
+            } else if (Files.isRegularFile(path)) {
+                update(digest, Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private record Entry(String fingerprint, int tests, Set<String> tables) {
+    }
+
+    /**
+     * Content hashes of the tables of one compiled project.
+     */
+    static final class Tables {
+        private final Map<String, List<String>> executable = new HashMap<>();
+        private final String others;
+
+        Tables(IOpenClass openClass) {
+            List<String> otherHashes = new ArrayList<>();
+            Set<TableSyntaxNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (TableSyntaxNode tsn : collectTables(openClass, new HashSet<>())) {
+                if (!visited.add(tsn)) {
+                    continue;
+                }
+                IOpenMember member = tsn.getMember();
+                if (member instanceof TestSuiteMethod) {
+                    // Test tables do not affect each other
+                    continue;
+                }
+                String hash = hash(tsn);
+                if (member instanceof ExecutableRulesMethod) {
+                    executable.computeIfAbsent(member.getName(), e -> new ArrayList<>()).add(hash);
+                } else {
+                    otherHashes.add(hash);
+                }
+            }
+            executable.values().forEach(Collections::sort);
+            Collections.sort(otherHashes);
+            others = String.join(",", otherHashes);
+        }
+
+        private static List<TableSyntaxNode> collectTables(IOpenClass openClass, Set<IOpenClass> modules) {
+            List<TableSyntaxNode> result = new ArrayList<>();
+            if (openClass instanceof XlsModuleOpenClass module && modules.add(module)) {
+                Collections.addAll(result, module.getXlsMetaInfo().getXlsModuleNode().getXlsTableSyntaxNodes());
+                for (CompiledDependency dependency : module.getDependencies()) {
+                    result.addAll(collectTables(dependency.getCompiledOpenClass().getOpenClassWithErrors(), modules));
+                }
+            }
+            return result;
+        }
+
+        private String fingerprint(TestSuiteMethod test, Collection<String> reached) {
+            TableSyntaxNode testTable = test.getSyntaxNode();
+            if (testTable == null) {
+                return null;
+            }
+            MessageDigest digest = newDigest();
+            update(digest, others);
+            update(digest, hash(testTable));
+            for (String name : new TreeSet<>(reached)) {
+                update(digest, name);
+                update(digest, String.valueOf(executable.get(name)));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        private static String hash(TableSyntaxNode tsn) {
+            MessageDigest digest = newDigest();
+            IGridTable table = tsn.getGridTable();
+            for (int row = 0; row < table.getHeight(); row++) {
+                for (int col = 0; col < table.getWidth(); col++) {
+                    ICell cell = table.getCell(col, row);
+                    String formula = cell.getFormula();
+                    update(digest, formula == null ? String.valueOf(cell.getStringValue()) : "=" + formula);
+                }
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    /**
+     * Records the names of the rules tables executed by a test suite.
+     */
+    static final class Recorder extends Tracer {
+        private final Set<String> reached = ConcurrentHashMap.newKeySet();
+
+        private Recorder() {
+        }
+
+        /**
+         * Registers the recorder in the chain of the active tracers.
+         *
+         * @return the installed recorder
+         */
+        static synchronized Recorder install() {
+            Recorder recorder = find(Recorder.class);
+            if (recorder == null) {
+                recorder = new Recorder();
+                register(recorder);
+            }
+            return recorder;
+        }
+
+        static synchronized void uninstall() {
+            Recorder recorder = find(Recorder.class);
+            if (recorder != null) {
+                unregister(recorder);
+            }
+        }
+
+        /**
+         * @return the tables executed since the previous call
+         */
+        Set<String> drain() {
+            Set<String> result = new HashSet<>(reached);
+            reached.removeAll(result);
+            return result;
+        }
+
+        @Override
+        protected <T, E extends IRuntimeEnv, R> R doInvoke(Invokable<? super T, E> executor,
+                                                           T target,
+                                                           Object[] params,
+                                                           E env,
+                                                           Object source) {
+            if (source instanceof ExecutableRulesMethod method && !(method instanceof TestSuiteMethod)) {
+                reached.add(method.getName());
+            }
+            return proceed(executor, target, params, env, source);
+        }
+    }
+}
@@ -5,9 +5,12 @@ import static org.openl.rules.testmethod.TestStatus.TR_OK;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.ArrayDeque;
@@ -38,6 +41,7 @@ import org.openl.exception.OpenLCompilationException;
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
 import org.openl.message.Severity;
+import org.openl.rules.profiling.RulesProfiler;
 import org.openl.rules.project.instantiation.AbstractDependencyManager;
 import org.openl.rules.project.instantiation.RulesInstantiationException;
 import org.openl.rules.project.instantiation.SimpleProjectEngineFactory;
@@ -128,14 +132,65 @@ public final class TestMojo extends BaseOpenLMojo {
     @Parameter
     private Map<String, Object> externalParameters;
 
+    /**
+     * Parameter to profile the rules execution while running tests. The profile is saved into {@link #reportsDirectory}:
+     * <ul>
+     * <li>openl-profile.txt - top tables and spreadsheet cells by the self time.</li>
+     * <li>openl-profile.collapsed - call stacks in the collapsed format, which can be converted to a flame graph.</li>
+     * </ul>
+     * Tests are run sequentially while profiling.
+     */
+    @Parameter(property = "openl.profile", defaultValue = "false")
+    private boolean profile;
+
+    /**
+     * Number of the tables in the profiling report.
+     */
+    @Parameter(property = "openl.profile.top", defaultValue = "50")
+    private int profileTop;
+
+    /**
+     * Parameter to skip the test tables, which have passed in the previous build, if neither the test tables nor the
+     * tables executed by them have been changed. Non-executable tables, such as datatypes or data tables, and the
+     * project classpath are shared by all tests, so any change in them causes running all the tests. Reports of the
+     * skipped tests are kept from the previous build.
+     */
+    @Parameter(property = "openl.test.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * File where the tables executed by the tests are saved for the {@link #incremental} test execution.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/openl-test-index.txt")
+    private File incrementalIndex;
+
     @Parameter(defaultValue = "${project.testClasspathElements}", readonly = true, required = true)
     private List<String> classpath;
 
     private TestRunner testRunner;
+    private TestImpactIndex impactIndex;
+    private TestImpactIndex.Recorder impactRecorder;
 
     @Override
     public void execute(String sourcePath, boolean hasDependencies) throws Exception {
-        Summary summary = runAllTests(sourcePath, hasDependencies);
+        Summary summary;
+        if (profile) {
+            RulesProfiler.setEnabled(true);
+        }
+        try {
+            if (incremental) {
+                summary = runAffectedTests(sourcePath, hasDependencies);
+            } else {
+                summary = runAllTests(sourcePath, hasDependencies);
+            }
+            if (profile) {
+                writeProfile(RulesProfiler.get());
+            }
+        } finally {
+            if (profile) {
+                RulesProfiler.setEnabled(false);
+            }
+        }
 
         info("");
         info("Results:");
@@ -169,6 +224,20 @@ public final class TestMojo extends BaseOpenLMojo {
         }
     }
 
+    private Summary runAffectedTests(String sourcePath, boolean hasDependencies) throws Exception {
+        impactRecorder = TestImpactIndex.Recorder.install();
+        try {
+            impactIndex = TestImpactIndex.load(incrementalIndex, classpath);
+            Summary summary = runAllTests(sourcePath, hasDependencies);
+            impactIndex.save();
+            return summary;
+        } finally {
+            TestImpactIndex.Recorder.uninstall();
+            impactRecorder = null;
+            impactIndex = null;
+        }
+    }
+
     private Summary runAllTests(String sourcePath,
                                 boolean hasDependencies) throws IOException, RulesInstantiationException, ProjectResolvingException {
 
@@ -329,6 +398,11 @@ public final class TestMojo extends BaseOpenLMojo {
         List<String> summaryErrors = new ArrayList<>();
 
         TestSuiteExecutor testSuiteExecutor = createTestSuiteExecutor();
+        // Test results cannot be reused if the project has not been compiled completely
+        TestImpactIndex.Tables tables = null;
+        if (impactIndex != null && !openLRules.hasErrors()) {
+            tables = new TestImpactIndex.Tables(openClass);
+        }
 
         try {
             TestSuiteMethod[] tests = ProjectHelper.allTesters(openClass);
@@ -336,6 +410,21 @@ public final class TestMojo extends BaseOpenLMojo {
                 String moduleName = test.getModuleName();
                 try {
                     String moduleInfo = moduleName == null ? "" : String.format(" from module '%s'", moduleName);
+                    String suite = moduleName + "." + test.getName();
+                    if (tables != null) {
+                        int cachedTests = hasReports(test) ? impactIndex.getCachedTests(suite, test, tables) : -1;
+                        if (cachedTests >= 0) {
+                            info("Skipping ",
+                                    String.format("'%s'", test.getName()),
+                                    moduleInfo,
+                                    ". Tests run: ",
+                                    cachedTests,
+                                    " in the previous build. The tested tables have not been changed.");
+                            runTests += cachedTests;
+                            continue;
+                        }
+                        impactRecorder.drain();
+                    }
                     info("Running ", String.format("'%s'", test.getName()), moduleInfo, "...");
                     TestUnitsResults result;
                     ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
@@ -370,6 +459,10 @@ public final class TestMojo extends BaseOpenLMojo {
                         showFailures(test, result, summaryFailures, summaryErrors);
                     }
 
+                    if (tables != null && result.getNumberOfFailures() == 0) {
+                        impactIndex.passed(suite, test, tables, suitTests, impactRecorder.drain());
+                    }
+
                     runTests += suitTests;
                     failedTests += suitFailures;
                     errors += suitErrors;
@@ -393,6 +486,24 @@ public final class TestMojo extends BaseOpenLMojo {
         }
     }
 
+    private void writeProfile(RulesProfiler profiler) throws IOException {
+        Files.createDirectories(reportsDirectory.toPath());
+        Path report = reportsDirectory.toPath().resolve("openl-profile.txt");
+        try (Writer writer = Files.newBufferedWriter(report)) {
+            profiler.writeReport(writer, profileTop);
+        }
+        Path collapsed = reportsDirectory.toPath().resolve("openl-profile.collapsed");
+        try (Writer writer = Files.newBufferedWriter(collapsed)) {
+            profiler.writeCollapsedStacks(writer);
+        }
+        info("");
+        info("Profile of the rules execution:");
+        for (String line : Files.readAllLines(report)) {
+            info(line);
+        }
+        info("Collapsed call stacks are saved into '", collapsed, "'.");
+    }
+
     private TestRunner getTestRunner() {
         if (testRunner == null) {
             TestRunner runner = new TestRunner(BaseTestUnit.Builder.getInstance());
@@ -411,6 +522,15 @@ public final class TestMojo extends BaseOpenLMojo {
         return testRunner;
     }
 
+    private boolean hasReports(TestSuiteMethod test) {
+        for (ReportFormat reporter : reportsFormat) {
+            if (!reporter.getReportFile(reportsDirectory, test).isFile()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void writeReport(TestUnitsResults result) throws Exception {
         for (ReportFormat reporter : reportsFormat) {
             reporter.write(reportsDirectory, result);
@@ -521,6 +641,11 @@ public final class TestMojo extends BaseOpenLMojo {
     private TestSuiteExecutor createTestSuiteExecutor() {
         int threads;
 
+        if (profile) {
+            // Parallel execution distorts the time of the profiled tables
+            return null;
+        }
+
         switch (threadCount) {
             case "none":
                 return null;
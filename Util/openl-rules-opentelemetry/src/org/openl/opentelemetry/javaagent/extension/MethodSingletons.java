@@ -23,6 +23,7 @@ public final class MethodSingletons {
         INSTRUMENTER = Instrumenter.<ExecutableRulesMethod, Void>builder(GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, ExecutableRulesMethod::getName)
                 .addAttributesExtractor(new OpenLMethodAttributeExtractor())
                 .buildInstrumenter(SpanKindExtractor.alwaysInternal());
+        OpenLMetricsRegistrar.register(INSTRUMENTATION_NAME);
     }
 
     public static Instrumenter<ExecutableRulesMethod, Void> instrumenter() {
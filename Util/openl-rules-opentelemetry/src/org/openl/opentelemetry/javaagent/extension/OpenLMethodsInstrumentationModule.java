@@ -21,6 +21,7 @@ public class OpenLMethodsInstrumentationModule extends InstrumentationModule {
     public List<String> getAdditionalHelperClassNames() {
         return List.of(
                 MethodSingletons.class.getName(),
+                OpenLMetricsRegistrar.class.getName(),
                 OpenLMethodAttributeExtractor.class.getName());
     }
 
@@ -0,0 +1,62 @@
+package org.openl.opentelemetry.javaagent.extension;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+
+import org.openl.rules.method.RulesMetrics;
+import org.openl.rules.method.TableMetrics;
+
+/**
+ * Exports the per-table metrics collected by {@link RulesMetrics} as asynchronous OpenTelemetry instruments. The
+ * values are read only when the metric reader collects them, so the rules execution is not affected.
+ */
+public final class OpenLMetricsRegistrar {
+
+    private static final AttributeKey<String> OPENL_TABLE_TYPE = stringKey("openl.table.type");
+    private static final AttributeKey<String> CODE_FUNCTION = stringKey("code.function"); // semconv v1.24.0
+    private static final AttributeKey<String> CODE_NAMESPACE = stringKey("code.namespace"); // semconv v1.24.0
+
+    private OpenLMetricsRegistrar() {
+    }
+
+    static void register(String instrumentationName) {
+        RulesMetrics.setEnabled(true);
+        Meter meter = GlobalOpenTelemetry.getMeter(instrumentationName);
+        meter.counterBuilder("openl.table.invocations")
+                .setDescription("Number of the rules table invocations")
+                .buildWithCallback(m -> RulesMetrics.getTables()
+                        .forEach(t -> m.record(t.getInvocations(), attributes(t))));
+        meter.counterBuilder("openl.table.errors")
+                .setDescription("Number of the rules table invocations completed with an error")
+                .buildWithCallback(m -> RulesMetrics.getTables().forEach(t -> m.record(t.getErrors(), attributes(t))));
+        meter.counterBuilder("openl.table.duration")
+                .setDescription("Total execution time of the rules table")
+                .setUnit("ms")
+                .ofDoubles()
+                .buildWithCallback(m -> RulesMetrics.getTables()
+                        .forEach(t -> m.record(t.getTotalTime(), attributes(t))));
+        meter.counterBuilder("openl.table.no_matches")
+                .setDescription("Number of the decision table invocations without any fired rule")
+                .buildWithCallback(m -> RulesMetrics.getTables()
+                        .stream()
+                        .filter(t -> t.getNoMatches() > 0)
+                        .forEach(t -> m.record(t.getNoMatches(), attributes(t))));
+        meter.counterBuilder("openl.dispatch.misses")
+                .setDescription("Number of the overloaded tables dispatching without any matched table")
+                .buildWithCallback(m -> RulesMetrics.getDispatchMisses()
+                        .forEach((name, count) -> m.record(count, Attributes.of(CODE_FUNCTION, name))));
+    }
+
+    private static Attributes attributes(TableMetrics table) {
+        return Attributes.of(CODE_FUNCTION,
+                table.getName(),
+                CODE_NAMESPACE,
+                String.valueOf(table.getModule()),
+                OPENL_TABLE_TYPE,
+                table.getType());
+    }
+}
@@ -1,13 +1,19 @@
 package org.openl.rules.ruleservice.admin;
 
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
@@ -17,6 +23,9 @@ import org.springframework.beans.factory.annotation.Value;
 
 import org.openl.info.OpenLVersion;
 import org.openl.info.SysInfo;
+import org.openl.rules.method.RulesMetrics;
+import org.openl.rules.method.TableMetrics;
+import org.openl.rules.profiling.RulesProfiler;
 import org.openl.rules.ruleservice.loader.DeployClasspathJarsBean;
 import org.openl.rules.ruleservice.servlet.ServiceInfo;
 import org.openl.rules.ruleservice.servlet.ServiceInfoProvider;
@@ -127,6 +136,77 @@ public class AdminRestController {
         return Response.status(entity == null ? Response.Status.NOT_FOUND : Response.Status.OK).entity(entity).build();
     }
 
+    /**
+     * @return execution metrics of the most invoked rules tables. Metrics are collected if
+     *         {@code ruleservice.metrics.enabled} is set.
+     */
+    @GET
+    @Path("/metrics/tables.json")
+    public Response getTablesMetrics(@QueryParam("limit") @DefaultValue("100") int limit) {
+        var tables = RulesMetrics.getTables()
+                .stream()
+                .sorted(Comparator.comparingLong(TableMetrics::getInvocations).reversed())
+                .limit(Math.max(limit, 0))
+                .collect(Collectors.toList());
+        return Response.ok(Map.of("enabled",
+                RulesMetrics.isEnabled(),
+                "tables",
+                tables,
+                "dispatchMisses",
+                RulesMetrics.getDispatchMisses())).build();
+    }
+
+    /**
+     * @return top tables and spreadsheet cells by the self execution time. The profile is collected if
+     *         {@code ruleservice.profiler.enabled} is set.
+     */
+    @GET
+    @Path("/profiler/report.txt")
+    @Produces("text/plain;charset=UTF-8")
+    public Response getProfilerReport(@QueryParam("limit") @DefaultValue("50") int limit) {
+        var profiler = RulesProfiler.get();
+        if (profiler == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok((StreamingOutput) output -> {
+            var writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            profiler.writeReport(writer, Math.max(limit, 0));
+            writer.flush();
+        }).build();
+    }
+
+    /**
+     * @return collected call stacks in the collapsed format, which can be converted to a flame graph.
+     */
+    @GET
+    @Path("/profiler/collapsed.txt")
+    @Produces("text/plain;charset=UTF-8")
+    public Response getProfilerCollapsedStacks() {
+        var profiler = RulesProfiler.get();
+        if (profiler == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok((StreamingOutput) output -> {
+            var writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            profiler.writeCollapsedStacks(writer);
+            writer.flush();
+        }).build();
+    }
+
+    /**
+     * Clears the collected profile.
+     */
+    @DELETE
+    @Path("/profiler")
+    public Response resetProfiler() {
+        var profiler = RulesProfiler.get();
+        if (profiler == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        profiler.reset();
+        return Response.noContent().build();
+    }
+
     @GET
     @Path("/info/build.json")
     public Response getBuildInfo() {
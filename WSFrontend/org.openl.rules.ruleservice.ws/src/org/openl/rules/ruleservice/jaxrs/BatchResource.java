@@ -0,0 +1,372 @@
+package org.openl.rules.ruleservice.jaxrs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.swagger.v3.oas.annotations.Operation;
+import org.apache.cxf.jaxrs.utils.HttpUtils;
+import org.apache.cxf.message.Message;
+import org.slf4j.MDC;
+
+import org.openl.rules.ruleservice.core.ExceptionType;
+import org.openl.rules.ruleservice.publish.jaxrs.JAXRSErrorResponse;
+import org.openl.rules.ruleservice.storelogdata.PopulateStoreLogDataInterceptor;
+import org.openl.rules.ruleservice.storelogdata.StoreLogData;
+import org.openl.rules.ruleservice.storelogdata.StoreLogDataException;
+import org.openl.rules.ruleservice.storelogdata.StoreLogDataHolder;
+import org.openl.rules.ruleservice.storelogdata.StoreLogDataManager;
+
+/**
+ * A REST service for invoking a method of OpenL service with many sets of arguments in one request. The request body
+ * is a JSON array of the items. An item is the request body of the method or a JSON array of the arguments if the
+ * method has several arguments outside of the request body. The items are evaluated in parallel and the results are
+ * streamed back in the order of the items as a JSON array or as NDJSON. A failed item does not break other items.
+ * <p>
+ * If storing of the log data is enabled, every item is stored as a separate invocation of the method.
+ */
+@Path(BatchResource.PATH + "{method: .+}")
+public class BatchResource {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    static final String PATH = "/batch/";
+
+    private final Object serviceBean;
+    private final ObjectMapper mapper;
+    private final List<ExceptionMapper> exceptionMappers;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final StoreLogDataManager storeLogDataManager;
+    private final PopulateStoreLogDataInterceptor storeLogDataPopulator;
+    private final Map<String, Method> methods = new HashMap<>();
+
+    BatchResource(Object serviceBean,
+                  Class<?> serviceClass,
+                  ObjectMapper mapper,
+                  List<ExceptionMapper> exceptionMappers,
+                  ExecutorService executor,
+                  int parallelism) {
+        this(serviceBean, serviceClass, mapper, exceptionMappers, executor, parallelism, null, null);
+    }
+
+    /**
+     * @param storeLogDataManager the manager to store the log data of every item, or {@code null} if storing of the
+     *            log data is disabled
+     * @param storeLogDataPopulator fills the service data of the stored log data
+     */
+    BatchResource(Object serviceBean,
+                  Class<?> serviceClass,
+                  ObjectMapper mapper,
+                  List<ExceptionMapper> exceptionMappers,
+                  ExecutorService executor,
+                  int parallelism,
+                  StoreLogDataManager storeLogDataManager,
+                  PopulateStoreLogDataInterceptor storeLogDataPopulator) {
+        this.serviceBean = serviceBean;
+        this.mapper = mapper;
+        this.exceptionMappers = exceptionMappers;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+        this.storeLogDataManager = storeLogDataManager;
+        this.storeLogDataPopulator = storeLogDataPopulator;
+        for (Method method : serviceClass.getMethods()) {
+            Path path = method.getAnnotation(Path.class);
+            String name = toMethodName(path != null ? path.value() : method.getName());
+            if (!name.isEmpty()) {
+                methods.putIfAbsent(name, method);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the message is a request to this resource. It can be used before the resource is matched.
+     */
+    static boolean isBatchRequest(Message message) {
+        return HttpUtils.getPathToMatch(message, true).startsWith(PATH);
+    }
+
+    /**
+     * Removes the path parameters and the leading and trailing slashes from the path of a method.
+     */
+    static String toMethodName(String path) {
+        StringBuilder sb = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty() && !segment.startsWith("{")) {
+                if (sb.length() > 0) {
+                    sb.append('/');
+                }
+                sb.append(segment);
+            }
+        }
+        return sb.toString();
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces({ MediaType.APPLICATION_JSON, APPLICATION_NDJSON })
+    @Operation(hidden = true)
+    public Response invoke(@PathParam("method") String methodName,
+                           @Context HttpHeaders headers,
+                           @Context UriInfo uriInfo,
+                           @Context SecurityContext securityContext,
+                           @Context Request request,
+                           InputStream body) throws IOException {
+        Method method = methods.get(toMethodName(methodName));
+        if (method == null) {
+            throw new NotFoundException(String.format("Method '%s' is not found.", methodName));
+        }
+        List<JsonNode> items = readItems(body);
+        Object[] contextValues = { headers, uriInfo, securityContext, request };
+        boolean ndjson = headers != null && headers.getAcceptableMediaTypes()
+                .stream()
+                .anyMatch(e -> APPLICATION_NDJSON.equals(e.getType() + "/" + e.getSubtype()));
+
+        StreamingOutput output = out -> write(out, method, items, contextValues, ndjson);
+        return Response.ok(output).type(ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON).build();
+    }
+
+    private List<JsonNode> readItems(InputStream body) throws IOException {
+        List<JsonNode> items = new ArrayList<>();
+        try (JsonParser parser = mapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("A JSON array is expected.");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                items.add(mapper.readTree(parser));
+            }
+        }
+        return items;
+    }
+
+    private void write(OutputStream out,
+                       Method method,
+                       List<JsonNode> items,
+                       Object[] contextValues,
+                       boolean ndjson) throws IOException {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Deque<Future<Response>> results = new ArrayDeque<>();
+        int next = 0;
+        try (JsonGenerator generator = mapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            // At most 'parallelism' items of the request are evaluated at once, the results are written in order
+            while (next < items.size() || !results.isEmpty()) {
+                while (next < items.size() && results.size() < parallelism) {
+                    JsonNode item = items.get(next++);
+                    results.add(executor.submit(() -> invokeItem(method, item, contextValues, mdc)));
+                }
+                writeItem(generator, getResult(results.poll()));
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        } finally {
+            results.forEach(e -> e.cancel(true));
+        }
+    }
+
+    private Response getResult(Future<Response> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            return toErrorResponse(e.getCause());
+        }
+    }
+
+    private void writeItem(JsonGenerator generator, Response response) throws IOException {
+        int status = response.getStatus();
+        generator.writeStartObject();
+        generator.writeNumberField("status", status);
+        if (response.hasEntity()) {
+            generator.writeFieldName(status < 400 ? "result" : "error");
+            mapper.writeValue(generator, response.getEntity());
+        }
+        generator.writeEndObject();
+    }
+
+    private Response invokeItem(Method method, JsonNode item, Object[] contextValues, Map<String, String> mdc) {
+        Map<String, String> oldMdc = MDC.getCopyOfContextMap();
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        // The log data of the request is bound to the request thread, so every item gets its own one
+        StoreLogData storeLogData = null;
+        if (storeLogDataManager != null) {
+            StoreLogDataHolder.remove();
+            storeLogData = StoreLogDataHolder.get();
+            storeLogDataPopulator.populate(storeLogData);
+            storeLogData.setServiceMethod(method);
+            storeLogData.setIncomingMessageTime(ZonedDateTime.now());
+        }
+        try {
+            Response response = invokeMethod(method, item, contextValues, storeLogData);
+            if (storeLogData != null) {
+                storeLogData.setFault(response.getStatus() >= 400);
+                storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
+                try {
+                    storeLogDataManager.store(storeLogData);
+                } catch (StoreLogDataException e) {
+                    return toErrorResponse(e);
+                }
+            }
+            return response;
+        } finally {
+            if (storeLogData != null) {
+                StoreLogDataHolder.remove();
+            }
+            if (oldMdc != null) {
+                MDC.setContextMap(oldMdc);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+
+    private Response invokeMethod(Method method, JsonNode item, Object[] contextValues, StoreLogData storeLogData) {
+        try {
+            Object[] args = toArguments(method, item, contextValues);
+            if (storeLogData != null) {
+                storeLogData.setParameters(args);
+            }
+            Object result = method.invoke(serviceBean, args);
+            if (result instanceof Response) {
+                return (Response) result;
+            }
+            return Response.status(result == null ? Response.Status.NO_CONTENT : Response.Status.OK)
+                    .entity(result)
+                    .build();
+        } catch (InvocationTargetException | UndeclaredThrowableException e) {
+            return toErrorResponse(e.getCause());
+        } catch (Exception e) {
+            return toErrorResponse(e);
+        }
+    }
+
+    private Object[] toArguments(Method method, JsonNode item, Object[] contextValues) throws IOException {
+        Type[] types = method.getGenericParameterTypes();
+        Object[] args = new Object[types.length];
+        List<Integer> bodyParameters = new ArrayList<>();
+        for (int i = 0; i < types.length; i++) {
+            if (method.getParameters()[i].isAnnotationPresent(Context.class)) {
+                args[i] = findContextValue(method.getParameterTypes()[i], contextValues);
+            } else {
+                bodyParameters.add(i);
+            }
+        }
+        if (bodyParameters.size() == 1) {
+            int i = bodyParameters.get(0);
+            args[i] = readValue(item, types[i]);
+        } else if (!bodyParameters.isEmpty()) {
+            if (!item.isArray() || item.size() != bodyParameters.size()) {
+                throw new IllegalArgumentException(
+                        String.format("A JSON array of %s arguments is expected.", bodyParameters.size()));
+            }
+            int j = 0;
+            for (int i : bodyParameters) {
+                args[i] = readValue(item.get(j++), types[i]);
+            }
+        }
+        return args;
+    }
+
+    private Object readValue(JsonNode node, Type type) throws IOException {
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        return mapper.readerFor(javaType).readValue(node != null ? node : NullNode.getInstance());
+    }
+
+    private static Object findContextValue(Class<?> type, Object[] contextValues) {
+        for (Object value : contextValues) {
+            if (type.isInstance(value)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Response toErrorResponse(Throwable error) {
+        Exception exception = error instanceof Exception ? (Exception) error : new RuntimeException(error);
+        ExceptionMapper mapper = null;
+        int distance = Integer.MAX_VALUE;
+        for (ExceptionMapper exceptionMapper : exceptionMappers) {
+            Class<?> type = getExceptionType(exceptionMapper.getClass());
+            int d = 0;
+            for (Class<?> c = exception.getClass(); c != null; c = c.getSuperclass(), d++) {
+                if (c == type) {
+                    if (d < distance) {
+                        distance = d;
+                        mapper = exceptionMapper;
+                    }
+                    break;
+                }
+            }
+        }
+        if (mapper != null) {
+            return mapper.toResponse(exception);
+        }
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity(new JAXRSErrorResponse(exception.getMessage(), ExceptionType.SYSTEM))
+                .build();
+    }
+
+    private static Class<?> getExceptionType(Class<?> mapperClass) {
+        for (Class<?> c = mapperClass; c != null; c = c.getSuperclass()) {
+            for (Type type : c.getGenericInterfaces()) {
+                if (type instanceof ParameterizedType && ((ParameterizedType) type)
+                        .getRawType() == ExceptionMapper.class) {
+                    Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+                    return argument instanceof Class ? (Class<?>) argument : null;
+                }
+            }
+        }
+        return null;
+    }
+}
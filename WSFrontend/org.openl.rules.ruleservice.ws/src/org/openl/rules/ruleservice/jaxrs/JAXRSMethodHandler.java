@@ -8,13 +8,16 @@ import java.util.Map;
 import java.util.Objects;
 import jakarta.ws.rs.core.Response;
 
+import org.openl.rules.ruleservice.core.ServiceInvocationAdvice;
 import org.openl.rules.ruleservice.publish.jaxrs.JAXRSOpenLServiceEnhancerHelper;
+import org.openl.runtime.ASMProxyFactory;
 import org.openl.runtime.AbstractOpenLMethodHandler;
 
 class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Method> {
 
     private final Object target;
     private final Map<Method, Method> methodMap;
+    private final ServiceInvocationAdvice serviceInvocationAdvice;
 
     @Override
     public Method getTargetMember(Method key) {
@@ -24,6 +27,14 @@ class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Method> {
     public JAXRSMethodHandler(Object target, Map<Method, Method> methodMap) {
         this.target = Objects.requireNonNull(target, "target cannot be null");
         this.methodMap = Objects.requireNonNull(methodMap, "methodMap cannot be null");
+        if (ASMProxyFactory.isProxy(target) && ASMProxyFactory
+                .getProxyHandler(target) instanceof ServiceInvocationAdvice advice) {
+            // The response is written by the object mapper of the service, so the service can return the results
+            // which are not converted to the declared types
+            this.serviceInvocationAdvice = advice;
+        } else {
+            this.serviceInvocationAdvice = null;
+        }
     }
 
     @Override
@@ -63,7 +74,11 @@ class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Method> {
         Object o;
 
         try {
-            o = m.invoke(target, args);
+            if (serviceInvocationAdvice != null) {
+                o = serviceInvocationAdvice.invokeForSerialization(m, args);
+            } else {
+                o = m.invoke(target, args);
+            }
         } catch (InvocationTargetException | UndeclaredThrowableException e) {
             Throwable ex = e.getCause();
             throw ex instanceof Exception ? (Exception) ex : e;
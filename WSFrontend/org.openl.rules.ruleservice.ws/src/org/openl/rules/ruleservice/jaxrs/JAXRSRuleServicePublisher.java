@@ -1,9 +1,14 @@
 package org.openl.rules.ruleservice.jaxrs;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.annotation.PreDestroy;
 import jakarta.ws.rs.ext.ExceptionMapper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,6 +53,14 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
     @Value("${ruleservice.authentication.enabled}")
     private boolean authenticationEnabled;
 
+    @Value("${ruleservice.batch.enabled}")
+    private boolean batchEnabled;
+
+    @Value("${ruleservice.batch.threads}")
+    private int batchThreads;
+
+    private ExecutorService batchExecutor;
+
     @Autowired
     @Qualifier("serviceDescriptionInProcess")
     private ObjectFactory<ServiceDescription> serviceDescriptionObjectFactory;
@@ -103,8 +116,12 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
             svrFactory.setProvider(new TextPlainMessageProvider(serviceObjectMapper));
             svrFactory.setProvider(new JacksonJsonProvider(serviceObjectMapper));
 
+            PopulateStoreLogDataInterceptor storeLogDataPopulator = null;
             if (getStoreLogDataManager().isEnabled()) {
-                var storeLogDataInInterceptor = new CollectRequestMessageInInterceptor();
+                // Every item of a batch request is stored separately, so the whole request is not collected
+                var storeLogDataInInterceptor = batchEnabled
+                        ? new CollectRequestMessageInInterceptor(BatchResource::isBatchRequest)
+                        : new CollectRequestMessageInInterceptor();
                 svrFactory.getInInterceptors().add(storeLogDataInInterceptor);
                 svrFactory.getInFaultInterceptors().add(storeLogDataInInterceptor);
 
@@ -112,9 +129,9 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
                 svrFactory.getOutInterceptors().add(storeLogDataOutInterceptor);
                 svrFactory.getOutFaultInterceptors().add(storeLogDataOutInterceptor);
 
-                var serviceInterceptor = new PopulateStoreLogDataInterceptor(service, serviceObjectMapper);
-                svrFactory.getInInterceptors().add(serviceInterceptor);
-                svrFactory.getInFaultInterceptors().add(serviceInterceptor);
+                storeLogDataPopulator = new PopulateStoreLogDataInterceptor(service, serviceObjectMapper);
+                svrFactory.getInInterceptors().add(storeLogDataPopulator);
+                svrFactory.getInFaultInterceptors().add(storeLogDataPopulator);
 
                 var operationResourceInfoInterceptor = new CollectOperationResourceInfoInterceptor();
                 svrFactory.getInInterceptors().add(operationResourceInfoInterceptor);
@@ -130,9 +147,24 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
 
             var openApiResource = new OpenApiResource(serviceClass, serviceObjectMapper, service, authenticationEnabled);
 
-            svrFactory.setResourceClasses(serviceClass, OpenApiResource.class);
+            List<Class<?>> resourceClasses = new ArrayList<>();
+            resourceClasses.add(serviceClass);
+            resourceClasses.add(OpenApiResource.class);
             svrFactory.setResourceProvider(serviceClass, new SingletonResourceProvider(proxyServiceBean));
             svrFactory.setResourceProvider(OpenApiResource.class, new SingletonResourceProvider(openApiResource));
+            if (batchEnabled) {
+                var batchResource = new BatchResource(proxyServiceBean,
+                        serviceClass,
+                        serviceObjectMapper,
+                        exceptionMappers,
+                        getBatchExecutor(),
+                        getBatchThreads(),
+                        storeLogDataPopulator != null ? getStoreLogDataManager() : null,
+                        storeLogDataPopulator);
+                resourceClasses.add(BatchResource.class);
+                svrFactory.setResourceProvider(BatchResource.class, new SingletonResourceProvider(batchResource));
+            }
+            svrFactory.setResourceClasses(resourceClasses);
 
             ClassLoader origClassLoader = svrFactory.getBus().getExtension(ClassLoader.class);
             try {
@@ -150,6 +182,30 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
         }
     }
 
+    private int getBatchThreads() {
+        return batchThreads > 0 ? batchThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private synchronized ExecutorService getBatchExecutor() {
+        if (batchExecutor == null) {
+            var counter = new AtomicInteger();
+            batchExecutor = Executors.newFixedThreadPool(getBatchThreads(), r -> {
+                var thread = new Thread(r, "openl-batch-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return batchExecutor;
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        if (batchExecutor != null) {
+            batchExecutor.shutdownNow();
+            batchExecutor = null;
+        }
+    }
+
     @Override
     public OpenLService getServiceByDeploy(String deployPath) {
         Objects.requireNonNull(deployPath, "deployPath cannot be null");
@@ -27,6 +27,7 @@ import org.springframework.core.env.Environment;
 import org.openl.info.OpenLInfoLogger;
 import org.openl.rules.ruleservice.api.AccessDeniedHandler;
 import org.openl.rules.ruleservice.api.AuthorizationChecker;
+import org.openl.rules.ruleservice.core.DecisionLogTracer;
 import org.openl.rules.ruleservice.core.RuleServiceRedeployLock;
 import org.openl.util.StringUtils;
 
@@ -55,6 +56,9 @@ public class RuleServicesFilter implements Filter {
     public static final String REQUEST_ID_KEY = "requestId";
     private String requestIdHeaderKey;
 
+    // Decision log
+    private String decisionLogHeaderKey;
+
     // Security
     private AuthorizationChecker[] authorizationCheckers;
     private AccessDeniedHandler accessDeniedHandler;
@@ -80,6 +84,12 @@ public class RuleServicesFilter implements Filter {
         // MDC
         requestIdHeaderKey = StringUtils.trimToNull(env.getProperty("log.request-id.header"));
 
+        // Decision log
+        decisionLogHeaderKey = StringUtils.trimToNull(env.getProperty("ruleservice.decision-log.header"));
+        if (decisionLogHeaderKey != null) {
+            DecisionLogTracer.install();
+        }
+
         // Security
         var checkers = appContext.getBeansOfType(AuthorizationChecker.class).values().toArray(new AuthorizationChecker[0]);
         Arrays.sort(checkers, AnnotationAwareOrderComparator.INSTANCE);
@@ -193,12 +203,20 @@ public class RuleServicesFilter implements Filter {
             chain.doFilter(request, response);
             return;
         }
+        // Decision log
+        var decisionLogRequested = decisionLogHeaderKey != null && request.getHeader(decisionLogHeaderKey) != null;
+        if (decisionLogRequested) {
+            DecisionLogTracer.request();
+        }
         var lock = RuleServiceRedeployLock.getInstance().getReadLock();
         try {
             lock.lock();
             chain.doFilter(request, response);
         } finally {
             lock.unlock();
+            if (decisionLogRequested) {
+                DecisionLogTracer.clearRequest();
+            }
         }
 
     }
@@ -6,6 +6,7 @@ import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import org.apache.cxf.common.injection.NoJSR250Annotations;
 import org.apache.cxf.helpers.IOUtils;
@@ -27,9 +28,24 @@ import org.apache.cxf.phase.Phase;
 public class CollectRequestMessageInInterceptor extends AbstractPhaseInterceptor<Message> {
 
     public static final String ID_KEY = CollectRequestMessageInInterceptor.class.getName() + ".ID";
+    static final String EXCLUDED_KEY = CollectRequestMessageInInterceptor.class.getName() + ".EXCLUDED";
+
+    private final Predicate<Message> excluded;
 
     public CollectRequestMessageInInterceptor() {
+        this(message -> false);
+    }
+
+    /**
+     * @param excluded selects the requests which are not collected, such requests store their log data by themselves
+     */
+    public CollectRequestMessageInInterceptor(Predicate<Message> excluded) {
         super(Phase.RECEIVE);
+        this.excluded = excluded;
+    }
+
+    static boolean isExcluded(Message message) {
+        return Boolean.TRUE.equals(message.getExchange().get(EXCLUDED_KEY));
     }
 
     static boolean isBinaryContent(String contentType) {
@@ -43,13 +59,20 @@ public class CollectRequestMessageInInterceptor extends AbstractPhaseInterceptor
 
     @Override
     public void handleFault(Message message) {
+        if (isExcluded(message)) {
+            return;
+        }
         final StoreLogData storeLogData = StoreLogDataHolder.get();
         storeLogData.fault();
         processMessage(message);
     }
 
     protected void processMessage(Message message) {
-        if (message.containsKey(ID_KEY)) {
+        if (message.containsKey(ID_KEY) || isExcluded(message)) {
+            return;
+        }
+        if (excluded.test(message)) {
+            message.getExchange().put(EXCLUDED_KEY, Boolean.TRUE);
             return;
         }
         String id = (String) message.getExchange().get(ID_KEY);
@@ -47,11 +47,19 @@ public class CollectResponseMessageOutInterceptor extends AbstractPhaseIntercept
 
     @Override
     public void handleFault(Message message) {
+        if (CollectRequestMessageInInterceptor.isExcluded(message)) {
+            return;
+        }
         final StoreLogData storeLogData = StoreLogDataHolder.get();
         storeLogData.fault();
     }
 
     private void handleAnyMessage(Message message) {
+        if (CollectRequestMessageInInterceptor.isExcluded(message)) {
+            // The response is not collected, only the log data filled by other interceptors is dropped
+            StoreLogDataHolder.remove();
+            return;
+        }
         final OutputStream os = message.getContent(OutputStream.class);
         final Writer iowriter = message.getContent(Writer.class);
         if (os == null && iowriter == null) {
@@ -39,7 +39,13 @@ public class PopulateStoreLogDataInterceptor extends AbstractPhaseInterceptor<Me
     }
 
     private void populateStoreLogData() {
-        var storeLogData = StoreLogDataHolder.get();
+        populate(StoreLogDataHolder.get());
+    }
+
+    /**
+     * Fills the service data of the given store log data, it is used for the invocations outside the CXF chain.
+     */
+    public void populate(StoreLogData storeLogData) {
         storeLogData.setServiceClass(serviceClass);
         storeLogData.setServiceName(serviceName);
         storeLogData.setPublisherType(RulesDeploy.PublisherType.RESTFUL);
@@ -0,0 +1,194 @@
+package org.openl.rules.ruleservice.jaxrs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.cxf.message.ExchangeImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.ruleservice.storelogdata.PopulateStoreLogDataInterceptor;
+import org.openl.rules.ruleservice.storelogdata.StoreLogData;
+import org.openl.rules.ruleservice.storelogdata.StoreLogDataHolder;
+import org.openl.rules.ruleservice.storelogdata.StoreLogDataManager;
+
+public class BatchResourceTest {
+
+    private ExecutorService executor;
+    private BatchResource resource;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        List<ExceptionMapper> mappers = List.of(new IllegalArgumentExceptionMapper());
+        resource = new BatchResource(new ServiceImpl(), Service.class, new ObjectMapper(), mappers, executor, 3);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testToMethodName() {
+        assertEquals("rate", BatchResource.toMethodName("/rate"));
+        assertEquals("rate", BatchResource.toMethodName("/rate/{a: .*}/{b: .*}"));
+        assertEquals("policy/rate", BatchResource.toMethodName("policy/rate/"));
+    }
+
+    @Test
+    public void testIsBatchRequest() {
+        assertTrue(BatchResource.isBatchRequest(request("/rest/service/batch/rate")));
+        assertFalse(BatchResource.isBatchRequest(request("/rest/service/rate")));
+        assertFalse(BatchResource.isBatchRequest(request("/rest/service/batch")));
+    }
+
+    private static Message request(String uri) {
+        Message message = new MessageImpl();
+        message.setExchange(new ExchangeImpl());
+        message.put(Message.ENDPOINT_ADDRESS, "http://localhost:8080/rest/service");
+        message.put(Message.REQUEST_URI, uri);
+        return message;
+    }
+
+    @Test
+    public void testJsonArray() throws Exception {
+        String result = invoke("rate", "[1, 2, -1, 4, null]", MediaType.APPLICATION_JSON_TYPE);
+        assertEquals("[{\"status\":200,\"result\":10},{\"status\":200,\"result\":20}," +
+                "{\"status\":422,\"error\":\"Negative value\"},{\"status\":200,\"result\":40}," +
+                "{\"status\":204}]", result);
+    }
+
+    @Test
+    public void testNdjsonWithSeveralArguments() throws Exception {
+        String result = invoke("/sum/", "[[1, 2], [3, 4], [5]]", MediaType.valueOf(BatchResource.APPLICATION_NDJSON));
+        assertEquals("{\"status\":200,\"result\":3}\n{\"status\":200,\"result\":7}\n" +
+                "{\"status\":422,\"error\":\"A JSON array of 2 arguments is expected.\"}\n", result);
+    }
+
+    @Test
+    public void testStoreLogDataPerItem() throws Exception {
+        StoreLogDataManager storeLogDataManager = mock(StoreLogDataManager.class);
+        List<StoreLogData> stored = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(e -> stored.add(e.getArgument(0))).when(storeLogDataManager).store(any());
+        PopulateStoreLogDataInterceptor populator = mock(PopulateStoreLogDataInterceptor.class);
+        doAnswer(e -> {
+            e.<StoreLogData> getArgument(0).setServiceName("service");
+            return null;
+        }).when(populator).populate(any());
+        resource = new BatchResource(new ServiceImpl(),
+                Service.class,
+                new ObjectMapper(),
+                List.of(new IllegalArgumentExceptionMapper()),
+                executor,
+                3,
+                storeLogDataManager,
+                populator);
+
+        String result = invoke("rate", "[1, 2, -1, 4]", MediaType.APPLICATION_JSON_TYPE);
+        assertEquals("[{\"status\":200,\"result\":10},{\"status\":200,\"result\":20}," +
+                "{\"status\":422,\"error\":\"Negative value\"},{\"status\":200,\"result\":40}]", result);
+
+        assertEquals(4, stored.size());
+        Map<Object, StoreLogData> byValue = new HashMap<>();
+        for (StoreLogData storeLogData : stored) {
+            assertEquals("service", storeLogData.getServiceName());
+            assertEquals("rate", storeLogData.getServiceMethod().getName());
+            assertNotNull(storeLogData.getIncomingMessageTime());
+            assertNotNull(storeLogData.getOutcomingMessageTime());
+            // The values collected during the invocation belong to the item only
+            assertEquals(Map.of("value", storeLogData.getParameters()[0]), storeLogData.getCustomValues());
+            byValue.put(storeLogData.getParameters()[0], storeLogData);
+        }
+        assertFalse(byValue.get(1).isFault());
+        assertTrue(byValue.get(-1).isFault());
+    }
+
+    @Test
+    public void testUnknownMethod() {
+        assertThrows(NotFoundException.class, () -> invoke("unknown", "[]", MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    private String invoke(String method, String body, MediaType accept) throws Exception {
+        HttpHeaders headers = mock(HttpHeaders.class);
+        when(headers.getAcceptableMediaTypes()).thenReturn(List.of(accept));
+        Response response = resource.invoke(method,
+                headers,
+                null,
+                null,
+                null,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    public interface Service {
+        @POST
+        @Path("/rate")
+        Response rate(Integer value);
+
+        @POST
+        @Path("/sum/{a: .*}/{b: .*}")
+        Response sum(int a, int b);
+    }
+
+    public static class ServiceImpl implements Service {
+        @Override
+        public Response rate(Integer value) {
+            if (StoreLogDataHolder.RULESERVICE_LOGGING_HOLDER.get() != null) {
+                // Imitates the store log data advice
+                StoreLogDataHolder.get().getCustomValues().put("value", value);
+            }
+            if (value == null) {
+                return Response.noContent().build();
+            }
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative value");
+            }
+            return Response.ok(value * 10).build();
+        }
+
+        @Override
+        public Response sum(int a, int b) {
+            return Response.ok(a + b).build();
+        }
+    }
+
+    public static class IllegalArgumentExceptionMapper implements ExceptionMapper<IllegalArgumentException> {
+        @Override
+        public Response toResponse(IllegalArgumentException exception) {
+            return Response.status(422).entity(exception.getMessage()).build();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package org.openl.rules.ruleservice.jaxrs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
@@ -12,6 +16,9 @@ import jakarta.ws.rs.core.Response;
 
 import org.junit.jupiter.api.Test;
 
+import org.openl.rules.ruleservice.core.ServiceInvocationAdvice;
+import org.openl.runtime.ASMProxyFactory;
+
 public class JAXRSMethodHandlerTest {
 
     @Test
@@ -59,7 +66,23 @@ public class JAXRSMethodHandlerTest {
         assertEquals("Done", ((Response) result).getEntity());
     }
 
-    private interface InvokedClass {
+    @Test
+    public void checkServiceInvocationAdviceIsUsedForSerialization() throws Throwable {
+        ServiceInvocationAdvice advice = mock(ServiceInvocationAdvice.class);
+        Object target = ASMProxyFactory.newProxyInstance(getClass().getClassLoader(), advice, InvokedClass.class);
+        HashMap<Method, Method> methods = new HashMap<>();
+        Method method = InvokedClass.class.getDeclaredMethod("doWork");
+        methods.put(method, method);
+        Object result = new Object();
+        when(advice.invokeForSerialization(method, null)).thenReturn(result);
+
+        JAXRSMethodHandler handler = new JAXRSMethodHandler(target, methods);
+
+        assertSame(result, ((Response) handler.invoke(method, null)).getEntity());
+        verify(advice, never()).invoke(any(), any());
+    }
+
+    public interface InvokedClass {
         String doWork();
     }
 }
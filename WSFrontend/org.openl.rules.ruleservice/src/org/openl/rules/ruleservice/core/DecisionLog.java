@@ -0,0 +1,165 @@
+package org.openl.rules.ruleservice.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Compact log of the decisions made during one service method call: which rules tables were executed, which rules of
+ * the decision tables fired and how long it took.
+ * <p>
+ * The instance is filled by one thread and then it is passed to the writer thread, so it is not thread-safe.
+ */
+final class DecisionLog {
+
+    private final String service;
+    private final String method;
+    private final String requestId;
+    private final long timestamp = System.currentTimeMillis();
+    private final long start = System.nanoTime();
+    private final int maxEntries;
+    private final List<Entry> entries = new ArrayList<>();
+    private long duration;
+    private String error;
+    private boolean truncated;
+    private int depth;
+
+    DecisionLog(String service, String method, String requestId, int maxEntries) {
+        this.service = service;
+        this.method = method;
+        this.requestId = requestId;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Registers the start of the rules table execution.
+     *
+     * @return the entry to pass into {@link #exit(Entry, Throwable)} or {@code null} if the log is full
+     */
+    Entry enter(String table, String uri) {
+        depth++;
+        if (entries.size() >= maxEntries) {
+            truncated = true;
+            return null;
+        }
+        Entry entry = new Entry(table, uri, depth);
+        entries.add(entry);
+        return entry;
+    }
+
+    void exit(Entry entry, Throwable error) {
+        depth--;
+        if (entry != null) {
+            entry.duration = System.nanoTime() - entry.start;
+            if (error != null) {
+                entry.error = getMessage(error);
+            }
+        }
+    }
+
+    /**
+     * Registers the fired rules of the decision table which is executed at the moment.
+     */
+    void fired(String table, String[] rules) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            Entry entry = entries.get(i);
+            if (entry.duration < 0 && entry.table.equals(table)) {
+                entry.rules = rules;
+                return;
+            }
+        }
+    }
+
+    void finish(Throwable error) {
+        duration = System.nanoTime() - start;
+        if (error != null) {
+            this.error = getMessage(error);
+        }
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    void writeTo(JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("service", service);
+        gen.writeStringField("method", method);
+        if (requestId != null) {
+            gen.writeStringField("requestId", requestId);
+        }
+        gen.writeNumberField("timestamp", timestamp);
+        gen.writeNumberField("durationMicros", duration / 1000);
+        if (error != null) {
+            gen.writeStringField("error", error);
+        }
+        if (truncated) {
+            gen.writeBooleanField("truncated", true);
+        }
+        gen.writeArrayFieldStart("tables");
+        for (Entry entry : entries) {
+            gen.writeStartObject();
+            gen.writeStringField("table", entry.table);
+            if (entry.uri != null) {
+                gen.writeStringField("uri", entry.uri);
+            }
+            gen.writeNumberField("depth", entry.depth);
+            gen.writeNumberField("durationMicros", entry.duration / 1000);
+            if (entry.rules != null) {
+                gen.writeArrayFieldStart("rules");
+                for (String rule : entry.rules) {
+                    gen.writeString(rule);
+                }
+                gen.writeEndArray();
+            }
+            if (entry.error != null) {
+                gen.writeStringField("error", entry.error);
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static String getMessage(Throwable error) {
+        return error.getMessage() == null ? error.getClass().getName() : error.getMessage();
+    }
+
+    static final class Entry {
+        private final String table;
+        private final String uri;
+        private final int depth;
+        private final long start = System.nanoTime();
+        private long duration = -1;
+        private String[] rules;
+        private String error;
+
+        private Entry(String table, String uri, int depth) {
+            this.table = table;
+            this.uri = uri;
+            this.depth = depth;
+        }
+
+        String getTable() {
+            return table;
+        }
+
+        int getDepth() {
+            return depth;
+        }
+
+        String[] getRules() {
+            return rules;
+        }
+
+        String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.openl.rules.ruleservice.core;
+
+import java.io.StringWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import org.openl.rules.dt.ActionInvoker;
+import org.openl.rules.dt.DecisionTable;
+import org.openl.rules.dt.DecisionTableInvoker;
+import org.openl.rules.method.ExecutableRulesMethod;
+import org.openl.types.IMemberMetaInfo;
+import org.openl.types.Invokable;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
+
+/**
+ * Production tracer which records a compact {@link DecisionLog} for the sampled service method calls only.
+ * <p>
+ * The calls which are not sampled pay a single thread local lookup per a rules table invocation. The collected logs
+ * are written to the {@code openl.rules.decisions} logger in the background thread. If the writer cannot keep up, the
+ * logs are dropped instead of slowing down the service.
+ */
+public final class DecisionLogTracer extends Tracer {
+
+    private static final Logger DECISIONS = LoggerFactory.getLogger("openl.rules.decisions");
+    private static final Logger log = LoggerFactory.getLogger(DecisionLogTracer.class);
+
+    static final int MAX_ENTRIES = 10_000;
+    private static final int QUEUE_SIZE = 1024;
+    private static final String REQUEST_ID_KEY = "requestId";
+
+    private static final ThreadLocal<DecisionLog> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static volatile ExecutorService writer;
+
+    private DecisionLogTracer() {
+    }
+
+    /**
+     * Registers the decision log tracer in the chain of the active tracers.
+     */
+    public static synchronized void install() {
+        if (find(DecisionLogTracer.class) != null) {
+            return;
+        }
+        writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE), r -> {
+            Thread thread = new Thread(r, "openl-decision-log");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+        register(new DecisionLogTracer());
+    }
+
+    /**
+     * Forces logging of the service method calls in the current thread regardless of the sample rate.
+     */
+    public static void request() {
+        REQUESTED.set(Boolean.TRUE);
+    }
+
+    public static void clearRequest() {
+        REQUESTED.remove();
+    }
+
+    /**
+     * Decides whether the service method call should be logged.
+     *
+     * @param sampleRate the fraction of the calls to log from {@code 0} to {@code 1}
+     */
+    static boolean isSampled(double sampleRate) {
+        if (writer == null) {
+            return false;
+        }
+        return REQUESTED.get() != null || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Starts the decision log for the current thread. Nested service calls are logged as a part of the outer one.
+     *
+     * @return true if the new decision log has been started
+     */
+    static boolean begin(String service, String method) {
+        if (CURRENT.get() != null || writer == null) {
+            return false;
+        }
+        CURRENT.set(new DecisionLog(service, method, MDC.get(REQUEST_ID_KEY), MAX_ENTRIES));
+        return true;
+    }
+
+    /**
+     * Completes the decision log of the current thread and passes it to the writer.
+     */
+    static DecisionLog end(Throwable error) {
+        DecisionLog decisionLog = CURRENT.get();
+        if (decisionLog == null) {
+            return null;
+        }
+        CURRENT.remove();
+        decisionLog.finish(error);
+        ExecutorService executor = writer;
+        if (executor != null && DECISIONS.isInfoEnabled()) {
+            executor.execute(() -> write(decisionLog));
+        }
+        return decisionLog;
+    }
+
+    private static void write(DecisionLog decisionLog) {
+        try {
+            StringWriter out = new StringWriter(1024);
+            try (JsonGenerator gen = JSON_FACTORY.createGenerator(out)) {
+                decisionLog.writeTo(gen);
+            }
+            DECISIONS.info("{}", out);
+        } catch (Exception e) {
+            log.warn("Failed to write the decision log.", e);
+        }
+    }
+
+    @Override
+    public boolean isOn() {
+        return CURRENT.get() != null;
+    }
+
+    @Override
+    protected <T, E extends IRuntimeEnv, R> R doInvoke(Invokable<? super T, E> executor,
+                                                       T target,
+                                                       Object[] params,
+                                                       E env,
+                                                       Object source) {
+        DecisionLog decisionLog = CURRENT.get();
+        if (decisionLog == null) {
+            return proceed(executor, target, params, env, source);
+        }
+        if (source instanceof ExecutableRulesMethod method) {
+            DecisionLog.Entry entry = decisionLog.enter(method.getName(), getUri(method));
+            Throwable error = null;
+            try {
+                return proceed(executor, target, params, env, source);
+            } catch (RuntimeException | Error e) {
+                error = e;
+                throw e;
+            } finally {
+                decisionLog.exit(entry, error);
+            }
+        } else if (executor instanceof ActionInvoker actionInvoker && source instanceof DecisionTableInvoker invoker) {
+            try {
+                return proceed(executor, target, params, env, source);
+            } finally {
+                DecisionTable table = invoker.getInvokableMethod();
+                int[] fired = actionInvoker.getFiredRules();
+                String[] rules = new String[fired.length];
+                for (int i = 0; i < fired.length; i++) {
+                    rules[i] = table.getRuleName(fired[i]);
+                }
+                decisionLog.fired(table.getName(), rules);
+            }
+        }
+        return proceed(executor, target, params, env, source);
+    }
+
+    private static String getUri(ExecutableRulesMethod method) {
+        IMemberMetaInfo info = method.getInfo();
+        return info == null ? null : info.getSourceUrl();
+    }
+}
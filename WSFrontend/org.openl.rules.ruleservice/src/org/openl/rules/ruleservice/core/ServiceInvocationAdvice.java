@@ -49,6 +49,7 @@ import org.openl.rules.ruleservice.core.interceptors.ServiceMethodBeforeAdvice;
 import org.openl.rules.ruleservice.core.interceptors.annotations.ServiceCallAfterInterceptor;
 import org.openl.rules.ruleservice.core.interceptors.annotations.ServiceCallAroundInterceptor;
 import org.openl.rules.ruleservice.core.interceptors.annotations.ServiceCallBeforeInterceptor;
+import org.openl.rules.ruleservice.core.interceptors.converters.SPRToPlainConverterAdvice;
 import org.openl.rules.runtime.LoggingCapability;
 import org.openl.rules.runtime.LoggingHandler;
 import org.openl.rules.serialization.ProjectJacksonObjectMapperFactoryBean;
@@ -88,8 +89,10 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
 
     final ConfigurableApplicationContext serviceContext;
     private final boolean loggingEnabled;
+    private final double decisionLogSampleRate;
 
     private final Function<Object, String> serializer;
+    private final boolean spreadsheetResultStreaming;
 
     public ServiceInvocationAdvice(IOpenClass openClass,
                                    Object serviceTarget,
@@ -115,13 +118,24 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
             this.sprBeanPropertyNamingStrategy = null;
         }
 
-        final ObjectMapper mapper = configureObjectMapper(applicationContext, rulesDeploy, serviceClassLoader, (XlsModuleOpenClass) openClass);
+        ProjectJacksonObjectMapperFactoryBean objectMapperFactory = createObjectMapperFactory(applicationContext,
+                rulesDeploy,
+                serviceClassLoader,
+                (XlsModuleOpenClass) openClass);
+        final ObjectMapper mapper = createObjectMapper(objectMapperFactory);
+        if (objectMapperFactory.isWarmUp()) {
+            ProjectJacksonObjectMapperFactoryBean.warmUp(mapper, methodMap.keySet());
+        }
+        this.spreadsheetResultStreaming = objectMapperFactory.isSpreadsheetResultStreaming();
         serializer = (Object x) -> {
             try {
                 Object object;
                 if (x instanceof Throwable ex) {
                     var exc = RuleServiceWrapperException.create(ex, sprBeanPropertyNamingStrategy);
                     object = exc.getBody() != null ? exc.getBody() : exc.getMessage();
+                } else if (spreadsheetResultStreaming) {
+                    // Spreadsheet results are written by the mapper without the conversion to the beans
+                    object = x;
                 } else {
                     object = SpreadsheetResult.convertSpreadsheetResult(x, sprBeanPropertyNamingStrategy);
                 }
@@ -134,6 +148,11 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
 
         this.loggingEnabled = Boolean
                 .parseBoolean(applicationContext.getEnvironment().getProperty("ruleservice.logging.enabled"));
+        this.decisionLogSampleRate = applicationContext.getEnvironment()
+                .getProperty("ruleservice.decision-log.sample-rate", Double.class, 0.0);
+        if (decisionLogSampleRate > 0) {
+            DecisionLogTracer.install();
+        }
 
         AnnotationConfigApplicationContext serviceContext = new AnnotationConfigApplicationContext();
         var configurationClass = getConfigurationClass(serviceClassLoader);
@@ -181,18 +200,21 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
         return null;
     }
 
-    private ObjectMapper configureObjectMapper(ApplicationContext context,
-                                               RulesDeploy rulesDeploy,
-                                               ClassLoader classLoader,
-                                               XlsModuleOpenClass openClass) {
+    private ProjectJacksonObjectMapperFactoryBean createObjectMapperFactory(ApplicationContext context,
+                                                                            RulesDeploy rulesDeploy,
+                                                                            ClassLoader classLoader,
+                                                                            XlsModuleOpenClass openClass) {
         ProjectJacksonObjectMapperFactoryBean objectMapperFactory = new ProjectJacksonObjectMapperFactoryBean();
         objectMapperFactory.setRulesDeploy(rulesDeploy);
         objectMapperFactory.setEnvironment(context.getEnvironment());
         objectMapperFactory.setXlsModuleOpenClass(openClass);
         objectMapperFactory.setClassLoader(classLoader);
+        return objectMapperFactory;
+    }
 
+    private static ObjectMapper createObjectMapper(ProjectJacksonObjectMapperFactoryBean objectMapperFactory) {
         try {
-            return objectMapperFactory.createJacksonObjectMapper();
+            return objectMapperFactory.getSharedJacksonObjectMapper();
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
@@ -360,12 +382,15 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
     private Object afterInvocation(Method interfaceMethod,
                                    Object result,
                                    Exception t,
+                                   boolean keepSpreadsheetResults,
                                    Object... args) throws Exception {
         Object ret = result;
         for (var interceptor : afterInterceptors.getOrDefault(interfaceMethod, Collections.emptyList())) {
             invokeBeforeServiceMethodAdviceOnListeners(interceptor, interfaceMethod, args, result, t);
             if (t == null) {
-                ret = interceptor.afterReturning(interfaceMethod, ret, args);
+                if (!keepSpreadsheetResults || !(interceptor instanceof SPRToPlainConverterAdvice)) {
+                    ret = interceptor.afterReturning(interfaceMethod, ret, args);
+                }
             } else {
                 try {
                     ret = interceptor.afterThrowing(interfaceMethod, t, args);
@@ -402,8 +427,33 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
         }
     }
 
+    /**
+     * Checks if the spreadsheet results of the method can be returned without the conversion to the beans. It is
+     * possible if the conversion is the last after interceptor of the method.
+     */
+    private boolean isSpreadsheetResultsKept(Method calledMethod) {
+        if (!spreadsheetResultStreaming) {
+            return false;
+        }
+        List<ServiceMethodAfterAdvice<?>> interceptors = afterInterceptors.get(calledMethod);
+        return interceptors != null && interceptors.get(interceptors.size() - 1) instanceof SPRToPlainConverterAdvice;
+    }
+
+    /**
+     * Invokes the service method to write the result with the object mapper of the service. If the spreadsheet
+     * result streaming is enabled, the spreadsheet results are returned without the conversion to the beans declared
+     * in the service interface, because the object mapper writes them directly from the cells.
+     */
+    public Object invokeForSerialization(Method calledMethod, Object[] args) {
+        return invoke(calledMethod, args, isSpreadsheetResultsKept(calledMethod));
+    }
+
     @Override
     public Object invoke(Method calledMethod, Object[] args) {
+        return invoke(calledMethod, args, false);
+    }
+
+    private Object invoke(Method calledMethod, Object[] args, boolean keepSpreadsheetResults) {
         String methodName = calledMethod.getName();
         Class<?>[] parameterTypes = calledMethod.getParameterTypes();
         Object result = null;
@@ -417,6 +467,9 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
                 throw new RuleServiceWrapperException(msg, ExceptionType.SYSTEM);
             }
         }
+        boolean decisionLog = DecisionLogTracer.isSampled(decisionLogSampleRate)
+                && DecisionLogTracer.begin(openClass.getName(), methodName);
+        Throwable failure = null;
         try {
             ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
             try {
@@ -466,9 +519,9 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
                         invokeAfterMethodInvocationOnListeners(calledMethod, args, result, ex);
                     }
                 }
-                result = afterInvocation(calledMethod, result, ex, args);
+                result = afterInvocation(calledMethod, result, ex, keepSpreadsheetResults, args);
                 // repack result if arrays inside it doesn't have the returnType as interfaceMethod
-                if (calledMethod.getReturnType().isArray()) {
+                if (calledMethod.getReturnType().isArray() && !keepSpreadsheetResults) {
                     result = ArrayUtils.repackArray(result, calledMethod.getReturnType());
                 }
             } finally {
@@ -476,12 +529,16 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
                 Thread.currentThread().setContextClassLoader(oldClassLoader);
             }
         } catch (Throwable t) {
+            failure = t;
             var error = RuleServiceWrapperException.create(t, sprBeanPropertyNamingStrategy);
             if (error.getType().isServerError()) {
                 log.error(error.getMessage(), t);
             }
             throw error;
         } finally {
+            if (decisionLog) {
+                DecisionLogTracer.end(failure);
+            }
             // Memory leaks fix.
             if (serviceTarget instanceof IEngineWrapper engine) {
                 engine.release();
@@ -2,21 +2,41 @@ package org.openl.rules.ruleservice.loader;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.ProviderNotFoundException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import jakarta.annotation.PreDestroy;
 
@@ -38,6 +58,7 @@ import org.openl.rules.project.model.ProjectDescriptor;
 import org.openl.rules.project.resolving.ProjectResolver;
 import org.openl.rules.project.resolving.ProjectResolvingException;
 import org.openl.rules.repository.api.FileData;
+import org.openl.rules.repository.api.FileItem;
 import org.openl.rules.repository.api.Repository;
 import org.openl.rules.repository.file.FileSystemRepository;
 import org.openl.rules.repository.zip.ZippedLocalRepository;
@@ -50,25 +71,54 @@ import org.openl.util.ZipUtils;
 /**
  * Wrapper on data source that gives access to data source and resolves the OpenL projects/modules inside the projects.
  * Contains own storage for all projects that is used in services.
+ * <p>
+ * If the cache directory is defined, the storage survives restarts. The deployments are stored there by the version
+ * and by the fingerprint of the files in the data source, so unchanged deployments are not downloaded again. The
+ * directory can be shared by several instances, so the deployments are removed from the cache on the shutdown only if
+ * none of the instances has used them during the configured number of days.
  *
  * @author Marat Kamalov
  */
 public class RuleServiceLoaderImpl implements RuleServiceLoader {
     private static final Pattern NOT_ALLOWED_SYMBOLS = Pattern.compile("[^[-.\\w]]");
+    private static final String STAGING_FOLDER = ".staging";
     private final Logger log = LoggerFactory.getLogger(RuleServiceLoaderImpl.class);
 
     private final ProjectResolver projectResolver;
     private final Repository repository;
     private final FileSystemRepository tempRepo;
     private final Path tempPath;
+    private final boolean persistentCache;
+    private final Map<String, String> cacheNames = new ConcurrentHashMap<>();
+    private final Set<String> usedCacheNames = ConcurrentHashMap.newKeySet();
+    private final Map<Path, ArchiveType> archiveTypes = new ConcurrentHashMap<>();
     private String deployPath = "";
+    private int downloadThreads = 4;
+    private int cacheMaxAge = 7;
+    private ExecutorService downloadExecutor;
 
     /**
      * Construct a new RulesLoader for bean usage.
      */
     public RuleServiceLoaderImpl(Repository repository) throws IOException {
-        tempPath = Files.createTempDirectory("rules-deploy_");
-        log.info("Local temporary folder location is: {}", tempPath);
+        this(repository, null);
+    }
+
+    /**
+     * Construct a new RulesLoader which keeps the downloaded deployments in the given directory between restarts.
+     *
+     * @param cacheDirectory the directory for the downloaded deployments. If it is blank, a temporary directory is
+     *            used and it is removed on the shutdown.
+     */
+    public RuleServiceLoaderImpl(Repository repository, String cacheDirectory) throws IOException {
+        persistentCache = StringUtils.isNotBlank(cacheDirectory);
+        if (persistentCache) {
+            tempPath = Files.createDirectories(Path.of(cacheDirectory.trim()));
+            log.info("Local deployments cache location is: {}", tempPath);
+        } else {
+            tempPath = Files.createTempDirectory("rules-deploy_");
+            log.info("Local temporary folder location is: {}", tempPath);
+        }
         tempRepo = new FileSystemRepository();
         tempRepo.setUri(tempPath.toString());
         tempRepo.initialize();
@@ -128,33 +178,165 @@ public class RuleServiceLoaderImpl implements RuleServiceLoader {
             }
         }
         String versionName = version.getVersionName();
-        Deployment loadedDeployment = new Deployment(tempRepo,
-                deploymentName + "_v" + cleanUp(versionName),
-                deploymentName,
-                version,
-                true);
+        String folderPath = getDeployPath() + deploymentName;
+        String cacheName = getCacheName(deploymentName, versionName, folderPath);
+        Deployment loadedDeployment = new Deployment(tempRepo, cacheName, deploymentName, version, true);
 
         if (loadedDeployment.getProjects().isEmpty()) {
             log.debug("Loading deployment with name='{}' and version='{}'", deploymentName, versionName);
-            String folderPath = getDeployPath() + deploymentName;
-            boolean folderStructure = isFolderStructure(folderPath);
-            Deployment deployment = new Deployment(repository, folderPath, deploymentName, version, folderStructure);
-
             try {
-                loadedDeployment.update(deployment, null);
-                loadedDeployment.refresh();
-            } catch (ProjectException e) {
+                download(folderPath, deploymentName, version, cacheName);
+            } catch (ProjectException | IOException e) {
                 log.warn("Exception occurs on loading deployment with name='{}' and version='{}' from data source.",
                         deploymentName,
                         versionName,
                         e);
                 throw new RuleServiceRuntimeException(e);
             }
+            loadedDeployment = new Deployment(tempRepo, cacheName, deploymentName, version, true);
+        } else {
+            log.debug("Deployment with name='{}' and version='{}' is found in the local storage",
+                    deploymentName,
+                    versionName);
+        }
+        if (persistentCache) {
+            usedCacheNames.add(cacheName);
+            markUsed(tempPath.resolve(cacheName));
         }
 
         return loadedDeployment;
     }
 
+    private String getCacheName(String deploymentName, String versionName, String folderPath) {
+        String cacheName = deploymentName + "_v" + cleanUp(versionName);
+        if (!persistentCache) {
+            return cacheName;
+        }
+        // The version is not enough for the repositories without versioning, so the content of the cached deployment
+        // is identified by the files in the data source too
+        return cacheNames.computeIfAbsent(cacheName, e -> e + "_" + getFingerprint(folderPath));
+    }
+
+    String getFingerprint(String folderPath) {
+        List<FileData> files;
+        try {
+            files = new ArrayList<>(repository.list(folderPath + "/"));
+            if (files.isEmpty()) {
+                // The deployment is stored as a single archive
+                FileData archive = repository.check(folderPath);
+                if (archive != null) {
+                    files.add(archive);
+                }
+            }
+        } catch (IOException e) {
+            throw RuntimeExceptionWrapper.wrap(e);
+        }
+        files.sort(Comparator.comparing(FileData::getName));
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (FileData file : files) {
+            String entry = String.join("\0",
+                    file.getName(),
+                    String.valueOf(file.getSize()),
+                    String.valueOf(file.getVersion()),
+                    String.valueOf(file.getUniqueId()),
+                    String.valueOf(file.getModifiedAt() == null ? null : file.getModifiedAt().getTime()));
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    /**
+     * Downloads the deployment to the staging folder and moves it to the local storage when it is complete, so an
+     * interrupted download is never taken for the cached deployment.
+     */
+    private void download(String folderPath,
+                          String deploymentName,
+                          CommonVersion version,
+                          String cacheName) throws ProjectException, IOException {
+        Path stagingRoot = Files.createDirectories(tempPath.resolve(STAGING_FOLDER));
+        Path staging = Files.createTempDirectory(stagingRoot, "deploy_");
+        try {
+            boolean folderStructure = isFolderStructure(folderPath);
+            if (folderStructure) {
+                downloadFiles(folderPath, staging);
+            } else {
+                Deployment deployment = new Deployment(repository, folderPath, deploymentName, version, false);
+                String stagingName = tempPath.relativize(staging).toString().replace('\\', '/');
+                new Deployment(tempRepo, stagingName, deploymentName, version, true).update(deployment, null);
+            }
+            try {
+                Files.move(staging, tempPath.resolve(cacheName), StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                log.debug("Deployment with name='{}' has been loaded concurrently", deploymentName);
+            }
+        } finally {
+            FileSystemUtils.deleteRecursively(staging);
+        }
+    }
+
+    private void downloadFiles(String folderPath, Path target) throws IOException {
+        List<FileData> files = repository.list(folderPath + "/");
+        ExecutorService executor = getDownloadExecutor();
+        List<Future<?>> downloads = new ArrayList<>(files.size());
+        try {
+            for (FileData file : files) {
+                Path path = target.resolve(file.getName().substring(folderPath.length() + 1)).normalize();
+                if (!path.startsWith(target)) {
+                    throw new IOException(String.format("Invalid file name '%s'.", file.getName()));
+                }
+                downloads.add(executor.submit(() -> {
+                    Files.createDirectories(path.getParent());
+                    try (FileItem fileItem = repository.read(file.getName());
+                            InputStream stream = fileItem.getStream()) {
+                        Files.copy(stream, path);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> download : downloads) {
+                download.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Loading of the deployment has been interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw RuntimeExceptionWrapper.wrap(e.getCause());
+        } finally {
+            for (Future<?> download : downloads) {
+                download.cancel(true);
+            }
+        }
+    }
+
+    private synchronized ExecutorService getDownloadExecutor() {
+        if (downloadExecutor == null) {
+            var counter = new AtomicInteger();
+            downloadExecutor = Executors.newFixedThreadPool(Math.max(1, downloadThreads), r -> {
+                var thread = new Thread(r, "openl-deployment-download-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return downloadExecutor;
+    }
+
+    private void markUsed(Path cacheEntry) {
+        try {
+            Files.setLastModifiedTime(cacheEntry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Cannot update the modification time of '{}'", cacheEntry, e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -214,7 +396,24 @@ public class RuleServiceLoaderImpl implements RuleServiceLoader {
     }
 
     private boolean isSimpleProjectDeployment(FileData fileData) {
-        URI jarURI = ZipUtils.toJarURI(fileData.getPath());
+        Path path = fileData.getPath();
+        long modified;
+        try {
+            modified = Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return false;
+        }
+        // The archive is opened once per its modification instead of the every listing of the deployments
+        ArchiveType archiveType = archiveTypes.get(path);
+        if (archiveType == null || archiveType.modified() != modified) {
+            archiveType = new ArchiveType(modified, isSimpleProjectArchive(path));
+            archiveTypes.put(path, archiveType);
+        }
+        return archiveType.simpleProject();
+    }
+
+    private boolean isSimpleProjectArchive(Path path) {
+        URI jarURI = ZipUtils.toJarURI(path);
         try {
             Path zipRoot = FileSystems.getFileSystem(jarURI).getPath("/");
             return projectResolver.isRulesProject(zipRoot) != null;
@@ -256,12 +455,15 @@ public class RuleServiceLoaderImpl implements RuleServiceLoader {
         Map<String, IProjectArtefact> resourceMap = new HashMap<>();
         for (FileData file : files) {
             String resourceName = file.getName().substring(folder.getName().length() + 1);
-            LocalProjectResource resource = new LocalProjectResource(resourceName, repository.read(file.getName()));
+            LocalProjectResource resource = new LocalProjectResource(resourceName, file, repository);
             resourceMap.put(resource.getName(), resource);
         }
         return resourceMap;
     }
 
+    private record ArchiveType(long modified, boolean simpleProject) {
+    }
+
     @Override
     public void setListener(DataSourceListener dataSourceListener) {
         if (dataSourceListener == null) {
@@ -277,21 +479,71 @@ public class RuleServiceLoaderImpl implements RuleServiceLoader {
     @PreDestroy
     public void destroy() throws Exception {
         log.debug("Data source releasing");
+        synchronized (this) {
+            if (downloadExecutor != null) {
+                downloadExecutor.shutdownNow();
+                downloadExecutor = null;
+            }
+        }
         if (repository instanceof Closeable) {
             ((Closeable) repository).close();
         }
         tempRepo.close();
         try {
-            FileSystemUtils.deleteRecursively(tempPath);
+            if (persistentCache) {
+                evictExpiredDeployments();
+            } else {
+                FileSystemUtils.deleteRecursively(tempPath);
+            }
         } catch (Exception e) {
             log.error("Cannot delete temporary directory", e);
         }
     }
 
+    /**
+     * Removes the deployments and the interrupted downloads which have not been touched for {@link #cacheMaxAge}
+     * days. The deployments used by this instance are kept.
+     */
+    private void evictExpiredDeployments() throws IOException {
+        long expired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(cacheMaxAge);
+        evictExpired(tempPath, expired);
+        Path staging = tempPath.resolve(STAGING_FOLDER);
+        if (Files.isDirectory(staging)) {
+            evictExpired(staging, expired);
+        }
+    }
+
+    private void evictExpired(Path folder, long expired) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(folder)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (!STAGING_FOLDER.equals(name) && !usedCacheNames.contains(name) && Files.getLastModifiedTime(entry)
+                        .toMillis() < expired) {
+                    log.debug("Removing expired deployment '{}' from the local storage", name);
+                    FileSystemUtils.deleteRecursively(entry);
+                }
+            }
+        }
+    }
+
     public void setDeployPath(String deployPath) {
         this.deployPath = deployPath.isEmpty() || deployPath.endsWith("/") ? deployPath : deployPath + "/";
     }
 
+    /**
+     * Maximum number of the files of a deployment which are downloaded from the data source in parallel.
+     */
+    public void setDownloadThreads(int downloadThreads) {
+        this.downloadThreads = downloadThreads;
+    }
+
+    /**
+     * Number of days after which a deployment which has not been used by any instance is removed from the cache.
+     */
+    public void setCacheMaxAge(int cacheMaxAge) {
+        this.cacheMaxAge = cacheMaxAge;
+    }
+
     private boolean isFolderStructure(String deploymentFolderPath) {
         boolean folderStructure;
         try {
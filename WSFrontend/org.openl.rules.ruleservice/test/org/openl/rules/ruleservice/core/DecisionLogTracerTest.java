@@ -0,0 +1,124 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.StringWriter;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.method.ExecutableRulesMethod;
+import org.openl.types.Invokable;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
+
+public class DecisionLogTracerTest {
+
+    @BeforeAll
+    public static void install() {
+        DecisionLogTracer.install();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        DecisionLogTracer.clearRequest();
+        DecisionLogTracer.end(null);
+    }
+
+    @Test
+    public void testSampling() {
+        assertFalse(DecisionLogTracer.isSampled(0));
+        assertTrue(DecisionLogTracer.isSampled(1));
+        DecisionLogTracer.request();
+        assertTrue(DecisionLogTracer.isSampled(0));
+    }
+
+    @Test
+    public void testNotSampledCall() {
+        assertFalse(Tracer.isEnabled());
+        assertEquals("ok", invoke(mockMethod("Rate"), () -> "ok"));
+        assertNull(DecisionLogTracer.end(null));
+    }
+
+    @Test
+    public void testDecisionLog() throws Exception {
+        assertTrue(DecisionLogTracer.begin("Service", "calculate"));
+        assertFalse(DecisionLogTracer.begin("Service", "nested"));
+        assertTrue(Tracer.isEnabled());
+
+        ExecutableRulesMethod outer = mockMethod("Calculate");
+        ExecutableRulesMethod inner = mockMethod("Rate");
+        assertEquals(10, (Integer) invoke(outer, () -> {
+            invoke(inner, () -> 5);
+            return 10;
+        }));
+        assertThrows(IllegalStateException.class, () -> invoke(inner, () -> {
+            throw new IllegalStateException("Oops");
+        }));
+
+        DecisionLog decisionLog = DecisionLogTracer.end(null);
+        assertNotNull(decisionLog);
+        assertFalse(Tracer.isEnabled());
+        assertFalse(decisionLog.isTruncated());
+        assertEquals(3, decisionLog.getEntries().size());
+        assertEquals("Calculate", decisionLog.getEntries().get(0).getTable());
+        assertEquals(1, decisionLog.getEntries().get(0).getDepth());
+        assertEquals("Rate", decisionLog.getEntries().get(1).getTable());
+        assertEquals(2, decisionLog.getEntries().get(1).getDepth());
+        assertEquals(1, decisionLog.getEntries().get(2).getDepth());
+        assertEquals("Oops", decisionLog.getEntries().get(2).getError());
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = new JsonFactory().createGenerator(out)) {
+            decisionLog.writeTo(gen);
+        }
+        String json = out.toString();
+        assertTrue(json.startsWith("{\"service\":\"Service\",\"method\":\"calculate\""), json);
+        assertTrue(json.contains("{\"table\":\"Rate\",\"depth\":2,"), json);
+        assertTrue(json.contains("\"error\":\"Oops\""), json);
+    }
+
+    @Test
+    public void testTruncation() {
+        DecisionLog decisionLog = new DecisionLog("Service", "calculate", null, 1);
+        DecisionLog.Entry first = decisionLog.enter("First", null);
+        DecisionLog.Entry second = decisionLog.enter("Second", null);
+        assertNull(second);
+        decisionLog.exit(second, null);
+        decisionLog.fired("First", new String[]{"R1", "R3"});
+        decisionLog.exit(first, null);
+        decisionLog.finish(null);
+
+        assertTrue(decisionLog.isTruncated());
+        assertEquals(1, decisionLog.getEntries().size());
+        assertEquals(2, decisionLog.getEntries().get(0).getRules().length);
+    }
+
+    private static ExecutableRulesMethod mockMethod(String name) {
+        ExecutableRulesMethod method = mock(ExecutableRulesMethod.class);
+        when(method.getName()).thenReturn(name);
+        return method;
+    }
+
+    private static <R> R invoke(ExecutableRulesMethod method, Supplier<Object> body) {
+        Invokable<Object, IRuntimeEnv> executor = new Invokable<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T invoke(Object target, Object[] params, IRuntimeEnv env) {
+                return (T) body.get();
+            }
+        };
+        return Tracer.invoke(executor, null, new Object[0], null, method);
+    }
+}
@@ -0,0 +1,57 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.lang.reflect.Method;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.ruleservice.management.ServiceManager;
+import org.openl.rules.serialization.ProjectJacksonObjectMapperFactoryBean;
+import org.openl.runtime.ASMProxyFactory;
+
+@TestPropertySource(properties = {"production-repository.uri=test-resources/SpreadsheetResultStreamingTest",
+        "production-repository.factory = repo-file",
+        "ruleservice.jackson.spreadsheetResultStreaming = true"})
+@SpringJUnitConfig(locations = {"classpath:openl-ruleservice-beans.xml"})
+public class SpreadsheetResultStreamingTest {
+
+    private static final int COUNT = 10_000;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void testLargeResponseIsNotConvertedToBeans() throws Exception {
+        ServiceManager serviceManager = applicationContext.getBean("serviceManager", ServiceManager.class);
+        OpenLService service = serviceManager.getServiceByDeploy("SpreadsheetResultStreamingTest/project1");
+        assertNotNull(service);
+        Method method = service.getServiceClass().getMethod("Generate", Integer.class);
+        ServiceInvocationAdvice advice = (ServiceInvocationAdvice) ASMProxyFactory
+                .getProxyHandler(service.getServiceBean());
+
+        Object beans = method.invoke(service.getServiceBean(), COUNT);
+        Object results = advice.invokeForSerialization(method, new Object[] { COUNT });
+
+        assertFalse(beans instanceof SpreadsheetResult[]);
+        assertEquals(COUNT, assertInstanceOf(SpreadsheetResult[].class, results).length);
+
+        ProjectJacksonObjectMapperFactoryBean objectMapperFactory = new ProjectJacksonObjectMapperFactoryBean();
+        objectMapperFactory.setSpreadsheetResultStreaming(true);
+        ObjectMapper objectMapper = objectMapperFactory.createJacksonObjectMapper();
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(beans));
+        assertEquals(COUNT, expected.size());
+        assertEquals("Item 9999", expected.get(COUNT - 1).get("Name").asText());
+        assertEquals(expected, objectMapper.readTree(objectMapper.writeValueAsString(results)));
+    }
+}
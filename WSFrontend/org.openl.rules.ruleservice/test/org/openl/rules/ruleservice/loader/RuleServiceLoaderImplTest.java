@@ -1,12 +1,40 @@
 package org.openl.rules.ruleservice.loader;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.openl.rules.common.impl.CommonVersionImpl;
+import org.openl.rules.project.abstraction.IDeployment;
+import org.openl.rules.repository.api.FileData;
+import org.openl.rules.repository.api.Repository;
+import org.openl.rules.repository.file.FileSystemRepository;
 
 public class RuleServiceLoaderImplTest {
 
+    @TempDir
+    private Path tempDir;
+
     @Test
     public void testCleanUp() {
         assertTrue(RuleServiceLoaderImpl.cleanUp("a-B.3_").startsWith("a-B.3_"));
@@ -19,4 +47,83 @@ public class RuleServiceLoaderImplTest {
 
         assertNotEquals(str1, str2);
     }
+
+    @Test
+    public void testPersistentCache() throws Exception {
+        Path remote = tempDir.resolve("remote");
+        Path cache = tempDir.resolve("cache");
+        Files.createDirectories(remote.resolve("deployment/project/rules"));
+        Files.writeString(remote.resolve("deployment/project/rules.xml"), "<project/>");
+        Files.writeString(remote.resolve("deployment/project/rules/Main.xlsx"), "v1");
+
+        // Downloading to the empty cache
+        FileSystemRepository repository = createRepository(remote);
+        IDeployment deployment = load(repository, cache);
+        assertNotNull(deployment.getProject("project"));
+        verify(repository, atLeastOnce()).read(anyString());
+
+        // Unchanged deployment is taken from the cache
+        repository = createRepository(remote);
+        deployment = load(repository, cache);
+        assertNotNull(deployment.getProject("project"));
+        verify(repository, never()).read(anyString());
+
+        // Changed deployment is downloaded again, the previous one can be still used by other instances
+        Files.writeString(remote.resolve("deployment/project/rules/Main.xlsx"), "v2.0");
+        repository = createRepository(remote);
+        deployment = load(repository, cache);
+        assertNotNull(deployment.getProject("project"));
+        verify(repository, atLeastOnce()).read(anyString());
+        assertEquals(2, countEntries(cache));
+
+        // The deployment which has not been used for the max age is removed on shutdown
+        try (Stream<Path> entries = Files.list(cache)) {
+            for (Path entry : entries.toList()) {
+                Files.setLastModifiedTime(entry, FileTime.from(Instant.now().minus(8, ChronoUnit.DAYS)));
+            }
+        }
+        load(createRepository(remote), cache);
+        assertEquals(1, countEntries(cache));
+    }
+
+    @Test
+    public void testFingerprintOfArchive() throws Exception {
+        Repository repository = mock(Repository.class);
+        when(repository.list("deploy/deployment/")).thenReturn(Collections.emptyList());
+        FileData archive = new FileData();
+        archive.setName("deploy/deployment");
+        archive.setSize(100);
+        archive.setModifiedAt(new Date(1_000_000L));
+        when(repository.check("deploy/deployment")).thenReturn(archive);
+
+        RuleServiceLoaderImpl loader = new RuleServiceLoaderImpl(repository, tempDir.toString());
+        String fingerprint = loader.getFingerprint("deploy/deployment");
+        assertEquals(fingerprint, loader.getFingerprint("deploy/deployment"));
+
+        archive.setModifiedAt(new Date(2_000_000L));
+        assertNotEquals(fingerprint, loader.getFingerprint("deploy/deployment"));
+    }
+
+    private static long countEntries(Path cache) throws Exception {
+        try (Stream<Path> entries = Files.list(cache)) {
+            // The staging folder is not a deployment
+            return entries.filter(e -> !e.getFileName().toString().startsWith(".")).count();
+        }
+    }
+
+    private static FileSystemRepository createRepository(Path root) {
+        FileSystemRepository repository = new FileSystemRepository();
+        repository.setRoot(root);
+        repository.initialize();
+        return spy(repository);
+    }
+
+    private static IDeployment load(FileSystemRepository repository, Path cache) throws Exception {
+        RuleServiceLoaderImpl loader = new RuleServiceLoaderImpl(repository, cache.toString());
+        try {
+            return loader.getDeployment("deployment", new CommonVersionImpl("1"));
+        } finally {
+            loader.destroy();
+        }
+    }
 }